@@ -1,34 +1,51 @@
 package com.example.incidentplatform.api.controller;
 
 import com.example.incidentplatform.application.usecase.ManageIncidentUseCase;
+import com.example.incidentplatform.api.export.IncidentExportWriter;
 import com.example.incidentplatform.api.dto.incident.CreateIncidentRequest;
 import com.example.incidentplatform.api.dto.incident.IncidentResponse;
 import com.example.incidentplatform.api.dto.incident.IncidentSearchCriteria;
+import com.example.incidentplatform.api.dto.incident.IncidentSortParam;
 import com.example.incidentplatform.api.dto.incident.UpdateIncidentRequest;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.SortDirection;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 import com.example.incidentplatform.infrastructure.security.SecurityContextHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/public/tenants/{tenantId}/incidents")
 public class IncidentController {
 
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
     private final ManageIncidentUseCase manageIncidentUseCase;
     private final SecurityContextHelper securityContextHelper;
+    private final ObjectMapper objectMapper;
 
     public IncidentController(ManageIncidentUseCase manageIncidentUseCase,
-            SecurityContextHelper securityContextHelper) {
+            SecurityContextHelper securityContextHelper,
+            ObjectMapper objectMapper) {
         this.manageIncidentUseCase = manageIncidentUseCase;
         this.securityContextHelper = securityContextHelper;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -60,15 +77,17 @@ public class IncidentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<IncidentResponse>> listIncidents(@PathVariable UUID tenantId) {
-        var incidents = manageIncidentUseCase.listIncidents(tenantId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public ResponseEntity<CursorPage<IncidentResponse>> listIncidents(
+            @PathVariable UUID tenantId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        var incidents = manageIncidentUseCase.listIncidents(tenantId, CursorPageRequest.of(cursor, limit))
+                .map(this::toResponse);
         return ResponseEntity.ok(incidents);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<IncidentResponse>> searchIncidents(
+    public ResponseEntity<CursorPage<IncidentResponse>> searchIncidents(
             @PathVariable UUID tenantId,
             @RequestParam(required = false) String q,
             @RequestParam(required = false) String status,
@@ -76,58 +95,106 @@ public class IncidentController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAfter,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdBefore,
             @RequestParam(required = false) Boolean resolved,
+            @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
-            @RequestParam(required = false, defaultValue = "DESC") String sortDirection) {
-
-        IncidentStatus incidentStatus = status != null ? IncidentStatus.valueOf(status.toUpperCase()) : null;
-        Severity incidentSeverity = severity != null ? Severity.valueOf(severity.toUpperCase()) : null;
+            @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
-        IncidentSearchCriteria criteria = new IncidentSearchCriteria(
-                q, incidentStatus, incidentSeverity, createdAfter, createdBefore, resolved, sortBy, sortDirection);
+        IncidentSearchCriteria criteria = searchCriteria(
+                q, status, severity, createdAfter, createdBefore, resolved, fuzzy, sortBy, sortDirection);
 
-        var incidents = manageIncidentUseCase.searchIncidents(tenantId, criteria).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        var incidents = manageIncidentUseCase.searchIncidents(tenantId, criteria, CursorPageRequest.of(cursor, limit))
+                .map(this::toResponse);
         return ResponseEntity.ok(incidents);
     }
 
+    /**
+     * Streams every incident matching the search filters as NDJSON (default)
+     * or CSV, optionally gzip-compressed. Rows are read from a database cursor
+     * and written as they arrive, so memory use does not grow with the export.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIncidents(
+            @PathVariable UUID tenantId,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdBefore,
+            @RequestParam(required = false) Boolean resolved,
+            @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @RequestParam(required = false, defaultValue = "false") boolean gzip) {
+
+        IncidentSearchCriteria criteria = searchCriteria(
+                q, status, severity, createdAfter, createdBefore, resolved, fuzzy, sortBy, sortDirection);
+        IncidentExportWriter.Format exportFormat = IncidentExportWriter.Format.fromParam(format);
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : out;
+            try (IncidentExportWriter writer = IncidentExportWriter.open(exportFormat, target, objectMapper)) {
+                manageIncidentUseCase.exportIncidents(tenantId, criteria, incident -> {
+                    try {
+                        writer.write(toResponse(incident));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("incidents-" + tenantId + "." + exportFormat.extension())
+                        .build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/count")
     public ResponseEntity<Map<String, Long>> countIncidents(@PathVariable UUID tenantId) {
-        long total = manageIncidentUseCase.countIncidents(tenantId);
-        long open = manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.OPEN);
-        long inProgress = manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.IN_PROGRESS);
-        long resolved = manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.RESOLVED);
-        long closed = manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.CLOSED);
+        Map<IncidentStatus, Long> counts = manageIncidentUseCase.countIncidentsByStatus(tenantId);
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
 
         return ResponseEntity.ok(Map.of(
                 "total", total,
-                "open", open,
-                "inProgress", inProgress,
-                "resolved", resolved,
-                "closed", closed));
+                "open", counts.getOrDefault(IncidentStatus.OPEN, 0L),
+                "inProgress", counts.getOrDefault(IncidentStatus.IN_PROGRESS, 0L),
+                "resolved", counts.getOrDefault(IncidentStatus.RESOLVED, 0L),
+                "closed", counts.getOrDefault(IncidentStatus.CLOSED, 0L)));
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<IncidentResponse>> listIncidentsByStatus(
+    public ResponseEntity<CursorPage<IncidentResponse>> listIncidentsByStatus(
             @PathVariable UUID tenantId,
-            @PathVariable String status) {
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
         IncidentStatus incidentStatus = IncidentStatus.valueOf(status.toUpperCase());
-        var incidents = manageIncidentUseCase.listIncidentsByStatus(tenantId, incidentStatus).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        var incidents = manageIncidentUseCase
+                .listIncidentsByStatus(tenantId, incidentStatus, CursorPageRequest.of(cursor, limit))
+                .map(this::toResponse);
         return ResponseEntity.ok(incidents);
     }
 
     @GetMapping("/severity/{severity}")
-    public ResponseEntity<List<IncidentResponse>> listIncidentsBySeverity(
+    public ResponseEntity<CursorPage<IncidentResponse>> listIncidentsBySeverity(
             @PathVariable UUID tenantId,
-            @PathVariable String severity) {
+            @PathVariable String severity,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
         Severity incidentSeverity = Severity.valueOf(severity.toUpperCase());
-        var incidents = manageIncidentUseCase.listIncidentsBySeverity(tenantId, incidentSeverity).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        var incidents = manageIncidentUseCase
+                .listIncidentsBySeverity(tenantId, incidentSeverity, CursorPageRequest.of(cursor, limit))
+                .map(this::toResponse);
         return ResponseEntity.ok(incidents);
     }
 
@@ -180,6 +247,17 @@ public class IncidentController {
         return ResponseEntity.ok(toResponse(incident));
     }
 
+    private IncidentSearchCriteria searchCriteria(String q, String status, String severity, Instant createdAfter,
+            Instant createdBefore, Boolean resolved, boolean fuzzy, String sortBy, String sortDirection) {
+        IncidentStatus incidentStatus = status != null ? IncidentStatus.valueOf(status.toUpperCase()) : null;
+        Severity incidentSeverity = severity != null ? Severity.valueOf(severity.toUpperCase()) : null;
+
+        return new IncidentSearchCriteria(
+                q, incidentStatus, incidentSeverity, createdAfter, createdBefore, resolved, fuzzy,
+                IncidentSortParam.fromParam(sortBy),
+                SortDirection.fromParam(sortDirection));
+    }
+
     // Helper method to convert domain model to response DTO
     private IncidentResponse toResponse(com.example.incidentplatform.domain.model.incident.Incident incident) {
         return new IncidentResponse(
@@ -3,15 +3,15 @@ package com.example.incidentplatform.api.controller;
 import com.example.incidentplatform.api.dto.notification.NotificationResponse;
 import com.example.incidentplatform.api.dto.notification.UnreadCountResponse;
 import com.example.incidentplatform.application.service.NotificationService;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
 import com.example.incidentplatform.domain.model.notification.Notification;
 import com.example.incidentplatform.domain.model.notification.NotificationType;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -26,40 +26,31 @@ public class NotificationController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getNotifications(
+    public ResponseEntity<CursorPage<NotificationResponse>> getNotifications(
             Authentication authentication,
-            @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size,
-            @RequestParam(required = false) NotificationType type) {
+            @RequestParam(required = false) NotificationType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
         UUID userId = extractUserId(authentication);
+        CursorPageRequest page = CursorPageRequest.of(cursor, limit);
 
-        if (type != null) {
-            List<Notification> notifications = notificationService.getNotificationsByType(userId, type);
-            return ResponseEntity.ok(notifications.stream().map(NotificationResponse::from).toList());
-        }
-
-        if (page != null && size != null) {
-            Page<Notification> notificationPage = notificationService.getNotificationsForUser(userId, page, size);
-            Page<NotificationResponse> responsePage = notificationPage.map(NotificationResponse::from);
-            return ResponseEntity.ok(responsePage);
-        }
-
-        List<Notification> notifications = notificationService.getNotificationsForUser(userId);
-        return ResponseEntity.ok(notifications.stream().map(NotificationResponse::from).toList());
+        CursorPage<Notification> notifications = type != null
+                ? notificationService.getNotificationsByType(userId, type, page)
+                : notificationService.getNotificationsForUser(userId, page);
+        return ResponseEntity.ok(notifications.map(NotificationResponse::from));
     }
 
 
     @GetMapping("/unread")
-    public ResponseEntity<List<NotificationResponse>> getUnreadNotifications(Authentication authentication) {
+    public ResponseEntity<CursorPage<NotificationResponse>> getUnreadNotifications(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         UUID userId = extractUserId(authentication);
-        List<Notification> notifications = notificationService.getUnreadNotificationsForUser(userId);
-
-        List<NotificationResponse> response = notifications.stream()
-                .map(NotificationResponse::from)
-                .toList();
-
-        return ResponseEntity.ok(response);
+        CursorPage<Notification> notifications = notificationService.getUnreadNotificationsForUser(userId,
+                CursorPageRequest.of(cursor, limit));
+        return ResponseEntity.ok(notifications.map(NotificationResponse::from));
     }
 
 
@@ -0,0 +1,115 @@
+package com.example.incidentplatform.api.controller;
+
+import com.example.incidentplatform.application.service.PushHub;
+import com.example.incidentplatform.application.service.TenantUserService;
+import com.example.incidentplatform.common.error.ForbiddenException;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Server-Sent Events streams of the messages in {@link PushHub}, for clients
+ * that cannot use the WebSocket at {@code /ws/push}.
+ *
+ * Each event is named after the message's type, carries its JSON as data and
+ * has an id; a client that reconnects with {@code Last-Event-ID} is sent what
+ * it missed, or a {@code resync} event if that cannot be done. Idle streams
+ * get a comment line as a heartbeat. A stream holds no thread while idle and
+ * ends after {@code push.sse.timeout}, when the client reconnects.
+ */
+@RestController
+public class PushStreamController {
+
+    static final String RESYNC = "resync";
+
+    private final PushHub hub;
+    private final TenantUserService tenantUserService;
+    private final long timeoutMillis;
+
+    public PushStreamController(
+            PushHub hub,
+            TenantUserService tenantUserService,
+            @Value("${push.sse.timeout:30m}") Duration timeout) {
+        this.hub = hub;
+        this.tenantUserService = tenantUserService;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @GetMapping(path = "/api/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            Authentication authentication,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return open(PushMessage.userTopic(userId(authentication)), lastEventId);
+    }
+
+    @GetMapping(path = "/api/public/tenants/{tenantId}/incidents/stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIncidents(
+            Authentication authentication,
+            @PathVariable UUID tenantId,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        if (!tenantUserService.isUserMember(tenantId, userId(authentication))) {
+            throw new ForbiddenException("Not a member of the tenant");
+        }
+        return open(PushMessage.tenantTopic(tenantId), lastEventId);
+    }
+
+    private SseEmitter open(String topic, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // Sends made before Spring has set up the response are held until it has
+        PushHub.Subscription subscription =
+                hub.subscribe(Set.of(topic), new EmitterSubscriber(emitter), lastEventId);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+
+    private static UUID userId(Authentication authentication) {
+        if (authentication != null && authentication.getName() != null) {
+            try {
+                return UUID.fromString(authentication.getName());
+            } catch (IllegalArgumentException e) {
+                // Falls through
+            }
+        }
+        throw new ForbiddenException("User not authenticated");
+    }
+
+    private record EmitterSubscriber(SseEmitter emitter) implements PushHub.Subscriber {
+
+        @Override
+        public void send(String id, PushMessage message) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(id)
+                    .name(message.type())
+                    .data(message.data(), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void resync() throws IOException {
+            emitter.send(SseEmitter.event().name(RESYNC).data("{}", MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -59,7 +59,7 @@ public class WebhookController {
             @PathVariable UUID tenantId,
             @PathVariable UUID webhookId) {
 
-        Webhook webhook = webhookService.getWebhook(webhookId);
+        Webhook webhook = webhookService.getWebhook(tenantId, webhookId);
         return ResponseEntity.ok(WebhookResponse.from(webhook));
     }
 
@@ -73,6 +73,7 @@ public class WebhookController {
             @RequestBody UpdateWebhookRequest request) {
 
         Webhook webhook = webhookService.updateWebhook(
+                tenantId,
                 webhookId,
                 request.name(),
                 request.url(),
@@ -90,7 +91,7 @@ public class WebhookController {
             @PathVariable UUID tenantId,
             @PathVariable UUID webhookId) {
 
-        Webhook webhook = webhookService.setWebhookActive(webhookId, true);
+        Webhook webhook = webhookService.setWebhookActive(tenantId, webhookId, true);
         return ResponseEntity.ok(WebhookResponse.from(webhook));
     }
 
@@ -102,7 +103,68 @@ public class WebhookController {
             @PathVariable UUID tenantId,
             @PathVariable UUID webhookId) {
 
-        Webhook webhook = webhookService.setWebhookActive(webhookId, false);
+        Webhook webhook = webhookService.setWebhookActive(tenantId, webhookId, false);
+        return ResponseEntity.ok(WebhookResponse.from(webhook));
+    }
+
+    /**
+     * Have a webhook receive its events in batches.
+     */
+    @PutMapping("/{webhookId}/batching")
+    public ResponseEntity<WebhookResponse> enableBatching(
+            @PathVariable UUID tenantId,
+            @PathVariable UUID webhookId,
+            @RequestBody WebhookBatchingRequest request) {
+
+        Webhook webhook = webhookService.setWebhookBatching(tenantId, webhookId, request.toBatching());
+        return ResponseEntity.ok(WebhookResponse.from(webhook));
+    }
+
+    /**
+     * Go back to one request per event.
+     */
+    @DeleteMapping("/{webhookId}/batching")
+    public ResponseEntity<WebhookResponse> disableBatching(
+            @PathVariable UUID tenantId,
+            @PathVariable UUID webhookId) {
+
+        Webhook webhook = webhookService.setWebhookBatching(tenantId, webhookId, null);
+        return ResponseEntity.ok(WebhookResponse.from(webhook));
+    }
+
+    /**
+     * Log a webhook's whole response bodies, to debug its receiver.
+     */
+    @PutMapping("/{webhookId}/full-response-capture")
+    public ResponseEntity<WebhookResponse> enableFullResponseCapture(
+            @PathVariable UUID tenantId,
+            @PathVariable UUID webhookId) {
+
+        Webhook webhook = webhookService.setFullResponseCapture(tenantId, webhookId, true);
+        return ResponseEntity.ok(WebhookResponse.from(webhook));
+    }
+
+    /**
+     * Go back to logging only the start of each response body.
+     */
+    @DeleteMapping("/{webhookId}/full-response-capture")
+    public ResponseEntity<WebhookResponse> disableFullResponseCapture(
+            @PathVariable UUID tenantId,
+            @PathVariable UUID webhookId) {
+
+        Webhook webhook = webhookService.setFullResponseCapture(tenantId, webhookId, false);
+        return ResponseEntity.ok(WebhookResponse.from(webhook));
+    }
+
+    /**
+     * Close a webhook's circuit breaker without waiting for a probe.
+     */
+    @PostMapping("/{webhookId}/circuit/close")
+    public ResponseEntity<WebhookResponse> closeCircuit(
+            @PathVariable UUID tenantId,
+            @PathVariable UUID webhookId) {
+
+        Webhook webhook = webhookService.closeCircuit(tenantId, webhookId);
         return ResponseEntity.ok(WebhookResponse.from(webhook));
     }
 
@@ -114,7 +176,7 @@ public class WebhookController {
             @PathVariable UUID tenantId,
             @PathVariable UUID webhookId) {
 
-        webhookService.deleteWebhook(webhookId);
+        webhookService.deleteWebhook(tenantId, webhookId);
         return ResponseEntity.noContent().build();
     }
 
@@ -126,7 +188,7 @@ public class WebhookController {
             @PathVariable UUID tenantId,
             @PathVariable UUID webhookId) {
 
-        WebhookDelivery delivery = webhookService.testWebhook(webhookId);
+        WebhookDelivery delivery = webhookService.testWebhook(tenantId, webhookId);
         return ResponseEntity.ok(WebhookDeliveryResponse.from(delivery));
     }
 
@@ -149,11 +211,38 @@ public class WebhookController {
      * Get delivery statistics for a webhook.
      */
     @GetMapping("/{webhookId}/stats")
-    public ResponseEntity<Map<String, Long>> getDeliveryStats(
+    public ResponseEntity<WebhookStatsResponse> getDeliveryStats(
+            @PathVariable UUID tenantId,
+            @PathVariable UUID webhookId) {
+
+        return ResponseEntity.ok(WebhookStatsResponse.from(webhookService.getDeliveryStats(webhookId)));
+    }
+
+    /**
+     * Get the events that exhausted their retries against a webhook.
+     */
+    @GetMapping("/{webhookId}/dead-letters")
+    public ResponseEntity<List<WebhookDeadLetterResponse>> getDeadLetters(
+            @PathVariable UUID tenantId,
+            @PathVariable UUID webhookId,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        List<WebhookDeadLetterResponse> deadLetters = webhookService.getDeadLetters(tenantId, webhookId, limit)
+                .stream()
+                .map(WebhookDeadLetterResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(deadLetters);
+    }
+
+    /**
+     * Queue all of a webhook's dead-lettered events for delivery again.
+     */
+    @PostMapping("/{webhookId}/dead-letters/replay")
+    public ResponseEntity<Map<String, Integer>> replayDeadLetters(
             @PathVariable UUID tenantId,
             @PathVariable UUID webhookId) {
 
-        Map<String, Long> stats = webhookService.getDeliveryStats(webhookId);
-        return ResponseEntity.ok(stats);
+        int replayed = webhookService.replayDeadLetters(tenantId, webhookId);
+        return ResponseEntity.accepted().body(Map.of("replayed", replayed));
     }
 }
@@ -1,5 +1,7 @@
 package com.example.incidentplatform.api.dto.incident;
 
+import com.example.incidentplatform.domain.model.incident.IncidentStats;
+
 import java.util.Map;
 
 /**
@@ -19,6 +21,23 @@ public record IncidentAnalytics(
         long incidentsResolvedThisWeek,
         long incidentsCreatedThisMonth,
         long incidentsResolvedThisMonth) {
+    public static IncidentAnalytics from(IncidentStats stats) {
+        return new IncidentAnalytics(
+                stats.totalIncidents(),
+                stats.openIncidents(),
+                stats.resolvedIncidents(),
+                stats.closedIncidents(),
+                stats.averageResolutionTimeHours(),
+                stats.incidentsBySeverity(),
+                stats.incidentsByStatus(),
+                stats.incidentsCreatedByDay(),
+                stats.incidentsResolvedByDay(),
+                stats.incidentsCreatedThisWeek(),
+                stats.incidentsResolvedThisWeek(),
+                stats.incidentsCreatedThisMonth(),
+                stats.incidentsResolvedThisMonth());
+    }
+
     public static IncidentAnalytics empty() {
         return new IncidentAnalytics(
                 0, 0, 0, 0, null,
@@ -1,5 +1,7 @@
 package com.example.incidentplatform.api.dto.incident;
 
+import com.example.incidentplatform.common.pagination.SortDirection;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 
@@ -13,21 +15,22 @@ public record IncidentSearchCriteria(
         Instant createdAfter,
         Instant createdBefore, 
         Boolean resolved, 
-        String sortBy, 
-        String sortDirection 
+        boolean fuzzy,
+        IncidentSortField sortBy, 
+        SortDirection sortDirection 
 ) {
     public IncidentSearchCriteria {
         // Default sort direction
         if (sortDirection == null) {
-            sortDirection = "DESC";
+            sortDirection = SortDirection.DESC;
         }
         if (sortBy == null) {
-            sortBy = "createdAt";
+            sortBy = IncidentSortField.CREATED_AT;
         }
     }
 
     public static IncidentSearchCriteria empty() {
-        return new IncidentSearchCriteria(null, null, null, null, null, null, null, null);
+        return new IncidentSearchCriteria(null, null, null, null, null, null, false, null, null);
     }
 
     public boolean hasFilters() {
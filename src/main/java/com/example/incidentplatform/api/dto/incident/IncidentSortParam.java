@@ -0,0 +1,52 @@
+package com.example.incidentplatform.api.dto.incident;
+
+import com.example.incidentplatform.common.error.BadRequestException;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Values accepted by the {@code sortBy} parameter of incident search, and the
+ * ordering each one selects.
+ */
+public enum IncidentSortParam {
+    CREATED_AT("createdAt", IncidentSortField.CREATED_AT),
+    UPDATED_AT("updatedAt", IncidentSortField.UPDATED_AT),
+    SEVERITY("severity", IncidentSortField.SEVERITY),
+    STATUS("status", IncidentSortField.STATUS),
+    RESOLVED_AT("resolvedAt", IncidentSortField.RESOLVED_AT),
+    RELEVANCE("relevance", IncidentSortField.RELEVANCE);
+
+    private final String param;
+    private final IncidentSortField field;
+
+    IncidentSortParam(String param, IncidentSortField field) {
+        this.param = param;
+        this.field = field;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public IncidentSortField field() {
+        return field;
+    }
+
+    /**
+     * @throws BadRequestException if {@code param} is not one of the supported
+     *                             orderings
+     */
+    public static IncidentSortField fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return IncidentSortField.CREATED_AT;
+        }
+        return Arrays.stream(values())
+                .filter(value -> value.param.equalsIgnoreCase(param))
+                .findFirst()
+                .map(IncidentSortParam::field)
+                .orElseThrow(() -> new BadRequestException("Unsupported sortBy '" + param + "', expected one of "
+                        + Arrays.stream(values()).map(IncidentSortParam::param).collect(Collectors.joining(", "))));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.incidentplatform.api.dto.webhook;
+
+import com.example.incidentplatform.common.error.BadRequestException;
+import com.example.incidentplatform.domain.model.webhook.WebhookBatching;
+
+import java.time.Duration;
+
+/**
+ * Batching settings for a webhook; omitted fields take the defaults.
+ */
+public record WebhookBatchingRequest(
+        Integer maxSize,
+        Long maxLingerMs,
+        Integer maxBytes) {
+
+    private static final int DEFAULT_MAX_SIZE = 500;
+    private static final long DEFAULT_MAX_LINGER_MS = 1_000;
+    private static final int DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static final int MAX_SIZE_LIMIT = 1_000;
+    private static final long MAX_LINGER_MS_LIMIT = 60_000;
+    private static final int MAX_BYTES_LIMIT = 10 * 1024 * 1024;
+
+    public WebhookBatching toBatching() {
+        int size = maxSize != null ? maxSize : DEFAULT_MAX_SIZE;
+        long lingerMs = maxLingerMs != null ? maxLingerMs : DEFAULT_MAX_LINGER_MS;
+        int bytes = maxBytes != null ? maxBytes : DEFAULT_MAX_BYTES;
+        if (size < 1 || size > MAX_SIZE_LIMIT) {
+            throw new BadRequestException("maxSize must be between 1 and " + MAX_SIZE_LIMIT);
+        }
+        if (lingerMs < 0 || lingerMs > MAX_LINGER_MS_LIMIT) {
+            throw new BadRequestException("maxLingerMs must be between 0 and " + MAX_LINGER_MS_LIMIT);
+        }
+        if (bytes < 1024 || bytes > MAX_BYTES_LIMIT) {
+            throw new BadRequestException("maxBytes must be between 1024 and " + MAX_BYTES_LIMIT);
+        }
+        return new WebhookBatching(size, Duration.ofMillis(lingerMs), bytes);
+    }
+}
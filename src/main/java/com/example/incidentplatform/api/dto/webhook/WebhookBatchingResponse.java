@@ -0,0 +1,14 @@
+package com.example.incidentplatform.api.dto.webhook;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookBatching;
+
+public record WebhookBatchingResponse(
+        int maxSize,
+        long maxLingerMs,
+        int maxBytes) {
+    public static WebhookBatchingResponse from(WebhookBatching batching) {
+        return batching == null ? null
+                : new WebhookBatchingResponse(batching.maxSize(), batching.maxLinger().toMillis(),
+                        batching.maxBytes());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.incidentplatform.api.dto.webhook;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+public record WebhookDeadLetterResponse(
+        UUID id,
+        UUID webhookId,
+        WebhookEventType eventType,
+        Map<String, Object> eventData,
+        int attempts,
+        String lastError,
+        Instant createdAt,
+        Instant deadLetteredAt) {
+    public static WebhookDeadLetterResponse from(WebhookOutboxEntry entry) {
+        return new WebhookDeadLetterResponse(
+                entry.id(),
+                entry.webhookId(),
+                entry.eventType(),
+                entry.eventData(),
+                entry.attempts(),
+                entry.lastError(),
+                entry.createdAt(),
+                entry.completedAt());
+    }
+}
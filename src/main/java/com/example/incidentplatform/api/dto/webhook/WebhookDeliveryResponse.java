@@ -16,7 +16,8 @@ public record WebhookDeliveryResponse(
         String responseBody,
         Instant deliveredAt,
         boolean success,
-        String errorMessage) {
+        String errorMessage,
+        int attempt) {
     public static WebhookDeliveryResponse from(WebhookDelivery delivery) {
         return new WebhookDeliveryResponse(
                 delivery.id(),
@@ -27,6 +28,7 @@ public record WebhookDeliveryResponse(
                 delivery.responseBody(),
                 delivery.deliveredAt(),
                 delivery.success(),
-                delivery.errorMessage());
+                delivery.errorMessage(),
+                delivery.attempt());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.incidentplatform.api.dto.webhook;
 
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
 import com.example.incidentplatform.domain.model.webhook.Webhook;
 import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
 
@@ -18,7 +19,12 @@ public record WebhookResponse(
         Instant createdAt,
         Instant updatedAt,
         Instant lastTriggeredAt,
-        int failureCount) {
+        int failureCount,
+        CircuitState circuitState,
+        Instant circuitOpenedAt,
+        Instant circuitRetryAt,
+        WebhookBatchingResponse batching,
+        boolean captureFullResponse) {
     public static WebhookResponse from(Webhook webhook) {
         return new WebhookResponse(
                 webhook.id(),
@@ -31,6 +37,11 @@ public record WebhookResponse(
                 webhook.createdAt(),
                 webhook.updatedAt(),
                 webhook.lastTriggeredAt(),
-                webhook.failureCount());
+                webhook.failureCount(),
+                webhook.circuitState(),
+                webhook.circuitOpenedAt(),
+                webhook.circuitRetryAt(),
+                WebhookBatchingResponse.from(webhook.batching()),
+                webhook.captureFullResponse());
     }
 }
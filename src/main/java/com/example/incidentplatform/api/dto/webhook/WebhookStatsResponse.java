@@ -0,0 +1,32 @@
+package com.example.incidentplatform.api.dto.webhook;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookStats;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record WebhookStatsResponse(
+        long successes,
+        long failures,
+        long total,
+        long last24h,
+        Map<Integer, Long> statusCodes,
+        Long p50LatencyMs,
+        Long p95LatencyMs,
+        Long p99LatencyMs) {
+    public static WebhookStatsResponse from(WebhookStats stats) {
+        return new WebhookStatsResponse(
+                stats.successes(),
+                stats.failures(),
+                stats.total(),
+                stats.lastDay(),
+                stats.statusCodes(),
+                toMillis(stats.p50Latency()),
+                toMillis(stats.p95Latency()),
+                toMillis(stats.p99Latency()));
+    }
+
+    private static Long toMillis(Duration latency) {
+        return latency == null ? null : latency.toMillis();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.incidentplatform.api.export;
+
+import com.example.incidentplatform.api.dto.incident.IncidentResponse;
+import com.example.incidentplatform.common.error.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Writes exported incidents to a stream one row at a time, so an export never
+ * holds more than a single incident in memory.
+ */
+public abstract class IncidentExportWriter implements Closeable {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @throws BadRequestException if {@code param} is not a supported format
+         */
+        public static Format fromParam(String param) {
+            if (param == null || param.isBlank()) {
+                return NDJSON;
+            }
+            return Arrays.stream(values())
+                    .filter(format -> format.extension.equalsIgnoreCase(param))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException("Unsupported export format '" + param
+                            + "', expected one of " + Arrays.stream(values()).map(Format::extension)
+                                    .collect(Collectors.joining(", "))));
+        }
+    }
+
+    public static IncidentExportWriter open(Format format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out, objectMapper.writer());
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    public abstract void write(IncidentResponse incident) throws IOException;
+
+    /**
+     * One JSON object per line.
+     */
+    private static final class NdjsonWriter extends IncidentExportWriter {
+
+        private final OutputStream out;
+        private final ObjectWriter json;
+
+        NdjsonWriter(OutputStream out, ObjectWriter json) {
+            this.out = new BufferedOutputStream(out);
+            this.json = json;
+        }
+
+        @Override
+        public void write(IncidentResponse incident) throws IOException {
+            out.write(json.writeValueAsBytes(incident));
+            out.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row. Values containing a comma, quote or line
+     * break are quoted; missing values are empty.
+     */
+    private static final class CsvWriter extends IncidentExportWriter {
+
+        private static final String HEADER = "id,tenantId,title,description,severity,status,createdBy,"
+                + "createdAt,updatedAt,resolvedAt";
+
+        private final Writer out;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.out.write(HEADER);
+            this.out.write("\r\n");
+        }
+
+        @Override
+        public void write(IncidentResponse incident) throws IOException {
+            field(incident.id(), false);
+            field(incident.tenantId(), false);
+            field(incident.title(), false);
+            field(incident.description(), false);
+            field(incident.severity(), false);
+            field(incident.status(), false);
+            field(incident.createdBy(), false);
+            field(incident.createdAt(), false);
+            field(incident.updatedAt(), false);
+            field(incident.resolvedAt(), true);
+        }
+
+        private void field(Object value, boolean last) throws IOException {
+            if (value != null) {
+                String text = value.toString();
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                        || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                    text = '"' + text.replace("\"", "\"\"") + '"';
+                }
+                out.write(text);
+            }
+            out.write(last ? "\r\n" : ",");
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.incidentplatform.api.websocket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class PushWebSocketConfig implements WebSocketConfigurer {
+
+    private final PushWebSocketHandler handler;
+    private final String[] allowedOrigins;
+
+    public PushWebSocketConfig(
+            PushWebSocketHandler handler,
+            @Value("${push.allowed-origins:*}") String[] allowedOrigins) {
+        this.handler = handler;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // Authenticated by token rather than cookie, so other origins cannot ride on a user's session
+        registry.addHandler(handler, "/ws/push").setAllowedOriginPatterns(allowedOrigins);
+    }
+}
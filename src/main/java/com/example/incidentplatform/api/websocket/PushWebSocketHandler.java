@@ -0,0 +1,123 @@
+package com.example.incidentplatform.api.websocket;
+
+import com.example.incidentplatform.application.service.PushHub;
+import com.example.incidentplatform.application.service.TenantUserService;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import com.example.incidentplatform.domain.model.tenant.TenantUser;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Pushes messages from {@link PushHub} to a WebSocket client; clients only
+ * listen.
+ *
+ * The handshake is authenticated like any other request, by
+ * {@code JwtAuthenticationFilter}. A session receives its user's
+ * notifications and the incident changes of the tenants the user is a member
+ * of, or of the one tenant named by the {@code tenantId} query parameter.
+ * Each frame is a JSON object with the message's {@code topic}, {@code type}
+ * and {@code data}.
+ */
+@Component
+public class PushWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String SUBSCRIPTION = PushHub.Subscription.class.getName();
+
+    private final PushHub hub;
+    private final TenantUserService tenantUserService;
+
+    public PushWebSocketHandler(PushHub hub, TenantUserService tenantUserService) {
+        this.hub = hub;
+        this.tenantUserService = tenantUserService;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        UUID userId = userId(session.getPrincipal());
+        if (userId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Not authenticated"));
+            return;
+        }
+        Set<String> topics = new LinkedHashSet<>();
+        topics.add(PushMessage.userTopic(userId));
+        String tenantParameter = session.getUri() == null ? null
+                : UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("tenantId");
+        if (tenantParameter != null) {
+            UUID tenantId;
+            try {
+                tenantId = UUID.fromString(tenantParameter);
+            } catch (IllegalArgumentException e) {
+                session.close(CloseStatus.BAD_DATA.withReason("Invalid tenantId"));
+                return;
+            }
+            if (!tenantUserService.isUserMember(tenantId, userId)) {
+                session.close(CloseStatus.POLICY_VIOLATION.withReason("Not a member of the tenant"));
+                return;
+            }
+            topics.add(PushMessage.tenantTopic(tenantId));
+        } else {
+            for (TenantUser membership : tenantUserService.listUserMemberships(userId)) {
+                topics.add(PushMessage.tenantTopic(membership.tenantId()));
+            }
+        }
+        session.getAttributes().put(SUBSCRIPTION, hub.subscribe(topics, new SessionSubscriber(session)));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        if (session.getAttributes().remove(SUBSCRIPTION) instanceof PushHub.Subscription subscription) {
+            subscription.close();
+        }
+    }
+
+    static String frame(PushMessage message) {
+        // Topic and type are plain identifiers; data is JSON already
+        return "{\"topic\":\"" + message.topic() + "\",\"type\":\"" + message.type() + "\",\"data\":"
+                + message.data() + "}";
+    }
+
+    private static UUID userId(Principal principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(principal.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record SessionSubscriber(WebSocketSession session) implements PushHub.Subscriber {
+
+        @Override
+        public void send(String id, PushMessage message) throws IOException {
+            session.sendMessage(new TextMessage(frame(message)));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            // Keeps proxies from closing an idle connection
+            session.sendMessage(new PingMessage());
+        }
+
+        @Override
+        public void close() {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                // Already gone
+            }
+        }
+    }
+}
@@ -27,7 +27,10 @@ public interface IncidentAssignmentRepository {
 
     long countActiveByAssigneeId(UUID assigneeId);
 
-    void deleteById(UUID id);
+    /**
+     * @return whether an assignment was deleted
+     */
+    boolean deleteById(UUID id);
 
     boolean existsById(UUID id);
 }
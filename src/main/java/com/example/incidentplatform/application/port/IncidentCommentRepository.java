@@ -21,7 +21,10 @@ public interface IncidentCommentRepository {
 
     long countByIncidentId(UUID incidentId);
 
-    void deleteById(UUID id);
+    /**
+     * @return whether a comment was deleted
+     */
+    boolean deleteById(UUID id);
 
     void deleteByIncidentId(UUID incidentId);
 
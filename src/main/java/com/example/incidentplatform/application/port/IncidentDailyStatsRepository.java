@@ -0,0 +1,23 @@
+package com.example.incidentplatform.application.port;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.incidentplatform.domain.model.incident.IncidentDailyStats;
+
+public interface IncidentDailyStatsRepository {
+
+    /**
+     * Adds each delta to its bucket. Runs in the caller's transaction when
+     * there is one so the rollup commits together with the incident change.
+     */
+    void applyDelta(List<IncidentDailyStats> delta);
+
+    long countCreatedBetween(UUID tenantId, LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Replaces the tenant's buckets with values recomputed from its incidents.
+     */
+    void rebuildForTenant(UUID tenantId);
+}
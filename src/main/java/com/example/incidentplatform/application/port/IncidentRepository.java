@@ -1,11 +1,20 @@
 package com.example.incidentplatform.application.port;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.SortDirection;
 import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
+import com.example.incidentplatform.domain.model.incident.IncidentStats;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 
 public interface IncidentRepository {
 
@@ -15,18 +24,42 @@ public interface IncidentRepository {
 
     Optional<Incident> findByIdAndTenantId(UUID id, UUID tenantId);
 
+    /**
+     * Like {@link #findByIdAndTenantId}, but locks the row until the
+     * transaction ends, so that concurrent changes to the incident are
+     * applied one after the other.
+     */
+    Optional<Incident> findByIdAndTenantIdForUpdate(UUID id, UUID tenantId);
+
     List<Incident> findByTenantId(UUID tenantId);
 
-    List<Incident> findByTenantIdAndStatus(UUID tenantId, String status);
+    // Keyset-paginated listings, newest first
+    CursorPage<Incident> findByTenantId(UUID tenantId, CursorPageRequest page);
+
+    CursorPage<Incident> findByTenantIdAndStatus(UUID tenantId, String status, CursorPageRequest page);
+
+    CursorPage<Incident> findByTenantIdAndSeverity(UUID tenantId, String severity, CursorPageRequest page);
 
-    void deleteByIdAndTenantId(UUID id, UUID tenantId);
+    /**
+     * Deletes the incident if it belongs to the tenant.
+     *
+     * @return the deleted incident, or empty if there was none
+     */
+    Optional<Incident> deleteByIdAndTenantId(UUID id, UUID tenantId);
 
     boolean existsByIdAndTenantId(UUID id, UUID tenantId);
 
     boolean existsById(UUID id);
 
     // Search and filtering methods
-    List<Incident> search(
+    /**
+     * Full-text search over title and description. {@code searchTerm} supports
+     * quoted phrases and trailing-{@code *} prefixes; with {@code fuzzy} set,
+     * substring and misspelled title matches are included as well. Results are
+     * ordered by {@code sortBy}, then createdAt and id, all in
+     * {@code sortDirection}; a cursor only continues the ordering it came from.
+     */
+    CursorPage<Incident> search(
             UUID tenantId,
             String searchTerm,
             String status,
@@ -34,12 +67,44 @@ public interface IncidentRepository {
             Instant createdAfter,
             Instant createdBefore,
             Boolean resolved,
-            String sortBy,
-            String sortDirection);
+            boolean fuzzy,
+            IncidentSortField sortBy,
+            SortDirection sortDirection,
+            CursorPageRequest page);
 
-    List<Incident> findByTenantIdAndSeverity(UUID tenantId, String severity);
+    /**
+     * Streams every incident matching the same filters and ordering as
+     * {@link #search}, reading from a database cursor so memory use does not
+     * depend on the number of rows. Must be consumed inside a transaction and
+     * closed afterwards.
+     */
+    Stream<Incident> streamMatching(
+            UUID tenantId,
+            String searchTerm,
+            String status,
+            String severity,
+            Instant createdAfter,
+            Instant createdBefore,
+            Boolean resolved,
+            boolean fuzzy,
+            IncidentSortField sortBy,
+            SortDirection sortDirection);
 
     long countByTenantId(UUID tenantId);
 
     long countByTenantIdAndStatus(UUID tenantId, String status);
+
+    /**
+     * Counts the tenant's incidents per status with a single query. Every
+     * status is present in the result, with zero if it has no incidents.
+     */
+    Map<IncidentStatus, Long> countByStatus(UUID tenantId);
+
+    // Analytics
+    /**
+     * Computes the tenant's analytics in the database. Weekly/monthly counters
+     * and the per-day buckets cover whole UTC days from the given days up to
+     * today.
+     */
+    IncidentStats aggregateAnalytics(UUID tenantId, LocalDate weekStart, LocalDate monthStart);
 }
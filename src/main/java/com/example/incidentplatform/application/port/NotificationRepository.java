@@ -1,11 +1,10 @@
 package com.example.incidentplatform.application.port;
 
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
 import com.example.incidentplatform.domain.model.notification.Notification;
 import com.example.incidentplatform.domain.model.notification.NotificationType;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -17,21 +16,24 @@ public interface NotificationRepository {
 
     Notification save(Notification notification);
 
+    /**
+     * Inserts new notifications as one batch.
+     */
+    void saveAll(List<Notification> notifications);
 
-    Optional<Notification> findById(UUID id);
 
+    Optional<Notification> findById(UUID id);
 
-    List<Notification> findByUserId(UUID userId);
 
+    // Keyset-paginated listings, newest first
+    CursorPage<Notification> findByUserId(UUID userId, CursorPageRequest page);
 
-    Page<Notification> findByUserId(UUID userId, Pageable pageable);
+    CursorPage<Notification> findUnreadByUserId(UUID userId, CursorPageRequest page);
 
-    List<Notification> findUnreadByUserId(UUID userId);
+    CursorPage<Notification> findByUserIdAndType(UUID userId, NotificationType type, CursorPageRequest page);
 
     long countUnreadByUserId(UUID userId);
 
-    List<Notification> findByUserIdAndType(UUID userId, NotificationType type);
-
     List<Notification> findByIncidentId(UUID incidentId);
 
     int markAllAsReadForUser(UUID userId);
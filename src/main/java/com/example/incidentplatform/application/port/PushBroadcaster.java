@@ -0,0 +1,17 @@
+package com.example.incidentplatform.application.port;
+
+import com.example.incidentplatform.domain.model.push.PushMessage;
+
+import java.util.List;
+
+/**
+ * Hands push messages to the {@code PushHub} of every node, this one
+ * included, which passes them on to the clients connected to it.
+ */
+public interface PushBroadcaster {
+
+    /**
+     * Called inside a transaction, the messages are only sent if it commits.
+     */
+    void broadcast(List<PushMessage> messages);
+}
@@ -2,7 +2,7 @@ package com.example.incidentplatform.application.port;
 
 import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
 
-import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -10,13 +10,32 @@ public interface WebhookDeliveryRepository {
 
     WebhookDelivery save(WebhookDelivery delivery);
 
+    /**
+     * Inserts the deliveries in one transaction, in JDBC batches.
+     */
+    void saveAll(List<WebhookDelivery> deliveries);
+
     List<WebhookDelivery> findByWebhookId(UUID webhookId);
 
+    /**
+     * The webhook's latest deliveries, newest first. Recent days are searched
+     * first so a busy webhook's history never reads old partitions.
+     */
     List<WebhookDelivery> findRecentByWebhookId(UUID webhookId, int limit);
 
-    long countSuccessByWebhookId(UUID webhookId);
-
-    long countFailuresByWebhookId(UUID webhookId);
-
-    int deleteOldDeliveries(Instant cutoff);
+    /**
+     * Makes room for deliveries on each UTC day from {@code from} through
+     * {@code through}, creating the partitions that do not exist yet.
+     *
+     * @return the number of partitions created
+     */
+    int createPartitions(LocalDate from, LocalDate through);
+
+    /**
+     * Deletes every delivery made before {@code firstKeptDay} (UTC) by
+     * dropping whole partitions.
+     *
+     * @return the number of partitions dropped
+     */
+    int dropPartitionsBefore(LocalDate firstKeptDay);
 }
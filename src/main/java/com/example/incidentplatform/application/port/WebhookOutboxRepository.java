@@ -0,0 +1,77 @@
+package com.example.incidentplatform.application.port;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WebhookOutboxRepository {
+
+    /**
+     * Inserts the entries in the caller's transaction. Until it ends, other
+     * transactions enqueueing entries for the same incidents wait, so that
+     * each incident's entries are committed in the order they are delivered.
+     */
+    void enqueue(List<WebhookOutboxEntry> entries);
+
+    /**
+     * Claims up to {@code limit} pending entries that are due at {@code now}.
+     * Claimed entries are not due again until {@code lease} has passed, so an
+     * entry whose dispatcher died before completing it is picked up again.
+     * An entry is not claimed while an earlier entry for the same webhook and
+     * incident is still pending.
+     */
+    List<WebhookOutboxEntry> claimDue(int limit, Instant now, Duration lease);
+
+    /**
+     * Claims the next entry for the webhook and incident if it is due and
+     * nothing earlier for them is still pending, leased like
+     * {@link #claimDue}.
+     */
+    Optional<WebhookOutboxEntry> claimNextInLane(UUID webhookId, UUID incidentId, Instant now, Duration lease);
+
+    /**
+     * Claims up to {@code limit} more pending entries for one webhook to send
+     * in a batch, oldest first: those due at {@code now} and those not yet
+     * attempted that are still waiting out the batch linger time. They are
+     * leased until {@code leaseUntil}, with the entry {@code startedBy} that
+     * started the batch. Entries queued behind an incident's earlier entry
+     * that is in flight or backing off are left for a later batch.
+     */
+    List<WebhookOutboxEntry> claimBatch(UUID webhookId, UUID startedBy, int limit, Instant now,
+            Instant leaseUntil);
+
+    /**
+     * Marks the entries delivered, with one statement however many there are.
+     */
+    void markDelivered(Collection<UUID> ids);
+
+    /**
+     * Leaves the entries pending, due again at {@code nextAttemptAt}.
+     */
+    void scheduleRetry(Collection<UUID> ids, Instant nextAttemptAt, String error);
+
+    /**
+     * Gives a claimed entry back without counting the claim as an attempt,
+     * due again at {@code nextAttemptAt}.
+     */
+    void release(UUID id, Instant nextAttemptAt);
+
+    void markDead(Collection<UUID> ids, String error);
+
+    List<WebhookOutboxEntry> findDead(UUID tenantId, UUID webhookId, int limit);
+
+    /**
+     * Makes the webhook's dead entries due now with a fresh attempt budget.
+     *
+     * @return the number of entries replayed
+     */
+    int replayDead(UUID tenantId, UUID webhookId);
+
+    int deleteCompletedBefore(WebhookOutboxStatus status, Instant cutoff);
+}
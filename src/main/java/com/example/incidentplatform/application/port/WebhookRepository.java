@@ -1,7 +1,10 @@
 package com.example.incidentplatform.application.port;
 
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
 import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookActivity;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,15 +15,53 @@ public interface WebhookRepository {
 
     Optional<Webhook> findById(UUID id);
 
+    Optional<Webhook> findByIdAndTenantId(UUID id, UUID tenantId);
+
     List<Webhook> findByTenantId(UUID tenantId);
 
     List<Webhook> findActiveByTenantId(UUID tenantId);
 
     void deleteById(UUID id);
 
+    /**
+     * Deletes the webhook if it belongs to the tenant.
+     *
+     * @return whether a webhook was deleted
+     */
+    boolean deleteByIdAndTenantId(UUID id, UUID tenantId);
+
     boolean existsById(UUID id);
 
     boolean existsByIdAndTenantId(UUID id, UUID tenantId);
 
     long countByTenantId(UUID tenantId);
+
+    /**
+     * Opens the webhook's circuit if it is still in {@code expected}; the next
+     * probe may go out at {@code retryAt}.
+     *
+     * @return whether this call changed the state
+     */
+    boolean openCircuit(UUID id, CircuitState expected, Instant openedAt, Instant retryAt);
+
+    /**
+     * Moves an open circuit whose retry time has passed to half-open, so the
+     * caller sends the only probe. A half-open circuit whose probe missed
+     * {@code probeDeadline} can be taken over the same way.
+     *
+     * @return whether the caller owns the probe
+     */
+    boolean halfOpenCircuit(UUID id, Instant now, Instant probeDeadline);
+
+    /**
+     * @return whether the circuit was open or half-open
+     */
+    boolean closeCircuit(UUID id);
+
+    /**
+     * Applies the outcomes of recent deliveries to the webhook's last
+     * triggered time and failure count in a single update, without reading
+     * the webhook first.
+     */
+    void recordActivity(UUID id, WebhookActivity activity, Instant now);
 }
@@ -0,0 +1,23 @@
+package com.example.incidentplatform.application.port;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface WebhookStatsRepository {
+
+    /**
+     * Adds each delta to its counter, creating the counter if needed.
+     */
+    void applyDelta(List<WebhookStatsBucket> delta);
+
+    List<WebhookStatsBucket> findByWebhookId(UUID webhookId);
+
+    /**
+     * Deletes the hourly counters of every webhook before the given hour.
+     *
+     * @return the number of counters deleted
+     */
+    int deleteHourlyBefore(long hour);
+}
@@ -0,0 +1,12 @@
+package com.example.incidentplatform.application.port;
+
+import java.util.UUID;
+
+/**
+ * Tells the other application nodes that a tenant's webhooks changed, so they
+ * drop what they have cached about them.
+ */
+public interface WebhookSubscriptionBroadcaster {
+
+    void broadcastChanged(UUID tenantId);
+}
@@ -1,15 +1,17 @@
 package com.example.incidentplatform.application.service;
 
 import com.example.incidentplatform.api.dto.incident.IncidentAnalytics;
+import com.example.incidentplatform.application.port.IncidentDailyStatsRepository;
 import com.example.incidentplatform.application.port.IncidentRepository;
 import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentDailyStats;
+import com.example.incidentplatform.domain.model.incident.IncidentStats;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -17,20 +19,38 @@ import java.util.stream.Collectors;
 public class IncidentAnalyticsService {
 
     private final IncidentRepository incidentRepository;
+    private final IncidentDailyStatsRepository dailyStatsRepository;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int WEEK_DAYS = 7;
+    private static final int TREND_DAYS = 30;
 
-    public IncidentAnalyticsService(IncidentRepository incidentRepository) {
+    public IncidentAnalyticsService(IncidentRepository incidentRepository,
+            IncidentDailyStatsRepository dailyStatsRepository) {
         this.incidentRepository = incidentRepository;
+        this.dailyStatsRepository = dailyStatsRepository;
     }
 
     /**
      * Generate comprehensive analytics for a tenant's incidents.
+     * The aggregation runs in the database so the tenant's incidents are never
+     * loaded into memory. Weekly, monthly and per-day figures are read from the
+     * daily rollup and cover the last 7 and 30 UTC days, today included.
      */
     public IncidentAnalytics generateAnalytics(UUID tenantId) {
-        List<Incident> incidents = incidentRepository.findByTenantId(tenantId);
+        LocalDate today = IncidentDailyStats.toDay(Instant.now());
+        return IncidentAnalytics.from(incidentRepository.aggregateAnalytics(
+                tenantId,
+                today.minusDays(WEEK_DAYS - 1),
+                today.minusDays(TREND_DAYS - 1)));
+    }
 
+    /**
+     * In-memory equivalent of {@link #generateAnalytics(UUID)}. Kept as the
+     * reference implementation the database aggregation is tested against.
+     */
+    static IncidentStats computeInMemory(List<Incident> incidents, Instant now) {
         if (incidents.isEmpty()) {
-            return IncidentAnalytics.empty();
+            return IncidentStats.empty();
         }
 
         long totalIncidents = incidents.size();
@@ -57,33 +77,29 @@ public class IncidentAnalyticsService {
         Double avgResolutionTimeHours = calculateAverageResolutionTime(incidents);
 
         // Incidents created per day (last 30 days)
-        Map<String, Long> createdByDay = getIncidentsCreatedByDay(incidents, 30);
+        Map<String, Long> createdByDay = getIncidentsCreatedByDay(incidents, now, TREND_DAYS);
 
         // Incidents resolved per day (last 30 days)
-        Map<String, Long> resolvedByDay = getIncidentsResolvedByDay(incidents, 30);
+        Map<String, Long> resolvedByDay = getIncidentsResolvedByDay(incidents, now, TREND_DAYS);
 
         // Weekly and monthly counts
-        Instant now = Instant.now();
-        Instant weekAgo = now.minus(7, ChronoUnit.DAYS);
-        Instant monthAgo = now.minus(30, ChronoUnit.DAYS);
-
         long createdThisWeek = incidents.stream()
-                .filter(i -> i.createdAt().isAfter(weekAgo))
+                .filter(i -> isWithinDays(i.createdAt(), now, WEEK_DAYS))
                 .count();
 
         long resolvedThisWeek = incidents.stream()
-                .filter(i -> i.resolvedAt() != null && i.resolvedAt().isAfter(weekAgo))
+                .filter(i -> i.resolvedAt() != null && isWithinDays(i.resolvedAt(), now, WEEK_DAYS))
                 .count();
 
         long createdThisMonth = incidents.stream()
-                .filter(i -> i.createdAt().isAfter(monthAgo))
+                .filter(i -> isWithinDays(i.createdAt(), now, TREND_DAYS))
                 .count();
 
         long resolvedThisMonth = incidents.stream()
-                .filter(i -> i.resolvedAt() != null && i.resolvedAt().isAfter(monthAgo))
+                .filter(i -> i.resolvedAt() != null && isWithinDays(i.resolvedAt(), now, TREND_DAYS))
                 .count();
 
-        return new IncidentAnalytics(
+        return new IncidentStats(
                 totalIncidents,
                 openIncidents,
                 resolvedIncidents,
@@ -103,7 +119,7 @@ public class IncidentAnalyticsService {
      * Calculate average resolution time in hours for incidents that have been
      * resolved.
      */
-    private Double calculateAverageResolutionTime(List<Incident> incidents) {
+    private static Double calculateAverageResolutionTime(List<Incident> incidents) {
         List<Long> resolutionTimes = incidents.stream()
                 .filter(i -> i.resolvedAt() != null)
                 .map(i -> Duration.between(i.createdAt(), i.resolvedAt()).toHours())
@@ -120,11 +136,9 @@ public class IncidentAnalyticsService {
     /**
      * Get count of incidents created per day for the last N days.
      */
-    private Map<String, Long> getIncidentsCreatedByDay(List<Incident> incidents, int days) {
-        Instant cutoff = Instant.now().minus(days, ChronoUnit.DAYS);
-
+    private static Map<String, Long> getIncidentsCreatedByDay(List<Incident> incidents, Instant now, int days) {
         return incidents.stream()
-                .filter(i -> i.createdAt().isAfter(cutoff))
+                .filter(i -> isWithinDays(i.createdAt(), now, days))
                 .collect(Collectors.groupingBy(
                         i -> formatDate(i.createdAt()),
                         TreeMap::new,
@@ -134,18 +148,24 @@ public class IncidentAnalyticsService {
     /**
      * Get count of incidents resolved per day for the last N days.
      */
-    private Map<String, Long> getIncidentsResolvedByDay(List<Incident> incidents, int days) {
-        Instant cutoff = Instant.now().minus(days, ChronoUnit.DAYS);
-
+    private static Map<String, Long> getIncidentsResolvedByDay(List<Incident> incidents, Instant now, int days) {
         return incidents.stream()
-                .filter(i -> i.resolvedAt() != null && i.resolvedAt().isAfter(cutoff))
+                .filter(i -> i.resolvedAt() != null && isWithinDays(i.resolvedAt(), now, days))
                 .collect(Collectors.groupingBy(
                         i -> formatDate(i.resolvedAt()),
                         TreeMap::new,
                         Collectors.counting()));
     }
 
-    private String formatDate(Instant instant) {
+    /**
+     * Whether the instant falls on one of the last N UTC days, today included.
+     */
+    private static boolean isWithinDays(Instant instant, Instant now, int days) {
+        LocalDate day = IncidentDailyStats.toDay(instant);
+        return !day.isBefore(IncidentDailyStats.toDay(now).minusDays(days - 1));
+    }
+
+    private static String formatDate(Instant instant) {
         return LocalDate.ofInstant(instant, ZoneOffset.UTC).format(DATE_FORMATTER);
     }
 
@@ -167,13 +187,12 @@ public class IncidentAnalyticsService {
     }
 
     /**
-     * Get incidents created in a date range.
+     * Get incidents created in a date range. Served from the daily rollup, so
+     * the range is widened to the whole UTC days containing start and end.
      */
     public long countIncidentsInRange(UUID tenantId, Instant start, Instant end) {
-        List<Incident> incidents = incidentRepository.findByTenantId(tenantId);
-        return incidents.stream()
-                .filter(i -> !i.createdAt().isBefore(start) && !i.createdAt().isAfter(end))
-                .count();
+        return dailyStatsRepository.countCreatedBetween(
+                tenantId, IncidentDailyStats.toDay(start), IncidentDailyStats.toDay(end));
     }
 
     /**
@@ -7,9 +7,11 @@ import com.example.incidentplatform.common.error.ConflictException;
 import com.example.incidentplatform.common.error.NotFoundException;
 import com.example.incidentplatform.domain.model.incident.Incident;
 import com.example.incidentplatform.domain.model.incident.IncidentAssignment;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
 import com.example.incidentplatform.domain.model.user.User;
 import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,16 +28,19 @@ public class IncidentAssignmentService {
     private final IncidentRepository incidentRepository;
     private final UserRepository userRepository;
     private final WebhookService webhookService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public IncidentAssignmentService(
             IncidentAssignmentRepository assignmentRepository,
             IncidentRepository incidentRepository,
             UserRepository userRepository,
-            WebhookService webhookService) {
+            WebhookService webhookService,
+            ApplicationEventPublisher eventPublisher) {
         this.assignmentRepository = assignmentRepository;
         this.incidentRepository = incidentRepository;
         this.userRepository = userRepository;
         this.webhookService = webhookService;
+        this.eventPublisher = eventPublisher;
     }
 
     public IncidentAssignment assignUser(UUID incidentId, UUID assigneeId, UUID assignedBy, String notes) {
@@ -52,6 +57,7 @@ public class IncidentAssignmentService {
 
         // Trigger webhook for assignment
         triggerAssignmentWebhook(incident, assigneeId, assignedBy, WebhookEventType.INCIDENT_ASSIGNED);
+        eventPublisher.publishEvent(IncidentLifecycleEvent.assigned(incident, assigneeId, assignedBy));
 
         return saved;
     }
@@ -68,6 +74,7 @@ public class IncidentAssignmentService {
 
         // Trigger webhook for unassignment
         triggerAssignmentWebhook(incident, assigneeId, null, WebhookEventType.INCIDENT_UNASSIGNED);
+        eventPublisher.publishEvent(IncidentLifecycleEvent.unassigned(incident, assigneeId));
 
         return saved;
     }
@@ -90,7 +97,7 @@ public class IncidentAssignmentService {
             eventData.put("assignedByName", assigner.displayName());
         }
 
-        webhookService.triggerWebhooks(incident.tenantId(), eventType, eventData);
+        webhookService.triggerWebhooks(incident.tenantId(), incident.id(), eventType, eventData);
     }
 
     public IncidentAssignment unassignById(UUID assignmentId) {
@@ -100,8 +107,14 @@ public class IncidentAssignmentService {
             throw new ConflictException("Assignment is already inactive");
         }
 
+        Incident incident = incidentRepository.findById(assignment.incidentId())
+                .orElseThrow(() -> new NotFoundException("Incident not found with id: " + assignment.incidentId()));
+
         IncidentAssignment unassigned = assignment.unassign();
-        return assignmentRepository.save(unassigned);
+        IncidentAssignment saved = assignmentRepository.save(unassigned);
+        eventPublisher.publishEvent(IncidentLifecycleEvent.unassigned(incident, assignment.assigneeId()));
+
+        return saved;
     }
 
     @Transactional(readOnly = true)
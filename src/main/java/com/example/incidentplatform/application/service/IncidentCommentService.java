@@ -70,10 +70,9 @@ public class IncidentCommentService {
     }
 
     public void deleteComment(UUID commentId) {
-        if (!commentRepository.existsById(commentId)) {
+        if (!commentRepository.deleteById(commentId)) {
             throw new NotFoundException("Comment not found with id: " + commentId);
         }
-        commentRepository.deleteById(commentId);
     }
 
     public void deleteAllCommentsForIncident(UUID incidentId) {
@@ -0,0 +1,101 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.IncidentDailyStatsRepository;
+import com.example.incidentplatform.application.port.TenantRepository;
+import com.example.incidentplatform.domain.model.tenant.Tenant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Rebuilds the {@code incident_daily_stats} rollup from the incidents table.
+ * Each tenant is one chunk, recomputed in its own transaction; chunks run in
+ * parallel on a bounded pool. Used to seed the rollup after it is introduced
+ * and to repair it if it ever drifts.
+ */
+@Service
+public class IncidentDailyStatsBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentDailyStatsBackfillService.class);
+    private static final int TENANT_PAGE_SIZE = 100;
+
+    private final TenantRepository tenantRepository;
+    private final IncidentDailyStatsRepository dailyStatsRepository;
+    private final boolean backfillOnStartup;
+    private final int parallelism;
+
+    public IncidentDailyStatsBackfillService(
+            TenantRepository tenantRepository,
+            IncidentDailyStatsRepository dailyStatsRepository,
+            @Value("${incident.analytics.rollup.backfill-on-startup:false}") boolean backfillOnStartup,
+            @Value("${incident.analytics.rollup.backfill-parallelism:4}") int parallelism) {
+        this.tenantRepository = tenantRepository;
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.backfillOnStartup = backfillOnStartup;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    /**
+     * Rebuild the rollup for every tenant.
+     *
+     * @return number of tenants rebuilt successfully
+     */
+    public int backfill() {
+        long started = System.currentTimeMillis();
+        int rebuilt = 0;
+        int failed = 0;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            Pageable pageable = PageRequest.of(0, TENANT_PAGE_SIZE, Sort.by("id"));
+            Page<Tenant> page;
+            do {
+                page = tenantRepository.findAll(pageable);
+                Map<UUID, Future<?>> chunks = new LinkedHashMap<>();
+                for (Tenant tenant : page) {
+                    chunks.put(tenant.id(), executor.submit(() -> dailyStatsRepository.rebuildForTenant(tenant.id())));
+                }
+                for (Map.Entry<UUID, Future<?>> chunk : chunks.entrySet()) {
+                    try {
+                        chunk.getValue().get();
+                        rebuilt++;
+                    } catch (ExecutionException e) {
+                        failed++;
+                        log.error("Failed to rebuild incident daily stats for tenant {}: {}",
+                                chunk.getKey(), e.getCause().getMessage());
+                    }
+                }
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Incident daily stats backfill interrupted after {} tenants", rebuilt);
+            return rebuilt;
+        }
+
+        log.info("Rebuilt incident daily stats for {} tenants ({} failed) in {} ms",
+                rebuilt, failed, System.currentTimeMillis() - started);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.IncidentAssignmentRepository;
+import com.example.incidentplatform.application.port.TenantUserRepository;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentAssignment;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
+import com.example.incidentplatform.domain.model.tenant.TenantUser;
+import com.example.incidentplatform.domain.model.user.RoleCode;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns {@link IncidentLifecycleEvent}s into in-app notifications.
+ *
+ * An event is handled once the transaction that raised it has committed, on a
+ * virtual thread of its own, so the request that changed the incident neither
+ * waits for the fan-out nor fails with it. Who is notified:
+ * <ul>
+ * <li>assignments and unassignments: the user assigned or unassigned;</li>
+ * <li>status changes and resolutions: the incident's active assignees and its
+ * creator;</li>
+ * <li>escalations: the same, plus the tenant's owners and admins;</li>
+ * <li>new incidents: the tenant's owners and admins.</li>
+ * </ul>
+ * An incident that is opened as, or escalated to, critical is sent to every
+ * member of the tenant instead of only its owners and admins. The user who
+ * made the change is left out. Each event's notifications are written as one
+ * batch, however many recipients it has.
+ */
+@Component
+public class IncidentNotificationFanOut {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentNotificationFanOut.class);
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(15);
+
+    private final NotificationService notificationService;
+    private final IncidentAssignmentRepository assignmentRepository;
+    private final TenantUserRepository tenantUserRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public IncidentNotificationFanOut(
+            NotificationService notificationService,
+            IncidentAssignmentRepository assignmentRepository,
+            TenantUserRepository tenantUserRepository) {
+        this.notificationService = notificationService;
+        this.assignmentRepository = assignmentRepository;
+        this.tenantUserRepository = tenantUserRepository;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIncidentEvent(IncidentLifecycleEvent event) {
+        executor.execute(() -> {
+            try {
+                fanOut(event);
+            } catch (RuntimeException e) {
+                log.error("Failed to send {} notifications for incident {}", event.kind(), event.incident().id(), e);
+            }
+        });
+    }
+
+    /**
+     * Notifies everyone who should hear about {@code event}, on the calling
+     * thread.
+     */
+    void fanOut(IncidentLifecycleEvent event) {
+        Set<UUID> recipients = recipients(event);
+        if (recipients.isEmpty()) {
+            return;
+        }
+        Incident incident = event.incident();
+        switch (event.kind()) {
+            case CREATED -> notificationService.notifyIncidentCreated(recipients, incident.id(), incident.title(),
+                    incident.severity().name());
+            case STATUS_CHANGED -> notificationService.notifyStatusChange(recipients, incident.id(),
+                    incident.title(), event.previous().status().name(), incident.status().name());
+            case RESOLVED -> notificationService.notifyResolution(recipients, incident.id(), incident.title());
+            case ESCALATED -> notificationService.notifyEscalation(recipients, incident.id(), incident.title(),
+                    event.previous().severity().name(), incident.severity().name());
+            case ASSIGNED -> notificationService.notifyAssignment(event.userId(), incident.id(), incident.title(),
+                    event.actorId());
+            case UNASSIGNED -> notificationService.notifyUnassignment(event.userId(), incident.id(),
+                    incident.title());
+            case UPDATED, DELETED -> {
+            }
+        }
+    }
+
+    private Set<UUID> recipients(IncidentLifecycleEvent event) {
+        Incident incident = event.incident();
+        Set<UUID> recipients = new LinkedHashSet<>();
+        switch (event.kind()) {
+            case ASSIGNED, UNASSIGNED -> recipients.add(event.userId());
+            case CREATED -> addTenantMembers(recipients, incident);
+            case STATUS_CHANGED, RESOLVED -> addParticipants(recipients, incident);
+            case ESCALATED -> {
+                addParticipants(recipients, incident);
+                addTenantMembers(recipients, incident);
+            }
+            case UPDATED, DELETED -> {
+            }
+        }
+        if (event.actorId() != null) {
+            recipients.remove(event.actorId());
+        }
+        return recipients;
+    }
+
+    private void addParticipants(Set<UUID> recipients, Incident incident) {
+        recipients.add(incident.createdBy());
+        for (IncidentAssignment assignment : assignmentRepository.findActiveByIncidentId(incident.id())) {
+            recipients.add(assignment.assigneeId());
+        }
+    }
+
+    /**
+     * The tenant's owners and admins, or all of its members if the incident is
+     * critical.
+     */
+    private void addTenantMembers(Set<UUID> recipients, Incident incident) {
+        boolean everyone = incident.severity().isCritical();
+        for (TenantUser member : tenantUserRepository.findByTenantId(incident.tenantId())) {
+            if (everyone || member.roleCode() == RoleCode.OWNER || member.roleCode() == RoleCode.ADMIN) {
+                recipients.add(member.userId());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_GRACE.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Incident notifications still being sent at shutdown; the rest are dropped");
+            executor.shutdownNow();
+        }
+    }
+}
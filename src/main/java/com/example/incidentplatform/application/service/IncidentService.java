@@ -1,22 +1,30 @@
 package com.example.incidentplatform.application.service;
 
+import com.example.incidentplatform.application.port.IncidentDailyStatsRepository;
 import com.example.incidentplatform.application.port.IncidentRepository;
 import com.example.incidentplatform.application.port.UserRepository;
 import com.example.incidentplatform.api.dto.incident.IncidentSearchCriteria;
 import com.example.incidentplatform.common.error.NotFoundException;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
 import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentDailyStats;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 import com.example.incidentplatform.domain.model.user.User;
 import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class IncidentService {
@@ -24,21 +32,34 @@ public class IncidentService {
     private final IncidentRepository incidentRepository;
     private final WebhookService webhookService;
     private final UserRepository userRepository;
+    private final IncidentDailyStatsRepository dailyStatsRepository;
+    private final IncidentStatusCountCache statusCounts;
+    private final ApplicationEventPublisher eventPublisher;
 
     public IncidentService(IncidentRepository incidentRepository,
             WebhookService webhookService,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            IncidentDailyStatsRepository dailyStatsRepository,
+            IncidentStatusCountCache statusCounts,
+            ApplicationEventPublisher eventPublisher) {
         this.incidentRepository = incidentRepository;
         this.webhookService = webhookService;
         this.userRepository = userRepository;
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.statusCounts = statusCounts;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public Incident createIncident(UUID tenantId, String title, String description, Severity severity, UUID createdBy) {
         var incident = Incident.createNew(tenantId, title, description, severity, createdBy);
         Incident saved = incidentRepository.save(incident);
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(null, saved));
+        statusCounts.recordChange(null, saved);
 
         // Trigger webhook for incident creation
         triggerIncidentWebhook(saved, WebhookEventType.INCIDENT_CREATED, null);
+        eventPublisher.publishEvent(IncidentLifecycleEvent.created(saved));
 
         return saved;
     }
@@ -48,19 +69,20 @@ public class IncidentService {
                 .orElseThrow(() -> new NotFoundException("Incident not found: " + incidentId));
     }
 
-    public List<Incident> listIncidents(UUID tenantId) {
-        return incidentRepository.findByTenantId(tenantId);
+    public CursorPage<Incident> listIncidents(UUID tenantId, CursorPageRequest page) {
+        return incidentRepository.findByTenantId(tenantId, page);
     }
 
-    public List<Incident> listIncidentsByStatus(UUID tenantId, IncidentStatus status) {
-        return incidentRepository.findByTenantIdAndStatus(tenantId, status.name());
+    public CursorPage<Incident> listIncidentsByStatus(UUID tenantId, IncidentStatus status, CursorPageRequest page) {
+        return incidentRepository.findByTenantIdAndStatus(tenantId, status.name(), page);
     }
 
-    public List<Incident> listIncidentsBySeverity(UUID tenantId, Severity severity) {
-        return incidentRepository.findByTenantIdAndSeverity(tenantId, severity.name());
+    public CursorPage<Incident> listIncidentsBySeverity(UUID tenantId, Severity severity, CursorPageRequest page) {
+        return incidentRepository.findByTenantIdAndSeverity(tenantId, severity.name(), page);
     }
 
-    public List<Incident> searchIncidents(UUID tenantId, IncidentSearchCriteria criteria) {
+    public CursorPage<Incident> searchIncidents(UUID tenantId, IncidentSearchCriteria criteria,
+            CursorPageRequest page) {
         return incidentRepository.search(
                 tenantId,
                 criteria.searchTerm(),
@@ -69,8 +91,31 @@ public class IncidentService {
                 criteria.createdAfter(),
                 criteria.createdBefore(),
                 criteria.resolved(),
+                criteria.fuzzy(),
                 criteria.sortBy(),
-                criteria.sortDirection());
+                criteria.sortDirection(),
+                page);
+    }
+
+    /**
+     * Feeds every incident matching {@code criteria} to {@code sink}, one at a
+     * time, straight from a database cursor.
+     */
+    @Transactional(readOnly = true)
+    public void exportIncidents(UUID tenantId, IncidentSearchCriteria criteria, Consumer<Incident> sink) {
+        try (Stream<Incident> incidents = incidentRepository.streamMatching(
+                tenantId,
+                criteria.searchTerm(),
+                criteria.status() != null ? criteria.status().name() : null,
+                criteria.severity() != null ? criteria.severity().name() : null,
+                criteria.createdAfter(),
+                criteria.createdBefore(),
+                criteria.resolved(),
+                criteria.fuzzy(),
+                criteria.sortBy(),
+                criteria.sortDirection())) {
+            incidents.forEach(sink);
+        }
     }
 
     public long countIncidents(UUID tenantId) {
@@ -81,13 +126,23 @@ public class IncidentService {
         return incidentRepository.countByTenantIdAndStatus(tenantId, status.name());
     }
 
+    /**
+     * Incident counts for every status, served from {@link IncidentStatusCountCache}.
+     */
+    public Map<IncidentStatus, Long> countIncidentsByStatus(UUID tenantId) {
+        return statusCounts.countByStatus(tenantId);
+    }
+
+    @Transactional
     public void deleteIncident(UUID tenantId, UUID incidentId) {
-        if (!incidentRepository.existsByIdAndTenantId(incidentId, tenantId)) {
-            throw new NotFoundException("Incident not found: " + incidentId);
-        }
-        incidentRepository.deleteByIdAndTenantId(incidentId, tenantId);
+        Incident deleted = incidentRepository.deleteByIdAndTenantId(incidentId, tenantId)
+                .orElseThrow(() -> new NotFoundException("Incident not found: " + incidentId));
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(deleted, null));
+        statusCounts.recordChange(deleted, null);
+        eventPublisher.publishEvent(IncidentLifecycleEvent.deleted(deleted));
     }
 
+    @Transactional
     public Incident updateIncident(
             UUID tenantId,
             UUID incidentId,
@@ -96,12 +151,15 @@ public class IncidentService {
             Severity severity,
             IncidentStatus status) {
 
-        Incident existing = incidentRepository.findByIdAndTenantId(incidentId, tenantId)
+        // Locked so that the daily stats delta is taken against the state this change replaces
+        Incident existing = incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId)
                 .orElseThrow(() -> new NotFoundException("Incident not found: " + incidentId));
 
         IncidentStatus previousStatus = existing.status();
         Incident updated = existing.update(title, description, severity, status);
         Incident saved = incidentRepository.save(updated);
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(existing, saved));
+        statusCounts.recordChange(existing, saved);
 
         // Determine the right webhook event type
         WebhookEventType eventType;
@@ -122,23 +180,41 @@ public class IncidentService {
 
         triggerIncidentWebhook(saved, eventType, resolutionTime);
 
+        // In-app notifications, sent once the change is committed
+        boolean statusChanged = saved.status() != previousStatus;
+        boolean escalated = saved.severity().isHigherThan(existing.severity());
+        if (statusChanged) {
+            eventPublisher.publishEvent(IncidentLifecycleEvent.statusChanged(existing, saved));
+        }
+        if (escalated) {
+            eventPublisher.publishEvent(IncidentLifecycleEvent.escalated(existing, saved));
+        }
+        if (!statusChanged && !escalated) {
+            eventPublisher.publishEvent(IncidentLifecycleEvent.updated(existing, saved));
+        }
+
         return saved;
     }
 
+    @Transactional
     public Incident changeStatus(UUID tenantId, UUID incidentId, IncidentStatus newStatus) {
         return updateIncident(tenantId, incidentId, null, null, null, newStatus);
     }
 
+    @Transactional
     public Incident escalateIncident(UUID tenantId, UUID incidentId) {
-        Incident existing = incidentRepository.findByIdAndTenantId(incidentId, tenantId)
+        Incident existing = incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId)
                 .orElseThrow(() -> new NotFoundException("Incident not found: " + incidentId));
 
         Incident escalated = existing.escalate();
         Incident saved = incidentRepository.save(escalated);
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(existing, saved));
+        statusCounts.recordChange(existing, saved);
 
         // Trigger webhook if severity actually changed
         if (!escalated.severity().equals(existing.severity())) {
             triggerIncidentWebhook(saved, WebhookEventType.INCIDENT_ESCALATED, null);
+            eventPublisher.publishEvent(IncidentLifecycleEvent.escalated(existing, saved));
         }
 
         return saved;
@@ -174,7 +250,7 @@ public class IncidentService {
             eventData.put("resolvedByName", creator != null ? creator.displayName() : "System");
         }
 
-        webhookService.triggerWebhooks(incident.tenantId(), eventType, eventData);
+        webhookService.triggerWebhooks(incident.tenantId(), incident.id(), eventType, eventData);
     }
 
     private String formatDuration(Duration duration) {
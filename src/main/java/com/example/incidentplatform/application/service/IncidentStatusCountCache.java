@@ -0,0 +1,136 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.IncidentRepository;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-tenant incident counts by status, kept in memory so the dashboard badge
+ * poll does not query the database every few seconds.
+ *
+ * A tenant's counts are loaded with one GROUP BY query on first use and then
+ * adjusted by every incident write made through this instance once its
+ * transaction commits. Writes made by other instances are not seen, so
+ * entries are reloaded after {@code incident.count-cache.ttl}.
+ */
+@Service
+public class IncidentStatusCountCache {
+
+    private final IncidentRepository incidentRepository;
+    private final long ttlNanos;
+    private final Map<UUID, TenantCounts> tenants = new ConcurrentHashMap<>();
+
+    public IncidentStatusCountCache(
+            IncidentRepository incidentRepository,
+            @Value("${incident.count-cache.ttl:1m}") Duration ttl) {
+        this.incidentRepository = incidentRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Map<IncidentStatus, Long> countByStatus(UUID tenantId) {
+        TenantCounts counts = tenants.computeIfAbsent(tenantId, id -> new TenantCounts());
+        long now = System.nanoTime();
+        Map<IncidentStatus, Long> cached = counts.current(now);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = counts.beginLoad();
+        Map<IncidentStatus, Long> loaded = incidentRepository.countByStatus(tenantId);
+        counts.finishLoad(generation, loaded, now + ttlNanos);
+        return new EnumMap<>(loaded);
+    }
+
+    /**
+     * Records that an incident moved from {@code before} to {@code after};
+     * either may be null for a create or a delete. Inside a transaction the
+     * counts change only if it commits.
+     */
+    public void recordChange(Incident before, Incident after) {
+        IncidentStatus removed = before != null ? before.status() : null;
+        IncidentStatus added = after != null ? after.status() : null;
+        if (removed == added) {
+            return;
+        }
+        UUID tenantId = after != null ? after.tenantId() : before.tenantId();
+        TenantCounts counts = tenants.computeIfAbsent(tenantId, id -> new TenantCounts());
+
+        counts.writeStarted();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counts.writeFinished(removed, added);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    counts.writeFinished(removed, added);
+                } else {
+                    counts.writeFinished(null, null);
+                }
+            }
+        });
+    }
+
+    /**
+     * One tenant's counts. A load only populates the entry if no write was in
+     * flight or completed while its query ran; otherwise the query may or may
+     * not have seen that write and the next read loads again.
+     */
+    private static final class TenantCounts {
+
+        private EnumMap<IncidentStatus, Long> counts;
+        private long expiresAt;
+        private long generation;
+        private int pendingWrites;
+
+        synchronized Map<IncidentStatus, Long> current(long now) {
+            if (counts == null || now - expiresAt >= 0) {
+                return null;
+            }
+            return new EnumMap<>(counts);
+        }
+
+        /**
+         * @return the generation to pass to {@link #finishLoad}, or -1 if a
+         *         write is in flight and the result must not be cached
+         */
+        synchronized long beginLoad() {
+            return pendingWrites == 0 ? generation : -1;
+        }
+
+        synchronized void finishLoad(long loadGeneration, Map<IncidentStatus, Long> loaded, long expiresAt) {
+            if (loadGeneration == generation && pendingWrites == 0) {
+                this.counts = new EnumMap<>(loaded);
+                this.expiresAt = expiresAt;
+            }
+        }
+
+        synchronized void writeStarted() {
+            pendingWrites++;
+        }
+
+        synchronized void writeFinished(IncidentStatus removed, IncidentStatus added) {
+            pendingWrites--;
+            generation++;
+            if (counts != null) {
+                if (removed != null) {
+                    counts.merge(removed, -1L, Long::sum);
+                }
+                if (added != null) {
+                    counts.merge(added, 1L, Long::sum);
+                }
+            }
+        }
+    }
+}
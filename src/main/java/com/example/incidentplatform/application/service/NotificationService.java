@@ -2,29 +2,41 @@ package com.example.incidentplatform.application.service;
 
 import com.example.incidentplatform.application.port.NotificationRepository;
 import com.example.incidentplatform.common.error.NotFoundException;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
 import com.example.incidentplatform.domain.model.notification.Notification;
 import com.example.incidentplatform.domain.model.notification.NotificationType;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @Transactional
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final PushPublisher pushPublisher;
+    private final UnreadNotificationCountCache unreadCounts;
 
-    public NotificationService(NotificationRepository notificationRepository) {
+    public NotificationService(
+            NotificationRepository notificationRepository,
+            PushPublisher pushPublisher,
+            UnreadNotificationCountCache unreadCounts) {
         this.notificationRepository = notificationRepository;
+        this.pushPublisher = pushPublisher;
+        this.unreadCounts = unreadCounts;
     }
 
     // ==================== Create Notifications ====================
@@ -37,7 +49,7 @@ public class NotificationService {
             UUID incidentId,
             Map<String, Object> metadata) {
         Notification notification = Notification.createNew(userId, type, title, message, incidentId, metadata);
-        return notificationRepository.save(notification);
+        return create(notification);
     }
 
     public Notification createSimpleNotification(
@@ -46,7 +58,7 @@ public class NotificationService {
             String title,
             String message) {
         Notification notification = Notification.createSimple(userId, type, title, message);
-        return notificationRepository.save(notification);
+        return create(notification);
     }
 
     public Notification notifyAssignment(UUID userId, UUID incidentId, String incidentTitle, UUID assignedBy) {
@@ -68,11 +80,16 @@ public class NotificationService {
             String incidentTitle,
             String oldStatus,
             String newStatus) {
-        String title = "Incident status changed";
-        String message = String.format("Incident '%s' status changed from %s to %s", incidentTitle, oldStatus,
-                newStatus);
-        Map<String, Object> metadata = Map.of("oldStatus", oldStatus, "newStatus", newStatus);
-        return createNotification(userId, NotificationType.STATUS_CHANGED, title, message, incidentId, metadata);
+        return create(statusChange(incidentId, incidentTitle, oldStatus, newStatus).apply(userId));
+    }
+
+    public int notifyStatusChange(
+            Collection<UUID> userIds,
+            UUID incidentId,
+            String incidentTitle,
+            String oldStatus,
+            String newStatus) {
+        return createForAll(userIds, statusChange(incidentId, incidentTitle, oldStatus, newStatus));
     }
 
     public Notification notifyNewComment(
@@ -93,17 +110,96 @@ public class NotificationService {
             String incidentTitle,
             String oldSeverity,
             String newSeverity) {
+        return create(escalation(incidentId, incidentTitle, oldSeverity, newSeverity).apply(userId));
+    }
+
+    public int notifyEscalation(
+            Collection<UUID> userIds,
+            UUID incidentId,
+            String incidentTitle,
+            String oldSeverity,
+            String newSeverity) {
+        return createForAll(userIds, escalation(incidentId, incidentTitle, oldSeverity, newSeverity));
+    }
+
+    public Notification notifyResolution(UUID userId, UUID incidentId, String incidentTitle) {
+        return create(resolution(incidentId, incidentTitle).apply(userId));
+    }
+
+    public int notifyResolution(Collection<UUID> userIds, UUID incidentId, String incidentTitle) {
+        return createForAll(userIds, resolution(incidentId, incidentTitle));
+    }
+
+    public int notifyIncidentCreated(Collection<UUID> userIds, UUID incidentId, String incidentTitle,
+            String severity) {
+        String title = "New " + severity.toLowerCase(Locale.ROOT) + " incident";
+        String message = String.format("Incident '%s' was opened with severity %s", incidentTitle, severity);
+        Map<String, Object> metadata = Map.of("severity", severity);
+        return createForAll(userIds, userId -> Notification.createNew(userId, NotificationType.INCIDENT_CREATED,
+                title, message, incidentId, metadata));
+    }
+
+    /**
+     * Writes one notification per user as a single batch, rather than a
+     * transaction per user.
+     *
+     * @return the number of notifications written
+     */
+    private int createForAll(Collection<UUID> userIds, Function<UUID, Notification> notification) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        List<Notification> notifications = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            notifications.add(notification.apply(userId));
+        }
+        notificationRepository.saveAll(notifications);
+        Map<UUID, Long> unreadByUser = new HashMap<>();
+        for (Notification created : notifications) {
+            unreadByUser.merge(created.userId(), 1L, Long::sum);
+        }
+        unreadByUser.forEach(unreadCounts::recordChange);
+        pushPublisher.notificationsCreated(notifications);
+        return notifications.size();
+    }
+
+    private Notification create(Notification notification) {
+        Notification saved = notificationRepository.save(notification);
+        unreadCounts.recordChange(saved.userId(), 1);
+        pushPublisher.notificationsCreated(List.of(saved));
+        return saved;
+    }
+
+    private static Function<UUID, Notification> statusChange(
+            UUID incidentId,
+            String incidentTitle,
+            String oldStatus,
+            String newStatus) {
+        String title = "Incident status changed";
+        String message = String.format("Incident '%s' status changed from %s to %s", incidentTitle, oldStatus,
+                newStatus);
+        Map<String, Object> metadata = Map.of("oldStatus", oldStatus, "newStatus", newStatus);
+        return userId -> Notification.createNew(userId, NotificationType.STATUS_CHANGED, title, message, incidentId,
+                metadata);
+    }
+
+    private static Function<UUID, Notification> escalation(
+            UUID incidentId,
+            String incidentTitle,
+            String oldSeverity,
+            String newSeverity) {
         String title = "Incident escalated";
         String message = String.format("Incident '%s' escalated from %s to %s", incidentTitle, oldSeverity,
                 newSeverity);
         Map<String, Object> metadata = Map.of("oldSeverity", oldSeverity, "newSeverity", newSeverity);
-        return createNotification(userId, NotificationType.ESCALATED, title, message, incidentId, metadata);
+        return userId -> Notification.createNew(userId, NotificationType.ESCALATED, title, message, incidentId,
+                metadata);
     }
 
-    public Notification notifyResolution(UUID userId, UUID incidentId, String incidentTitle) {
+    private static Function<UUID, Notification> resolution(UUID incidentId, String incidentTitle) {
         String title = "Incident resolved";
         String message = "Incident has been resolved: " + incidentTitle;
-        return createNotification(userId, NotificationType.RESOLVED, title, message, incidentId, null);
+        return userId -> Notification.createNew(userId, NotificationType.RESOLVED, title, message, incidentId, null);
     }
 
     // ==================== Read Notifications ====================
@@ -115,29 +211,28 @@ public class NotificationService {
     }
 
     @Transactional(readOnly = true)
-    public List<Notification> getNotificationsForUser(UUID userId) {
-        return notificationRepository.findByUserId(userId);
+    public CursorPage<Notification> getNotificationsForUser(UUID userId, CursorPageRequest page) {
+        return notificationRepository.findByUserId(userId, page);
     }
 
     @Transactional(readOnly = true)
-    public Page<Notification> getNotificationsForUser(UUID userId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return notificationRepository.findByUserId(userId, pageable);
+    public CursorPage<Notification> getUnreadNotificationsForUser(UUID userId, CursorPageRequest page) {
+        return notificationRepository.findUnreadByUserId(userId, page);
     }
 
-    @Transactional(readOnly = true)
-    public List<Notification> getUnreadNotificationsForUser(UUID userId) {
-        return notificationRepository.findUnreadByUserId(userId);
-    }
-
-    @Transactional(readOnly = true)
+    /**
+     * Served from {@link UnreadNotificationCountCache}; no transaction is
+     * started unless the count has to be loaded.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long countUnreadNotificationsForUser(UUID userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCounts.countUnread(userId);
     }
 
     @Transactional(readOnly = true)
-    public List<Notification> getNotificationsByType(UUID userId, NotificationType type) {
-        return notificationRepository.findByUserIdAndType(userId, type);
+    public CursorPage<Notification> getNotificationsByType(UUID userId, NotificationType type,
+            CursorPageRequest page) {
+        return notificationRepository.findByUserIdAndType(userId, type, page);
     }
 
     // ==================== Update Notifications ====================
@@ -147,21 +242,25 @@ public class NotificationService {
         if (notification.isRead()) {
             return notification; // Already read
         }
-        Notification read = notification.markAsRead();
-        return notificationRepository.save(read);
+        Notification read = notificationRepository.save(notification.markAsRead());
+        unreadCounts.recordChange(read.userId(), -1);
+        return read;
     }
 
     public int markAllAsRead(UUID userId) {
-        return notificationRepository.markAllAsReadForUser(userId);
+        int marked = notificationRepository.markAllAsReadForUser(userId);
+        unreadCounts.recordAllRead(userId);
+        return marked;
     }
 
     // ==================== Delete Notifications ====================
 
     public void deleteNotification(UUID notificationId) {
-        if (!notificationRepository.existsById(notificationId)) {
-            throw new NotFoundException("Notification not found with id: " + notificationId);
-        }
+        Notification notification = getNotification(notificationId);
         notificationRepository.deleteById(notificationId);
+        if (!notification.isRead()) {
+            unreadCounts.recordChange(notification.userId(), -1);
+        }
     }
 
     public int cleanupOldNotifications(UUID userId, int daysOld) {
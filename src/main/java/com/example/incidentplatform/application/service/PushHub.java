@@ -0,0 +1,403 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Passes push messages to the clients connected to this node, whatever they
+ * are connected with.
+ *
+ * Each subscriber has a queue of at most {@code push.buffer-size} messages.
+ * Messages are queued without waiting for the client and sent to it in order
+ * by a virtual thread that runs while the queue is not empty, so a slow client
+ * only holds up itself. Once its queue is full, the oldest message is dropped
+ * to make room for the newest.
+ *
+ * Every message gets an id, and the last {@code push.replay.size} messages of
+ * each topic are kept for {@code push.replay.ttl} so that a client that
+ * reconnects with the id of the last message it got is sent what it missed.
+ * Ids are only known to the node that gave them; a client that cannot be sent
+ * everything it missed is told to resync instead. Idle subscribers get a
+ * heartbeat every {@code push.heartbeat-interval-ms}, which also finds the
+ * clients that are gone.
+ */
+@Component
+public class PushHub {
+
+    private static final Logger log = LoggerFactory.getLogger(PushHub.class);
+
+    /**
+     * A connected client.
+     */
+    public interface Subscriber {
+
+        /**
+         * Sends one message; may block. Never called concurrently.
+         *
+         * @param id the message's id, which the client can resume after
+         * @throws IOException if the client is gone, after which the hub
+         *                     drops the subscriber and closes it
+         */
+        void send(String id, PushMessage message) throws IOException;
+
+        /**
+         * Tells the client that it missed messages that can no longer be
+         * sent, so it should reload what it shows. Sent before any message.
+         */
+        default void resync() throws IOException {
+        }
+
+        /**
+         * Sent when the client has had nothing for a while.
+         */
+        default void heartbeat() throws IOException {
+        }
+
+        void close();
+    }
+
+    /**
+     * A subscriber's registration; closing it stops the messages.
+     */
+    public interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private final int bufferSize;
+    private final int replaySize;
+    private final long replayTtlNanos;
+    // Ids from another run of this node, or another node, never match
+    private final String idPrefix = UUID.randomUUID().toString().substring(0, 8) + "-";
+    private final Counter dropped;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+
+    // Guarded by lock, so that a message is numbered, kept and queued in one step
+    private final Object lock = new Object();
+    private final Map<String, Set<Connection>> topics = new HashMap<>();
+    private final Map<String, Replay> replays = new HashMap<>();
+    private long sequence;
+    // The newest message dropped from a replay for being too old, from any topic
+    private long expiredUpTo;
+
+    public PushHub(
+            MeterRegistry meterRegistry,
+            @Value("${push.buffer-size:256}") int bufferSize,
+            @Value("${push.replay.size:100}") int replaySize,
+            @Value("${push.replay.ttl:2m}") Duration replayTtl) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.replaySize = Math.max(0, replaySize);
+        this.replayTtlNanos = replayTtl.toNanos();
+        Gauge.builder("push.connections", connections, Set::size)
+                .description("Clients connected for push messages")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("push.messages.dropped")
+                .description("Push messages dropped because a client's queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends {@code subscriber} the messages for {@code topics} from now on.
+     */
+    public Subscription subscribe(Set<String> topics, Subscriber subscriber) {
+        return subscribe(topics, subscriber, null);
+    }
+
+    /**
+     * Sends {@code subscriber} the messages for {@code topics} from now on,
+     * after those that came after {@code lastId}. If some of those are no
+     * longer kept, or {@code lastId} is not one of this node's ids, the
+     * subscriber is told to resync instead.
+     *
+     * @param lastId the id of the last message the client got, or null for a
+     *               new client
+     */
+    public Subscription subscribe(Set<String> topics, Subscriber subscriber, String lastId) {
+        Connection connection = new Connection(List.copyOf(topics), subscriber);
+        synchronized (lock) {
+            for (String topic : connection.topics) {
+                this.topics.computeIfAbsent(topic, t -> new HashSet<>()).add(connection);
+            }
+            connections.add(connection);
+            if (lastId != null) {
+                List<Event> missed = missedSince(connection.topics, lastId);
+                if (missed == null) {
+                    connection.resync();
+                } else {
+                    missed.forEach(connection::offer);
+                }
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Queues {@code message} for every subscriber of its topic; does not wait
+     * for them.
+     */
+    public void deliver(PushMessage message) {
+        synchronized (lock) {
+            Event event = new Event(++sequence, System.nanoTime(), message);
+            if (replaySize > 0) {
+                replays.computeIfAbsent(message.topic(), t -> new Replay()).add(event);
+            }
+            Set<Connection> subscribers = topics.get(message.topic());
+            if (subscribers != null) {
+                for (Connection connection : subscribers) {
+                    connection.offer(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a heartbeat to every subscriber that has nothing queued, and
+     * forgets the messages that are too old to replay.
+     */
+    @Scheduled(fixedDelayString = "${push.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Connection connection : connections) {
+            connection.heartbeat();
+        }
+        long expiredBefore = System.nanoTime() - replayTtlNanos;
+        synchronized (lock) {
+            Iterator<Replay> iterator = replays.values().iterator();
+            while (iterator.hasNext()) {
+                Replay replay = iterator.next();
+                Event oldest;
+                while ((oldest = replay.events.peekFirst()) != null && oldest.queuedAt - expiredBefore < 0) {
+                    replay.events.pollFirst();
+                    expiredUpTo = Math.max(expiredUpTo, oldest.sequence);
+                }
+                if (replay.events.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Clients connected right now.
+     */
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private String id(long sequence) {
+        return idPrefix + sequence;
+    }
+
+    /**
+     * The kept messages for {@code topics} after {@code lastId}, oldest
+     * first, or null if that is not all the client missed.
+     */
+    private List<Event> missedSince(List<String> topics, String lastId) {
+        if (!lastId.startsWith(idPrefix)) {
+            return null;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastId.substring(idPrefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (lastSequence > sequence || lastSequence < expiredUpTo) {
+            return null;
+        }
+        if (replaySize == 0) {
+            return lastSequence == sequence ? List.of() : null;
+        }
+        List<Event> missed = new ArrayList<>();
+        for (String topic : topics) {
+            Replay replay = replays.get(topic);
+            if (replay == null) {
+                continue;
+            }
+            if (replay.evictedUpTo > lastSequence) {
+                return null;
+            }
+            for (Event event : replay.events) {
+                if (event.sequence > lastSequence) {
+                    missed.add(event);
+                }
+            }
+        }
+        missed.sort(Comparator.comparingLong(Event::sequence));
+        return missed;
+    }
+
+    private record Event(long sequence, long queuedAt, PushMessage message) {
+    }
+
+    /**
+     * A topic's most recent messages; guarded by the hub's lock.
+     */
+    private final class Replay {
+
+        final ArrayDeque<Event> events = new ArrayDeque<>();
+        long evictedUpTo;
+
+        void add(Event event) {
+            if (events.size() >= replaySize) {
+                evictedUpTo = events.pollFirst().sequence;
+            }
+            events.addLast(event);
+        }
+    }
+
+    private final class Connection implements Subscription {
+
+        private final List<String> topics;
+        private final Subscriber subscriber;
+        // Guarded by this
+        private final ArrayDeque<Event> queue = new ArrayDeque<>();
+        private boolean resyncPending;
+        private boolean heartbeatPending;
+        private boolean sending;
+        private boolean closed;
+
+        Connection(List<String> topics, Subscriber subscriber) {
+            this.topics = topics;
+            this.subscriber = subscriber;
+        }
+
+        void offer(Event event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= bufferSize) {
+                    queue.pollFirst();
+                    dropped.increment();
+                }
+                queue.addLast(event);
+                if (!startSending()) {
+                    return;
+                }
+            }
+            executor.execute(this::send);
+        }
+
+        void resync() {
+            synchronized (this) {
+                resyncPending = true;
+                if (!startSending()) {
+                    return;
+                }
+            }
+            executor.execute(this::send);
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                // Skipped while sending, which shows the client is there anyway
+                if (closed || sending) {
+                    return;
+                }
+                heartbeatPending = true;
+                startSending();
+            }
+            executor.execute(this::send);
+        }
+
+        // Called holding this; true if the caller must start the sender
+        private boolean startSending() {
+            if (sending) {
+                return false;
+            }
+            sending = true;
+            return true;
+        }
+
+        private void send() {
+            while (true) {
+                Event event = null;
+                boolean resync = false;
+                boolean heartbeat = false;
+                synchronized (this) {
+                    if (closed) {
+                        sending = false;
+                        return;
+                    }
+                    if (resyncPending) {
+                        resyncPending = false;
+                        resync = true;
+                    } else if ((event = queue.pollFirst()) != null) {
+                        heartbeatPending = false;
+                    } else if (heartbeatPending) {
+                        heartbeatPending = false;
+                        heartbeat = true;
+                    } else {
+                        sending = false;
+                        return;
+                    }
+                }
+                try {
+                    if (resync) {
+                        subscriber.resync();
+                    } else if (event != null) {
+                        subscriber.send(id(event.sequence), event.message);
+                    } else {
+                        subscriber.heartbeat();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Dropping push subscriber after a failed send: {}", e.getMessage());
+                    close();
+                    subscriber.close();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            synchronized (lock) {
+                for (String topic : topics) {
+                    Set<Connection> subscribers = PushHub.this.topics.get(topic);
+                    if (subscribers != null && subscribers.remove(this) && subscribers.isEmpty()) {
+                        PushHub.this.topics.remove(topic);
+                    }
+                }
+            }
+            connections.remove(this);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.PushBroadcaster;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
+import com.example.incidentplatform.domain.model.notification.Notification;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pushes new notifications to the users they are for, and incident changes to
+ * every member of the incident's tenant, through {@link PushBroadcaster}.
+ *
+ * Both are broadcast inside the transaction that made them, so clients only
+ * hear about committed changes. Incident messages carry the incident's fields
+ * except its description, which a client fetches when it needs it.
+ */
+@Component
+public class PushPublisher {
+
+    static final String NOTIFICATION = "notification";
+    static final String INCIDENT = "incident";
+
+    private final PushBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+
+    public PushPublisher(PushBroadcaster broadcaster, ObjectMapper objectMapper) {
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+    }
+
+    public void notificationsCreated(List<Notification> notifications) {
+        List<PushMessage> messages = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            messages.add(new PushMessage(PushMessage.userTopic(notification.userId()), NOTIFICATION,
+                    toJson(notificationData(notification))));
+        }
+        broadcaster.broadcast(messages);
+    }
+
+    @EventListener
+    public void onIncidentEvent(IncidentLifecycleEvent event) {
+        Incident incident = event.incident();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("event", event.kind().name());
+        data.put("id", incident.id().toString());
+        data.put("tenantId", incident.tenantId().toString());
+        data.put("title", incident.title());
+        data.put("severity", incident.severity().name());
+        data.put("status", incident.status().name());
+        data.put("createdBy", incident.createdBy().toString());
+        data.put("createdAt", incident.createdAt().toString());
+        data.put("updatedAt", incident.updatedAt().toString());
+        data.put("resolvedAt", incident.resolvedAt() != null ? incident.resolvedAt().toString() : null);
+        if (event.userId() != null) {
+            data.put("userId", event.userId().toString());
+        }
+        broadcaster.broadcast(List.of(
+                new PushMessage(PushMessage.tenantTopic(incident.tenantId()), INCIDENT, toJson(data))));
+    }
+
+    private static Map<String, Object> notificationData(Notification notification) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", notification.id().toString());
+        data.put("type", notification.type().name());
+        data.put("title", notification.title());
+        data.put("message", notification.message());
+        data.put("incidentId", notification.incidentId() != null ? notification.incidentId().toString() : null);
+        data.put("read", notification.isRead());
+        data.put("createdAt", notification.createdAt().toString());
+        data.put("metadata", notification.metadata());
+        return data;
+    }
+
+    private String toJson(Map<String, Object> data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise push message", e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.NotificationRepository;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-user unread notification counts, kept in memory so the notification
+ * badge does not count rows on every refresh.
+ *
+ * A user's count is loaded with one query on first use and then adjusted by
+ * every notification write made through this instance once its transaction
+ * commits. Writes made by other instances are not seen, so entries are
+ * reloaded after {@code notification.unread-count-cache.ttl}. At most
+ * {@code notification.unread-count-cache.max-size} users are kept; beyond
+ * that, users without a write in flight are dropped and reloaded when next
+ * asked for.
+ */
+@Service
+public class UnreadNotificationCountCache {
+
+    private final NotificationRepository notificationRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<UUID, UserCount> users = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public UnreadNotificationCountCache(
+            NotificationRepository notificationRepository,
+            @Value("${notification.unread-count-cache.ttl:1m}") Duration ttl,
+            @Value("${notification.unread-count-cache.max-size:100000}") int maxSize) {
+        this.notificationRepository = notificationRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    public long countUnread(UUID userId) {
+        evictIfFull();
+        UserCount count = users.computeIfAbsent(userId, id -> new UserCount());
+        long now = System.nanoTime();
+        long cached = count.current(now);
+        if (cached >= 0) {
+            return cached;
+        }
+
+        long generation = count.beginLoad();
+        long loaded = notificationRepository.countUnreadByUserId(userId);
+        count.finishLoad(generation, loaded, now + ttlNanos);
+        return loaded;
+    }
+
+    /**
+     * Records that {@code delta} of the user's notifications became unread,
+     * or read if negative. Inside a transaction the count changes only if it
+     * commits.
+     */
+    public void recordChange(UUID userId, long delta) {
+        if (delta != 0) {
+            record(userId, delta, false);
+        }
+    }
+
+    /**
+     * Records that all of the user's notifications were marked read.
+     */
+    public void recordAllRead(UUID userId) {
+        record(userId, 0, true);
+    }
+
+    private void record(UUID userId, long delta, boolean reset) {
+        evictIfFull();
+        // Started inside compute() so that the entry cannot be evicted in between
+        UserCount count = users.compute(userId, (id, existing) -> {
+            UserCount started = existing != null ? existing : new UserCount();
+            started.writeStarted();
+            return started;
+        });
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            count.writeFinished(delta, reset);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    count.writeFinished(delta, reset);
+                } else {
+                    count.writeFinished(0, false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Deleting an incident deletes its notifications with it, for users we
+     * do not know without a query, so every count is reloaded.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIncidentEvent(IncidentLifecycleEvent event) {
+        if (event.kind() == IncidentLifecycleEvent.Kind.DELETED) {
+            users.values().forEach(UserCount::invalidate);
+        }
+    }
+
+    /**
+     * Drops expired users, then any others, until a tenth of the room is
+     * free again. Users with a write in flight are kept, so that a load
+     * cannot miss the write.
+     */
+    private void evictIfFull() {
+        if (users.size() < maxSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            int target = maxSize - Math.max(1, maxSize / 10);
+            for (UUID userId : users.keySet()) {
+                users.computeIfPresent(userId, (id, count) -> count.idle() && count.current(now) < 0 ? null : count);
+            }
+            Iterator<UUID> iterator = users.keySet().iterator();
+            while (users.size() > target && iterator.hasNext()) {
+                users.computeIfPresent(iterator.next(), (id, count) -> count.idle() ? null : count);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * One user's count. A load only populates the entry if no write was in
+     * flight or completed while its query ran; otherwise the query may or may
+     * not have seen that write and the next read loads again.
+     */
+    private static final class UserCount {
+
+        // -1 until loaded
+        private long unread = -1;
+        private long expiresAt;
+        private long generation;
+        private int pendingWrites;
+
+        /**
+         * @return the cached count, or -1 if there is none
+         */
+        synchronized long current(long now) {
+            if (unread < 0 || now - expiresAt >= 0) {
+                return -1;
+            }
+            return unread;
+        }
+
+        synchronized boolean idle() {
+            return pendingWrites == 0;
+        }
+
+        /**
+         * @return the generation to pass to {@link #finishLoad}, or -1 if a
+         *         write is in flight and the result must not be cached
+         */
+        synchronized long beginLoad() {
+            return pendingWrites == 0 ? generation : -1;
+        }
+
+        synchronized void finishLoad(long loadGeneration, long loaded, long expiresAt) {
+            if (loadGeneration == generation && pendingWrites == 0) {
+                this.unread = loaded;
+                this.expiresAt = expiresAt;
+            }
+        }
+
+        synchronized void invalidate() {
+            unread = -1;
+            generation++;
+        }
+
+        synchronized void writeStarted() {
+            pendingWrites++;
+        }
+
+        synchronized void writeFinished(long delta, boolean reset) {
+            pendingWrites--;
+            generation++;
+            if (reset) {
+                // Notifications written by a transaction still in flight may
+                // or may not have been marked; only zero if there are none
+                unread = pendingWrites == 0 && unread >= 0 ? 0 : -1;
+            } else if (unread >= 0) {
+                unread = Math.max(0, unread + delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
+import com.example.incidentplatform.domain.model.webhook.Webhook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A circuit breaker per webhook endpoint, so a failing receiver stops costing
+ * a request timeout per event.
+ *
+ * Each node keeps the outcomes of the last {@code webhook.circuit.window-size}
+ * deliveries per webhook. Once at least {@code minimum-calls} are recorded and
+ * the share that failed reaches {@code failure-rate-threshold} percent, or the
+ * share slower than {@code slow-call-duration} reaches
+ * {@code slow-call-rate-threshold} percent, the circuit opens.
+ *
+ * The state lives on the webhook row, so every node honours it. While open,
+ * deliveries are refused with {@link CircuitOpenException} and go back to the
+ * outbox until {@code open-duration} has passed. The first delivery after that
+ * moves the circuit to half-open and is sent as the only probe: success closes
+ * the circuit, failure opens it for another period.
+ */
+@Component
+public class WebhookCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookCircuitBreaker.class);
+
+    /**
+     * What a permitted delivery is for.
+     */
+    public enum Permit {
+        CALL,
+        PROBE
+    }
+
+    private final WebhookRepository webhookRepository;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration slowCallDuration;
+    private final int slowCallRateThreshold;
+    private final Duration openDuration;
+    private final Map<UUID, Window> windows = new ConcurrentHashMap<>();
+
+    public WebhookCircuitBreaker(
+            WebhookRepository webhookRepository,
+            @Value("${webhook.circuit.window-size:20}") int windowSize,
+            @Value("${webhook.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${webhook.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${webhook.circuit.slow-call-duration:5s}") Duration slowCallDuration,
+            @Value("${webhook.circuit.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+            @Value("${webhook.circuit.open-duration:1m}") Duration openDuration) {
+        this.webhookRepository = webhookRepository;
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * Decides whether a delivery to the webhook may be sent.
+     *
+     * @throws CircuitOpenException if the circuit is open, or half-open with
+     *                              another delivery probing
+     */
+    public Permit acquire(Webhook webhook, Instant now) {
+        if (webhook.circuitState() == CircuitState.CLOSED) {
+            return Permit.CALL;
+        }
+        if (webhook.circuitRetryAt() != null && now.isBefore(webhook.circuitRetryAt())) {
+            throw new CircuitOpenException(webhook.id(), webhook.circuitRetryAt());
+        }
+        Instant probeDeadline = now.plus(openDuration);
+        if (!webhookRepository.halfOpenCircuit(webhook.id(), now, probeDeadline)) {
+            throw new CircuitOpenException(webhook.id(), probeDeadline);
+        }
+        log.info("Probing webhook {} after its circuit opened at {}", webhook.id(), webhook.circuitOpenedAt());
+        return Permit.PROBE;
+    }
+
+    /**
+     * Records the outcome of a delivery made under {@code permit}.
+     */
+    public void record(Webhook webhook, Permit permit, boolean success, Duration elapsed, Instant now) {
+        if (permit == Permit.PROBE) {
+            if (success) {
+                windows.remove(webhook.id());
+                if (webhookRepository.closeCircuit(webhook.id())) {
+                    log.info("Circuit for webhook {} closed after a successful probe", webhook.id());
+                }
+            } else {
+                webhookRepository.openCircuit(webhook.id(), CircuitState.HALF_OPEN, now, now.plus(openDuration));
+                log.warn("Probe to webhook {} failed; circuit stays open", webhook.id());
+            }
+            return;
+        }
+
+        Window window = windows.computeIfAbsent(webhook.id(), id -> new Window(windowSize));
+        boolean slow = elapsed.compareTo(slowCallDuration) >= 0;
+        if (window.record(webhook.circuitOpenedAt(), !success, slow) && webhookRepository.openCircuit(
+                webhook.id(), CircuitState.CLOSED, now, now.plus(openDuration))) {
+            windows.remove(webhook.id());
+            log.warn("Circuit for webhook {} opened until {}", webhook.id(), now.plus(openDuration));
+        }
+    }
+
+    /**
+     * Closes the circuit without waiting for a probe.
+     */
+    public void close(UUID webhookId) {
+        windows.remove(webhookId);
+        webhookRepository.closeCircuit(webhookId);
+    }
+
+    /**
+     * Thrown instead of sending a delivery while the webhook's circuit is open.
+     */
+    public static class CircuitOpenException extends RuntimeException {
+
+        private final Instant retryAt;
+
+        public CircuitOpenException(UUID webhookId, Instant retryAt) {
+            super("Circuit open for webhook " + webhookId + " until " + retryAt);
+            this.retryAt = retryAt;
+        }
+
+        public Instant retryAt() {
+            return retryAt;
+        }
+    }
+
+    /**
+     * The last outcomes of one webhook's deliveries on this node. It starts
+     * over whenever the circuit has opened since it began, so failures from
+     * before a trip are not counted again.
+     */
+    private final class Window {
+
+        private final boolean[] failed;
+        private final boolean[] slow;
+        private int size;
+        private int next;
+        private int failures;
+        private int slowCalls;
+        private Instant epoch;
+
+        Window(int capacity) {
+            this.failed = new boolean[capacity];
+            this.slow = new boolean[capacity];
+        }
+
+        /**
+         * @return whether the window now calls for the circuit to open
+         */
+        synchronized boolean record(Instant circuitOpenedAt, boolean failure, boolean slowCall) {
+            if (!Objects.equals(epoch, circuitOpenedAt)) {
+                epoch = circuitOpenedAt;
+                size = next = failures = slowCalls = 0;
+            }
+            if (size == failed.length) {
+                failures -= failed[next] ? 1 : 0;
+                slowCalls -= slow[next] ? 1 : 0;
+            } else {
+                size++;
+            }
+            failed[next] = failure;
+            slow[next] = slowCall;
+            failures += failure ? 1 : 0;
+            slowCalls += slowCall ? 1 : 0;
+            next = (next + 1) % failed.length;
+
+            return size >= minimumCalls
+                    && (failures * 100 >= failureRateThreshold * size
+                            || slowCalls * 100 >= slowCallRateThreshold * size);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.incidentplatform.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends webhook requests, isolating receivers from each other.
+ *
+ * Requests share one {@link HttpClient}, so connections are pooled per host
+ * and HTTP/2 is negotiated with receivers that offer it over TLS. Each
+ * destination host gets a bulkhead of {@code webhook.delivery.host.max-in-flight}
+ * concurrent requests and at most {@code webhook.delivery.host.max-queued}
+ * waiting behind them. A request that finds its host's queue full, or waits
+ * longer than {@code webhook.delivery.host.queue-timeout}, fails fast with
+ * {@link HostBusyException} instead of tying up a delivery slot that other
+ * hosts could use.
+ *
+ * The request timeout is {@code webhook.delivery.timeout} unless the host has
+ * its own entry in {@code webhook.delivery.host-timeouts}, written as
+ * {@code host=duration} pairs.
+ */
+@Component
+public class WebhookDeliveryEngine {
+
+    private final MeterRegistry meterRegistry;
+    private final WebhookResponseBodyHandler responseBodies;
+    private final int maxInFlightPerHost;
+    private final int maxQueuedPerHost;
+    private final Duration queueTimeout;
+    private final Duration defaultTimeout;
+    private final Map<String, Duration> hostTimeouts;
+    private final Map<String, HostBulkhead> hosts = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+
+    public WebhookDeliveryEngine(
+            MeterRegistry meterRegistry,
+            WebhookResponseBodyHandler responseBodies,
+            @Value("${webhook.delivery.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${webhook.delivery.timeout:10s}") Duration defaultTimeout,
+            @Value("${webhook.delivery.host-timeouts:}") List<String> hostTimeouts,
+            @Value("${webhook.delivery.host.max-in-flight:10}") int maxInFlightPerHost,
+            @Value("${webhook.delivery.host.max-queued:50}") int maxQueuedPerHost,
+            @Value("${webhook.delivery.host.queue-timeout:30s}") Duration queueTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.responseBodies = responseBodies;
+        this.maxInFlightPerHost = Math.max(1, maxInFlightPerHost);
+        this.maxQueuedPerHost = Math.max(0, maxQueuedPerHost);
+        this.queueTimeout = queueTimeout;
+        this.defaultTimeout = defaultTimeout;
+        this.hostTimeouts = parseHostTimeouts(hostTimeouts);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * POSTs {@code body} to {@code uri} once its host has a free slot. Only
+     * the start of the response body is read into memory; see
+     * {@link WebhookResponseBodyHandler}.
+     *
+     * @param fullCapture keep the response body up to the full capture limit
+     * @throws HostBusyException if the host's bulkhead is full; nothing was sent
+     */
+    public HttpResponse<String> post(URI uri, Map<String, String> headers, byte[] body, boolean fullCapture)
+            throws IOException, InterruptedException {
+        String host = hostOf(uri);
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(hostTimeouts.getOrDefault(host, defaultTimeout))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if ("http".equalsIgnoreCase(uri.getScheme())) {
+            // Cleartext HTTP/2 needs an Upgrade round trip that many receivers mishandle
+            request.version(HttpClient.Version.HTTP_1_1);
+        }
+        headers.forEach(request::header);
+
+        HostBulkhead bulkhead = hosts.computeIfAbsent(host, this::newBulkhead);
+        bulkhead.acquire(host);
+        try {
+            return httpClient.send(request.build(), responseBodies.handler(fullCapture));
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private HostBulkhead newBulkhead(String host) {
+        HostBulkhead bulkhead = new HostBulkhead(maxInFlightPerHost);
+        Gauge.builder("webhook.delivery.host.in_flight", bulkhead, HostBulkhead::inFlight)
+                .description("Webhook requests being sent to the host")
+                .tag("host", host)
+                .register(meterRegistry);
+        Gauge.builder("webhook.delivery.host.queued", bulkhead, HostBulkhead::queued)
+                .description("Webhook requests waiting for a slot at the host")
+                .tag("host", host)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private static String hostOf(URI uri) {
+        return uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Duration> parseHostTimeouts(List<String> entries) {
+        Map<String, Duration> timeouts = new HashMap<>();
+        for (String entry : entries) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected host=duration in webhook.delivery.host-timeouts: "
+                        + entry);
+            }
+            timeouts.put(entry.substring(0, separator).trim().toLowerCase(Locale.ROOT),
+                    DurationStyle.detectAndParse(entry.substring(separator + 1).trim()));
+        }
+        return Map.copyOf(timeouts);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Thrown when a host already has as many webhook requests in flight and
+     * queued as it is allowed. The request was not sent.
+     */
+    public static class HostBusyException extends RuntimeException {
+
+        public HostBusyException(String host) {
+            super("Too many webhook requests queued for " + host);
+        }
+    }
+
+    private final class HostBulkhead {
+
+        private final Semaphore slots;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger queued = new AtomicInteger();
+
+        HostBulkhead(int maxInFlight) {
+            this.slots = new Semaphore(maxInFlight, true);
+        }
+
+        void acquire(String host) throws InterruptedException {
+            if (!slots.tryAcquire()) {
+                if (queued.incrementAndGet() > maxQueuedPerHost) {
+                    queued.decrementAndGet();
+                    throw new HostBusyException(host);
+                }
+                try {
+                    if (!slots.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        throw new HostBusyException(host);
+                    }
+                } finally {
+                    queued.decrementAndGet();
+                }
+            }
+            inFlight.incrementAndGet();
+        }
+
+        void release() {
+            inFlight.decrementAndGet();
+            slots.release();
+        }
+
+        int inFlight() {
+            return inFlight.get();
+        }
+
+        int queued() {
+            return queued.get();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps the webhook delivery log's daily partitions in step with the clock.
+ *
+ * Each run creates the partitions for today and the next
+ * {@code webhook.deliveries.partitions-ahead}, so deliveries never land in the
+ * default partition while the job keeps running, and drops the partitions
+ * older than {@code webhook.deliveries.retention}. Dropping a day is a single
+ * DDL statement instead of deleting its rows one by one. Every node runs the
+ * job; the repository serialises the runs.
+ */
+@Service
+public class WebhookDeliveryLogMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDeliveryLogMaintainer.class);
+
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final boolean enabled;
+    private final Duration retention;
+    private final Duration partitionsAhead;
+
+    public WebhookDeliveryLogMaintainer(
+            WebhookDeliveryRepository deliveryRepository,
+            @Value("${webhook.deliveries.maintenance.enabled:true}") boolean enabled,
+            @Value("${webhook.deliveries.retention:30d}") Duration retention,
+            @Value("${webhook.deliveries.partitions-ahead:7d}") Duration partitionsAhead) {
+        this.deliveryRepository = deliveryRepository;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    @Scheduled(fixedDelayString = "${webhook.deliveries.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int created = deliveryRepository.createPartitions(today, today.plusDays(partitionsAhead.toDays()));
+        int dropped = deliveryRepository.dropPartitionsBefore(today.minusDays(retention.toDays()));
+        if (created > 0 || dropped > 0) {
+            log.info("Webhook delivery log: created {} and dropped {} daily partitions", created, dropped);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
+import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookActivity;
+import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes the results of webhook deliveries in the background, so a delivery
+ * does not wait on its own inserts and updates.
+ *
+ * Delivery log rows wait in a buffer of at most
+ * {@code webhook.deliveries.buffer.capacity} and are inserted in batches of
+ * {@code webhook.deliveries.buffer.batch-size}, one transaction per batch.
+ * The outcomes for each webhook are folded into one {@link WebhookActivity}
+ * and written with a single UPDATE per webhook. Both are flushed every
+ * {@code webhook.deliveries.buffer.flush-interval-ms}, which bounds how stale
+ * the log and the webhooks' status can be; a full buffer is flushed by the
+ * caller that finds it full instead.
+ *
+ * Buffered results are lost if the node dies before flushing them. The
+ * outbox, not the log, decides what is delivered, so this only leaves gaps in
+ * the history.
+ */
+@Component
+public class WebhookDeliveryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDeliveryRecorder.class);
+
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookRepository webhookRepository;
+    private final int batchSize;
+    private final BlockingQueue<WebhookDelivery> deliveries;
+    private final Map<UUID, WebhookActivity> activity = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public WebhookDeliveryRecorder(
+            WebhookDeliveryRepository deliveryRepository,
+            WebhookRepository webhookRepository,
+            @Value("${webhook.deliveries.buffer.capacity:10000}") int capacity,
+            @Value("${webhook.deliveries.buffer.batch-size:500}") int batchSize) {
+        this.deliveryRepository = deliveryRepository;
+        this.webhookRepository = webhookRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.deliveries = new ArrayBlockingQueue<>(Math.max(this.batchSize, capacity));
+    }
+
+    /**
+     * Logs a delivery attempt, and a successful one as the webhook's latest
+     * trigger.
+     */
+    public void record(WebhookDelivery delivery) {
+        if (delivery.success()) {
+            merge(delivery.webhookId(), WebhookActivity.success(delivery.deliveredAt()));
+        }
+        while (!deliveries.offer(delivery)) {
+            // Back-pressure: the caller pays for the flush rather than the buffer growing
+            flush();
+        }
+    }
+
+    /**
+     * Counts an event that exhausted its retries against the webhook.
+     */
+    public void recordDeadLetter(UUID webhookId) {
+        merge(webhookId, WebhookActivity.failure());
+    }
+
+    private void merge(UUID webhookId, WebhookActivity next) {
+        activity.merge(webhookId, next, WebhookActivity::then);
+    }
+
+    /**
+     * Writes everything buffered so far.
+     */
+    @Scheduled(fixedDelayString = "${webhook.deliveries.buffer.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushDeliveries();
+            flushActivity();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushDeliveries() {
+        List<WebhookDelivery> batch = new ArrayList<>(batchSize);
+        while (deliveries.drainTo(batch, batchSize) > 0) {
+            try {
+                deliveryRepository.saveAll(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} webhook delivery records", batch.size(), e);
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void flushActivity() {
+        Instant now = Instant.now();
+        for (UUID webhookId : activity.keySet()) {
+            // Removed atomically: outcomes recorded from here on start a new entry
+            WebhookActivity pending = activity.remove(webhookId);
+            if (pending == null) {
+                continue;
+            }
+            try {
+                webhookRepository.recordActivity(webhookId, pending, now);
+            } catch (RuntimeException e) {
+                log.error("Failed to update webhook {} after its deliveries", webhookId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
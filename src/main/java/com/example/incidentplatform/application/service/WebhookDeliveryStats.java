@@ -0,0 +1,182 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookStatsRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
+import com.example.incidentplatform.domain.model.webhook.WebhookStats;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket.Metric;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts webhook deliveries as they complete and serves each webhook's
+ * {@link WebhookStats} from memory, instead of counting the delivery log.
+ *
+ * A node's counts are added to {@code webhook_stats} every
+ * {@code webhook.stats.flush-interval-ms}. Stats are read from a copy of a
+ * webhook's stored counters plus the node's counts not flushed yet, so they
+ * are exact for the node's own deliveries. The copy is reloaded after
+ * {@code webhook.stats.cache-ttl}, which bounds how late deliveries made by
+ * other nodes show up.
+ */
+@Component
+public class WebhookDeliveryStats {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDeliveryStats.class);
+
+    private record Key(UUID webhookId, Metric metric, long bucket) {
+
+        WebhookStatsBucket withCount(long count) {
+            return new WebhookStatsBucket(webhookId, metric, bucket, count);
+        }
+    }
+
+    private record Stored(Map<Key, Long> counts, Instant loadedAt) {
+    }
+
+    private final WebhookStatsRepository statsRepository;
+    private final Duration cacheTtl;
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, Stored> stored = new ConcurrentHashMap<>();
+    // Held while counts move from pending to the table, so a read never sees them in both or neither
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private long prunedBeforeHour = Long.MIN_VALUE;
+
+    public WebhookDeliveryStats(
+            WebhookStatsRepository statsRepository,
+            @Value("${webhook.stats.cache-ttl:1m}") Duration cacheTtl) {
+        this.statsRepository = statsRepository;
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * Counts a delivery attempt.
+     *
+     * @param latency how long the receiver took to answer, or to fail
+     */
+    public void record(WebhookDelivery delivery, Duration latency) {
+        for (WebhookStatsBucket bucket : WebhookStatsBucket.forDelivery(delivery.webhookId(), delivery.success(),
+                delivery.responseStatus(), latency, delivery.deliveredAt())) {
+            pending.merge(new Key(bucket.webhookId(), bucket.metric(), bucket.bucket()), bucket.count(), Long::sum);
+        }
+    }
+
+    public WebhookStats get(UUID webhookId) {
+        Instant now = Instant.now();
+        List<WebhookStatsBucket> buckets = new ArrayList<>();
+        flushLock.lock();
+        try {
+            Stored counts = stored.get(webhookId);
+            if (counts == null || expired(counts, now)) {
+                counts = load(webhookId, now);
+            }
+            counts.counts().forEach((key, count) -> buckets.add(key.withCount(count)));
+            pending.forEach((key, count) -> {
+                if (key.webhookId().equals(webhookId)) {
+                    buckets.add(key.withCount(count));
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+        return WebhookStats.from(buckets, now);
+    }
+
+    /**
+     * Adds the counts made since the last flush to the stored counters, and
+     * once an hour deletes the hourly counters no longer needed.
+     */
+    @Scheduled(fixedDelayString = "${webhook.stats.flush-interval-ms:5000}")
+    public void flush() {
+        Instant now = Instant.now();
+        flushLock.lock();
+        try {
+            Map<Key, Long> delta = new HashMap<>();
+            for (Key key : pending.keySet()) {
+                // Removed atomically: counts made from here on start a new entry
+                Long count = pending.remove(key);
+                if (count != null) {
+                    delta.put(key, count);
+                }
+            }
+            if (!delta.isEmpty()) {
+                write(delta);
+            }
+            stored.values().removeIf(counts -> expired(counts, now));
+            prune(now);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(Map<Key, Long> delta) {
+        List<WebhookStatsBucket> buckets = new ArrayList<>(delta.size());
+        delta.forEach((key, count) -> buckets.add(key.withCount(count)));
+        try {
+            statsRepository.applyDelta(buckets);
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} webhook stats counters; retrying on the next flush", buckets.size(), e);
+            delta.forEach((key, count) -> pending.merge(key, count, Long::sum));
+            return;
+        }
+        // Keep the loaded copies current rather than reloading them
+        stored.replaceAll((webhookId, counts) -> {
+            Map<Key, Long> updated = null;
+            for (Map.Entry<Key, Long> flushed : delta.entrySet()) {
+                if (flushed.getKey().webhookId().equals(webhookId)) {
+                    if (updated == null) {
+                        updated = new HashMap<>(counts.counts());
+                    }
+                    updated.merge(flushed.getKey(), flushed.getValue(), Long::sum);
+                }
+            }
+            return updated == null ? counts : new Stored(updated, counts.loadedAt());
+        });
+    }
+
+    private void prune(Instant now) {
+        long firstKeptHour = WebhookStatsBucket.hour(now) - 23;
+        if (firstKeptHour <= prunedBeforeHour) {
+            return;
+        }
+        try {
+            statsRepository.deleteHourlyBefore(firstKeptHour);
+            prunedBeforeHour = firstKeptHour;
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete hourly webhook stats before hour {}", firstKeptHour, e);
+        }
+    }
+
+    private Stored load(UUID webhookId, Instant now) {
+        Map<Key, Long> counts = new HashMap<>();
+        for (WebhookStatsBucket bucket : statsRepository.findByWebhookId(webhookId)) {
+            counts.put(new Key(bucket.webhookId(), bucket.metric(), bucket.bucket()), bucket.count());
+        }
+        Stored loaded = new Stored(counts, now);
+        stored.put(webhookId, loaded);
+        return loaded;
+    }
+
+    private boolean expired(Stored counts, Instant now) {
+        return !counts.loadedAt().plus(cacheTtl).isAfter(now);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookOutboxRepository;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.CircuitOpenException;
+import com.example.incidentplatform.application.service.WebhookDeliveryEngine.HostBusyException;
+import com.example.incidentplatform.application.service.WebhookService.Attempt;
+import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers the events queued in the webhook outbox.
+ *
+ * Every node polls the outbox and claims due entries with
+ * {@code FOR UPDATE SKIP LOCKED}, so nodes share the load without delivering
+ * an entry twice. Claimed entries are sent on a virtual thread each, with at
+ * most {@code webhook.dispatcher.max-in-flight} requests outstanding per node;
+ * the poller only claims as many entries as it has free slots for, leaving the
+ * rest to other nodes.
+ *
+ * Events for the same webhook and incident form a lane and are delivered in
+ * the order they were raised: the outbox only hands out an entry once every
+ * earlier entry of its lane has been delivered or dead-lettered. A virtual
+ * thread that delivers an entry successfully goes on to claim the next entry
+ * of the same lane, so a burst of events for one incident is not held up by
+ * the poll interval, while different lanes are delivered in parallel. After
+ * {@code webhook.dispatcher.batch-size} entries in a row it gives the slot
+ * back so other lanes get their turn.
+ *
+ * A claim leases the entry for {@code webhook.dispatcher.lease}. If the node
+ * stops before completing it, the entry becomes due again once the lease runs
+ * out, so delivery is at-least-once.
+ *
+ * A failed attempt does not hold a thread while it waits to be retried: the
+ * entry is put back with a later due time from {@link WebhookRetryPolicy} and
+ * claimed again like any other. Once its attempts are used up it is
+ * dead-lettered until replayed. An entry whose receiver's host is already
+ * saturated (see {@link WebhookDeliveryEngine}) or whose webhook's circuit is
+ * open (see {@link WebhookCircuitBreaker}) is handed back without using up an
+ * attempt.
+ */
+@Service
+public class WebhookDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatcher.class);
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(15);
+    private static final Duration HOST_BUSY_DELAY = Duration.ofSeconds(5);
+
+    private final WebhookService webhookService;
+    private final WebhookOutboxRepository outboxRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lease;
+    private final WebhookRetryPolicy retryPolicy;
+    private final Duration retention;
+    private final Duration deadLetterRetention;
+    private final Semaphore inFlight;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public WebhookDispatcher(
+            WebhookService webhookService,
+            WebhookOutboxRepository outboxRepository,
+            @Value("${webhook.dispatcher.enabled:true}") boolean enabled,
+            @Value("${webhook.dispatcher.batch-size:50}") int batchSize,
+            @Value("${webhook.dispatcher.max-in-flight:200}") int maxInFlight,
+            @Value("${webhook.dispatcher.lease:2m}") Duration lease,
+            @Value("${webhook.retry.max-attempts:10}") int maxAttempts,
+            @Value("${webhook.retry.initial-backoff:10s}") Duration initialBackoff,
+            @Value("${webhook.retry.max-backoff:1h}") Duration maxBackoff,
+            @Value("${webhook.outbox.retention:7d}") Duration retention,
+            @Value("${webhook.outbox.dead-letter-retention:30d}") Duration deadLetterRetention) {
+        this.webhookService = webhookService;
+        this.outboxRepository = outboxRepository;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.lease = lease;
+        this.retryPolicy = new WebhookRetryPolicy(maxAttempts, initialBackoff, maxBackoff);
+        this.retention = retention;
+        this.deadLetterRetention = deadLetterRetention;
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+    }
+
+    /**
+     * Claims and starts delivering due entries, one batch after another until
+     * the outbox is drained or every delivery slot is taken.
+     */
+    @Scheduled(fixedDelayString = "${webhook.dispatcher.poll-interval-ms:500}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        while (true) {
+            // Only this method acquires permits, so they cannot run out between here and the loop below
+            int limit = Math.min(batchSize, inFlight.availablePermits());
+            if (limit == 0) {
+                return;
+            }
+            List<WebhookOutboxEntry> claimed = outboxRepository.claimDue(limit, Instant.now(), lease);
+            for (WebhookOutboxEntry entry : claimed) {
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        deliverLane(entry);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            if (claimed.size() < limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Delivers {@code entry} and then, while deliveries succeed, the entries
+     * queued behind it in its lane.
+     */
+    private void deliverLane(WebhookOutboxEntry entry) {
+        WebhookOutboxEntry next = entry;
+        for (int delivered = 0; next != null && deliver(next); delivered++) {
+            if (next.incidentId() == null || delivered + 1 >= batchSize || executor.isShutdown()) {
+                return;
+            }
+            try {
+                next = outboxRepository.claimNextInLane(next.webhookId(), next.incidentId(), Instant.now(), lease)
+                        .orElse(null);
+            } catch (RuntimeException e) {
+                // The next entry is still due and will be claimed by a poll
+                log.error("Failed to claim the next outbox entry after {}", next.id(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return whether the entry was delivered
+     */
+    private boolean deliver(WebhookOutboxEntry entry) {
+        try {
+            Optional<Attempt> attempt;
+            try {
+                attempt = webhookService.deliver(entry);
+            } catch (HostBusyException e) {
+                log.debug("Deferring outbox entry {}: {}", entry.id(), e.getMessage());
+                outboxRepository.release(entry.id(), Instant.now().plus(HOST_BUSY_DELAY));
+                return false;
+            } catch (CircuitOpenException e) {
+                outboxRepository.release(entry.id(), e.retryAt());
+                return false;
+            } catch (RuntimeException e) {
+                log.error("Failed to deliver outbox entry {} to webhook {}", entry.id(), entry.webhookId(), e);
+                failed(List.of(entry), e.getMessage());
+                return false;
+            }
+            if (attempt.isEmpty()) {
+                // Kept so it can be replayed once the webhook is active again
+                outboxRepository.markDead(List.of(entry.id()), "Webhook is inactive or deleted");
+                return false;
+            }
+            WebhookDelivery delivery = attempt.get().delivery();
+            List<WebhookOutboxEntry> sent = attempt.get().entries();
+            if (delivery.success()) {
+                outboxRepository.markDelivered(sent.stream().map(WebhookOutboxEntry::id).toList());
+            } else {
+                failed(sent, delivery.errorMessage());
+            }
+            return delivery.success();
+        } catch (RuntimeException e) {
+            // The entry is retried once its lease runs out
+            log.error("Failed to complete outbox entry {}", entry.id(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Retries the entries of a failed attempt, or dead-letters those out of
+     * attempts, with one update for each. Retried entries stay together for
+     * the next batch, backing off as long as the most attempted of them.
+     */
+    private void failed(List<WebhookOutboxEntry> entries, String error) {
+        List<UUID> retried = new ArrayList<>(entries.size());
+        List<WebhookOutboxEntry> dead = new ArrayList<>();
+        int attempts = 0;
+        for (WebhookOutboxEntry entry : entries) {
+            if (retryPolicy.canRetry(entry.attempts())) {
+                retried.add(entry.id());
+                attempts = Math.max(attempts, entry.attempts());
+            } else {
+                log.warn("Dead-lettering outbox entry {} for webhook {} after {} attempts: {}",
+                        entry.id(), entry.webhookId(), entry.attempts(), error);
+                dead.add(entry);
+            }
+        }
+        if (!retried.isEmpty()) {
+            outboxRepository.scheduleRetry(retried, Instant.now().plus(retryPolicy.backoff(attempts)), error);
+        }
+        if (!dead.isEmpty()) {
+            outboxRepository.markDead(dead.stream().map(WebhookOutboxEntry::id).toList(), error);
+            dead.forEach(entry -> webhookService.recordDeadLetter(entry.webhookId()));
+        }
+    }
+
+    /**
+     * Deletes delivered entries older than {@code webhook.outbox.retention}
+     * and dead-lettered ones older than
+     * {@code webhook.outbox.dead-letter-retention}.
+     */
+    @Scheduled(fixedDelayString = "${webhook.outbox.purge-interval-ms:3600000}")
+    public void purgeCompleted() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        int deleted = outboxRepository.deleteCompletedBefore(WebhookOutboxStatus.DELIVERED, now.minus(retention))
+                + outboxRepository.deleteCompletedBefore(WebhookOutboxStatus.DEAD, now.minus(deadLetterRetention));
+        if (deleted > 0) {
+            log.info("Purged {} completed webhook outbox entries", deleted);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_GRACE.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Webhook deliveries still running at shutdown; they will be retried after their lease");
+            executor.shutdownNow();
+        }
+    }
+}
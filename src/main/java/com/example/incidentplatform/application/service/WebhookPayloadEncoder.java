@@ -0,0 +1,243 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds and serialises webhook request bodies.
+ *
+ * Every subscriber of an event gets one of two bodies: the generic envelope
+ * or, for Slack URLs, a formatted message. Neither depends on the subscriber,
+ * so each is serialised once per event and the bytes are shared by every
+ * delivery of it, across the outbox rows of one dispatch batch and retries
+ * that follow soon after.
+ *
+ * Webhooks that batch receive a JSON array of generic envelopes, joined from
+ * the events' already encoded bodies.
+ */
+@Component
+public class WebhookPayloadEncoder {
+
+    // Events whose encoded bodies are kept; a few batches' worth
+    private static final int RECENT_EVENTS = 1024;
+
+    public enum Format {
+        GENERIC,
+        SLACK;
+
+        public static Format forUrl(String url) {
+            return url != null && url.contains("hooks.slack.com") ? SLACK : GENERIC;
+        }
+    }
+
+    /**
+     * A request body and the payload it was serialised from, which is kept
+     * for the delivery log.
+     */
+    public record EncodedPayload(Map<String, Object> payload, byte[] body) {
+    }
+
+    private record Key(UUID eventId, Format format) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<Key, EncodedPayload> recent = Collections.synchronizedMap(
+            new LinkedHashMap<>(RECENT_EVENTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, EncodedPayload> eldest) {
+                    return size() > RECENT_EVENTS;
+                }
+            });
+
+    public WebhookPayloadEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The body for one event in the given format, serialised on first use.
+     */
+    public EncodedPayload encode(UUID eventId, Format format, WebhookEventType eventType,
+            Map<String, Object> eventData, Instant occurredAt) {
+        Key key = new Key(eventId, format);
+        EncodedPayload encoded = recent.get(key);
+        if (encoded == null) {
+            // Two threads may both encode a new event; the bodies are identical
+            encoded = encode(format, eventType, eventData, occurredAt);
+            recent.put(key, encoded);
+        }
+        return encoded;
+    }
+
+    /**
+     * Serialise a body without caching it, for one-off sends.
+     */
+    public EncodedPayload encode(Format format, WebhookEventType eventType, Map<String, Object> eventData,
+            Instant occurredAt) {
+        Map<String, Object> payload = format == Format.SLACK
+                ? buildSlackPayload(eventType, eventData, occurredAt)
+                : buildPayload(eventType, eventData, occurredAt);
+        try {
+            return new EncodedPayload(payload, objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise webhook payload for " + eventType, e);
+        }
+    }
+
+    /**
+     * Join already encoded generic bodies into one JSON array. The logged
+     * payload holds the events under {@code "events"}.
+     */
+    public EncodedPayload encodeBatch(List<EncodedPayload> events) {
+        int bodyBytes = 0;
+        List<Map<String, Object>> payloads = new ArrayList<>(events.size());
+        for (EncodedPayload event : events) {
+            bodyBytes += event.body().length;
+            payloads.add(event.payload());
+        }
+        byte[] body = new byte[batchLength(events.size(), bodyBytes)];
+        int offset = 0;
+        body[offset++] = '[';
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                body[offset++] = ',';
+            }
+            byte[] event = events.get(i).body();
+            System.arraycopy(event, 0, body, offset, event.length);
+            offset += event.length;
+        }
+        body[offset] = ']';
+        return new EncodedPayload(Map.of("events", payloads), body);
+    }
+
+    /**
+     * Size in bytes of {@link #encodeBatch} over bodies totalling
+     * {@code bodyBytes}.
+     */
+    static int batchLength(int events, int bodyBytes) {
+        return bodyBytes + 2 + Math.max(0, events - 1);
+    }
+
+    /**
+     * Build the webhook payload.
+     */
+    private Map<String, Object> buildPayload(WebhookEventType eventType, Map<String, Object> eventData,
+            Instant occurredAt) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("event", eventType.name());
+        payload.put("timestamp", occurredAt.toString());
+        payload.put("data", eventData);
+        return payload;
+    }
+
+    /**
+     * Build a Slack-compatible webhook payload.
+     */
+    private Map<String, Object> buildSlackPayload(WebhookEventType eventType, Map<String, Object> eventData,
+            Instant occurredAt) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+
+        String title = (String) eventData.getOrDefault("title", "Unknown Incident");
+        String severity = (String) eventData.getOrDefault("severity", "UNKNOWN");
+        String status = (String) eventData.getOrDefault("status", "UNKNOWN");
+        String description = (String) eventData.getOrDefault("description", "");
+        String incidentId = (String) eventData.getOrDefault("id", "");
+        String assigneeName = (String) eventData.getOrDefault("assigneeName", null);
+        String assigneeEmail = (String) eventData.getOrDefault("assigneeEmail", null);
+        String assignedByName = (String) eventData.getOrDefault("assignedByName", null);
+        String resolvedByName = (String) eventData.getOrDefault("resolvedByName", null);
+        String resolutionTime = (String) eventData.getOrDefault("resolutionTime", null);
+
+        // Build emoji based on event type and severity
+        String emoji = switch (eventType) {
+            case INCIDENT_CREATED -> "🚨";
+            case INCIDENT_RESOLVED -> "✅";
+            case INCIDENT_UPDATED -> "🔄";
+            case INCIDENT_CLOSED -> "🔒";
+            case INCIDENT_ASSIGNED -> "👤";
+            case INCIDENT_UNASSIGNED -> "👋";
+            case INCIDENT_ESCALATED -> "⚠️";
+            case COMMENT_ADDED -> "💬";
+        };
+
+        String severityEmoji = switch (severity.toUpperCase()) {
+            case "CRITICAL" -> "🔴";
+            case "HIGH" -> "🟠";
+            case "MEDIUM" -> "🟡";
+            case "LOW" -> "🟢";
+            default -> "⚪";
+        };
+
+        // Build formatted message
+        StringBuilder message = new StringBuilder();
+        message.append(emoji).append(" *").append(formatEventType(eventType)).append("*\n\n");
+        message.append("*Title:* ").append(title).append("\n");
+        message.append("*Severity:* ").append(severityEmoji).append(" ").append(severity).append("\n");
+        message.append("*Status:* ").append(status).append("\n");
+
+        // Add assignee info for assignment events
+        if (eventType == WebhookEventType.INCIDENT_ASSIGNED && assigneeName != null) {
+            message.append("*Assigned to:* ").append(assigneeName);
+            if (assigneeEmail != null && !assigneeEmail.isBlank()) {
+                message.append(" (").append(assigneeEmail).append(")");
+            }
+            message.append("\n");
+            if (assignedByName != null) {
+                message.append("*Assigned by:* ").append(assignedByName).append("\n");
+            }
+        }
+
+        // Add unassignment info
+        if (eventType == WebhookEventType.INCIDENT_UNASSIGNED && assigneeName != null) {
+            message.append("*Unassigned:* ").append(assigneeName).append("\n");
+        }
+
+        // Add resolver info for resolved events
+        if (eventType == WebhookEventType.INCIDENT_RESOLVED) {
+            if (resolvedByName != null) {
+                message.append("*Resolved by:* ").append(resolvedByName).append("\n");
+            }
+            if (resolutionTime != null) {
+                message.append("*Resolution time:* ").append(resolutionTime).append("\n");
+            }
+        }
+
+        if (description != null && !description.isBlank()) {
+            message.append("*Description:* ").append(description).append("\n");
+        }
+
+        if (incidentId != null && !incidentId.isBlank()) {
+            message.append("*ID:* `").append(incidentId).append("`\n");
+        }
+
+        message.append("*Time:* ").append(occurredAt.toString());
+
+        payload.put("text", message.toString());
+        return payload;
+    }
+
+    /**
+     * Format event type to human-readable string.
+     */
+    private String formatEventType(WebhookEventType eventType) {
+        return switch (eventType) {
+            case INCIDENT_CREATED -> "Incident Created";
+            case INCIDENT_RESOLVED -> "Incident Resolved";
+            case INCIDENT_UPDATED -> "Incident Updated";
+            case INCIDENT_CLOSED -> "Incident Closed";
+            case INCIDENT_ASSIGNED -> "Incident Assigned";
+            case INCIDENT_UNASSIGNED -> "Incident Unassigned";
+            case INCIDENT_ESCALATED -> "Escalation Triggered";
+            case COMMENT_ADDED -> "Comment Added";
+        };
+    }
+}
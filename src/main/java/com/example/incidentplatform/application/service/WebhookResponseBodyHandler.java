@@ -0,0 +1,213 @@
+package com.example.incidentplatform.application.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads webhook response bodies without holding more of them than is logged.
+ *
+ * Only the first {@code webhook.delivery.response.snippet-size} of a body is
+ * kept, in a buffer taken from a pool and handed back when the body ends, so
+ * each response in flight holds one buffer. The rest is read and dropped as it
+ * arrives, which lets the connection be reused; after
+ * {@code webhook.delivery.response.max-discard-size} more the response is
+ * abandoned instead, so an endless body cannot hold up a delivery. A webhook
+ * that captures full responses keeps up to
+ * {@code webhook.delivery.response.full-capture-size} instead.
+ */
+@Component
+public class WebhookResponseBodyHandler {
+
+    private final int snippetBytes;
+    private final int fullCaptureBytes;
+    private final long maxDiscardBytes;
+    private final BlockingQueue<byte[]> buffers;
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong discardedBytes = new AtomicLong();
+
+    public WebhookResponseBodyHandler(
+            MeterRegistry meterRegistry,
+            @Value("${webhook.delivery.response.snippet-size:4KB}") DataSize snippetSize,
+            @Value("${webhook.delivery.response.full-capture-size:1MB}") DataSize fullCaptureSize,
+            @Value("${webhook.delivery.response.max-discard-size:1MB}") DataSize maxDiscardSize,
+            // One buffer per delivery the dispatcher can have in flight
+            @Value("${webhook.dispatcher.max-in-flight:200}") int pooledBuffers) {
+        this.snippetBytes = (int) Math.max(0, snippetSize.toBytes());
+        this.fullCaptureBytes = (int) Math.max(this.snippetBytes, fullCaptureSize.toBytes());
+        this.maxDiscardBytes = Math.max(0, maxDiscardSize.toBytes());
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, pooledBuffers));
+        Gauge.builder("webhook.delivery.response.buffered", bufferedBytes, AtomicLong::get)
+                .description("Bytes held for webhook response bodies being read")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("webhook.delivery.response.discarded", discardedBytes, AtomicLong::get)
+                .description("Bytes of webhook response bodies dropped for being over the limit")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A handler for one response.
+     *
+     * @param fullCapture keep up to the full capture limit rather than the
+     *                    snippet
+     */
+    public HttpResponse.BodyHandler<String> handler(boolean fullCapture) {
+        return info -> new BoundedSubscriber(fullCapture ? fullCaptureBytes : snippetBytes,
+                charsetOf(info.headers().firstValue("Content-Type").orElse("")));
+    }
+
+    /**
+     * Bytes held for the responses being read right now, buffers included.
+     */
+    public long bufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    /**
+     * Bytes of response bodies dropped so far for being over the limit.
+     */
+    public long discardedBytes() {
+        return discardedBytes.get();
+    }
+
+    private static Charset charsetOf(String contentType) {
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                try {
+                    return Charset.forName(trimmed.substring("charset=".length()).replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private final class BoundedSubscriber implements HttpResponse.BodySubscriber<String> {
+
+        private final int limit;
+        private final Charset charset;
+        private final CompletableFuture<String> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private byte[] buffer;
+        private int length;
+        // Only for a full capture, once the body outgrows the pooled buffer
+        private ByteArrayOutputStream overflow;
+        private long discarded;
+
+        BoundedSubscriber(int limit, Charset charset) {
+            this.limit = limit;
+            this.charset = charset;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            buffer = borrow();
+            bufferedBytes.addAndGet(buffer.length);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                keep(item);
+                discarded += item.remaining();
+                discardedBytes.addAndGet(item.remaining());
+                item.position(item.limit());
+            }
+            if (discarded > maxDiscardBytes) {
+                subscription.cancel();
+                onComplete();
+            }
+        }
+
+        private void keep(ByteBuffer item) {
+            int kept = length + (overflow == null ? 0 : overflow.size());
+            int wanted = Math.min(item.remaining(), limit - kept);
+            if (wanted <= 0) {
+                return;
+            }
+            int toBuffer = Math.min(wanted, buffer.length - length);
+            item.get(buffer, length, toBuffer);
+            length += toBuffer;
+            int rest = wanted - toBuffer;
+            if (rest > 0) {
+                if (overflow == null) {
+                    overflow = new ByteArrayOutputStream();
+                }
+                byte[] bytes = new byte[rest];
+                item.get(bytes);
+                overflow.writeBytes(bytes);
+                bufferedBytes.addAndGet(rest);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            release();
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (body.isDone()) {
+                return;
+            }
+            String text;
+            if (overflow == null) {
+                text = new String(buffer, 0, length, charset);
+            } else {
+                byte[] all = new byte[length + overflow.size()];
+                System.arraycopy(buffer, 0, all, 0, length);
+                System.arraycopy(overflow.toByteArray(), 0, all, length, overflow.size());
+                text = new String(all, charset);
+            }
+            release();
+            body.complete(text);
+        }
+
+        @Override
+        public CompletionStage<String> getBody() {
+            return body;
+        }
+
+        private void release() {
+            if (buffer == null) {
+                return;
+            }
+            bufferedBytes.addAndGet(-(buffer.length + (overflow == null ? 0 : overflow.size())));
+            buffers.offer(buffer);
+            buffer = null;
+            overflow = null;
+        }
+    }
+
+    private byte[] borrow() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[snippetBytes];
+    }
+}
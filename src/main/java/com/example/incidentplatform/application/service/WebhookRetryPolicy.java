@@ -0,0 +1,45 @@
+package com.example.incidentplatform.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How often and how soon a failed webhook delivery is retried.
+ *
+ * The delay before attempt n + 1 is drawn uniformly from the upper half of
+ * {@code min(maxBackoff, initialBackoff * 2^(n - 1))}: it still grows
+ * exponentially, but deliveries that failed together (a receiver outage) do
+ * not all come back at the same moment.
+ */
+final class WebhookRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    WebhookRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(1, initialBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoff.toMillis());
+    }
+
+    /**
+     * @param attempts attempts made so far, including the one that just failed
+     */
+    boolean canRetry(int attempts) {
+        return attempts < maxAttempts;
+    }
+
+    /**
+     * @param attempts attempts made so far, including the one that just failed
+     */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(0, attempts - 1), 62);
+        long ceiling = initialBackoffMillis << doublings;
+        if (ceiling <= 0 || ceiling > maxBackoffMillis || (ceiling >> doublings) != initialBackoffMillis) {
+            ceiling = maxBackoffMillis;
+        }
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+}
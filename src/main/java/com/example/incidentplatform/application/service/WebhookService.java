@@ -1,61 +1,86 @@
 package com.example.incidentplatform.application.service;
 
 import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
+import com.example.incidentplatform.application.port.WebhookOutboxRepository;
 import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.CircuitOpenException;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.Permit;
+import com.example.incidentplatform.application.service.WebhookDeliveryEngine.HostBusyException;
+import com.example.incidentplatform.application.service.WebhookPayloadEncoder.EncodedPayload;
+import com.example.incidentplatform.application.service.WebhookPayloadEncoder.Format;
+import com.example.incidentplatform.application.service.WebhookSubscriptionIndex.Subscriber;
 import com.example.incidentplatform.common.error.NotFoundException;
 import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookBatching;
 import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
 import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 
 @Service
 public class WebhookService {
 
     private static final Logger log = LoggerFactory.getLogger(WebhookService.class);
-    private static final int MAX_FAILURES = 5;
-    private static final int TIMEOUT_SECONDS = 10;
+    private static final String BATCH_EVENT_HEADER = "BATCH";
+
+    /**
+     * One logged delivery attempt and the outbox entries it carried: one
+     * event, or several for a webhook that batches.
+     */
+    public record Attempt(WebhookDelivery delivery, List<WebhookOutboxEntry> entries) {
+    }
 
     private final WebhookRepository webhookRepository;
     private final WebhookDeliveryRepository deliveryRepository;
-    private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final WebhookOutboxRepository outboxRepository;
+    private final WebhookSubscriptionIndex subscriptionIndex;
+    private final WebhookPayloadEncoder payloadEncoder;
+    private final WebhookSigner signer;
+    private final WebhookDeliveryEngine deliveryEngine;
+    private final WebhookCircuitBreaker circuitBreaker;
+    private final WebhookDeliveryRecorder deliveryRecorder;
+    private final WebhookDeliveryStats deliveryStats;
 
     public WebhookService(WebhookRepository webhookRepository,
             WebhookDeliveryRepository deliveryRepository,
-            ObjectMapper objectMapper) {
+            WebhookOutboxRepository outboxRepository,
+            WebhookSubscriptionIndex subscriptionIndex,
+            WebhookPayloadEncoder payloadEncoder,
+            WebhookSigner signer,
+            WebhookDeliveryEngine deliveryEngine,
+            WebhookCircuitBreaker circuitBreaker,
+            WebhookDeliveryRecorder deliveryRecorder,
+            WebhookDeliveryStats deliveryStats) {
         this.webhookRepository = webhookRepository;
         this.deliveryRepository = deliveryRepository;
-        this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                .build();
+        this.outboxRepository = outboxRepository;
+        this.subscriptionIndex = subscriptionIndex;
+        this.payloadEncoder = payloadEncoder;
+        this.signer = signer;
+        this.deliveryEngine = deliveryEngine;
+        this.circuitBreaker = circuitBreaker;
+        this.deliveryRecorder = deliveryRecorder;
+        this.deliveryStats = deliveryStats;
     }
 
     public Webhook createWebhook(UUID tenantId, String name, String url, String secret, Set<WebhookEventType> events) {
         Webhook webhook = Webhook.createNew(tenantId, name, url, secret, events);
-        return webhookRepository.save(webhook);
+        Webhook saved = webhookRepository.save(webhook);
+        subscriptionIndex.webhooksChanged(tenantId);
+        return saved;
     }
 
-    public Webhook getWebhook(UUID webhookId) {
-        return webhookRepository.findById(webhookId)
+    public Webhook getWebhook(UUID tenantId, UUID webhookId) {
+        return webhookRepository.findByIdAndTenantId(webhookId, tenantId)
                 .orElseThrow(() -> new NotFoundException("Webhook not found: " + webhookId));
     }
 
@@ -63,244 +88,249 @@ public class WebhookService {
         return webhookRepository.findByTenantId(tenantId);
     }
 
-    public Webhook updateWebhook(UUID webhookId, String name, String url, String secret, Set<WebhookEventType> events) {
-        Webhook existing = getWebhook(webhookId);
+    public Webhook updateWebhook(UUID tenantId, UUID webhookId, String name, String url, String secret,
+            Set<WebhookEventType> events) {
+        Webhook existing = getWebhook(tenantId, webhookId);
         Webhook updated = existing.update(name, url, secret, events);
-        return webhookRepository.save(updated);
+        Webhook saved = webhookRepository.save(updated);
+        subscriptionIndex.webhooksChanged(tenantId);
+        return saved;
     }
 
-    public Webhook setWebhookActive(UUID webhookId, boolean active) {
-        Webhook existing = getWebhook(webhookId);
+    public Webhook setWebhookActive(UUID tenantId, UUID webhookId, boolean active) {
+        Webhook existing = getWebhook(tenantId, webhookId);
         Webhook updated = existing.setActive(active);
-        return webhookRepository.save(updated);
+        Webhook saved = webhookRepository.save(updated);
+        subscriptionIndex.webhooksChanged(tenantId);
+        return saved;
     }
 
-    public void deleteWebhook(UUID webhookId) {
-        if (!webhookRepository.existsById(webhookId)) {
-            throw new NotFoundException("Webhook not found: " + webhookId);
-        }
-        webhookRepository.deleteById(webhookId);
+    /**
+     * Turn event batching on for the webhook with the given settings, or off
+     * with null.
+     */
+    public Webhook setWebhookBatching(UUID tenantId, UUID webhookId, WebhookBatching batching) {
+        Webhook existing = getWebhook(tenantId, webhookId);
+        Webhook saved = webhookRepository.save(existing.withBatching(batching));
+        subscriptionIndex.webhooksChanged(tenantId);
+        return saved;
     }
 
-    // ==================== Webhook Triggering ====================
-
     /**
-     * Trigger webhooks for a specific event in a tenant.
-     * This is called asynchronously to not block the main request.
+     * Log the webhook's whole response bodies, up to the full capture limit,
+     * instead of only their start; for debugging a receiver.
      */
-    public void triggerWebhooks(UUID tenantId, WebhookEventType eventType, Map<String, Object> eventData) {
-        List<Webhook> activeWebhooks = webhookRepository.findActiveByTenantId(tenantId);
-
-        for (Webhook webhook : activeWebhooks) {
-            if (webhook.isSubscribedTo(eventType)) {
-                CompletableFuture.runAsync(() -> deliverWebhook(webhook, eventType, eventData));
-            }
-        }
+    public Webhook setFullResponseCapture(UUID tenantId, UUID webhookId, boolean captureFullResponse) {
+        Webhook existing = getWebhook(tenantId, webhookId);
+        return webhookRepository.save(existing.withFullResponseCapture(captureFullResponse));
     }
 
     /**
-     * Deliver a webhook notification to a single endpoint.
+     * Close the webhook's circuit breaker now instead of waiting for a probe.
      */
-    private void deliverWebhook(Webhook webhook, WebhookEventType eventType, Map<String, Object> eventData) {
-        Map<String, Object> payload = isSlackWebhook(webhook.url())
-                ? buildSlackPayload(eventType, eventData)
-                : buildPayload(eventType, eventData);
-
-        try {
-            String jsonPayload = objectMapper.writeValueAsString(payload);
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(webhook.url()))
-                    .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                    .header("Content-Type", "application/json")
-                    .header("X-Webhook-Event", eventType.name())
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonPayload));
-
-            // Add signature if secret is configured
-            if (webhook.secret() != null && !webhook.secret().isBlank()) {
-                String signature = generateSignature(jsonPayload, webhook.secret());
-                requestBuilder.header("X-Webhook-Signature", signature);
-            }
-
-            HttpResponse<String> response = httpClient.send(
-                    requestBuilder.build(),
-                    HttpResponse.BodyHandlers.ofString());
-
-            boolean success = response.statusCode() >= 200 && response.statusCode() < 300;
-
-            // Record delivery
-            WebhookDelivery delivery = success
-                    ? WebhookDelivery.success(webhook.id(), eventType, payload, response.statusCode(), response.body())
-                    : WebhookDelivery.failure(webhook.id(), eventType, payload, "HTTP " + response.statusCode());
-            deliveryRepository.save(delivery);
-
-            // Update webhook status
-            Webhook updated = success ? webhook.recordSuccess() : webhook.recordFailure();
-
-            // Auto-disable after too many failures
-            if (updated.shouldDisable(MAX_FAILURES)) {
-                updated = updated.setActive(false);
-                log.warn("Webhook {} disabled after {} failures", webhook.id(), MAX_FAILURES);
-            }
-
-            webhookRepository.save(updated);
-
-        } catch (Exception e) {
-            log.error("Failed to deliver webhook {} for event {}: {}", webhook.id(), eventType, e.getMessage());
-
-            WebhookDelivery delivery = WebhookDelivery.failure(webhook.id(), eventType, payload, e.getMessage());
-            deliveryRepository.save(delivery);
+    public Webhook closeCircuit(UUID tenantId, UUID webhookId) {
+        getWebhook(tenantId, webhookId);
+        circuitBreaker.close(webhookId);
+        return getWebhook(tenantId, webhookId);
+    }
 
-            Webhook updated = webhook.recordFailure();
-            if (updated.shouldDisable(MAX_FAILURES)) {
-                updated = updated.setActive(false);
-                log.warn("Webhook {} disabled after {} failures", webhook.id(), MAX_FAILURES);
-            }
-            webhookRepository.save(updated);
+    public void deleteWebhook(UUID tenantId, UUID webhookId) {
+        if (!webhookRepository.deleteByIdAndTenantId(webhookId, tenantId)) {
+            throw new NotFoundException("Webhook not found: " + webhookId);
         }
+        subscriptionIndex.webhooksChanged(tenantId);
     }
 
+    // ==================== Webhook Triggering ====================
+
     /**
-     * Build the webhook payload.
+     * Queue an event for every active webhook of the tenant subscribed to it.
+     * The outbox rows are written in the caller's transaction, so the event is
+     * delivered exactly when the change that raised it commits; see
+     * {@link WebhookDispatcher}. Rows for a webhook that batches are first due
+     * after its linger time, to give other events the chance to join them.
+     *
+     * Each webhook receives the events of one incident in the order they were
+     * raised.
      */
-    private Map<String, Object> buildPayload(WebhookEventType eventType, Map<String, Object> eventData) {
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("event", eventType.name());
-        payload.put("timestamp", Instant.now().toString());
-        payload.put("data", eventData);
-        return payload;
+    public void triggerWebhooks(UUID tenantId, UUID incidentId, WebhookEventType eventType,
+            Map<String, Object> eventData) {
+        // One event id and timestamp for all rows, so each payload variant is encoded once
+        UUID eventId = UUID.randomUUID();
+        Instant occurredAt = Instant.now();
+        List<WebhookOutboxEntry> entries = new ArrayList<>();
+        for (Subscriber subscriber : subscriptionIndex.subscribers(tenantId, eventType)) {
+            entries.add(WebhookOutboxEntry.pending(eventId, tenantId, subscriber.webhookId(), incidentId, eventType,
+                    eventData, occurredAt).dueAt(occurredAt.plus(subscriber.batchLinger())));
+        }
+        if (!entries.isEmpty()) {
+            outboxRepository.enqueue(entries);
+        }
     }
 
     /**
-     * Check if the webhook URL is a Slack webhook.
+     * Make one attempt at delivering a queued event and log it. The log entry
+     * and the webhook's status are written shortly after by the
+     * {@link WebhookDeliveryRecorder}. For a webhook
+     * that batches, the webhook's other waiting events are claimed and sent
+     * in the same request, up to its batch limits.
+     *
+     * @return the logged attempt and the entries it carried, or empty if the
+     *         webhook has been deleted or disabled since the event was queued
+     * @throws CircuitOpenException if the webhook's circuit is open; no
+     *         attempt was made
+     * @throws HostBusyException if the receiver's host has no free slot; no
+     *         attempt was made
      */
-    private boolean isSlackWebhook(String url) {
-        return url != null && url.contains("hooks.slack.com");
+    public Optional<Attempt> deliver(WebhookOutboxEntry entry) {
+        Optional<Webhook> webhook = webhookRepository.findById(entry.webhookId());
+        if (webhook.isEmpty() || !webhook.get().isActive()) {
+            log.debug("Skipping outbox entry {}: webhook {} is gone or inactive", entry.id(), entry.webhookId());
+            return Optional.empty();
+        }
+        Permit permit = circuitBreaker.acquire(webhook.get(), Instant.now());
+        List<WebhookOutboxEntry> entries;
+        EncodedPayload encoded;
+        String eventHeader;
+        if (webhook.get().batching() == null) {
+            entries = List.of(entry);
+            encoded = payloadEncoder.encode(entry.eventId(), Format.forUrl(webhook.get().url()),
+                    entry.eventType(), entry.eventData(), entry.createdAt());
+            eventHeader = entry.eventType().name();
+        } else {
+            entries = new ArrayList<>();
+            encoded = collectBatch(webhook.get().batching(), entry, entries);
+            eventHeader = BATCH_EVENT_HEADER;
+        }
+        WebhookOutboxEntry first = entries.get(0);
+        long started = System.nanoTime();
+        WebhookDelivery delivery;
+        try {
+            delivery = send(webhook.get(), eventHeader, entries.get(entries.size() - 1).sequence(),
+                    first.eventType(), encoded)
+                    .forAttempt(first.id(), first.attempts());
+        } catch (HostBusyException e) {
+            // The caller hands back the entry it claimed; give back the rest of the batch too
+            entries.stream()
+                    .filter(batched -> !batched.id().equals(entry.id()))
+                    .forEach(batched -> outboxRepository.release(batched.id(), Instant.now()));
+            throw e;
+        }
+        Duration latency = Duration.ofNanos(System.nanoTime() - started);
+        circuitBreaker.record(webhook.get(), permit, delivery.success(), latency, Instant.now());
+        deliveryRecorder.record(delivery);
+        deliveryStats.record(delivery, latency);
+        return Optional.of(new Attempt(delivery, entries));
     }
 
     /**
-     * Build a Slack-compatible webhook payload.
+     * Claim the webhook's other waiting events to send with {@code first},
+     * in sequence order, and encode as many as fit the batch limits. Once one
+     * does not fit, it and the rest are handed straight back for the next
+     * batch, so no event overtakes an earlier one of its incident.
+     *
+     * @param entries receives the entries in the batch
      */
-    private Map<String, Object> buildSlackPayload(WebhookEventType eventType, Map<String, Object> eventData) {
-        Map<String, Object> payload = new LinkedHashMap<>();
-
-        String title = (String) eventData.getOrDefault("title", "Unknown Incident");
-        String severity = (String) eventData.getOrDefault("severity", "UNKNOWN");
-        String status = (String) eventData.getOrDefault("status", "UNKNOWN");
-        String description = (String) eventData.getOrDefault("description", "");
-        String incidentId = (String) eventData.getOrDefault("id", "");
-        String assigneeName = (String) eventData.getOrDefault("assigneeName", null);
-        String assigneeEmail = (String) eventData.getOrDefault("assigneeEmail", null);
-        String assignedByName = (String) eventData.getOrDefault("assignedByName", null);
-        String resolvedByName = (String) eventData.getOrDefault("resolvedByName", null);
-        String resolutionTime = (String) eventData.getOrDefault("resolutionTime", null);
-
-        // Build emoji based on event type and severity
-        String emoji = switch (eventType) {
-            case INCIDENT_CREATED -> "🚨";
-            case INCIDENT_RESOLVED -> "✅";
-            case INCIDENT_UPDATED -> "🔄";
-            case INCIDENT_CLOSED -> "🔒";
-            case INCIDENT_ASSIGNED -> "👤";
-            case INCIDENT_UNASSIGNED -> "👋";
-            case INCIDENT_ESCALATED -> "⚠️";
-            case COMMENT_ADDED -> "💬";
-        };
-
-        String severityEmoji = switch (severity.toUpperCase()) {
-            case "CRITICAL" -> "🔴";
-            case "HIGH" -> "🟠";
-            case "MEDIUM" -> "🟡";
-            case "LOW" -> "🟢";
-            default -> "⚪";
-        };
-
-        // Build formatted message
-        StringBuilder message = new StringBuilder();
-        message.append(emoji).append(" *").append(formatEventType(eventType)).append("*\n\n");
-        message.append("*Title:* ").append(title).append("\n");
-        message.append("*Severity:* ").append(severityEmoji).append(" ").append(severity).append("\n");
-        message.append("*Status:* ").append(status).append("\n");
-
-        // Add assignee info for assignment events
-        if (eventType == WebhookEventType.INCIDENT_ASSIGNED && assigneeName != null) {
-            message.append("*Assigned to:* ").append(assigneeName);
-            if (assigneeEmail != null && !assigneeEmail.isBlank()) {
-                message.append(" (").append(assigneeEmail).append(")");
-            }
-            message.append("\n");
-            if (assignedByName != null) {
-                message.append("*Assigned by:* ").append(assignedByName).append("\n");
-            }
-        }
-
-        // Add unassignment info
-        if (eventType == WebhookEventType.INCIDENT_UNASSIGNED && assigneeName != null) {
-            message.append("*Unassigned:* ").append(assigneeName).append("\n");
+    private EncodedPayload collectBatch(WebhookBatching batching, WebhookOutboxEntry first,
+            List<WebhookOutboxEntry> entries) {
+        List<WebhookOutboxEntry> claimed = new ArrayList<>();
+        claimed.add(first);
+        if (batching.maxSize() > 1) {
+            claimed.addAll(outboxRepository.claimBatch(first.webhookId(), first.id(), batching.maxSize() - 1,
+                    Instant.now(), first.nextAttemptAt()));
+            claimed.sort(Comparator.comparingLong(WebhookOutboxEntry::sequence));
         }
 
-        // Add resolver info for resolved events
-        if (eventType == WebhookEventType.INCIDENT_RESOLVED) {
-            if (resolvedByName != null) {
-                message.append("*Resolved by:* ").append(resolvedByName).append("\n");
+        List<EncodedPayload> events = new ArrayList<>(claimed.size());
+        int bodyBytes = 0;
+        boolean full = false;
+        for (WebhookOutboxEntry entry : claimed) {
+            if (full) {
+                outboxRepository.release(entry.id(), Instant.now());
+                continue;
             }
-            if (resolutionTime != null) {
-                message.append("*Resolution time:* ").append(resolutionTime).append("\n");
+            EncodedPayload event = payloadEncoder.encode(entry.eventId(), Format.GENERIC, entry.eventType(),
+                    entry.eventData(), entry.createdAt());
+            int length = WebhookPayloadEncoder.batchLength(events.size() + 1, bodyBytes + event.body().length);
+            if (!events.isEmpty() && length > batching.maxBytes()) {
+                full = true;
+                outboxRepository.release(entry.id(), Instant.now());
+                continue;
             }
+            entries.add(entry);
+            events.add(event);
+            bodyBytes += event.body().length;
         }
+        return payloadEncoder.encodeBatch(events);
+    }
 
-        if (description != null && !description.isBlank()) {
-            message.append("*Description:* ").append(description).append("\n");
-        }
-
-        if (incidentId != null && !incidentId.isBlank()) {
-            message.append("*ID:* `").append(incidentId).append("`\n");
-        }
-
-        message.append("*Time:* ").append(Instant.now().toString());
+    /**
+     * Count an event that exhausted its retries against the webhook. A
+     * failing receiver is handled by its circuit breaker rather than by
+     * disabling the webhook, so it recovers without anyone reactivating it.
+     */
+    public void recordDeadLetter(UUID webhookId) {
+        deliveryRecorder.recordDeadLetter(webhookId);
+    }
 
-        payload.put("text", message.toString());
-        return payload;
+    public List<WebhookOutboxEntry> getDeadLetters(UUID tenantId, UUID webhookId, int limit) {
+        return outboxRepository.findDead(tenantId, webhookId, limit);
     }
 
     /**
-     * Format event type to human-readable string.
+     * Queue the webhook's dead-lettered events again, each with a fresh retry
+     * budget. Replaying to an inactive webhook dead-letters them again, so
+     * activate it first.
      */
-    private String formatEventType(WebhookEventType eventType) {
-        return switch (eventType) {
-            case INCIDENT_CREATED -> "Incident Created";
-            case INCIDENT_RESOLVED -> "Incident Resolved";
-            case INCIDENT_UPDATED -> "Incident Updated";
-            case INCIDENT_CLOSED -> "Incident Closed";
-            case INCIDENT_ASSIGNED -> "Incident Assigned";
-            case INCIDENT_UNASSIGNED -> "Incident Unassigned";
-            case INCIDENT_ESCALATED -> "Escalation Triggered";
-            case COMMENT_ADDED -> "Comment Added";
-        };
+    public int replayDeadLetters(UUID tenantId, UUID webhookId) {
+        int replayed = outboxRepository.replayDead(tenantId, webhookId);
+        log.info("Replaying {} dead-lettered events for webhook {}", replayed, webhookId);
+        return replayed;
     }
 
     /**
-     * Generate HMAC-SHA256 signature for payload verification.
+     * POST an encoded body to a webhook. The result is not saved; the caller
+     * decides how to log it.
+     *
+     * @param sequence the outbox sequence of the (last) event sent, which
+     *                 receivers can use to spot reordering; null for tests
+     * @throws HostBusyException if the receiver's host has no free slot
      */
-    private String generateSignature(String payload, String secret) {
+    private WebhookDelivery send(Webhook webhook, String eventHeader, Long sequence, WebhookEventType eventType,
+            EncodedPayload encoded) {
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKeySpec = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            mac.init(secretKeySpec);
-            byte[] hash = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
-            return "sha256=" + bytesToHex(hash);
-        } catch (Exception e) {
-            log.error("Failed to generate webhook signature", e);
-            return "";
-        }
-    }
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("Content-Type", "application/json");
+            headers.put("X-Webhook-Event", eventHeader);
+            if (sequence != null) {
+                headers.put("X-Webhook-Sequence", Long.toString(sequence));
+            }
+
+            // Add signature if secret is configured
+            if (webhook.secret() != null && !webhook.secret().isBlank()) {
+                headers.put("X-Webhook-Signature", signer.sign(encoded.body(), webhook.secret()));
+            }
+
+            HttpResponse<String> response = deliveryEngine.post(URI.create(webhook.url()), headers,
+                    encoded.body(), webhook.captureFullResponse());
+
+            boolean success = response.statusCode() >= 200 && response.statusCode() < 300;
+
+            return success
+                    ? WebhookDelivery.success(webhook.id(), eventType, encoded.payload(), response.statusCode(),
+                            response.body())
+                    : WebhookDelivery.failure(webhook.id(), eventType, encoded.payload(), response.statusCode(),
+                            response.body(), "HTTP " + response.statusCode());
 
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
+        } catch (HostBusyException e) {
+            throw e;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("Failed to deliver webhook {} for event {}: {}", webhook.id(), eventType, e.getMessage());
+            return WebhookDelivery.failure(webhook.id(), eventType, encoded.payload(), e.getMessage());
         }
-        return sb.toString();
     }
 
     // ==================== Delivery History ====================
@@ -309,17 +339,19 @@ public class WebhookService {
         return deliveryRepository.findRecentByWebhookId(webhookId, limit);
     }
 
-    public Map<String, Long> getDeliveryStats(UUID webhookId) {
-        long successes = deliveryRepository.countSuccessByWebhookId(webhookId);
-        long failures = deliveryRepository.countFailuresByWebhookId(webhookId);
-        return Map.of("successes", successes, "failures", failures, "total", successes + failures);
+    /**
+     * The webhook's delivery counts and latency, kept up to date as
+     * deliveries complete; see {@link WebhookDeliveryStats}.
+     */
+    public WebhookStats getDeliveryStats(UUID webhookId) {
+        return deliveryStats.get(webhookId);
     }
 
     /**
      * Test a webhook by sending a test event.
      */
-    public WebhookDelivery testWebhook(UUID webhookId) {
-        Webhook webhook = getWebhook(webhookId);
+    public WebhookDelivery testWebhook(UUID tenantId, UUID webhookId) {
+        Webhook webhook = getWebhook(tenantId, webhookId);
 
         Map<String, Object> testData = Map.of(
                 "message", "This is a test webhook delivery",
@@ -330,51 +362,17 @@ public class WebhookService {
                 "status", "OPEN",
                 "description", "This is a test notification to verify webhook connectivity");
 
-        Map<String, Object> payload = isSlackWebhook(webhook.url())
-                ? buildSlackPayload(WebhookEventType.INCIDENT_CREATED, testData)
-                : buildPayload(WebhookEventType.INCIDENT_CREATED, testData);
-
+        EncodedPayload encoded = payloadEncoder.encode(Format.forUrl(webhook.url()),
+                WebhookEventType.INCIDENT_CREATED, testData, Instant.now());
+        WebhookDelivery delivery;
+        long started = System.nanoTime();
         try {
-            String jsonPayload = objectMapper.writeValueAsString(payload);
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(webhook.url()))
-                    .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                    .header("Content-Type", "application/json")
-                    .header("X-Webhook-Event", "TEST")
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonPayload));
-
-            if (webhook.secret() != null && !webhook.secret().isBlank()) {
-                String signature = generateSignature(jsonPayload, webhook.secret());
-                requestBuilder.header("X-Webhook-Signature", signature);
-            }
-
-            HttpResponse<String> response = httpClient.send(
-                    requestBuilder.build(),
-                    HttpResponse.BodyHandlers.ofString());
-
-            boolean success = response.statusCode() >= 200 && response.statusCode() < 300;
-
-            WebhookDelivery delivery = success
-                    ? WebhookDelivery.success(webhookId, WebhookEventType.INCIDENT_CREATED, payload,
-                            response.statusCode(), response.body())
-                    : WebhookDelivery.failure(webhookId, WebhookEventType.INCIDENT_CREATED, payload,
-                            "HTTP " + response.statusCode());
-
-            return deliveryRepository.save(delivery);
-
-        } catch (Exception e) {
-            WebhookDelivery delivery = WebhookDelivery.failure(webhookId, WebhookEventType.INCIDENT_CREATED, payload,
+            delivery = send(webhook, "TEST", null, WebhookEventType.INCIDENT_CREATED, encoded);
+        } catch (HostBusyException e) {
+            delivery = WebhookDelivery.failure(webhook.id(), WebhookEventType.INCIDENT_CREATED, encoded.payload(),
                     e.getMessage());
-            return deliveryRepository.save(delivery);
         }
-    }
-
-    /**
-     * Cleanup old delivery records.
-     */
-    public int cleanupOldDeliveries(int daysToKeep) {
-        Instant cutoff = Instant.now().minus(daysToKeep, ChronoUnit.DAYS);
-        return deliveryRepository.deleteOldDeliveries(cutoff);
+        deliveryStats.record(delivery, Duration.ofNanos(System.nanoTime() - started));
+        return deliveryRepository.save(delivery);
     }
 }
@@ -0,0 +1,73 @@
+package com.example.incidentplatform.application.service;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signs webhook bodies with HMAC-SHA256 so receivers can verify them.
+ *
+ * Looking up the provider and expanding the key dominate the cost of signing
+ * a small body, so a {@link Mac} initialised with each secret is kept and
+ * cloned per signature; a {@code Mac} is stateful and cannot be shared
+ * between the delivery threads.
+ */
+@Component
+public class WebhookSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    // One entry per distinct secret; cleared rather than evicted one by one if it ever grows this large
+    private static final int MAX_CACHED_KEYS = 10_000;
+
+    private final Map<String, Mac> initialised = new ConcurrentHashMap<>();
+
+    /**
+     * @return the {@code X-Webhook-Signature} header value,
+     *         {@code sha256=<hex digest>}
+     */
+    public String sign(byte[] body, String secret) {
+        byte[] digest = macFor(secret).doFinal(body);
+        return "sha256=" + toHex(digest);
+    }
+
+    private Mac macFor(String secret) {
+        Mac prototype = initialised.get(secret);
+        if (prototype == null) {
+            if (initialised.size() >= MAX_CACHED_KEYS) {
+                initialised.clear();
+            }
+            prototype = initialised.computeIfAbsent(secret, WebhookSigner::newMac);
+        }
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // Only if the installed provider's HMAC is not cloneable
+            return newMac(secret);
+        }
+    }
+
+    private static Mac newMac(String secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
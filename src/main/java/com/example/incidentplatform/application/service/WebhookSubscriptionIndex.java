@@ -0,0 +1,135 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.application.port.WebhookSubscriptionBroadcaster;
+import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Which active webhooks each tenant has and the events they subscribe to,
+ * kept in memory so raising an event does not query the webhooks table.
+ *
+ * A tenant's entry is an immutable snapshot of webhook ids, event bitmasks
+ * and batching linger times, loaded on first use and replaced wholesale,
+ * so lookups are plain reads. Entries are evicted when the tenant's webhooks
+ * change, on this node through {@link #webhooksChanged} and on the others
+ * through the {@link WebhookSubscriptionBroadcaster}.
+ */
+@Service
+public class WebhookSubscriptionIndex {
+
+    private final WebhookRepository webhookRepository;
+    private final WebhookSubscriptionBroadcaster broadcaster;
+    private final Map<UUID, TenantSubscriptions> tenants = new ConcurrentHashMap<>();
+    // Bumped by every eviction; a load that overlapped one may be stale and is not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * A webhook subscribed to an event, and how long its events wait to be
+     * batched with others ({@link Duration#ZERO} if it does not batch).
+     */
+    public record Subscriber(UUID webhookId, Duration batchLinger) {
+    }
+
+    public WebhookSubscriptionIndex(WebhookRepository webhookRepository, WebhookSubscriptionBroadcaster broadcaster) {
+        this.webhookRepository = webhookRepository;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * The tenant's active webhooks subscribed to {@code eventType}.
+     */
+    public List<Subscriber> subscribers(UUID tenantId, WebhookEventType eventType) {
+        TenantSubscriptions subscriptions = tenants.get(tenantId);
+        if (subscriptions == null) {
+            subscriptions = load(tenantId);
+        }
+        return subscriptions.subscribedTo(eventType.bit());
+    }
+
+    /**
+     * Records that the tenant's webhooks were created, changed or deleted.
+     * Inside a transaction the entry is evicted once it commits. The broadcast
+     * is sent as part of the transaction, before it commits, so that it goes
+     * out on the same connection and reaches the other nodes only if the
+     * change does.
+     */
+    public void webhooksChanged(UUID tenantId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(tenantId);
+            broadcaster.broadcastChanged(tenantId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                broadcaster.broadcastChanged(tenantId);
+            }
+
+            @Override
+            public void afterCommit() {
+                evict(tenantId);
+            }
+        });
+    }
+
+    /**
+     * Drops the tenant's entry on this node only.
+     */
+    public void evict(UUID tenantId) {
+        evictions.incrementAndGet();
+        tenants.remove(tenantId);
+    }
+
+    /**
+     * Drops every entry on this node, for when changes may have been missed.
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        tenants.clear();
+    }
+
+    private TenantSubscriptions load(UUID tenantId) {
+        long seen = evictions.get();
+        List<Webhook> webhooks = webhookRepository.findActiveByTenantId(tenantId);
+        Subscriber[] subscribers = new Subscriber[webhooks.size()];
+        int[] masks = new int[webhooks.size()];
+        for (int i = 0; i < subscribers.length; i++) {
+            Webhook webhook = webhooks.get(i);
+            subscribers[i] = new Subscriber(webhook.id(),
+                    webhook.batching() != null ? webhook.batching().maxLinger() : Duration.ZERO);
+            masks[i] = WebhookEventType.mask(webhook.events());
+        }
+        TenantSubscriptions loaded = new TenantSubscriptions(subscribers, masks);
+        if (evictions.get() == seen && tenants.putIfAbsent(tenantId, loaded) == null
+                && evictions.get() != seen) {
+            // An eviction ran between the check and the put and may have missed this entry
+            tenants.remove(tenantId, loaded);
+        }
+        return loaded;
+    }
+
+    private record TenantSubscriptions(Subscriber[] subscribers, int[] eventMasks) {
+
+        List<Subscriber> subscribedTo(int eventBit) {
+            List<Subscriber> subscribed = new ArrayList<>(subscribers.length);
+            for (int i = 0; i < subscribers.length; i++) {
+                if ((eventMasks[i] & eventBit) != 0) {
+                    subscribed.add(subscribers[i]);
+                }
+            }
+            return subscribed;
+        }
+    }
+}
@@ -2,14 +2,17 @@ package com.example.incidentplatform.application.usecase;
 
 import com.example.incidentplatform.application.service.IncidentService;
 import com.example.incidentplatform.api.dto.incident.IncidentSearchCriteria;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
 import com.example.incidentplatform.domain.model.incident.Incident;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
 public class ManageIncidentUseCase {
@@ -28,20 +31,25 @@ public class ManageIncidentUseCase {
         return incidentService.getIncident(tenantId, incidentId);
     }
 
-    public List<Incident> listIncidents(UUID tenantId) {
-        return incidentService.listIncidents(tenantId);
+    public CursorPage<Incident> listIncidents(UUID tenantId, CursorPageRequest page) {
+        return incidentService.listIncidents(tenantId, page);
     }
 
-    public List<Incident> listIncidentsByStatus(UUID tenantId, IncidentStatus status) {
-        return incidentService.listIncidentsByStatus(tenantId, status);
+    public CursorPage<Incident> listIncidentsByStatus(UUID tenantId, IncidentStatus status, CursorPageRequest page) {
+        return incidentService.listIncidentsByStatus(tenantId, status, page);
     }
 
-    public List<Incident> listIncidentsBySeverity(UUID tenantId, Severity severity) {
-        return incidentService.listIncidentsBySeverity(tenantId, severity);
+    public CursorPage<Incident> listIncidentsBySeverity(UUID tenantId, Severity severity, CursorPageRequest page) {
+        return incidentService.listIncidentsBySeverity(tenantId, severity, page);
     }
 
-    public List<Incident> searchIncidents(UUID tenantId, IncidentSearchCriteria criteria) {
-        return incidentService.searchIncidents(tenantId, criteria);
+    public CursorPage<Incident> searchIncidents(UUID tenantId, IncidentSearchCriteria criteria,
+            CursorPageRequest page) {
+        return incidentService.searchIncidents(tenantId, criteria, page);
+    }
+
+    public void exportIncidents(UUID tenantId, IncidentSearchCriteria criteria, Consumer<Incident> sink) {
+        incidentService.exportIncidents(tenantId, criteria, sink);
     }
 
     public long countIncidents(UUID tenantId) {
@@ -52,6 +60,10 @@ public class ManageIncidentUseCase {
         return incidentService.countIncidentsByStatus(tenantId, status);
     }
 
+    public Map<IncidentStatus, Long> countIncidentsByStatus(UUID tenantId) {
+        return incidentService.countIncidentsByStatus(tenantId);
+    }
+
     public void deleteIncident(UUID tenantId, UUID incidentId) {
         incidentService.deleteIncident(tenantId, incidentId);
     }
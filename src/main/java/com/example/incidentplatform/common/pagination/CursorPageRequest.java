@@ -0,0 +1,29 @@
+package com.example.incidentplatform.common.pagination;
+
+import com.example.incidentplatform.common.error.BadRequestException;
+
+/**
+ * Requested page of a keyset-paginated list: where to continue from (null for
+ * the first page) and how many items to return.
+ */
+public record CursorPageRequest(KeysetCursor after, int limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    /**
+     * Build a request from raw query parameters. A missing limit falls back to
+     * {@link #DEFAULT_LIMIT}; larger values are capped at {@link #MAX_LIMIT}.
+     */
+    public static CursorPageRequest of(String cursor, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        int effectiveLimit = limit == null ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return new CursorPageRequest(KeysetCursor.decode(cursor), effectiveLimit);
+    }
+
+    public static CursorPageRequest first() {
+        return new CursorPageRequest(null, DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.incidentplatform.common.pagination;
+
+import com.example.incidentplatform.common.error.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paginated list: the last row of the previous page.
+ * Lists are ordered by {@code (createdAt DESC, id DESC)} unless they carry a
+ * leading sort key, in which case {@code sortKey} names it and
+ * {@code sortValue} holds the row's value for it (null if the value is
+ * recomputed from the row instead).
+ * Clients only ever see the cursor as an opaque string.
+ */
+public record KeysetCursor(Instant createdAt, UUID id, String sortKey, String sortValue) {
+
+    private static final String SEPARATOR = "|";
+
+    public KeysetCursor(Instant createdAt, UUID id) {
+        this(createdAt, id, null, null);
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        if (sortKey != null) {
+            // An empty value stands for null; no sort key has empty values
+            raw += SEPARATOR + sortKey + SEPARATOR + (sortValue == null ? "" : sortValue);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously returned to a client.
+     *
+     * @return the cursor, or null if {@code encoded} is null or blank
+     * @throws BadRequestException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 2 && parts.length != 4) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            Instant createdAt = Instant.parse(parts[0]);
+            UUID id = UUID.fromString(parts[1]);
+            if (parts.length == 2) {
+                return new KeysetCursor(createdAt, id);
+            }
+            return new KeysetCursor(createdAt, id, parts[2], parts[3].isEmpty() ? null : parts[3]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
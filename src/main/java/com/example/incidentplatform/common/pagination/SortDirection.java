@@ -0,0 +1,30 @@
+package com.example.incidentplatform.common.pagination;
+
+import com.example.incidentplatform.common.error.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Direction of a sorted list.
+ */
+public enum SortDirection {
+    ASC,
+    DESC;
+
+    public boolean isAscending() {
+        return this == ASC;
+    }
+
+    /**
+     * Parse a raw query parameter, ignoring case.
+     *
+     * @throws BadRequestException if {@code param} is neither ASC nor DESC
+     */
+    public static SortDirection fromParam(String param) {
+        try {
+            return valueOf(param.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("sortDirection must be ASC or DESC");
+        }
+    }
+}
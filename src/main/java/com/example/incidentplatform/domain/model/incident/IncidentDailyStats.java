@@ -0,0 +1,84 @@
+package com.example.incidentplatform.domain.model.incident;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One bucket of the daily incident rollup: counters for a tenant, UTC day,
+ * severity and status. Also used as a signed delta when an incident changes.
+ *
+ * An incident contributes {@code createdCount = 1} to the bucket of the day it
+ * was created and, once resolved, {@code resolvedCount = 1} plus its resolution
+ * time to the bucket of the day it was resolved; both under its current
+ * severity and status.
+ */
+public record IncidentDailyStats(
+        UUID tenantId,
+        LocalDate day,
+        Severity severity,
+        IncidentStatus status,
+        long createdCount,
+        long resolvedCount,
+        long resolutionSeconds) {
+
+    /**
+     * Computes the bucket changes needed to go from {@code before} to
+     * {@code after}. Either side may be null for a created or deleted incident.
+     * Buckets that net to zero are omitted.
+     */
+    public static List<IncidentDailyStats> delta(Incident before, Incident after) {
+        Incident source = after != null ? after : before;
+        if (source == null) {
+            return List.of();
+        }
+
+        Map<BucketKey, long[]> buckets = new LinkedHashMap<>();
+        if (before != null) {
+            accumulate(buckets, before, -1);
+        }
+        if (after != null) {
+            accumulate(buckets, after, 1);
+        }
+
+        List<IncidentDailyStats> result = new ArrayList<>();
+        buckets.forEach((key, counters) -> {
+            if (counters[0] != 0 || counters[1] != 0 || counters[2] != 0) {
+                result.add(new IncidentDailyStats(source.tenantId(), key.day(), key.severity(), key.status(),
+                        counters[0], counters[1], counters[2]));
+            }
+        });
+        return result;
+    }
+
+    private static void accumulate(Map<BucketKey, long[]> buckets, Incident incident, int sign) {
+        long[] created = buckets.computeIfAbsent(
+                new BucketKey(toDay(incident.createdAt()), incident.severity(), incident.status()),
+                key -> new long[3]);
+        created[0] += sign;
+
+        if (incident.resolvedAt() != null) {
+            long[] resolved = buckets.computeIfAbsent(
+                    new BucketKey(toDay(incident.resolvedAt()), incident.severity(), incident.status()),
+                    key -> new long[3]);
+            resolved[1] += sign;
+            resolved[2] += sign * Duration.between(incident.createdAt(), incident.resolvedAt()).getSeconds();
+        }
+    }
+
+    /**
+     * The UTC day an instant falls on, i.e. the rollup bucket it is counted in.
+     */
+    public static LocalDate toDay(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private record BucketKey(LocalDate day, Severity severity, IncidentStatus status) {
+    }
+}
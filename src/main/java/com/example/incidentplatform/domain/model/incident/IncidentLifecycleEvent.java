@@ -0,0 +1,69 @@
+package com.example.incidentplatform.domain.model.incident;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Something that happened to an incident that people should hear about.
+ * Raised inside the transaction that made the change.
+ *
+ * @param incident the incident as it is after the change, or as it was when
+ *                 it was deleted
+ * @param previous the incident as it was before, or null if it was just
+ *                 created or deleted or only its assignees changed
+ * @param userId   the user assigned or unassigned, null for other kinds
+ * @param actorId  the user who made the change, or null if not known
+ */
+public record IncidentLifecycleEvent(
+        Kind kind,
+        Incident incident,
+        Incident previous,
+        UUID userId,
+        UUID actorId) {
+
+    public enum Kind {
+        CREATED,
+        STATUS_CHANGED,
+        RESOLVED,
+        ESCALATED,
+        ASSIGNED,
+        UNASSIGNED,
+        // Any other change, e.g. to the title; nobody is notified of these
+        UPDATED,
+        DELETED
+    }
+
+    public IncidentLifecycleEvent {
+        Objects.requireNonNull(kind, "kind must not be null");
+        Objects.requireNonNull(incident, "incident must not be null");
+    }
+
+    public static IncidentLifecycleEvent created(Incident incident) {
+        return new IncidentLifecycleEvent(Kind.CREATED, incident, null, null, incident.createdBy());
+    }
+
+    public static IncidentLifecycleEvent statusChanged(Incident previous, Incident incident) {
+        Kind kind = incident.status() == IncidentStatus.RESOLVED ? Kind.RESOLVED : Kind.STATUS_CHANGED;
+        return new IncidentLifecycleEvent(kind, incident, previous, null, null);
+    }
+
+    public static IncidentLifecycleEvent escalated(Incident previous, Incident incident) {
+        return new IncidentLifecycleEvent(Kind.ESCALATED, incident, previous, null, null);
+    }
+
+    public static IncidentLifecycleEvent updated(Incident previous, Incident incident) {
+        return new IncidentLifecycleEvent(Kind.UPDATED, incident, previous, null, null);
+    }
+
+    public static IncidentLifecycleEvent deleted(Incident incident) {
+        return new IncidentLifecycleEvent(Kind.DELETED, incident, null, null, null);
+    }
+
+    public static IncidentLifecycleEvent assigned(Incident incident, UUID assigneeId, UUID assignedBy) {
+        return new IncidentLifecycleEvent(Kind.ASSIGNED, incident, null, assigneeId, assignedBy);
+    }
+
+    public static IncidentLifecycleEvent unassigned(Incident incident, UUID assigneeId) {
+        return new IncidentLifecycleEvent(Kind.UNASSIGNED, incident, null, assigneeId, null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.incidentplatform.domain.model.incident;
+
+/**
+ * Orderings of incident search. Every ordering breaks ties by
+ * {@code createdAt} and then {@code id} in the same direction, so pages are
+ * stable and each one can be read from an index.
+ */
+public enum IncidentSortField {
+    CREATED_AT,
+    UPDATED_AT,
+    /** CRITICAL ranks highest, so DESC lists the most severe incidents first. */
+    SEVERITY,
+    /** By status name. */
+    STATUS,
+    /** Unresolved incidents come first when descending and last when ascending. */
+    RESOLVED_AT,
+    /** Full-text rank of the search term; falls back to createdAt without one. */
+    RELEVANCE
+}
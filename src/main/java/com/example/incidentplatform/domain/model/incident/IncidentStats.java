@@ -0,0 +1,34 @@
+package com.example.incidentplatform.domain.model.incident;
+
+import java.util.Map;
+
+/**
+ * A tenant's incident figures as aggregated by the repository. Weekly,
+ * monthly and per-day figures cover whole UTC days up to today; the per-day
+ * maps are keyed by ISO date and leave out days without incidents.
+ *
+ * @param openIncidents               open and in-progress incidents
+ * @param averageResolutionTimeHours  null until an incident is resolved
+ */
+public record IncidentStats(
+        long totalIncidents,
+        long openIncidents,
+        long resolvedIncidents,
+        long closedIncidents,
+        Double averageResolutionTimeHours,
+        Map<String, Long> incidentsBySeverity,
+        Map<String, Long> incidentsByStatus,
+        Map<String, Long> incidentsCreatedByDay,
+        Map<String, Long> incidentsResolvedByDay,
+        long incidentsCreatedThisWeek,
+        long incidentsResolvedThisWeek,
+        long incidentsCreatedThisMonth,
+        long incidentsResolvedThisMonth) {
+
+    public static IncidentStats empty() {
+        return new IncidentStats(
+                0, 0, 0, 0, null,
+                Map.of(), Map.of(), Map.of(), Map.of(),
+                0, 0, 0, 0);
+    }
+}
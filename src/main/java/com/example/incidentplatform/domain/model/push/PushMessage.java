@@ -0,0 +1,30 @@
+package com.example.incidentplatform.domain.model.push;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A message pushed to the clients subscribed to a topic.
+ *
+ * @param topic {@link #userTopic(UUID)} for what only one user should see,
+ *              {@link #tenantTopic(UUID)} for what every member of a tenant
+ *              should see
+ * @param type  what the message is about, e.g. {@code notification}
+ * @param data  the message itself, as JSON
+ */
+public record PushMessage(String topic, String type, String data) {
+
+    public PushMessage {
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+    }
+
+    public static String userTopic(UUID userId) {
+        return "user:" + userId;
+    }
+
+    public static String tenantTopic(UUID tenantId) {
+        return "tenant:" + tenantId;
+    }
+}
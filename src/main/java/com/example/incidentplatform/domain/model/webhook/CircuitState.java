@@ -0,0 +1,13 @@
+package com.example.incidentplatform.domain.model.webhook;
+
+/**
+ * State of a webhook's circuit breaker.
+ */
+public enum CircuitState {
+    /** Deliveries are sent normally. */
+    CLOSED,
+    /** The receiver is failing; deliveries are deferred until the next probe. */
+    OPEN,
+    /** One probe delivery is in flight to decide whether to close again. */
+    HALF_OPEN
+}
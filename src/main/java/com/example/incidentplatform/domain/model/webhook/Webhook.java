@@ -18,7 +18,12 @@ public record Webhook(
         Instant createdAt,
         Instant updatedAt,
         Instant lastTriggeredAt,
-        int failureCount) {
+        int failureCount,
+        CircuitState circuitState,
+        Instant circuitOpenedAt,
+        Instant circuitRetryAt,
+        WebhookBatching batching,
+        boolean captureFullResponse) {
     /**
      * Create a new webhook registration.
      */
@@ -36,7 +41,12 @@ public record Webhook(
                 now,
                 now,
                 null,
-                0);
+                0,
+                CircuitState.CLOSED,
+                null,
+                null,
+                null,
+                false);
     }
 
     /**
@@ -44,9 +54,10 @@ public record Webhook(
      */
     public static Webhook of(UUID id, UUID tenantId, String name, String url, String secret,
             Set<WebhookEventType> events, boolean isActive, Instant createdAt,
-            Instant updatedAt, Instant lastTriggeredAt, int failureCount) {
+            Instant updatedAt, Instant lastTriggeredAt, int failureCount, CircuitState circuitState,
+            Instant circuitOpenedAt, Instant circuitRetryAt, WebhookBatching batching, boolean captureFullResponse) {
         return new Webhook(id, tenantId, name, url, secret, events, isActive, createdAt, updatedAt, lastTriggeredAt,
-                failureCount);
+                failureCount, circuitState, circuitOpenedAt, circuitRetryAt, batching, captureFullResponse);
     }
 
     /**
@@ -71,7 +82,35 @@ public record Webhook(
                 this.createdAt,
                 Instant.now(),
                 this.lastTriggeredAt,
-                this.failureCount);
+                this.failureCount,
+                this.circuitState,
+                this.circuitOpenedAt,
+                this.circuitRetryAt,
+                this.batching,
+                this.captureFullResponse);
+    }
+
+    /**
+     * Turn event batching on with the given settings, or off with null.
+     */
+    public Webhook withBatching(WebhookBatching batching) {
+        return new Webhook(
+                this.id, this.tenantId, this.name, this.url, this.secret,
+                this.events, this.isActive, this.createdAt, Instant.now(),
+                this.lastTriggeredAt, this.failureCount,
+                this.circuitState, this.circuitOpenedAt, this.circuitRetryAt, batching, this.captureFullResponse);
+    }
+
+    /**
+     * Keep whole response bodies in the delivery log rather than only their
+     * start, to debug a receiver.
+     */
+    public Webhook withFullResponseCapture(boolean captureFullResponse) {
+        return new Webhook(
+                this.id, this.tenantId, this.name, this.url, this.secret,
+                this.events, this.isActive, this.createdAt, Instant.now(),
+                this.lastTriggeredAt, this.failureCount,
+                this.circuitState, this.circuitOpenedAt, this.circuitRetryAt, this.batching, captureFullResponse);
     }
 
     /**
@@ -81,7 +120,9 @@ public record Webhook(
         return new Webhook(
                 this.id, this.tenantId, this.name, this.url, this.secret,
                 this.events, active, this.createdAt, Instant.now(),
-                this.lastTriggeredAt, this.failureCount);
+                this.lastTriggeredAt, this.failureCount,
+                this.circuitState, this.circuitOpenedAt, this.circuitRetryAt, this.batching,
+                this.captureFullResponse);
     }
 
     /**
@@ -91,7 +132,9 @@ public record Webhook(
         return new Webhook(
                 this.id, this.tenantId, this.name, this.url, this.secret,
                 this.events, this.isActive, this.createdAt, Instant.now(),
-                Instant.now(), 0);
+                Instant.now(), 0,
+                this.circuitState, this.circuitOpenedAt, this.circuitRetryAt, this.batching,
+                this.captureFullResponse);
     }
 
     /**
@@ -101,13 +144,8 @@ public record Webhook(
         return new Webhook(
                 this.id, this.tenantId, this.name, this.url, this.secret,
                 this.events, this.isActive, this.createdAt, Instant.now(),
-                this.lastTriggeredAt, this.failureCount + 1);
-    }
-
-    /**
-     * Check if webhook should be disabled due to too many failures.
-     */
-    public boolean shouldDisable(int maxFailures) {
-        return failureCount >= maxFailures;
+                this.lastTriggeredAt, this.failureCount + 1,
+                this.circuitState, this.circuitOpenedAt, this.circuitRetryAt, this.batching,
+                this.captureFullResponse);
     }
 }
@@ -0,0 +1,32 @@
+package com.example.incidentplatform.domain.model.webhook;
+
+import java.time.Instant;
+
+/**
+ * Outcomes of a webhook's deliveries over a short period, folded together so
+ * they can be written to the webhook in one update. A success resets the
+ * webhook's failure count, so {@code failures} counts only the dead letters
+ * since {@code lastSuccessAt} when there was one, and adds to the stored count
+ * otherwise.
+ */
+public record WebhookActivity(Instant lastSuccessAt, int failures) {
+
+    public static WebhookActivity success(Instant at) {
+        return new WebhookActivity(at, 0);
+    }
+
+    public static WebhookActivity failure() {
+        return new WebhookActivity(null, 1);
+    }
+
+    /**
+     * This activity followed by {@code next}.
+     */
+    public WebhookActivity then(WebhookActivity next) {
+        if (next.lastSuccessAt() != null) {
+            return next;
+        }
+        return new WebhookActivity(lastSuccessAt, failures + next.failures());
+    }
+
+}
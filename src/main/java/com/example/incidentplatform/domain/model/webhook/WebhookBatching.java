@@ -0,0 +1,23 @@
+package com.example.incidentplatform.domain.model.webhook;
+
+import java.time.Duration;
+
+/**
+ * How a webhook that opted into batching has its events grouped: up to
+ * {@code maxSize} events and {@code maxBytes} of JSON per request, each event
+ * waiting at most {@code maxLinger} for others to join it.
+ */
+public record WebhookBatching(int maxSize, Duration maxLinger, int maxBytes) {
+
+    public WebhookBatching {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if (maxLinger == null || maxLinger.isNegative()) {
+            throw new IllegalArgumentException("maxLinger must not be negative");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+    }
+}
@@ -16,7 +16,9 @@ public record WebhookDelivery(
         String responseBody,
         Instant deliveredAt,
         boolean success,
-        String errorMessage) {
+        String errorMessage,
+        UUID outboxId,
+        int attempt) {
     /**
      * Create a successful delivery record.
      */
@@ -31,7 +33,9 @@ public record WebhookDelivery(
                 responseBody,
                 Instant.now(),
                 true,
-                null);
+                null,
+                null,
+                1);
     }
 
     /**
@@ -48,7 +52,29 @@ public record WebhookDelivery(
                 null,
                 Instant.now(),
                 false,
-                errorMessage);
+                errorMessage,
+                null,
+                1);
+    }
+
+    /**
+     * Create a failed delivery record for a receiver that answered with a
+     * non-2xx status, keeping its response body like a successful one.
+     */
+    public static WebhookDelivery failure(UUID webhookId, WebhookEventType eventType,
+            Map<String, Object> payload, int responseStatus, String responseBody, String errorMessage) {
+        return new WebhookDelivery(
+                UUID.randomUUID(),
+                webhookId,
+                eventType,
+                payload,
+                responseStatus,
+                responseBody,
+                Instant.now(),
+                false,
+                errorMessage,
+                null,
+                1);
     }
 
     /**
@@ -56,8 +82,17 @@ public record WebhookDelivery(
      */
     public static WebhookDelivery of(UUID id, UUID webhookId, WebhookEventType eventType,
             Map<String, Object> payload, Integer responseStatus,
-            String responseBody, Instant deliveredAt, boolean success, String errorMessage) {
+            String responseBody, Instant deliveredAt, boolean success, String errorMessage, UUID outboxId,
+            int attempt) {
+        return new WebhookDelivery(id, webhookId, eventType, payload, responseStatus, responseBody, deliveredAt,
+                success, errorMessage, outboxId, attempt);
+    }
+
+    /**
+     * The same record, as the given attempt at delivering an outbox entry.
+     */
+    public WebhookDelivery forAttempt(UUID outboxId, int attempt) {
         return new WebhookDelivery(id, webhookId, eventType, payload, responseStatus, responseBody, deliveredAt,
-                success, errorMessage);
+                success, errorMessage, outboxId, attempt);
     }
 }
@@ -1,5 +1,7 @@
 package com.example.incidentplatform.domain.model.webhook;
 
+import java.util.Collection;
+
 /**
  * Events that can trigger webhook notifications.
  */
@@ -11,5 +13,24 @@ public enum WebhookEventType {
     INCIDENT_ASSIGNED,
     INCIDENT_UNASSIGNED,
     INCIDENT_ESCALATED,
-    COMMENT_ADDED
+    COMMENT_ADDED;
+
+    /**
+     * This event's bit in a subscription mask. Bits follow declaration order,
+     * so masks are for in-memory use only and must never be persisted.
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * A mask with the bit of every given event set.
+     */
+    public static int mask(Collection<WebhookEventType> events) {
+        int mask = 0;
+        for (WebhookEventType event : events) {
+            mask |= event.bit();
+        }
+        return mask;
+    }
 }
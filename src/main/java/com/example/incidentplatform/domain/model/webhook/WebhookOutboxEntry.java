@@ -0,0 +1,72 @@
+package com.example.incidentplatform.domain.model.webhook;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An event waiting to be delivered to one webhook. Entries are written in the
+ * same transaction as the change that raised the event, so an event is never
+ * lost once that change has committed. The entries for one event's
+ * subscribers share its {@code eventId}.
+ *
+ * Entries with the same webhook and {@code incidentId} form a lane that is
+ * delivered in {@code sequence} order, one at a time. The sequence is
+ * assigned by the database when the entry is inserted and is 0 until then.
+ */
+public record WebhookOutboxEntry(
+        UUID id,
+        UUID eventId,
+        UUID tenantId,
+        UUID webhookId,
+        UUID incidentId,
+        long sequence,
+        WebhookEventType eventType,
+        Map<String, Object> eventData,
+        WebhookOutboxStatus status,
+        int attempts,
+        Instant nextAttemptAt,
+        Instant createdAt,
+        Instant completedAt,
+        String lastError) {
+
+    /**
+     * Create an entry that is due immediately.
+     */
+    public static WebhookOutboxEntry pending(UUID eventId, UUID tenantId, UUID webhookId, UUID incidentId,
+            WebhookEventType eventType, Map<String, Object> eventData, Instant now) {
+        return new WebhookOutboxEntry(
+                UUID.randomUUID(),
+                eventId,
+                tenantId,
+                webhookId,
+                incidentId,
+                0,
+                eventType,
+                eventData,
+                WebhookOutboxStatus.PENDING,
+                0,
+                now,
+                now,
+                null,
+                null);
+    }
+
+    /**
+     * The same entry, first due at {@code nextAttemptAt}.
+     */
+    public WebhookOutboxEntry dueAt(Instant nextAttemptAt) {
+        return new WebhookOutboxEntry(id, eventId, tenantId, webhookId, incidentId, sequence, eventType, eventData,
+                status, attempts, nextAttemptAt, createdAt, completedAt, lastError);
+    }
+
+    /**
+     * Reconstruct from persistence.
+     */
+    public static WebhookOutboxEntry of(UUID id, UUID eventId, UUID tenantId, UUID webhookId, UUID incidentId,
+            long sequence, WebhookEventType eventType, Map<String, Object> eventData, WebhookOutboxStatus status,
+            int attempts, Instant nextAttemptAt, Instant createdAt, Instant completedAt, String lastError) {
+        return new WebhookOutboxEntry(id, eventId, tenantId, webhookId, incidentId, sequence, eventType, eventData,
+                status, attempts, nextAttemptAt, createdAt, completedAt, lastError);
+    }
+}
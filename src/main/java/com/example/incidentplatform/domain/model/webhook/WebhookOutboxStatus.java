@@ -0,0 +1,11 @@
+package com.example.incidentplatform.domain.model.webhook;
+
+/**
+ * Lifecycle of a webhook outbox entry. A failed attempt leaves the entry
+ * PENDING with a later due time until its attempt budget is spent.
+ */
+public enum WebhookOutboxStatus {
+    PENDING,
+    DELIVERED,
+    DEAD
+}
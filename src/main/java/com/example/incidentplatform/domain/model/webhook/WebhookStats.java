@@ -0,0 +1,78 @@
+package com.example.incidentplatform.domain.model.webhook;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A webhook's delivery statistics, read from its counters.
+ *
+ * @param lastDay       deliveries in the current UTC hour and the 23 before it
+ * @param statusCodes   responses per HTTP status; deliveries the receiver
+ *                      never answered are only counted as failures
+ * @param p50Latency    null, like the other percentiles, until a delivery
+ *                      has been timed
+ */
+public record WebhookStats(
+        long successes,
+        long failures,
+        long lastDay,
+        Map<Integer, Long> statusCodes,
+        Duration p50Latency,
+        Duration p95Latency,
+        Duration p99Latency) {
+
+    public long total() {
+        return successes + failures;
+    }
+
+    /**
+     * Sum the counters; a counter may appear several times, e.g. once as
+     * stored and once as not yet stored. Percentiles are the upper bound of
+     * the histogram bucket they fall in.
+     */
+    public static WebhookStats from(Collection<WebhookStatsBucket> buckets, Instant now) {
+        long firstHour = WebhookStatsBucket.hour(now) - 23;
+        long successes = 0;
+        long failures = 0;
+        long lastDay = 0;
+        Map<Integer, Long> statusCodes = new TreeMap<>();
+        List<Duration> bounds = WebhookStatsBucket.latencyBounds();
+        long[] latencies = new long[bounds.size()];
+        for (WebhookStatsBucket bucket : buckets) {
+            switch (bucket.metric()) {
+                case SUCCESSES -> successes += bucket.count();
+                case FAILURES -> failures += bucket.count();
+                case STATUS -> statusCodes.merge((int) bucket.bucket(), bucket.count(), Long::sum);
+                case LATENCY -> latencies[(int) Math.min(bucket.bucket(), latencies.length - 1)] += bucket.count();
+                case HOURLY -> lastDay += bucket.bucket() >= firstHour ? bucket.count() : 0;
+            }
+        }
+        return new WebhookStats(successes, failures, lastDay, Collections.unmodifiableMap(statusCodes),
+                percentile(latencies, bounds, 0.50), percentile(latencies, bounds, 0.95),
+                percentile(latencies, bounds, 0.99));
+    }
+
+    private static Duration percentile(long[] latencies, List<Duration> bounds, double quantile) {
+        long timed = 0;
+        for (long count : latencies) {
+            timed += count;
+        }
+        if (timed == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(quantile * timed);
+        long seen = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            seen += latencies[i];
+            if (seen >= rank) {
+                return bounds.get(i);
+            }
+        }
+        return bounds.get(bounds.size() - 1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.incidentplatform.domain.model.webhook;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One counter of a webhook's delivery statistics. Also used as a delta when
+ * deliveries complete; see {@link WebhookStats} for how they are read back.
+ *
+ * The meaning of {@code bucket} depends on the metric: the HTTP status for
+ * {@code STATUS}, an index into {@link #latencyBounds()} for {@code LATENCY},
+ * the UTC hour in hours since the epoch for {@code HOURLY}, and 0 otherwise.
+ */
+public record WebhookStatsBucket(UUID webhookId, Metric metric, long bucket, long count) {
+
+    public enum Metric {
+        SUCCESSES,
+        FAILURES,
+        STATUS,
+        LATENCY,
+        HOURLY
+    }
+
+    // Upper bounds of the latency histogram: 1ms steps up to 10ms, then 10% steps up to 2 minutes,
+    // so a percentile read from it is at most 10% above the true value
+    private static final long[] LATENCY_BOUNDS_MILLIS = latencyBoundsMillis(Duration.ofMinutes(2).toMillis());
+
+    /**
+     * The counters one delivery adds to.
+     *
+     * @param responseStatus the receiver's HTTP status, or null if it never
+     *                       answered
+     */
+    public static List<WebhookStatsBucket> forDelivery(UUID webhookId, boolean success, Integer responseStatus,
+            Duration latency, Instant deliveredAt) {
+        List<WebhookStatsBucket> buckets = new ArrayList<>(4);
+        buckets.add(new WebhookStatsBucket(webhookId, success ? Metric.SUCCESSES : Metric.FAILURES, 0, 1));
+        if (responseStatus != null) {
+            buckets.add(new WebhookStatsBucket(webhookId, Metric.STATUS, responseStatus, 1));
+        }
+        buckets.add(new WebhookStatsBucket(webhookId, Metric.LATENCY, latencyBucket(latency), 1));
+        buckets.add(new WebhookStatsBucket(webhookId, Metric.HOURLY, hour(deliveredAt), 1));
+        return buckets;
+    }
+
+    /**
+     * The histogram bucket a latency is counted in; latencies above the last
+     * bound share the last bucket.
+     */
+    public static int latencyBucket(Duration latency) {
+        long millis = Math.max(0, latency.toMillis());
+        int low = 0;
+        int high = LATENCY_BOUNDS_MILLIS.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (LATENCY_BOUNDS_MILLIS[mid] < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The upper bound of each latency bucket, in bucket order.
+     */
+    public static List<Duration> latencyBounds() {
+        List<Duration> bounds = new ArrayList<>(LATENCY_BOUNDS_MILLIS.length);
+        for (long bound : LATENCY_BOUNDS_MILLIS) {
+            bounds.add(Duration.ofMillis(bound));
+        }
+        return bounds;
+    }
+
+    /**
+     * The hourly bucket an instant falls in.
+     */
+    public static long hour(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 3600);
+    }
+
+    /**
+     * The same counter holding {@code count} more.
+     */
+    public WebhookStatsBucket plus(long more) {
+        return new WebhookStatsBucket(webhookId, metric, bucket, count + more);
+    }
+
+    private static long[] latencyBoundsMillis(long max) {
+        List<Long> bounds = new ArrayList<>();
+        long bound = 1;
+        while (bound < max) {
+            bounds.add(bound);
+            bound += Math.max(1, bound / 10);
+        }
+        bounds.add(max);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+}
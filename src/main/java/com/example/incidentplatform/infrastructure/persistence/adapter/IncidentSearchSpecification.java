@@ -0,0 +1,236 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.common.error.BadRequestException;
+import com.example.incidentplatform.common.pagination.KeysetCursor;
+import com.example.incidentplatform.common.pagination.SortDirection;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
+import com.example.incidentplatform.infrastructure.persistence.entity.IncidentEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.example.incidentplatform.infrastructure.persistence.function.SearchFunctionContributor.TS_MATCH;
+import static com.example.incidentplatform.infrastructure.persistence.function.SearchFunctionContributor.TS_RANK;
+import static com.example.incidentplatform.infrastructure.persistence.function.SearchFunctionContributor.WORD_SIMILAR;
+
+/**
+ * Builds the Criteria query behind incident search: the filters, the
+ * whitelisted sort order and the keyset condition that continues after a
+ * cursor.
+ *
+ * Every order is {@code (key, createdAt, id)} in a single direction, matching
+ * the composite indexes from V10 and V12, so PostgreSQL reads a page straight
+ * from an index in either direction, starting at the cursor.
+ */
+final class IncidentSearchSpecification {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final UUID tenantId;
+    private final IncidentSortField sortBy;
+    private final boolean ascending;
+    private final String tsQuery;
+
+    /**
+     * @param sortBy  requested ordering; relevance without a searchable term
+     *                falls back to createdAt
+     * @param tsQuery the search term in {@code to_tsquery} syntax, or null
+     */
+    IncidentSearchSpecification(UUID tenantId, IncidentSortField sortBy, SortDirection direction, String tsQuery) {
+        this.tenantId = tenantId;
+        this.sortBy = sortBy == IncidentSortField.RELEVANCE && tsQuery == null ? IncidentSortField.CREATED_AT : sortBy;
+        this.ascending = direction.isAscending();
+        this.tsQuery = tsQuery;
+    }
+
+    /**
+     * Filters rows to the tenant and the given criteria; null criteria are
+     * ignored. {@code term} is the raw search text: it matches through the
+     * full-text index and, with {@code fuzzy}, also as a substring of title or
+     * description or a misspelling of a title word.
+     */
+    Specification<IncidentEntity> filter(String term, boolean fuzzy, String status, String severity,
+            Instant createdAfter, Instant createdBefore, Boolean resolved) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+            if (term != null) {
+                predicates.add(text(root, cb, term, fuzzy));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (severity != null) {
+                predicates.add(cb.equal(root.get("severity"), severity));
+            }
+            if (createdAfter != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), createdAfter));
+            }
+            if (createdBefore != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), createdBefore));
+            }
+            if (resolved != null) {
+                predicates.add(resolved ? cb.isNotNull(root.get("resolvedAt")) : cb.isNull(root.get("resolvedAt")));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Applies the sort order and, if {@code after} is given, keeps only the
+     * rows that follow it.
+     *
+     * @throws BadRequestException if the cursor was issued for another ordering
+     */
+    Specification<IncidentEntity> orderedAfter(KeysetCursor after) {
+        if (after != null && !Objects.equals(after.sortKey(), cursorKey())) {
+            throw new BadRequestException("Cursor does not match the requested sort order");
+        }
+        return (root, query, cb) -> {
+            Expression<? extends Comparable<?>> key = sortKey(root, cb);
+            List<Order> order = new ArrayList<>();
+            if (key != null) {
+                order.add(ascending ? cb.asc(key) : cb.desc(key));
+            }
+            order.add(ascending ? cb.asc(root.get("createdAt")) : cb.desc(root.get("createdAt")));
+            order.add(ascending ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+            query.orderBy(order);
+
+            return after == null ? null : after(root, query, cb, key, after);
+        };
+    }
+
+    /**
+     * The cursor for continuing after {@code entity} in this ordering.
+     */
+    KeysetCursor cursorOf(IncidentEntity entity) {
+        String key = cursorKey();
+        if (key == null) {
+            return new KeysetCursor(entity.getCreatedAt(), entity.getId());
+        }
+        String value = switch (sortBy) {
+            case UPDATED_AT -> entity.getUpdatedAt().toString();
+            case SEVERITY -> String.valueOf(entity.getSeverityRank());
+            case STATUS -> entity.getStatus();
+            case RESOLVED_AT -> entity.getResolvedSortAt().toString();
+            // The rank is recomputed from the cursor row, see after()
+            case RELEVANCE, CREATED_AT -> null;
+        };
+        return new KeysetCursor(entity.getCreatedAt(), entity.getId(), key, value);
+    }
+
+    private String cursorKey() {
+        return sortBy == IncidentSortField.CREATED_AT ? null : sortBy.name();
+    }
+
+    private Predicate text(Root<IncidentEntity> root, CriteriaBuilder cb, String term, boolean fuzzy) {
+        List<Predicate> any = new ArrayList<>();
+        if (tsQuery != null) {
+            any.add(cb.isTrue(cb.function(TS_MATCH, Boolean.class, bind(cb, tsQuery))));
+        }
+        if (fuzzy) {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            String pattern = "%" + escapeLike(term) + "%";
+            any.add(hcb.ilike(root.get("title"), pattern, LIKE_ESCAPE));
+            any.add(hcb.ilike(root.get("description"), pattern, LIKE_ESCAPE));
+            any.add(cb.isTrue(cb.function(WORD_SIMILAR, Boolean.class, bind(cb, term), root.get("title"))));
+        }
+        return any.isEmpty() ? cb.disjunction() : cb.or(any.toArray(Predicate[]::new));
+    }
+
+    private Expression<? extends Comparable<?>> sortKey(Root<IncidentEntity> root, CriteriaBuilder cb) {
+        return switch (sortBy) {
+            case CREATED_AT -> null;
+            case UPDATED_AT -> root.get("updatedAt");
+            case SEVERITY -> root.get("severityRank");
+            case STATUS -> root.get("status");
+            case RESOLVED_AT -> root.get("resolvedSortAt");
+            case RELEVANCE -> rank(cb);
+        };
+    }
+
+    private Expression<Float> rank(CriteriaBuilder cb) {
+        return cb.function(TS_RANK, Float.class, bind(cb, tsQuery));
+    }
+
+    private Predicate after(Root<IncidentEntity> root, CriteriaQuery<?> query,
+            CriteriaBuilder cb, Expression<? extends Comparable<?>> key, KeysetCursor cursor) {
+        NodeBuilder nb = (NodeBuilder) cb;
+        SqmExpression<?> createdAt = (SqmExpression<?>) root.get("createdAt");
+        SqmExpression<?> id = (SqmExpression<?>) root.get("id");
+        SqmExpression<?> cursorCreatedAt = (SqmExpression<?>) bind(cb, cursor.createdAt());
+        SqmExpression<?> cursorId = (SqmExpression<?>) bind(cb, cursor.id());
+
+        if (key == null) {
+            return beyond(cb, nb.tuple(Object[].class, createdAt, id),
+                    nb.tuple(Object[].class, cursorCreatedAt, cursorId));
+        }
+
+        SqmExpression<?> value;
+        if (sortBy == IncidentSortField.RELEVANCE) {
+            Subquery<Float> cursorRank = query.subquery(Float.class);
+            Root<IncidentEntity> cursorRow = cursorRank.from(IncidentEntity.class);
+            cursorRank.select(rank(cb)).where(
+                    cb.equal(cursorRow.get("id"), cursor.id()),
+                    cb.equal(cursorRow.get("tenantId"), tenantId));
+            value = (SqmExpression<?>) cursorRank;
+        } else {
+            value = (SqmExpression<?>) bind(cb, parseSortValue(cursor.sortValue()));
+        }
+
+        return beyond(cb, nb.tuple(Object[].class, (SqmExpression<?>) key, createdAt, id),
+                nb.tuple(Object[].class, value, cursorCreatedAt, cursorId));
+    }
+
+    /**
+     * {@code row > cursor} when ascending, {@code row < cursor} when
+     * descending. Written as a row-value comparison so PostgreSQL can use the
+     * whole tuple as the start of the index range.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Predicate beyond(CriteriaBuilder cb, Expression row, Expression cursor) {
+        return ascending ? cb.greaterThan(row, cursor) : cb.lessThan(row, cursor);
+    }
+
+    private Comparable<?> parseSortValue(String value) {
+        if (value == null) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        try {
+            return switch (sortBy) {
+                case UPDATED_AT, RESOLVED_AT -> Instant.parse(value);
+                case SEVERITY -> Integer.valueOf(value);
+                default -> value;
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * A bound parameter; {@code cb.literal} would inline the value into the SQL
+     * text and defeat statement caching.
+     */
+    private static <T> Expression<T> bind(CriteriaBuilder cb, T value) {
+        return ((HibernateCriteriaBuilder) cb).value(value);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -90,8 +90,8 @@ public class JpaIncidentAssignmentRepositoryAdapter implements IncidentAssignmen
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    public boolean deleteById(UUID id) {
+        return jpaRepository.removeById(id) > 0;
     }
 
     @Override
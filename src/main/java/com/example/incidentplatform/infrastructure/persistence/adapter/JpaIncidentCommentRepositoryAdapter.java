@@ -71,8 +71,8 @@ public class JpaIncidentCommentRepositoryAdapter implements IncidentCommentRepos
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    public boolean deleteById(UUID id) {
+        return jpaRepository.removeById(id) > 0;
     }
 
     @Override
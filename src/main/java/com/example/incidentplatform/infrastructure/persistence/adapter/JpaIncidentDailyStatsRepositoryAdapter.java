@@ -0,0 +1,73 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.IncidentDailyStatsRepository;
+import com.example.incidentplatform.domain.model.incident.IncidentDailyStats;
+import com.example.incidentplatform.infrastructure.persistence.repository.IncidentDailyStatsJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps {@code incident_daily_stats} in step with the incidents table.
+ *
+ * Deltas and rebuilds of the same tenant are kept apart by a transaction-level
+ * advisory lock on the tenant: deltas take it shared, so they do not wait for
+ * each other, and a rebuild takes it exclusively. A rebuild therefore sees
+ * every incident change whose delta was already applied, and any delta applied
+ * after it starts waits until it has committed.
+ */
+@Component
+public class JpaIncidentDailyStatsRepositoryAdapter implements IncidentDailyStatsRepository {
+
+    private final IncidentDailyStatsJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaIncidentDailyStatsRepositoryAdapter(IncidentDailyStatsJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void applyDelta(List<IncidentDailyStats> delta) {
+        // Sorted so that two transactions never wait on each other's tenants
+        delta.stream()
+                .map(IncidentDailyStats::tenantId)
+                .distinct()
+                .sorted()
+                .forEach(tenantId -> lockTenant(tenantId, true));
+        for (IncidentDailyStats bucket : delta) {
+            jpaRepository.increment(
+                    bucket.tenantId(),
+                    bucket.day(),
+                    bucket.severity().name(),
+                    bucket.status().name(),
+                    bucket.createdCount(),
+                    bucket.resolvedCount(),
+                    bucket.resolutionSeconds());
+        }
+    }
+
+    @Override
+    public long countCreatedBetween(UUID tenantId, LocalDate fromDay, LocalDate toDay) {
+        return jpaRepository.sumCreated(tenantId, fromDay, toDay);
+    }
+
+    @Override
+    @Transactional
+    public void rebuildForTenant(UUID tenantId) {
+        lockTenant(tenantId, false);
+        jpaRepository.deleteByTenantId(tenantId);
+        jpaRepository.insertFromIncidents(tenantId);
+    }
+
+    private void lockTenant(UUID tenantId, boolean shared) {
+        String function = shared ? "pg_advisory_xact_lock_shared" : "pg_advisory_xact_lock";
+        jdbcTemplate.queryForList("SELECT " + function + "(hashtext(?))", "incident_daily_stats:" + tenantId);
+    }
+}
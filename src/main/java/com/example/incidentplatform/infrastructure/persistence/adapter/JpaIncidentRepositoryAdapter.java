@@ -1,26 +1,54 @@
 package com.example.incidentplatform.infrastructure.persistence.adapter;
 
 import com.example.incidentplatform.application.port.IncidentRepository;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.KeysetCursor;
+import com.example.incidentplatform.common.pagination.SortDirection;
 import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
+import com.example.incidentplatform.domain.model.incident.IncidentStats;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import com.example.incidentplatform.domain.model.incident.Severity;
+import com.example.incidentplatform.infrastructure.persistence.entity.IncidentEntity;
 import com.example.incidentplatform.infrastructure.persistence.mapper.IncidentMapper;
 import com.example.incidentplatform.infrastructure.persistence.repository.IncidentJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class JpaIncidentRepositoryAdapter implements IncidentRepository {
 
+    // Rows fetched per round-trip when streaming an export
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final IncidentJpaRepository jpaRepository;
     private final IncidentMapper mapper;
+    private final EntityManager entityManager;
 
-    public JpaIncidentRepositoryAdapter(IncidentJpaRepository jpaRepository, IncidentMapper mapper) {
+    public JpaIncidentRepositoryAdapter(IncidentJpaRepository jpaRepository, IncidentMapper mapper,
+            EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -37,9 +65,12 @@ public class JpaIncidentRepositoryAdapter implements IncidentRepository {
 
     @Override
     public Optional<Incident> findByIdAndTenantId(UUID id, UUID tenantId) {
-        return jpaRepository.findById(id)
-                .filter(entity -> entity.getTenantId().equals(tenantId))
-                .map(mapper::toDomain);
+        return jpaRepository.findByIdAndTenantId(id, tenantId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Incident> findByIdAndTenantIdForUpdate(UUID id, UUID tenantId) {
+        return jpaRepository.findForUpdate(id, tenantId).map(mapper::toDomain);
     }
 
     @Override
@@ -50,24 +81,38 @@ public class JpaIncidentRepositoryAdapter implements IncidentRepository {
     }
 
     @Override
-    public List<Incident> findByTenantIdAndStatus(UUID tenantId, String status) {
-        return jpaRepository.findByTenantIdAndStatus(tenantId, status).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<Incident> findByTenantId(UUID tenantId, CursorPageRequest page) {
+        KeysetCursor after = page.after();
+        Limit limit = Limit.of(page.limit() + 1);
+        List<IncidentEntity> rows = after == null
+                ? jpaRepository.findByTenantIdOrderByCreatedAtDescIdDesc(tenantId, limit)
+                : jpaRepository.findPageAfter(tenantId, after.createdAt(), after.id(), limit);
+        return toPage(rows, page);
     }
 
     @Override
-    public List<Incident> findByTenantIdAndSeverity(UUID tenantId, String severity) {
-        return jpaRepository.findByTenantIdAndSeverity(tenantId, severity).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<Incident> findByTenantIdAndStatus(UUID tenantId, String status, CursorPageRequest page) {
+        KeysetCursor after = page.after();
+        Limit limit = Limit.of(page.limit() + 1);
+        List<IncidentEntity> rows = after == null
+                ? jpaRepository.findByTenantIdAndStatusOrderByCreatedAtDescIdDesc(tenantId, status, limit)
+                : jpaRepository.findPageByStatusAfter(tenantId, status, after.createdAt(), after.id(), limit);
+        return toPage(rows, page);
     }
 
     @Override
-    public void deleteByIdAndTenantId(UUID id, UUID tenantId) {
-        if (existsByIdAndTenantId(id, tenantId)) {
-            jpaRepository.deleteById(id);
-        }
+    public CursorPage<Incident> findByTenantIdAndSeverity(UUID tenantId, String severity, CursorPageRequest page) {
+        KeysetCursor after = page.after();
+        Limit limit = Limit.of(page.limit() + 1);
+        List<IncidentEntity> rows = after == null
+                ? jpaRepository.findByTenantIdAndSeverityOrderByCreatedAtDescIdDesc(tenantId, severity, limit)
+                : jpaRepository.findPageBySeverityAfter(tenantId, severity, after.createdAt(), after.id(), limit);
+        return toPage(rows, page);
+    }
+
+    @Override
+    public Optional<Incident> deleteByIdAndTenantId(UUID id, UUID tenantId) {
+        return jpaRepository.deleteReturning(id, tenantId).map(mapper::toDomain);
     }
 
     @Override
@@ -81,7 +126,7 @@ public class JpaIncidentRepositoryAdapter implements IncidentRepository {
     }
 
     @Override
-    public List<Incident> search(
+    public CursorPage<Incident> search(
             UUID tenantId,
             String searchTerm,
             String status,
@@ -89,13 +134,54 @@ public class JpaIncidentRepositoryAdapter implements IncidentRepository {
             Instant createdAfter,
             Instant createdBefore,
             Boolean resolved,
-            String sortBy,
-            String sortDirection) {
-        return jpaRepository.searchIncidents(
-                tenantId, searchTerm, status, severity, createdAfter, createdBefore, resolved)
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+            boolean fuzzy,
+            IncidentSortField sortBy,
+            SortDirection sortDirection,
+            CursorPageRequest page) {
+        String term = searchTerm == null || searchTerm.isBlank() ? null : searchTerm.trim();
+        IncidentSearchSpecification search = new IncidentSearchSpecification(
+                tenantId, sortBy, sortDirection, TsQueryBuilder.build(term));
+        Specification<IncidentEntity> specification = search
+                .filter(term, fuzzy, status, severity, createdAfter, createdBefore, resolved)
+                .and(search.orderedAfter(page.after()));
+
+        List<IncidentEntity> rows = jpaRepository.findBy(specification, query -> query.limit(page.limit() + 1).all());
+        return CursorPage.fromOverfetch(rows, page.limit(), search::cursorOf).map(mapper::toDomain);
+    }
+
+    @Override
+    public Stream<Incident> streamMatching(
+            UUID tenantId,
+            String searchTerm,
+            String status,
+            String severity,
+            Instant createdAfter,
+            Instant createdBefore,
+            Boolean resolved,
+            boolean fuzzy,
+            IncidentSortField sortBy,
+            SortDirection sortDirection) {
+        String term = searchTerm == null || searchTerm.isBlank() ? null : searchTerm.trim();
+        IncidentSearchSpecification search = new IncidentSearchSpecification(
+                tenantId, sortBy, sortDirection, TsQueryBuilder.build(term));
+        Specification<IncidentEntity> specification = search
+                .filter(term, fuzzy, status, severity, createdAfter, createdBefore, resolved)
+                .and(search.orderedAfter(null));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IncidentEntity> query = cb.createQuery(IncidentEntity.class);
+        Root<IncidentEntity> root = query.from(IncidentEntity.class);
+        query.where(specification.toPredicate(root, query, cb));
+
+        // Detach each row once mapped so the persistence context stays empty
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(entity -> {
+                    entityManager.detach(entity);
+                    return mapper.toDomain(entity);
+                });
     }
 
     @Override
@@ -107,4 +193,81 @@ public class JpaIncidentRepositoryAdapter implements IncidentRepository {
     public long countByTenantIdAndStatus(UUID tenantId, String status) {
         return jpaRepository.countByTenantIdAndStatus(tenantId, status);
     }
+
+    @Override
+    public Map<IncidentStatus, Long> countByStatus(UUID tenantId) {
+        Map<IncidentStatus, Long> counts = new EnumMap<>(IncidentStatus.class);
+        for (IncidentStatus status : IncidentStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (var row : jpaRepository.countGroupedByStatus(tenantId)) {
+            counts.put(IncidentStatus.valueOf(row.getStatus()), row.getCount());
+        }
+        return counts;
+    }
+
+    @Override
+    public IncidentStats aggregateAnalytics(UUID tenantId, LocalDate weekStart, LocalDate monthStart) {
+        IncidentJpaRepository.AnalyticsRow row = jpaRepository.aggregateAnalytics(tenantId, weekStart, monthStart);
+        if (row == null || row.getTotal() == 0) {
+            return IncidentStats.empty();
+        }
+
+        Map<String, Long> byStatus = new HashMap<>();
+        putIfPositive(byStatus, IncidentStatus.OPEN.name(), row.getOpenCount());
+        putIfPositive(byStatus, IncidentStatus.IN_PROGRESS.name(), row.getInProgressCount());
+        putIfPositive(byStatus, IncidentStatus.RESOLVED.name(), row.getResolvedCount());
+        putIfPositive(byStatus, IncidentStatus.CLOSED.name(), row.getClosedCount());
+
+        Map<String, Long> bySeverity = new HashMap<>();
+        putIfPositive(bySeverity, Severity.CRITICAL.name(), row.getCriticalCount());
+        putIfPositive(bySeverity, Severity.HIGH.name(), row.getHighCount());
+        putIfPositive(bySeverity, Severity.MEDIUM.name(), row.getMediumCount());
+        putIfPositive(bySeverity, Severity.LOW.name(), row.getLowCount());
+
+        Double averageResolutionHours = null;
+        if (row.getResolutionCount() > 0) {
+            double sum = row.getResolutionHours();
+            averageResolutionHours = Math.round((sum / row.getResolutionCount()) * 100.0) / 100.0;
+        }
+
+        return new IncidentStats(
+                row.getTotal(),
+                row.getOpenCount() + row.getInProgressCount(),
+                row.getResolvedCount(),
+                row.getClosedCount(),
+                averageResolutionHours,
+                bySeverity,
+                byStatus,
+                parseDayBuckets(row.getCreatedByDay()),
+                parseDayBuckets(row.getResolvedByDay()),
+                row.getCreatedThisWeek(),
+                row.getResolvedThisWeek(),
+                row.getCreatedThisMonth(),
+                row.getResolvedThisMonth());
+    }
+
+    private CursorPage<Incident> toPage(List<IncidentEntity> rows, CursorPageRequest page) {
+        return CursorPage.fromOverfetch(rows, page.limit(),
+                entity -> new KeysetCursor(entity.getCreatedAt(), entity.getId()))
+                .map(mapper::toDomain);
+    }
+
+    private static void putIfPositive(Map<String, Long> target, String key, long value) {
+        if (value > 0) {
+            target.put(key, value);
+        }
+    }
+
+    private static Map<String, Long> parseDayBuckets(String encoded) {
+        Map<String, Long> buckets = new TreeMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return buckets;
+        }
+        for (String pair : encoded.split(",")) {
+            int separator = pair.indexOf(':');
+            buckets.put(pair.substring(0, separator), Long.parseLong(pair.substring(separator + 1)));
+        }
+        return buckets;
+    }
 }
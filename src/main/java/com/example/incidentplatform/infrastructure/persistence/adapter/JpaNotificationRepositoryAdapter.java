@@ -1,12 +1,17 @@
 package com.example.incidentplatform.infrastructure.persistence.adapter;
 
 import com.example.incidentplatform.application.port.NotificationRepository;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.KeysetCursor;
 import com.example.incidentplatform.domain.model.notification.Notification;
 import com.example.incidentplatform.domain.model.notification.NotificationType;
+import com.example.incidentplatform.infrastructure.persistence.entity.NotificationEntity;
 import com.example.incidentplatform.infrastructure.persistence.mapper.NotificationMapper;
 import com.example.incidentplatform.infrastructure.persistence.repository.NotificationJpaRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,12 +26,15 @@ public class JpaNotificationRepositoryAdapter implements NotificationRepository
 
     private final NotificationJpaRepository jpaRepository;
     private final NotificationMapper mapper;
+    private final EntityManager entityManager;
 
     public JpaNotificationRepositoryAdapter(
             NotificationJpaRepository jpaRepository,
-            NotificationMapper mapper) {
+            NotificationMapper mapper,
+            EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -37,34 +45,48 @@ public class JpaNotificationRepositoryAdapter implements NotificationRepository
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Optional<Notification> findById(UUID id) {
-        return jpaRepository.findById(id).map(mapper::toDomain);
+    public void saveAll(List<Notification> notifications) {
+        // Sent as a single JDBC batch, which the driver rewrites into multi-row INSERTs. New notifications
+        // always have fresh ids; persist() skips the SELECT that save() would issue to merge
+        Session session = entityManager.unwrap(Session.class);
+        Integer batchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(Math.max(1, notifications.size()));
+        try {
+            for (Notification notification : notifications) {
+                entityManager.persist(mapper.toEntity(notification));
+            }
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(batchSize);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Notification> findByUserId(UUID userId) {
-        return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+    public Optional<Notification> findById(UUID id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Notification> findByUserId(UUID userId, Pageable pageable) {
-        return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
-                .map(mapper::toDomain);
+    public CursorPage<Notification> findByUserId(UUID userId, CursorPageRequest page) {
+        KeysetCursor after = page.after();
+        Limit limit = Limit.of(page.limit() + 1);
+        List<NotificationEntity> rows = after == null
+                ? jpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : jpaRepository.findPageAfter(userId, after.createdAt(), after.id(), limit);
+        return toPage(rows, page);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Notification> findUnreadByUserId(UUID userId) {
-        return jpaRepository.findUnreadByUserId(userId)
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+    public CursorPage<Notification> findUnreadByUserId(UUID userId, CursorPageRequest page) {
+        KeysetCursor after = page.after();
+        Limit limit = Limit.of(page.limit() + 1);
+        List<NotificationEntity> rows = after == null
+                ? jpaRepository.findUnreadByUserId(userId, limit)
+                : jpaRepository.findUnreadPageAfter(userId, after.createdAt(), after.id(), limit);
+        return toPage(rows, page);
     }
 
     @Override
@@ -75,11 +97,13 @@ public class JpaNotificationRepositoryAdapter implements NotificationRepository
 
     @Override
     @Transactional(readOnly = true)
-    public List<Notification> findByUserIdAndType(UUID userId, NotificationType type) {
-        return jpaRepository.findByUserIdAndTypeOrderByCreatedAtDesc(userId, type.name())
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+    public CursorPage<Notification> findByUserIdAndType(UUID userId, NotificationType type, CursorPageRequest page) {
+        KeysetCursor after = page.after();
+        Limit limit = Limit.of(page.limit() + 1);
+        List<NotificationEntity> rows = after == null
+                ? jpaRepository.findByUserIdAndTypeOrderByCreatedAtDescIdDesc(userId, type.name(), limit)
+                : jpaRepository.findPageByTypeAfter(userId, type.name(), after.createdAt(), after.id(), limit);
+        return toPage(rows, page);
     }
 
     @Override
@@ -111,4 +135,10 @@ public class JpaNotificationRepositoryAdapter implements NotificationRepository
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
     }
+
+    private CursorPage<Notification> toPage(List<NotificationEntity> rows, CursorPageRequest page) {
+        return CursorPage.fromOverfetch(rows, page.limit(),
+                entity -> new KeysetCursor(entity.getCreatedAt(), entity.getId()))
+                .map(mapper::toDomain);
+    }
 }
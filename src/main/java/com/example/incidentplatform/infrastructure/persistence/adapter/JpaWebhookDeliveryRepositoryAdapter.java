@@ -4,32 +4,72 @@ import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
 import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
 import com.example.incidentplatform.infrastructure.persistence.mapper.WebhookDeliveryMapper;
 import com.example.incidentplatform.infrastructure.persistence.repository.WebhookDeliveryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * Stores the delivery log in {@code webhook_deliveries}, which is
+ * range-partitioned by {@code delivered_at} with one partition per UTC day
+ * (see V19). Partitions are created and dropped here with plain DDL, under an
+ * advisory lock so that nodes running the maintenance job at the same time do
+ * not collide.
+ */
 @Component
 public class JpaWebhookDeliveryRepositoryAdapter implements WebhookDeliveryRepository {
 
+    private static final Logger log = LoggerFactory.getLogger(JpaWebhookDeliveryRepositoryAdapter.class);
+    private static final String PARTITION_PREFIX = "webhook_deliveries_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    // How far back the history is searched before falling back to older partitions
+    private static final Duration RECENT_HISTORY = Duration.ofDays(7);
+
     private final WebhookDeliveryJpaRepository jpaRepository;
     private final WebhookDeliveryMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     public JpaWebhookDeliveryRepositoryAdapter(WebhookDeliveryJpaRepository jpaRepository,
-            WebhookDeliveryMapper mapper) {
+            WebhookDeliveryMapper mapper, EntityManager entityManager, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
+    @Transactional
     public WebhookDelivery save(WebhookDelivery delivery) {
+        // Deliveries are only ever inserted; save() would first look the id up in every partition
         var entity = mapper.toEntity(delivery);
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        entityManager.persist(entity);
+        return mapper.toDomain(entity);
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<WebhookDelivery> deliveries) {
+        // Sent as batched inserts at commit; see hibernate.jdbc.batch_size
+        for (WebhookDelivery delivery : deliveries) {
+            entityManager.persist(mapper.toEntity(delivery));
+        }
     }
 
     @Override
@@ -41,24 +81,80 @@ public class JpaWebhookDeliveryRepositoryAdapter implements WebhookDeliveryRepos
 
     @Override
     public List<WebhookDelivery> findRecentByWebhookId(UUID webhookId, int limit) {
-        return jpaRepository.findByWebhookIdOrderByDeliveredAtDesc(webhookId, PageRequest.of(0, limit)).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        Instant since = Instant.now().minus(RECENT_HISTORY);
+        List<WebhookDelivery> deliveries = new ArrayList<>(limit);
+        jpaRepository.findByWebhookIdAndDeliveredAtGreaterThanEqualOrderByDeliveredAtDesc(webhookId, since,
+                PageRequest.of(0, limit)).forEach(entity -> deliveries.add(mapper.toDomain(entity)));
+        if (deliveries.size() < limit) {
+            jpaRepository.findByWebhookIdAndDeliveredAtLessThanOrderByDeliveredAtDesc(webhookId, since,
+                    PageRequest.of(0, limit - deliveries.size()))
+                    .forEach(entity -> deliveries.add(mapper.toDomain(entity)));
+        }
+        return deliveries;
     }
 
     @Override
-    public long countSuccessByWebhookId(UUID webhookId) {
-        return jpaRepository.countByWebhookIdAndSuccess(webhookId, true);
+    @Transactional
+    public int createPartitions(LocalDate from, LocalDate through) {
+        lockPartitions();
+        Set<String> existing = new HashSet<>(partitionNames());
+        int created = 0;
+        for (LocalDate day = from; !day.isAfter(through); day = day.plusDays(1)) {
+            String name = partitionName(day);
+            if (existing.contains(name)) {
+                continue;
+            }
+            Timestamp start = Timestamp.from(day.atStartOfDay(ZoneOffset.UTC).toInstant());
+            Timestamp end = Timestamp.from(day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+            // Postgres refuses a partition whose rows already landed in the default partition
+            Boolean spilled = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM webhook_deliveries_default "
+                    + "WHERE delivered_at >= ? AND delivered_at < ?)", Boolean.class, start, end);
+            if (Boolean.TRUE.equals(spilled)) {
+                log.warn("Not creating {}: deliveries for {} are already in the default partition", name, day);
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF webhook_deliveries FOR VALUES FROM ('"
+                    + start.toInstant() + "') TO ('" + end.toInstant() + "')");
+            created++;
+        }
+        return created;
     }
 
     @Override
-    public long countFailuresByWebhookId(UUID webhookId) {
-        return jpaRepository.countByWebhookIdAndSuccess(webhookId, false);
+    @Transactional
+    public int dropPartitionsBefore(LocalDate firstKeptDay) {
+        lockPartitions();
+        int dropped = 0;
+        for (String name : partitionNames()) {
+            LocalDate day = LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            if (day.isBefore(firstKeptDay)) {
+                jdbcTemplate.execute("DROP TABLE " + name);
+                dropped++;
+            }
+        }
+        jdbcTemplate.update("DELETE FROM webhook_deliveries_default WHERE delivered_at < ?",
+                Timestamp.from(firstKeptDay.atStartOfDay(ZoneOffset.UTC).toInstant()));
+        return dropped;
     }
 
-    @Override
-    @Transactional
-    public int deleteOldDeliveries(Instant cutoff) {
-        return jpaRepository.deleteOldDeliveries(cutoff);
+    private void lockPartitions() {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext('webhook_deliveries_partitions'))");
+    }
+
+    /**
+     * The daily partitions, excluding the default one.
+     */
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = 'webhook_deliveries'::regclass
+                   AND c.relname ~ '^webhook_deliveries_p[0-9]{8}$'
+                """, String.class);
+    }
+
+    private static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
     }
 }
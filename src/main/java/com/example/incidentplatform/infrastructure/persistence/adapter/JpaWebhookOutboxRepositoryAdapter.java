@@ -0,0 +1,128 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.WebhookOutboxRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+import com.example.incidentplatform.infrastructure.persistence.mapper.WebhookOutboxMapper;
+import com.example.incidentplatform.infrastructure.persistence.repository.WebhookOutboxJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores the outbox in {@code webhook_outbox}. An incident's entries are
+ * delivered in {@code sequence_number} order, which the database assigns on
+ * insert; enqueueing takes a transaction-level advisory lock on each incident
+ * first, so that transactions adding entries for the same incident do so one
+ * after the other and their entries commit in sequence order.
+ */
+@Component
+public class JpaWebhookOutboxRepositoryAdapter implements WebhookOutboxRepository {
+
+    private final WebhookOutboxJpaRepository jpaRepository;
+    private final WebhookOutboxMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaWebhookOutboxRepositoryAdapter(WebhookOutboxJpaRepository jpaRepository, WebhookOutboxMapper mapper,
+            EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(List<WebhookOutboxEntry> entries) {
+        // Sorted so that two transactions never wait on each other's incidents
+        entries.stream()
+                .map(WebhookOutboxEntry::incidentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .forEach(incidentId -> jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?))",
+                        "webhook_outbox:" + incidentId));
+        // Entries always have fresh ids; persist() skips the SELECT that save() would issue to merge
+        for (WebhookOutboxEntry entry : entries) {
+            entityManager.persist(mapper.toEntity(entry));
+        }
+    }
+
+    @Override
+    public List<WebhookOutboxEntry> claimDue(int limit, Instant now, Duration lease) {
+        return jpaRepository.claimDue(now, now.plus(lease), limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<WebhookOutboxEntry> claimNextInLane(UUID webhookId, UUID incidentId, Instant now,
+            Duration lease) {
+        return jpaRepository.claimNextInLane(webhookId, incidentId, now, now.plus(lease)).stream()
+                .findFirst()
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<WebhookOutboxEntry> claimBatch(UUID webhookId, UUID startedBy, int limit, Instant now,
+            Instant leaseUntil) {
+        return jpaRepository.claimBatch(webhookId, startedBy, now, leaseUntil, limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markDelivered(Collection<UUID> ids) {
+        jpaRepository.complete(ids.toArray(UUID[]::new), WebhookOutboxStatus.DELIVERED.name(), Instant.now(), null);
+    }
+
+    @Override
+    @Transactional
+    public void scheduleRetry(Collection<UUID> ids, Instant nextAttemptAt, String error) {
+        jpaRepository.scheduleRetry(ids.toArray(UUID[]::new), nextAttemptAt, error);
+    }
+
+    @Override
+    @Transactional
+    public void release(UUID id, Instant nextAttemptAt) {
+        jpaRepository.release(id, nextAttemptAt);
+    }
+
+    @Override
+    @Transactional
+    public void markDead(Collection<UUID> ids, String error) {
+        jpaRepository.complete(ids.toArray(UUID[]::new), WebhookOutboxStatus.DEAD.name(), Instant.now(), error);
+    }
+
+    @Override
+    public List<WebhookOutboxEntry> findDead(UUID tenantId, UUID webhookId, int limit) {
+        return jpaRepository.findByWebhookIdAndTenantIdAndStatusOrderByCompletedAtDesc(webhookId, tenantId,
+                WebhookOutboxStatus.DEAD.name(), PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int replayDead(UUID tenantId, UUID webhookId) {
+        return jpaRepository.replayDead(tenantId, webhookId, Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public int deleteCompletedBefore(WebhookOutboxStatus status, Instant cutoff) {
+        return jpaRepository.deleteCompletedBefore(status.name(), cutoff);
+    }
+}
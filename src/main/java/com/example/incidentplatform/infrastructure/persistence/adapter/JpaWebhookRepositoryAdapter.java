@@ -1,11 +1,14 @@
 package com.example.incidentplatform.infrastructure.persistence.adapter;
 
 import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
 import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookActivity;
 import com.example.incidentplatform.infrastructure.persistence.mapper.WebhookMapper;
 import com.example.incidentplatform.infrastructure.persistence.repository.WebhookJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +37,11 @@ public class JpaWebhookRepositoryAdapter implements WebhookRepository {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<Webhook> findByIdAndTenantId(UUID id, UUID tenantId) {
+        return jpaRepository.findByIdAndTenantId(id, tenantId).map(mapper::toDomain);
+    }
+
     @Override
     public List<Webhook> findByTenantId(UUID tenantId) {
         return jpaRepository.findByTenantId(tenantId).stream()
@@ -53,6 +61,11 @@ public class JpaWebhookRepositoryAdapter implements WebhookRepository {
         jpaRepository.deleteById(id);
     }
 
+    @Override
+    public boolean deleteByIdAndTenantId(UUID id, UUID tenantId) {
+        return jpaRepository.deleteByIdAndTenantId(id, tenantId) > 0;
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
@@ -67,4 +80,28 @@ public class JpaWebhookRepositoryAdapter implements WebhookRepository {
     public long countByTenantId(UUID tenantId) {
         return jpaRepository.countByTenantId(tenantId);
     }
+
+    @Override
+    public boolean openCircuit(UUID id, CircuitState expected, Instant openedAt, Instant retryAt) {
+        return jpaRepository.openCircuit(id, expected.name(), openedAt, retryAt) > 0;
+    }
+
+    @Override
+    public boolean halfOpenCircuit(UUID id, Instant now, Instant probeDeadline) {
+        return jpaRepository.halfOpenCircuit(id, now, probeDeadline) > 0;
+    }
+
+    @Override
+    public boolean closeCircuit(UUID id) {
+        return jpaRepository.closeCircuit(id) > 0;
+    }
+
+    @Override
+    public void recordActivity(UUID id, WebhookActivity activity, Instant now) {
+        if (activity.lastSuccessAt() != null) {
+            jpaRepository.recordSuccess(id, activity.lastSuccessAt(), activity.failures(), now);
+        } else {
+            jpaRepository.recordFailures(id, activity.failures(), now);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.WebhookStatsRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket;
+import com.example.incidentplatform.infrastructure.persistence.repository.WebhookStatsJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class JpaWebhookStatsRepositoryAdapter implements WebhookStatsRepository {
+
+    private final WebhookStatsJpaRepository jpaRepository;
+
+    public JpaWebhookStatsRepositoryAdapter(WebhookStatsJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void applyDelta(List<WebhookStatsBucket> delta) {
+        // A fixed order, so nodes flushing the same counters lock their rows in the same order
+        List<WebhookStatsBucket> ordered = delta.stream()
+                .sorted(Comparator.comparing(WebhookStatsBucket::webhookId)
+                        .thenComparing(WebhookStatsBucket::metric)
+                        .thenComparingLong(WebhookStatsBucket::bucket))
+                .toList();
+        for (WebhookStatsBucket bucket : ordered) {
+            jpaRepository.increment(bucket.webhookId(), bucket.metric().name(), bucket.bucket(), bucket.count());
+        }
+    }
+
+    @Override
+    public List<WebhookStatsBucket> findByWebhookId(UUID webhookId) {
+        return jpaRepository.findByIdWebhookId(webhookId).stream()
+                .map(entity -> new WebhookStatsBucket(entity.getId().getWebhookId(),
+                        WebhookStatsBucket.Metric.valueOf(entity.getId().getMetric()), entity.getId().getBucket(),
+                        entity.getCount()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int deleteHourlyBefore(long hour) {
+        return jpaRepository.deleteHourlyBefore(hour);
+    }
+}
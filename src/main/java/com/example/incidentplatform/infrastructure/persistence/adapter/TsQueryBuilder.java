@@ -0,0 +1,84 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates a user's search text into PostgreSQL {@code to_tsquery} syntax.
+ *
+ * Supported input:
+ * <ul>
+ * <li>{@code disk full} - both words must match</li>
+ * <li>{@code "disk full"} - the words must appear next to each other</li>
+ * <li>{@code time*} - any word starting with {@code time}</li>
+ * </ul>
+ * Everything except letters and digits is treated as a word separator, so no
+ * tsquery operator from the input ever reaches the database.
+ */
+final class TsQueryBuilder {
+
+    private static final Pattern TERM = Pattern.compile("\"([^\"]*)\"?|(\\S+)");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TsQueryBuilder() {
+    }
+
+    /**
+     * @return the tsquery text, or null if the input contains no searchable words
+     */
+    static String build(String searchText) {
+        if (searchText == null || searchText.isBlank()) {
+            return null;
+        }
+
+        List<String> clauses = new ArrayList<>();
+        Matcher matcher = TERM.matcher(searchText);
+        while (matcher.find()) {
+            String clause = matcher.group(1) != null
+                    ? phrase(matcher.group(1))
+                    : word(matcher.group(2));
+            if (clause != null) {
+                clauses.add(clause);
+            }
+        }
+        return clauses.isEmpty() ? null : String.join(" & ", clauses);
+    }
+
+    private static String phrase(String text) {
+        return adjacent(words(text));
+    }
+
+    /**
+     * A bare term. A trailing {@code *} makes its last word a prefix match;
+     * punctuation inside the term (e.g. {@code api-gateway}) splits it into
+     * adjacent words.
+     */
+    private static String word(String term) {
+        boolean prefix = term.endsWith("*");
+        List<String> words = words(term);
+        if (prefix && !words.isEmpty()) {
+            int last = words.size() - 1;
+            words.set(last, words.get(last) + ":*");
+        }
+        return adjacent(words);
+    }
+
+    private static String adjacent(List<String> words) {
+        if (words.isEmpty()) {
+            return null;
+        }
+        return words.size() == 1 ? words.get(0) : "(" + String.join(" <-> ", words) + ")";
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase());
+            }
+        }
+        return words;
+    }
+}
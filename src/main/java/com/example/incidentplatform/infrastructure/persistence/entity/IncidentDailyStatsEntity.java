@@ -0,0 +1,66 @@
+package com.example.incidentplatform.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "incident_daily_stats")
+public class IncidentDailyStatsEntity {
+
+    @EmbeddedId
+    private IncidentDailyStatsId id;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "resolved_count", nullable = false)
+    private long resolvedCount;
+
+    @Column(name = "resolution_seconds", nullable = false)
+    private long resolutionSeconds;
+
+    public IncidentDailyStatsEntity() {
+    }
+
+    public IncidentDailyStatsEntity(IncidentDailyStatsId id, long createdCount, long resolvedCount,
+            long resolutionSeconds) {
+        this.id = id;
+        this.createdCount = createdCount;
+        this.resolvedCount = resolvedCount;
+        this.resolutionSeconds = resolutionSeconds;
+    }
+
+    public IncidentDailyStatsId getId() {
+        return id;
+    }
+
+    public void setId(IncidentDailyStatsId id) {
+        this.id = id;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(long createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public long getResolvedCount() {
+        return resolvedCount;
+    }
+
+    public void setResolvedCount(long resolvedCount) {
+        this.resolvedCount = resolvedCount;
+    }
+
+    public long getResolutionSeconds() {
+        return resolutionSeconds;
+    }
+
+    public void setResolutionSeconds(long resolutionSeconds) {
+        this.resolutionSeconds = resolutionSeconds;
+    }
+}
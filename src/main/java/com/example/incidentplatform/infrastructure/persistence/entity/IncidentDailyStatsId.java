@@ -0,0 +1,68 @@
+package com.example.incidentplatform.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class IncidentDailyStatsId implements Serializable {
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private String severity;
+
+    @Column(nullable = false)
+    private String status;
+
+    public IncidentDailyStatsId() {
+    }
+
+    public IncidentDailyStatsId(UUID tenantId, LocalDate day, String severity, String status) {
+        this.tenantId = tenantId;
+        this.day = day;
+        this.severity = severity;
+        this.status = status;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public String getSeverity() {
+        return severity;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof IncidentDailyStatsId that))
+            return false;
+        return Objects.equals(tenantId, that.tenantId)
+                && Objects.equals(day, that.day)
+                && Objects.equals(severity, that.severity)
+                && Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tenantId, day, severity, status);
+    }
+}
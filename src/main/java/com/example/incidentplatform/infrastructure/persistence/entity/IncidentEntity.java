@@ -43,6 +43,15 @@ public class IncidentEntity {
     @Column(nullable = true)
     private Instant resolvedAt;
 
+    // Generated by the database (V12); mapped read-only so sort orders can
+    // reference them. The V11 search vector is left unmapped, see
+    // SearchFunctionContributor
+    @Column(insertable = false, updatable = false)
+    private Integer severityRank;
+
+    @Column(insertable = false, updatable = false)
+    private Instant resolvedSortAt;
+
     // Constructors
     public IncidentEntity() {
     }
@@ -142,4 +151,12 @@ public class IncidentEntity {
     public void setResolvedAt(Instant resolvedAt) {
         this.resolvedAt = resolvedAt;
     }
+
+    public Integer getSeverityRank() {
+        return severityRank;
+    }
+
+    public Instant getResolvedSortAt() {
+        return resolvedSortAt;
+    }
 }
@@ -28,9 +28,13 @@ public class WebhookDeliveryEntity {
     @Column(name = "response_status")
     private Integer responseStatus;
 
+    // Only set on deliveries logged before response bodies were compressed
     @Column(name = "response_body", columnDefinition = "TEXT")
     private String responseBody;
 
+    @Column(name = "response_body_gz")
+    private byte[] responseBodyGz;
+
     @Column(name = "delivered_at", nullable = false)
     private Instant deliveredAt;
 
@@ -40,21 +44,29 @@ public class WebhookDeliveryEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Column(name = "outbox_id")
+    private UUID outboxId;
+
+    @Column(nullable = false)
+    private int attempt;
+
     public WebhookDeliveryEntity() {
     }
 
     public WebhookDeliveryEntity(UUID id, UUID webhookId, String eventType, Map<String, Object> payload,
-            Integer responseStatus, String responseBody, Instant deliveredAt,
-            boolean success, String errorMessage) {
+            Integer responseStatus, byte[] responseBodyGz, Instant deliveredAt,
+            boolean success, String errorMessage, UUID outboxId, int attempt) {
         this.id = id;
         this.webhookId = webhookId;
         this.eventType = eventType;
         this.payload = payload;
         this.responseStatus = responseStatus;
-        this.responseBody = responseBody;
+        this.responseBodyGz = responseBodyGz;
         this.deliveredAt = deliveredAt;
         this.success = success;
         this.errorMessage = errorMessage;
+        this.outboxId = outboxId;
+        this.attempt = attempt;
     }
 
     // Getters and setters
@@ -106,6 +118,14 @@ public class WebhookDeliveryEntity {
         this.responseBody = responseBody;
     }
 
+    public byte[] getResponseBodyGz() {
+        return responseBodyGz;
+    }
+
+    public void setResponseBodyGz(byte[] responseBodyGz) {
+        this.responseBodyGz = responseBodyGz;
+    }
+
     public Instant getDeliveredAt() {
         return deliveredAt;
     }
@@ -129,4 +149,20 @@ public class WebhookDeliveryEntity {
     public void setErrorMessage(String errorMessage) {
         this.errorMessage = errorMessage;
     }
+
+    public UUID getOutboxId() {
+        return outboxId;
+    }
+
+    public void setOutboxId(UUID outboxId) {
+        this.outboxId = outboxId;
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public void setAttempt(int attempt) {
+        this.attempt = attempt;
+    }
 }
@@ -41,12 +41,36 @@ public class WebhookEntity {
     @Column(name = "failure_count", nullable = false)
     private int failureCount;
 
+    // Breaker columns change only through the compare-and-set updates in WebhookJpaRepository
+    @Column(name = "circuit_state", nullable = false, length = 16, updatable = false)
+    private String circuitState;
+
+    @Column(name = "circuit_opened_at", updatable = false)
+    private Instant circuitOpenedAt;
+
+    @Column(name = "circuit_retry_at", updatable = false)
+    private Instant circuitRetryAt;
+
+    @Column(name = "batch_max_size")
+    private Integer batchMaxSize;
+
+    @Column(name = "batch_max_linger_ms")
+    private Long batchMaxLingerMs;
+
+    @Column(name = "batch_max_bytes")
+    private Integer batchMaxBytes;
+
+    @Column(name = "capture_full_response", nullable = false)
+    private boolean captureFullResponse;
+
     public WebhookEntity() {
     }
 
     public WebhookEntity(UUID id, UUID tenantId, String name, String url, String secret,
             String events, boolean isActive, Instant createdAt, Instant updatedAt,
-            Instant lastTriggeredAt, int failureCount) {
+            Instant lastTriggeredAt, int failureCount, String circuitState, Instant circuitOpenedAt,
+            Instant circuitRetryAt, Integer batchMaxSize, Long batchMaxLingerMs, Integer batchMaxBytes,
+            boolean captureFullResponse) {
         this.id = id;
         this.tenantId = tenantId;
         this.name = name;
@@ -58,6 +82,13 @@ public class WebhookEntity {
         this.updatedAt = updatedAt;
         this.lastTriggeredAt = lastTriggeredAt;
         this.failureCount = failureCount;
+        this.circuitState = circuitState;
+        this.circuitOpenedAt = circuitOpenedAt;
+        this.circuitRetryAt = circuitRetryAt;
+        this.batchMaxSize = batchMaxSize;
+        this.batchMaxLingerMs = batchMaxLingerMs;
+        this.batchMaxBytes = batchMaxBytes;
+        this.captureFullResponse = captureFullResponse;
     }
 
     // Getters and setters
@@ -148,4 +179,60 @@ public class WebhookEntity {
     public void setFailureCount(int failureCount) {
         this.failureCount = failureCount;
     }
+
+    public String getCircuitState() {
+        return circuitState;
+    }
+
+    public void setCircuitState(String circuitState) {
+        this.circuitState = circuitState;
+    }
+
+    public Instant getCircuitOpenedAt() {
+        return circuitOpenedAt;
+    }
+
+    public void setCircuitOpenedAt(Instant circuitOpenedAt) {
+        this.circuitOpenedAt = circuitOpenedAt;
+    }
+
+    public Instant getCircuitRetryAt() {
+        return circuitRetryAt;
+    }
+
+    public void setCircuitRetryAt(Instant circuitRetryAt) {
+        this.circuitRetryAt = circuitRetryAt;
+    }
+
+    public Integer getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    public void setBatchMaxSize(Integer batchMaxSize) {
+        this.batchMaxSize = batchMaxSize;
+    }
+
+    public Long getBatchMaxLingerMs() {
+        return batchMaxLingerMs;
+    }
+
+    public void setBatchMaxLingerMs(Long batchMaxLingerMs) {
+        this.batchMaxLingerMs = batchMaxLingerMs;
+    }
+
+    public Integer getBatchMaxBytes() {
+        return batchMaxBytes;
+    }
+
+    public void setBatchMaxBytes(Integer batchMaxBytes) {
+        this.batchMaxBytes = batchMaxBytes;
+    }
+
+    public boolean isCaptureFullResponse() {
+        return captureFullResponse;
+    }
+
+    public void setCaptureFullResponse(boolean captureFullResponse) {
+        this.captureFullResponse = captureFullResponse;
+    }
 }
@@ -0,0 +1,188 @@
+package com.example.incidentplatform.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@Entity
+@Table(name = "webhook_outbox")
+public class WebhookOutboxEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "webhook_id", nullable = false)
+    private UUID webhookId;
+
+    @Column(name = "incident_id")
+    private UUID incidentId;
+
+    // Assigned by the column default on insert
+    @Column(name = "sequence_number", insertable = false, updatable = false)
+    private long sequenceNumber;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "event_data", nullable = false, columnDefinition = "jsonb")
+    private Map<String, Object> eventData;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    public WebhookOutboxEntity() {
+    }
+
+    public WebhookOutboxEntity(UUID id, UUID eventId, UUID tenantId, UUID webhookId, UUID incidentId,
+            String eventType, Map<String, Object> eventData, String status, int attempts, Instant nextAttemptAt,
+            Instant createdAt, Instant completedAt, String lastError) {
+        this.id = id;
+        this.eventId = eventId;
+        this.tenantId = tenantId;
+        this.webhookId = webhookId;
+        this.incidentId = incidentId;
+        this.eventType = eventType;
+        this.eventData = eventData;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+        this.lastError = lastError;
+    }
+
+    // Getters and setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(UUID eventId) {
+        this.eventId = eventId;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(UUID tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public UUID getWebhookId() {
+        return webhookId;
+    }
+
+    public void setWebhookId(UUID webhookId) {
+        this.webhookId = webhookId;
+    }
+
+    public UUID getIncidentId() {
+        return incidentId;
+    }
+
+    public void setIncidentId(UUID incidentId) {
+        this.incidentId = incidentId;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public Map<String, Object> getEventData() {
+        return eventData;
+    }
+
+    public void setEventData(Map<String, Object> eventData) {
+        this.eventData = eventData;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.incidentplatform.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "webhook_stats")
+public class WebhookStatsEntity {
+
+    @EmbeddedId
+    private WebhookStatsId id;
+
+    @Column(nullable = false)
+    private long count;
+
+    public WebhookStatsEntity() {
+    }
+
+    public WebhookStatsEntity(WebhookStatsId id, long count) {
+        this.id = id;
+        this.count = count;
+    }
+
+    public WebhookStatsId getId() {
+        return id;
+    }
+
+    public void setId(WebhookStatsId id) {
+        this.id = id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
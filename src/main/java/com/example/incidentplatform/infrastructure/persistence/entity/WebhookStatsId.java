@@ -0,0 +1,58 @@
+package com.example.incidentplatform.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class WebhookStatsId implements Serializable {
+
+    @Column(name = "webhook_id", nullable = false)
+    private UUID webhookId;
+
+    @Column(nullable = false)
+    private String metric;
+
+    @Column(nullable = false)
+    private long bucket;
+
+    public WebhookStatsId() {
+    }
+
+    public WebhookStatsId(UUID webhookId, String metric, long bucket) {
+        this.webhookId = webhookId;
+        this.metric = metric;
+        this.bucket = bucket;
+    }
+
+    public UUID getWebhookId() {
+        return webhookId;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public long getBucket() {
+        return bucket;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof WebhookStatsId that))
+            return false;
+        return Objects.equals(webhookId, that.webhookId)
+                && Objects.equals(metric, that.metric)
+                && bucket == that.bucket;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(webhookId, metric, bucket);
+    }
+}
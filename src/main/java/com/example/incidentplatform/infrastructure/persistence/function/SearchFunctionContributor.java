@@ -0,0 +1,43 @@
+package com.example.incidentplatform.infrastructure.persistence.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Makes PostgreSQL's full-text and trigram operators callable from JPQL and
+ * Criteria queries. Registered through {@code META-INF/services}.
+ *
+ * The full-text functions read the incident's generated {@code search_vector}
+ * column directly instead of taking it as an argument, so the entity does not
+ * map it and ordinary incident reads never fetch the vector. The unqualified
+ * column resolves to the incidents row of the (sub)query the function is used
+ * in.
+ *
+ * <ul>
+ * <li>{@code ts_match(query)} - {@code search_vector @@ to_tsquery('english', query)}</li>
+ * <li>{@code ts_rank_of(query)} - {@code ts_rank} of the search vector for the query</li>
+ * <li>{@code word_similar(term, text)} - {@code term <% text}, i.e. some word of
+ * {@code text} is similar to {@code term}</li>
+ * </ul>
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    public static final String TS_MATCH = "ts_match";
+    public static final String TS_RANK = "ts_rank_of";
+    public static final String WORD_SIMILAR = "word_similar";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        var registry = functionContributions.getFunctionRegistry();
+
+        registry.registerPattern(TS_MATCH, "(search_vector @@ to_tsquery('english', ?1))",
+                types.resolve(StandardBasicTypes.BOOLEAN));
+        registry.registerPattern(TS_RANK, "ts_rank(search_vector, to_tsquery('english', ?1))",
+                types.resolve(StandardBasicTypes.FLOAT));
+        registry.registerPattern(WORD_SIMILAR, "(?1 <% ?2)",
+                types.resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
@@ -5,6 +5,14 @@ import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
 import com.example.incidentplatform.infrastructure.persistence.entity.WebhookDeliveryEntity;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
 @Component
 public class WebhookDeliveryMapper {
 
@@ -15,10 +23,12 @@ public class WebhookDeliveryMapper {
                 delivery.eventType().name(),
                 delivery.payload(),
                 delivery.responseStatus(),
-                delivery.responseBody(),
+                compress(delivery.responseBody()),
                 delivery.deliveredAt(),
                 delivery.success(),
-                delivery.errorMessage());
+                delivery.errorMessage(),
+                delivery.outboxId(),
+                delivery.attempt());
     }
 
     public WebhookDelivery toDomain(WebhookDeliveryEntity entity) {
@@ -28,9 +38,33 @@ public class WebhookDeliveryMapper {
                 WebhookEventType.valueOf(entity.getEventType()),
                 entity.getPayload(),
                 entity.getResponseStatus(),
-                entity.getResponseBody(),
+                entity.getResponseBodyGz() != null ? decompress(entity.getResponseBodyGz())
+                        : entity.getResponseBody(),
                 entity.getDeliveredAt(),
                 entity.isSuccess(),
-                entity.getErrorMessage());
+                entity.getErrorMessage(),
+                entity.getOutboxId(),
+                entity.getAttempt());
+    }
+
+    private static byte[] compress(String body) {
+        if (body == null) {
+            return null;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String decompress(byte[] body) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -1,10 +1,13 @@
 package com.example.incidentplatform.infrastructure.persistence.mapper;
 
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
 import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookBatching;
 import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
 import com.example.incidentplatform.infrastructure.persistence.entity.WebhookEntity;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -16,6 +19,7 @@ public class WebhookMapper {
         String eventsString = webhook.events().stream()
                 .map(WebhookEventType::name)
                 .collect(Collectors.joining(","));
+        WebhookBatching batching = webhook.batching();
 
         return new WebhookEntity(
                 webhook.id(),
@@ -28,7 +32,14 @@ public class WebhookMapper {
                 webhook.createdAt(),
                 webhook.updatedAt(),
                 webhook.lastTriggeredAt(),
-                webhook.failureCount());
+                webhook.failureCount(),
+                webhook.circuitState().name(),
+                webhook.circuitOpenedAt(),
+                webhook.circuitRetryAt(),
+                batching != null ? batching.maxSize() : null,
+                batching != null ? batching.maxLinger().toMillis() : null,
+                batching != null ? batching.maxBytes() : null,
+                webhook.captureFullResponse());
     }
 
     public Webhook toDomain(WebhookEntity entity) {
@@ -48,6 +59,13 @@ public class WebhookMapper {
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
                 entity.getLastTriggeredAt(),
-                entity.getFailureCount());
+                entity.getFailureCount(),
+                CircuitState.valueOf(entity.getCircuitState()),
+                entity.getCircuitOpenedAt(),
+                entity.getCircuitRetryAt(),
+                entity.getBatchMaxSize() == null ? null
+                        : new WebhookBatching(entity.getBatchMaxSize(),
+                                Duration.ofMillis(entity.getBatchMaxLingerMs()), entity.getBatchMaxBytes()),
+                entity.isCaptureFullResponse());
     }
 }
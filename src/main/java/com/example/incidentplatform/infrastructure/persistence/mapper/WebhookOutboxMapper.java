@@ -0,0 +1,46 @@
+package com.example.incidentplatform.infrastructure.persistence.mapper;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+import com.example.incidentplatform.infrastructure.persistence.entity.WebhookOutboxEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WebhookOutboxMapper {
+
+    public WebhookOutboxEntity toEntity(WebhookOutboxEntry entry) {
+        return new WebhookOutboxEntity(
+                entry.id(),
+                entry.eventId(),
+                entry.tenantId(),
+                entry.webhookId(),
+                entry.incidentId(),
+                entry.eventType().name(),
+                entry.eventData(),
+                entry.status().name(),
+                entry.attempts(),
+                entry.nextAttemptAt(),
+                entry.createdAt(),
+                entry.completedAt(),
+                entry.lastError());
+    }
+
+    public WebhookOutboxEntry toDomain(WebhookOutboxEntity entity) {
+        return WebhookOutboxEntry.of(
+                entity.getId(),
+                entity.getEventId(),
+                entity.getTenantId(),
+                entity.getWebhookId(),
+                entity.getIncidentId(),
+                entity.getSequenceNumber(),
+                WebhookEventType.valueOf(entity.getEventType()),
+                entity.getEventData(),
+                WebhookOutboxStatus.valueOf(entity.getStatus()),
+                entity.getAttempts(),
+                entity.getNextAttemptAt(),
+                entity.getCreatedAt(),
+                entity.getCompletedAt(),
+                entity.getLastError());
+    }
+}
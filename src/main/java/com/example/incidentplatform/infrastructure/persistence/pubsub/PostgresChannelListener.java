@@ -0,0 +1,113 @@
+package com.example.incidentplatform.infrastructure.persistence.pubsub;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Receives the notifications sent on a Postgres {@code NOTIFY} channel.
+ *
+ * Listens on its own connection outside the pool, since {@code LISTEN} ties
+ * up the session for the life of the application, and reconnects when the
+ * connection is lost. Notifications sent while it is down are lost, which
+ * subclasses hear about through {@link #missedNotifications()}.
+ */
+abstract class PostgresChannelListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresChannelListener.class);
+    // How long each wait for notifications blocks; bounds how long stop() takes
+    private static final int POLL_MILLIS = 1000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final String channel;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean enabled;
+    private volatile boolean running;
+    private Thread thread;
+
+    protected PostgresChannelListener(String channel, DataSourceProperties dataSourceProperties, boolean enabled) {
+        this.channel = channel;
+        this.dataSourceProperties = dataSourceProperties;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Handles one notification, on the listener thread.
+     */
+    protected abstract void onNotification(String payload);
+
+    /**
+     * Called on the listener thread whenever notifications may have been
+     * missed: once subscribed, and again when the connection is lost.
+     */
+    protected void missedNotifications() {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().daemon().name(channel.replace('_', '-') + "-listener").start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.join(POLL_MILLIS * 2L);
+            thread = null;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                missedNotifications();
+                log.debug("Listening on {}", channel);
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lost the connection listening on {}, reconnecting in {}: {}",
+                        channel, RECONNECT_DELAY, e.getMessage());
+                missedNotifications();
+                sleep(RECONNECT_DELAY);
+            }
+        }
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
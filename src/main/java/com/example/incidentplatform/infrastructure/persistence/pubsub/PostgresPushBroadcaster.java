@@ -0,0 +1,106 @@
+package com.example.incidentplatform.infrastructure.persistence.pubsub;
+
+import com.example.incidentplatform.application.port.PushBroadcaster;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Broadcasts push messages with Postgres {@code NOTIFY}, one notification per
+ * message; every node's {@link PostgresPushListener} receives them. All of a
+ * call's messages are sent with one statement.
+ *
+ * A notification holds the message's topic, type and data separated by
+ * spaces. Postgres caps its size, so a larger message is replaced by a
+ * reference of the same topic and type whose data only holds the {@code id}
+ * from the original, if it had one, and {@code "truncated": true}; clients
+ * load the rest themselves.
+ */
+@Component
+public class PostgresPushBroadcaster implements PushBroadcaster {
+
+    static final String CHANNEL = "push_messages";
+    // Postgres rejects NOTIFY payloads of this many bytes or more
+    static final int MAX_PAYLOAD_BYTES = 8000;
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresPushBroadcaster.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PostgresPushBroadcaster(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void broadcast(List<PushMessage> messages) {
+        List<String> payloads = new ArrayList<>(messages.size());
+        for (PushMessage message : messages) {
+            String payload = encode(message);
+            if (payload.getBytes(StandardCharsets.UTF_8).length >= MAX_PAYLOAD_BYTES) {
+                log.debug("Pushing {} message for {} as a reference: too large", message.type(), message.topic());
+                payload = encode(reference(message));
+            }
+            payloads.add(payload);
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+        PreparedStatementCreator notify = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT pg_notify('" + CHANNEL + "', payload) FROM unnest(?) AS payload");
+            statement.setArray(1, connection.createArrayOf("text", payloads.toArray()));
+            return statement;
+        };
+        jdbcTemplate.execute(notify, PreparedStatement::execute);
+    }
+
+    private PushMessage reference(PushMessage message) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        try {
+            JsonNode id = objectMapper.readTree(message.data()).get("id");
+            if (id != null && id.isValueNode()) {
+                data.put("id", id.asText());
+            }
+        } catch (JsonProcessingException e) {
+            // Sent without an id
+        }
+        data.put("truncated", true);
+        try {
+            return new PushMessage(message.topic(), message.type(), objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise push reference", e);
+        }
+    }
+
+    static String encode(PushMessage message) {
+        return message.topic() + ' ' + message.type() + ' ' + message.data();
+    }
+
+    /**
+     * @return the message, or null if the payload is malformed
+     */
+    static PushMessage decode(String payload) {
+        int topicEnd = payload.indexOf(' ');
+        int typeEnd = topicEnd < 0 ? -1 : payload.indexOf(' ', topicEnd + 1);
+        if (typeEnd < 0) {
+            return null;
+        }
+        return new PushMessage(payload.substring(0, topicEnd), payload.substring(topicEnd + 1, typeEnd),
+                payload.substring(typeEnd + 1));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.incidentplatform.infrastructure.persistence.pubsub;
+
+import com.example.incidentplatform.application.service.PushHub;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands the push messages broadcast by any node through
+ * {@link PostgresPushBroadcaster} to this node's {@link PushHub}.
+ *
+ * Messages broadcast while the listener's connection is down are lost.
+ */
+@Component
+public class PostgresPushListener extends PostgresChannelListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresPushListener.class);
+
+    private final PushHub hub;
+
+    public PostgresPushListener(
+            PushHub hub,
+            DataSourceProperties dataSourceProperties,
+            @Value("${push.listen.enabled:true}") boolean enabled) {
+        super(PostgresPushBroadcaster.CHANNEL, dataSourceProperties, enabled);
+        this.hub = hub;
+    }
+
+    @Override
+    protected void onNotification(String payload) {
+        PushMessage message = PostgresPushBroadcaster.decode(payload);
+        if (message == null) {
+            log.warn("Ignoring malformed push notification");
+            return;
+        }
+        hub.deliver(message);
+    }
+}
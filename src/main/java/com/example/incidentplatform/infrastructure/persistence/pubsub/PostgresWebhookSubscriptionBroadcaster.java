@@ -0,0 +1,32 @@
+package com.example.incidentplatform.infrastructure.persistence.pubsub;
+
+import com.example.incidentplatform.application.port.WebhookSubscriptionBroadcaster;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts webhook changes with Postgres {@code NOTIFY}; every node's
+ * {@link PostgresWebhookSubscriptionListener} receives them. Called inside a
+ * transaction, before it commits, the notification joins it and is only
+ * delivered if it commits; outside one, it is delivered straight away. It
+ * must not be called after the commit of a transaction whose connection is
+ * still bound, as the notification would join a transaction that never ends.
+ */
+@Component
+public class PostgresWebhookSubscriptionBroadcaster implements WebhookSubscriptionBroadcaster {
+
+    static final String CHANNEL = "webhook_subscriptions";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresWebhookSubscriptionBroadcaster(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void broadcastChanged(UUID tenantId) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, tenantId.toString());
+    }
+}
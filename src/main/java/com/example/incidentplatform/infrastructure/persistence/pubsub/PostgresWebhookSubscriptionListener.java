@@ -0,0 +1,48 @@
+package com.example.incidentplatform.infrastructure.persistence.pubsub;
+
+import com.example.incidentplatform.application.service.WebhookSubscriptionIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts {@link WebhookSubscriptionIndex} entries when another node (or this
+ * one) broadcasts a webhook change through
+ * {@link PostgresWebhookSubscriptionBroadcaster}.
+ *
+ * Changes broadcast while the listener's connection is down are lost, so the
+ * whole index is evicted whenever it (re)connects.
+ */
+@Component
+public class PostgresWebhookSubscriptionListener extends PostgresChannelListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresWebhookSubscriptionListener.class);
+
+    private final WebhookSubscriptionIndex index;
+
+    public PostgresWebhookSubscriptionListener(
+            WebhookSubscriptionIndex index,
+            DataSourceProperties dataSourceProperties,
+            @Value("${webhook.subscriptions.listen.enabled:true}") boolean enabled) {
+        super(PostgresWebhookSubscriptionBroadcaster.CHANNEL, dataSourceProperties, enabled);
+        this.index = index;
+    }
+
+    @Override
+    protected void onNotification(String tenantId) {
+        try {
+            index.evict(UUID.fromString(tenantId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed webhook change notification: {}", tenantId);
+        }
+    }
+
+    @Override
+    protected void missedNotifications() {
+        index.evictAll();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.incidentplatform.infrastructure.persistence.repository;
 
 import com.example.incidentplatform.infrastructure.persistence.entity.IncidentAssignmentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -34,4 +35,8 @@ public interface IncidentAssignmentJpaRepository extends JpaRepository<IncidentA
 
     @Query("SELECT COUNT(a) FROM IncidentAssignmentEntity a WHERE a.assigneeId = :assigneeId AND a.unassignedAt IS NULL")
     long countActiveByAssigneeId(@Param("assigneeId") UUID assigneeId);
+
+    @Modifying
+    @Query("DELETE FROM IncidentAssignmentEntity a WHERE a.id = :id")
+    int removeById(@Param("id") UUID id);
 }
@@ -2,6 +2,9 @@ package com.example.incidentplatform.infrastructure.persistence.repository;
 
 import com.example.incidentplatform.infrastructure.persistence.entity.IncidentCommentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,5 +21,14 @@ public interface IncidentCommentJpaRepository extends JpaRepository<IncidentComm
 
     long countByIncidentId(UUID incidentId);
 
-    void deleteByIncidentId(UUID incidentId);
+    // Bulk deletes: the derived deleteBy... methods would load every entity and
+    // remove them one statement at a time
+
+    @Modifying
+    @Query("DELETE FROM IncidentCommentEntity c WHERE c.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("DELETE FROM IncidentCommentEntity c WHERE c.incidentId = :incidentId")
+    int deleteByIncidentId(@Param("incidentId") UUID incidentId);
 }
@@ -0,0 +1,74 @@
+package com.example.incidentplatform.infrastructure.persistence.repository;
+
+import com.example.incidentplatform.infrastructure.persistence.entity.IncidentDailyStatsEntity;
+import com.example.incidentplatform.infrastructure.persistence.entity.IncidentDailyStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+public interface IncidentDailyStatsJpaRepository extends JpaRepository<IncidentDailyStatsEntity, IncidentDailyStatsId> {
+
+    /**
+     * Adds the given (possibly negative) amounts to a bucket, creating it if needed.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO incident_daily_stats
+                (tenant_id, day, severity, status, created_count, resolved_count, resolution_seconds)
+            VALUES (:tenantId, :day, :severity, :status, :createdCount, :resolvedCount, :resolutionSeconds)
+            ON CONFLICT (tenant_id, day, severity, status) DO UPDATE SET
+                created_count = incident_daily_stats.created_count + EXCLUDED.created_count,
+                resolved_count = incident_daily_stats.resolved_count + EXCLUDED.resolved_count,
+                resolution_seconds = incident_daily_stats.resolution_seconds + EXCLUDED.resolution_seconds
+            """, nativeQuery = true)
+    int increment(
+            @Param("tenantId") UUID tenantId,
+            @Param("day") LocalDate day,
+            @Param("severity") String severity,
+            @Param("status") String status,
+            @Param("createdCount") long createdCount,
+            @Param("resolvedCount") long resolvedCount,
+            @Param("resolutionSeconds") long resolutionSeconds);
+
+    @Query(value = """
+            SELECT COALESCE(SUM(s.created_count), 0) FROM incident_daily_stats s
+            WHERE s.tenant_id = :tenantId AND s.day BETWEEN :fromDay AND :toDay
+            """, nativeQuery = true)
+    long sumCreated(
+            @Param("tenantId") UUID tenantId,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    @Modifying
+    @Query(value = "DELETE FROM incident_daily_stats WHERE tenant_id = :tenantId", nativeQuery = true)
+    int deleteByTenantId(@Param("tenantId") UUID tenantId);
+
+    /**
+     * Recomputes every bucket of a tenant from the incidents table.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO incident_daily_stats
+                (tenant_id, day, severity, status, created_count, resolved_count, resolution_seconds)
+            SELECT :tenantId, c.day, c.severity, c.status, SUM(c.created), SUM(c.resolved), SUM(c.seconds)
+            FROM (
+                SELECT CAST(i.created_at AS DATE) AS day, i.severity, i.status,
+                       1 AS created, 0 AS resolved, 0 AS seconds
+                FROM incidents i
+                WHERE i.tenant_id = :tenantId
+                UNION ALL
+                SELECT CAST(i.resolved_at AS DATE), i.severity, i.status,
+                       0, 1, CAST(TRUNC(EXTRACT(EPOCH FROM (i.resolved_at - i.created_at))) AS BIGINT)
+                FROM incidents i
+                WHERE i.tenant_id = :tenantId AND i.resolved_at IS NOT NULL
+            ) c
+            GROUP BY c.day, c.severity, c.status
+            """, nativeQuery = true)
+    int insertFromIncidents(@Param("tenantId") UUID tenantId);
+}
@@ -1,14 +1,20 @@
 package com.example.incidentplatform.infrastructure.persistence.repository;
 
 import com.example.incidentplatform.infrastructure.persistence.entity.IncidentEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -17,11 +23,71 @@ public interface IncidentJpaRepository
 
         List<IncidentEntity> findByTenantId(UUID tenantId);
 
-        List<IncidentEntity> findByTenantIdAndStatus(UUID tenantId, String status);
-
         List<IncidentEntity> findByTenantIdAndCreatedBy(UUID tenantId, UUID createdBy);
 
-        List<IncidentEntity> findByTenantIdAndSeverity(UUID tenantId, String severity);
+        // Keyset pagination on (created_at DESC, id DESC). The first page uses the
+        // derived queries, later pages continue strictly after the cursor row.
+
+        List<IncidentEntity> findByTenantIdOrderByCreatedAtDescIdDesc(UUID tenantId, Limit limit);
+
+        @Query("""
+                        SELECT i FROM IncidentEntity i WHERE i.tenantId = :tenantId
+                        AND (i.createdAt, i.id) < (:createdAt, :id)
+                        ORDER BY i.createdAt DESC, i.id DESC
+                        """)
+        List<IncidentEntity> findPageAfter(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("createdAt") Instant createdAt,
+                        @Param("id") UUID id,
+                        Limit limit);
+
+        List<IncidentEntity> findByTenantIdAndStatusOrderByCreatedAtDescIdDesc(UUID tenantId, String status, Limit limit);
+
+        @Query("""
+                        SELECT i FROM IncidentEntity i WHERE i.tenantId = :tenantId AND i.status = :status
+                        AND (i.createdAt, i.id) < (:createdAt, :id)
+                        ORDER BY i.createdAt DESC, i.id DESC
+                        """)
+        List<IncidentEntity> findPageByStatusAfter(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("status") String status,
+                        @Param("createdAt") Instant createdAt,
+                        @Param("id") UUID id,
+                        Limit limit);
+
+        List<IncidentEntity> findByTenantIdAndSeverityOrderByCreatedAtDescIdDesc(UUID tenantId, String severity,
+                        Limit limit);
+
+        @Query("""
+                        SELECT i FROM IncidentEntity i WHERE i.tenantId = :tenantId AND i.severity = :severity
+                        AND (i.createdAt, i.id) < (:createdAt, :id)
+                        ORDER BY i.createdAt DESC, i.id DESC
+                        """)
+        List<IncidentEntity> findPageBySeverityAfter(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("severity") String severity,
+                        @Param("createdAt") Instant createdAt,
+                        @Param("id") UUID id,
+                        Limit limit);
+
+        Optional<IncidentEntity> findByIdAndTenantId(UUID id, UUID tenantId);
+
+        /**
+         * Loads the tenant's incident with SELECT ... FOR UPDATE.
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT i FROM IncidentEntity i WHERE i.id = :id AND i.tenantId = :tenantId")
+        Optional<IncidentEntity> findForUpdate(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+        /**
+         * Deletes the tenant's incident in a single statement and returns the
+         * deleted row; comments, assignments and notifications go with it through
+         * their ON DELETE CASCADE foreign keys.
+         */
+        @Transactional
+        @Query(value = "DELETE FROM incidents WHERE id = :id AND tenant_id = :tenantId RETURNING *",
+                        nativeQuery = true)
+        Optional<IncidentEntity> deleteReturning(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
 
         boolean existsByIdAndTenantId(UUID id, UUID tenantId);
 
@@ -29,24 +95,132 @@ public interface IncidentJpaRepository
 
         long countByTenantIdAndStatus(UUID tenantId, String status);
 
+        /**
+         * Counts the tenant's incidents per status in one pass over the
+         * (tenant_id, status, ...) index. Statuses without incidents are absent.
+         */
+        @Query("""
+                        SELECT i.status AS status, COUNT(i) AS count FROM IncidentEntity i
+                        WHERE i.tenantId = :tenantId
+                        GROUP BY i.status
+                        """)
+        List<StatusCountRow> countGroupedByStatus(@Param("tenantId") UUID tenantId);
+
+        /**
+         * Projection of {@link #countGroupedByStatus(UUID)}.
+         */
+        interface StatusCountRow {
+                String getStatus();
+
+                long getCount();
+        }
+
+        /**
+         * Aggregates the analytics dashboard for a tenant in a single round-trip.
+         * Totals, status/severity breakdowns and resolution time come from the
+         * incidents table; the week/month counters and day buckets come from the
+         * {@code incident_daily_stats} rollup and include whole UTC days from the
+         * given start days onwards.
+         * Resolution time is summed in whole hours (truncated), matching
+         * {@code Duration.toHours()}, so the caller can average it exactly like the
+         * in-memory implementation. Day buckets are returned as
+         * {@code yyyy-MM-dd:count} pairs joined by commas.
+         */
         @Query(value = """
-                        SELECT * FROM incidents i WHERE i.tenant_id = :tenantId
-                        AND (:searchTerm IS NULL OR :searchTerm = '' OR LOWER(i.title) LIKE LOWER(CONCAT('%', :searchTerm, '%'))
-                            OR LOWER(i.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))
-                        AND (CAST(:status AS VARCHAR) IS NULL OR i.status = :status)
-                        AND (CAST(:severity AS VARCHAR) IS NULL OR i.severity = :severity)
-                        AND (CAST(:createdAfter AS TIMESTAMP) IS NULL OR i.created_at >= :createdAfter)
-                        AND (CAST(:createdBefore AS TIMESTAMP) IS NULL OR i.created_at <= :createdBefore)
-                        AND (:resolved IS NULL OR (:resolved = true AND i.resolved_at IS NOT NULL)
-                            OR (:resolved = false AND i.resolved_at IS NULL))
-                        ORDER BY i.created_at DESC
+                        SELECT
+                            t.total AS "total",
+                            t.open_count AS "openCount",
+                            t.in_progress_count AS "inProgressCount",
+                            t.resolved_count AS "resolvedCount",
+                            t.closed_count AS "closedCount",
+                            t.critical_count AS "criticalCount",
+                            t.high_count AS "highCount",
+                            t.medium_count AS "mediumCount",
+                            t.low_count AS "lowCount",
+                            t.resolution_count AS "resolutionCount",
+                            t.resolution_hours AS "resolutionHours",
+                            r.created_week AS "createdThisWeek",
+                            r.resolved_week AS "resolvedThisWeek",
+                            r.created_month AS "createdThisMonth",
+                            r.resolved_month AS "resolvedThisMonth",
+                            r.created_by_day AS "createdByDay",
+                            r.resolved_by_day AS "resolvedByDay"
+                        FROM (
+                            SELECT
+                                COUNT(*) AS total,
+                                COUNT(*) FILTER (WHERE i.status = 'OPEN') AS open_count,
+                                COUNT(*) FILTER (WHERE i.status = 'IN_PROGRESS') AS in_progress_count,
+                                COUNT(*) FILTER (WHERE i.status = 'RESOLVED') AS resolved_count,
+                                COUNT(*) FILTER (WHERE i.status = 'CLOSED') AS closed_count,
+                                COUNT(*) FILTER (WHERE i.severity = 'CRITICAL') AS critical_count,
+                                COUNT(*) FILTER (WHERE i.severity = 'HIGH') AS high_count,
+                                COUNT(*) FILTER (WHERE i.severity = 'MEDIUM') AS medium_count,
+                                COUNT(*) FILTER (WHERE i.severity = 'LOW') AS low_count,
+                                COUNT(i.resolved_at) AS resolution_count,
+                                CAST(COALESCE(SUM(TRUNC(EXTRACT(EPOCH FROM (i.resolved_at - i.created_at)) / 3600)), 0) AS BIGINT)
+                                    AS resolution_hours
+                            FROM incidents i
+                            WHERE i.tenant_id = :tenantId
+                        ) t
+                        CROSS JOIN (
+                            SELECT
+                                COALESCE(SUM(d.created) FILTER (WHERE d.day >= :weekStart), 0) AS created_week,
+                                COALESCE(SUM(d.resolved) FILTER (WHERE d.day >= :weekStart), 0) AS resolved_week,
+                                COALESCE(SUM(d.created), 0) AS created_month,
+                                COALESCE(SUM(d.resolved), 0) AS resolved_month,
+                                string_agg(to_char(d.day, 'YYYY-MM-DD') || ':' || d.created, ',' ORDER BY d.day)
+                                    FILTER (WHERE d.created > 0) AS created_by_day,
+                                string_agg(to_char(d.day, 'YYYY-MM-DD') || ':' || d.resolved, ',' ORDER BY d.day)
+                                    FILTER (WHERE d.resolved > 0) AS resolved_by_day
+                            FROM (
+                                SELECT s.day, SUM(s.created_count) AS created, SUM(s.resolved_count) AS resolved
+                                FROM incident_daily_stats s
+                                WHERE s.tenant_id = :tenantId AND s.day >= :monthStart
+                                GROUP BY s.day
+                            ) d
+                        ) r
                         """, nativeQuery = true)
-        List<IncidentEntity> searchIncidents(
+        AnalyticsRow aggregateAnalytics(
                         @Param("tenantId") UUID tenantId,
-                        @Param("searchTerm") String searchTerm,
-                        @Param("status") String status,
-                        @Param("severity") String severity,
-                        @Param("createdAfter") Instant createdAfter,
-                        @Param("createdBefore") Instant createdBefore,
-                        @Param("resolved") Boolean resolved);
+                        @Param("weekStart") LocalDate weekStart,
+                        @Param("monthStart") LocalDate monthStart);
+
+        /**
+         * Projection of {@link #aggregateAnalytics(UUID, LocalDate, LocalDate)}.
+         */
+        interface AnalyticsRow {
+                long getTotal();
+
+                long getOpenCount();
+
+                long getInProgressCount();
+
+                long getResolvedCount();
+
+                long getClosedCount();
+
+                long getCriticalCount();
+
+                long getHighCount();
+
+                long getMediumCount();
+
+                long getLowCount();
+
+                long getResolutionCount();
+
+                long getResolutionHours();
+
+                long getCreatedThisWeek();
+
+                long getResolvedThisWeek();
+
+                long getCreatedThisMonth();
+
+                long getResolvedThisMonth();
+
+                String getCreatedByDay();
+
+                String getResolvedByDay();
+        }
 }
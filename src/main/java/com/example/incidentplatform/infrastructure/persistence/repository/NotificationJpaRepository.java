@@ -1,32 +1,69 @@
 package com.example.incidentplatform.infrastructure.persistence.repository;
 
 import com.example.incidentplatform.infrastructure.persistence.entity.NotificationEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface NotificationJpaRepository extends JpaRepository<NotificationEntity, UUID> {
 
-    List<NotificationEntity> findByUserIdOrderByCreatedAtDesc(UUID userId);
+    // Keyset pages, newest first: the first page, then the page after (createdAt, id)
 
-    Page<NotificationEntity> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+    List<NotificationEntity> findByUserIdOrderByCreatedAtDescIdDesc(UUID userId, Limit limit);
 
-    @Query("SELECT n FROM NotificationEntity n WHERE n.userId = :userId AND n.readAt IS NULL ORDER BY n.createdAt DESC")
-    List<NotificationEntity> findUnreadByUserId(@Param("userId") UUID userId);
+    @Query("""
+            SELECT n FROM NotificationEntity n WHERE n.userId = :userId
+            AND (n.createdAt, n.id) < (:createdAt, :id)
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<NotificationEntity> findPageAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    @Query("""
+            SELECT n FROM NotificationEntity n WHERE n.userId = :userId AND n.readAt IS NULL
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<NotificationEntity> findUnreadByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query("""
+            SELECT n FROM NotificationEntity n WHERE n.userId = :userId AND n.readAt IS NULL
+            AND (n.createdAt, n.id) < (:createdAt, :id)
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<NotificationEntity> findUnreadPageAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    List<NotificationEntity> findByUserIdAndTypeOrderByCreatedAtDescIdDesc(UUID userId, String type, Limit limit);
+
+    @Query("""
+            SELECT n FROM NotificationEntity n WHERE n.userId = :userId AND n.type = :type
+            AND (n.createdAt, n.id) < (:createdAt, :id)
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<NotificationEntity> findPageByTypeAfter(
+            @Param("userId") UUID userId,
+            @Param("type") String type,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 
     @Query("SELECT COUNT(n) FROM NotificationEntity n WHERE n.userId = :userId AND n.readAt IS NULL")
     long countUnreadByUserId(@Param("userId") UUID userId);
 
-    List<NotificationEntity> findByUserIdAndTypeOrderByCreatedAtDesc(UUID userId, String type);
-
 
     List<NotificationEntity> findByIncidentIdOrderByCreatedAtDesc(UUID incidentId);
 
@@ -36,5 +73,5 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationEnt
 
     @Modifying
     @Query("DELETE FROM NotificationEntity n WHERE n.userId = :userId AND n.readAt IS NOT NULL AND n.createdAt < :before")
-    int deleteOldReadNotifications(@Param("userId") UUID userId, @Param("before") java.time.Instant before);
+    int deleteOldReadNotifications(@Param("userId") UUID userId, @Param("before") Instant before);
 }
@@ -3,9 +3,6 @@ package com.example.incidentplatform.infrastructure.persistence.repository;
 import com.example.incidentplatform.infrastructure.persistence.entity.WebhookDeliveryEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -15,13 +12,11 @@ import java.util.UUID;
 @Repository
 public interface WebhookDeliveryJpaRepository extends JpaRepository<WebhookDeliveryEntity, UUID> {
 
-    List<WebhookDeliveryEntity> findByWebhookIdOrderByDeliveredAtDesc(UUID webhookId, Pageable pageable);
+    List<WebhookDeliveryEntity> findByWebhookIdAndDeliveredAtGreaterThanEqualOrderByDeliveredAtDesc(UUID webhookId,
+            Instant since, Pageable pageable);
 
-    List<WebhookDeliveryEntity> findByWebhookId(UUID webhookId);
-
-    long countByWebhookIdAndSuccess(UUID webhookId, boolean success);
+    List<WebhookDeliveryEntity> findByWebhookIdAndDeliveredAtLessThanOrderByDeliveredAtDesc(UUID webhookId,
+            Instant before, Pageable pageable);
 
-    @Modifying
-    @Query("DELETE FROM WebhookDeliveryEntity d WHERE d.deliveredAt < :cutoff")
-    int deleteOldDeliveries(@Param("cutoff") Instant cutoff);
+    List<WebhookDeliveryEntity> findByWebhookId(UUID webhookId);
 }
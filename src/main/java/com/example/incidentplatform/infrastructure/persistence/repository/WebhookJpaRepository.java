@@ -2,9 +2,15 @@ package com.example.incidentplatform.infrastructure.persistence.repository;
 
 import com.example.incidentplatform.infrastructure.persistence.entity.WebhookEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -17,4 +23,44 @@ public interface WebhookJpaRepository extends JpaRepository<WebhookEntity, UUID>
     long countByTenantId(UUID tenantId);
 
     boolean existsByIdAndTenantId(UUID id, UUID tenantId);
+
+    Optional<WebhookEntity> findByIdAndTenantId(UUID id, UUID tenantId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WebhookEntity w WHERE w.id = :id AND w.tenantId = :tenantId")
+    int deleteByIdAndTenantId(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WebhookEntity w SET w.circuitState = 'OPEN', w.circuitOpenedAt = :openedAt, "
+            + "w.circuitRetryAt = :retryAt WHERE w.id = :id AND w.circuitState = :expected")
+    int openCircuit(@Param("id") UUID id, @Param("expected") String expected, @Param("openedAt") Instant openedAt,
+            @Param("retryAt") Instant retryAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WebhookEntity w SET w.circuitState = 'HALF_OPEN', w.circuitRetryAt = :probeDeadline "
+            + "WHERE w.id = :id AND w.circuitState <> 'CLOSED' AND w.circuitRetryAt <= :now")
+    int halfOpenCircuit(@Param("id") UUID id, @Param("now") Instant now,
+            @Param("probeDeadline") Instant probeDeadline);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WebhookEntity w SET w.circuitState = 'CLOSED', w.circuitRetryAt = NULL "
+            + "WHERE w.id = :id AND w.circuitState <> 'CLOSED'")
+    int closeCircuit(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WebhookEntity w SET w.lastTriggeredAt = :lastSuccessAt, w.failureCount = :failures, "
+            + "w.updatedAt = :now WHERE w.id = :id")
+    int recordSuccess(@Param("id") UUID id, @Param("lastSuccessAt") Instant lastSuccessAt,
+            @Param("failures") int failures, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WebhookEntity w SET w.failureCount = w.failureCount + :failures, w.updatedAt = :now "
+            + "WHERE w.id = :id")
+    int recordFailures(@Param("id") UUID id, @Param("failures") int failures, @Param("now") Instant now);
 }
@@ -0,0 +1,180 @@
+package com.example.incidentplatform.infrastructure.persistence.repository;
+
+import com.example.incidentplatform.infrastructure.persistence.entity.WebhookOutboxEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WebhookOutboxJpaRepository extends JpaRepository<WebhookOutboxEntity, UUID> {
+
+    /**
+     * Claims up to {@code limit} due entries and leases them until
+     * {@code leaseUntil}. Rows already locked by another node's claim are
+     * skipped rather than waited on, so concurrent dispatchers never claim the
+     * same row. The locking select runs once as a CTE: inside {@code IN} the
+     * planner may rescan it, and a rescan skips the rows this statement has
+     * just updated and claims others past the limit.
+     *
+     * Only the head of each (webhook, incident) lane is claimable: a row waits
+     * while an earlier row of its lane is pending, whether in flight or
+     * backing off.
+     */
+    @Transactional
+    @Query(value = """
+            WITH due AS MATERIALIZED (
+                SELECT d.id
+                  FROM webhook_outbox d
+                 WHERE d.status = 'PENDING'
+                   AND d.next_attempt_at <= :now
+                   AND NOT EXISTS (
+                       SELECT 1
+                         FROM webhook_outbox p
+                        WHERE p.webhook_id = d.webhook_id
+                          AND p.incident_id = d.incident_id
+                          AND p.status = 'PENDING'
+                          AND p.sequence_number < d.sequence_number)
+                 ORDER BY d.next_attempt_at
+                 LIMIT :limit
+                   FOR UPDATE SKIP LOCKED)
+            UPDATE webhook_outbox o
+               SET attempts = o.attempts + 1,
+                   next_attempt_at = :leaseUntil
+              FROM due
+             WHERE o.id = due.id
+            RETURNING o.*
+            """, nativeQuery = true)
+    List<WebhookOutboxEntity> claimDue(@Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil,
+            @Param("limit") int limit);
+
+    /**
+     * Claims the next entry of one (webhook, incident) lane if it is due and
+     * no earlier entry of the lane is still pending.
+     */
+    @Transactional
+    @Query(value = """
+            WITH head AS MATERIALIZED (
+                SELECT d.id
+                  FROM webhook_outbox d
+                 WHERE d.webhook_id = :webhookId
+                   AND d.incident_id = :incidentId
+                   AND d.status = 'PENDING'
+                   AND d.next_attempt_at <= :now
+                   AND NOT EXISTS (
+                       SELECT 1
+                         FROM webhook_outbox p
+                        WHERE p.webhook_id = d.webhook_id
+                          AND p.incident_id = d.incident_id
+                          AND p.status = 'PENDING'
+                          AND p.sequence_number < d.sequence_number)
+                 LIMIT 1
+                   FOR UPDATE SKIP LOCKED)
+            UPDATE webhook_outbox o
+               SET attempts = o.attempts + 1,
+                   next_attempt_at = :leaseUntil
+              FROM head
+             WHERE o.id = head.id
+            RETURNING o.*
+            """, nativeQuery = true)
+    List<WebhookOutboxEntity> claimNextInLane(@Param("webhookId") UUID webhookId,
+            @Param("incidentId") UUID incidentId, @Param("now") Instant now,
+            @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Claims up to {@code limit} of one webhook's pending entries for a batch:
+     * due ones, and never-attempted ones still lingering to be batched. An
+     * entry is left out while an earlier entry of its lane, other than the
+     * one starting the batch, is in flight or backing off.
+     *
+     * An earlier entry that another node is claiming right now still looks
+     * unattempted to this statement and is skipped as locked, so entries are
+     * then checked once more against what was actually locked: one is only
+     * claimed if every earlier pending entry of its lane is in the batch too.
+     */
+    @Transactional
+    @Query(value = """
+            WITH batch AS MATERIALIZED (
+                SELECT d.id
+                  FROM webhook_outbox d
+                 WHERE d.webhook_id = :webhookId
+                   AND d.status = 'PENDING'
+                   AND (d.next_attempt_at <= :now OR d.attempts = 0)
+                   AND NOT EXISTS (
+                       SELECT 1
+                         FROM webhook_outbox p
+                        WHERE p.webhook_id = d.webhook_id
+                          AND p.incident_id = d.incident_id
+                          AND p.status = 'PENDING'
+                          AND p.sequence_number < d.sequence_number
+                          AND p.attempts > 0
+                          AND p.id <> :startedBy)
+                 ORDER BY d.sequence_number
+                 LIMIT :limit
+                   FOR UPDATE SKIP LOCKED),
+            ready AS (
+                SELECT d.id
+                  FROM webhook_outbox d
+                  JOIN batch b ON b.id = d.id
+                 WHERE NOT EXISTS (
+                       SELECT 1
+                         FROM webhook_outbox p
+                        WHERE p.webhook_id = d.webhook_id
+                          AND p.incident_id = d.incident_id
+                          AND p.status = 'PENDING'
+                          AND p.sequence_number < d.sequence_number
+                          AND p.id <> :startedBy
+                          AND p.id NOT IN (SELECT id FROM batch)))
+            UPDATE webhook_outbox o
+               SET attempts = o.attempts + 1,
+                   next_attempt_at = :leaseUntil
+              FROM ready
+             WHERE o.id = ready.id
+            RETURNING o.*
+            """, nativeQuery = true)
+    List<WebhookOutboxEntity> claimBatch(@Param("webhookId") UUID webhookId, @Param("startedBy") UUID startedBy,
+            @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            UPDATE webhook_outbox
+               SET status = :status, completed_at = :completedAt, last_error = :error
+             WHERE id = ANY(:ids)
+            """, nativeQuery = true)
+    int complete(@Param("ids") UUID[] ids, @Param("status") String status,
+            @Param("completedAt") Instant completedAt, @Param("error") String error);
+
+    @Modifying
+    @Query(value = """
+            UPDATE webhook_outbox
+               SET next_attempt_at = :nextAttemptAt, last_error = :error
+             WHERE id = ANY(:ids)
+            """, nativeQuery = true)
+    int scheduleRetry(@Param("ids") UUID[] ids, @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE WebhookOutboxEntity o SET o.attempts = o.attempts - 1, o.nextAttemptAt = :nextAttemptAt "
+            + "WHERE o.id = :id AND o.attempts > 0")
+    int release(@Param("id") UUID id, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    List<WebhookOutboxEntity> findByWebhookIdAndTenantIdAndStatusOrderByCompletedAtDesc(UUID webhookId,
+            UUID tenantId, String status, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE WebhookOutboxEntity o SET o.status = 'PENDING', o.attempts = 0, o.nextAttemptAt = :now, "
+            + "o.completedAt = NULL, o.lastError = NULL "
+            + "WHERE o.webhookId = :webhookId AND o.tenantId = :tenantId AND o.status = 'DEAD'")
+    int replayDead(@Param("tenantId") UUID tenantId, @Param("webhookId") UUID webhookId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM WebhookOutboxEntity o WHERE o.status = :status AND o.completedAt < :cutoff")
+    int deleteCompletedBefore(@Param("status") String status, @Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,38 @@
+package com.example.incidentplatform.infrastructure.persistence.repository;
+
+import com.example.incidentplatform.infrastructure.persistence.entity.WebhookStatsEntity;
+import com.example.incidentplatform.infrastructure.persistence.entity.WebhookStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WebhookStatsJpaRepository extends JpaRepository<WebhookStatsEntity, WebhookStatsId> {
+
+    /**
+     * Adds the given amount to a counter, creating it if needed.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO webhook_stats (webhook_id, metric, bucket, count)
+            VALUES (:webhookId, :metric, :bucket, :count)
+            ON CONFLICT (webhook_id, metric, bucket) DO UPDATE SET
+                count = webhook_stats.count + EXCLUDED.count
+            """, nativeQuery = true)
+    int increment(
+            @Param("webhookId") UUID webhookId,
+            @Param("metric") String metric,
+            @Param("bucket") long bucket,
+            @Param("count") long count);
+
+    List<WebhookStatsEntity> findByIdWebhookId(UUID webhookId);
+
+    @Modifying
+    @Query(value = "DELETE FROM webhook_stats WHERE metric = 'HOURLY' AND bucket < :hour", nativeQuery = true)
+    int deleteHourlyBefore(@Param("hour") long hour);
+}
@@ -22,6 +22,12 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // Push endpoints, which browsers open without letting us set headers:
+    // the WebSocket and the Server-Sent Events streams
+    private static final String PUSH_PATH_PREFIX = "/ws/";
+    private static final String STREAM_PATH_SUFFIX = "/stream";
+    private static final String TOKEN_PARAMETER = "access_token";
+
     private final SecretKey key;
 
     public JwtAuthenticationFilter(@Value("${security.jwt.secret}") String secret) {
@@ -35,14 +41,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        String token = token(request);
+        if (token == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = authHeader.substring(7);
-
         try {
             Claims claims = Jwts.parser()
                     .verifyWith(key)
@@ -69,4 +73,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * The bearer token from the {@code Authorization} header or, for the push
+     * endpoints only, from the {@code access_token} query parameter.
+     */
+    private static String token(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        if (isPushRequest(request)) {
+            return request.getParameter(TOKEN_PARAMETER);
+        }
+        return null;
+    }
+
+    private static boolean isPushRequest(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith(request.getContextPath() + PUSH_PATH_PREFIX) || uri.endsWith(STREAM_PATH_SUFFIX);
+    }
 }
@@ -10,6 +10,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Configuration
@@ -37,6 +38,8 @@ public class SecurityConfig {
                         })
                         .permitAll())
                 .authorizeHttpRequests(auth -> auth
+                        // Authorized when the request started, e.g. when a stream ends
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/public/auth/register",
                                 "/api/public/auth/login",
                                 "/api/public/auth/refresh",
@@ -0,0 +1,15 @@
+-- V10: Indexes for keyset pagination of incident listings
+-- Listings are ordered by (created_at DESC, id DESC) and continue after the last
+-- row of the previous page, so each page is a bounded index range scan.
+-- id is DESC as well so a single forward scan serves the whole ORDER BY.
+
+CREATE INDEX idx_incidents_tenant_created ON incidents (tenant_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_incidents_tenant_status_created ON incidents (tenant_id, status, created_at DESC, id DESC);
+
+CREATE INDEX idx_incidents_tenant_severity_created ON incidents (tenant_id, severity, created_at DESC, id DESC);
+
+-- Covered by the leading columns of the indexes above
+DROP INDEX idx_incidents_tenant;
+
+DROP INDEX idx_incidents_tenant_status;
@@ -0,0 +1,22 @@
+-- V11: Full-text search over incident title and description
+-- search_vector is maintained by PostgreSQL, so the application never writes it.
+-- The trigram indexes serve the optional fuzzy fallback (ILIKE substrings and
+-- word similarity), which the tsvector cannot answer.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Lets tenant_id share a GIN index with the search vector
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- Title matches weigh more than description matches when ranking
+ALTER TABLE incidents
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_incidents_tenant_search ON incidents USING GIN (tenant_id, search_vector);
+
+CREATE INDEX idx_incidents_title_trgm ON incidents USING GIN (title gin_trgm_ops);
+
+CREATE INDEX idx_incidents_description_trgm ON incidents USING GIN (description gin_trgm_ops);
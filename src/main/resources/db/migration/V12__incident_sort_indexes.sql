@@ -0,0 +1,37 @@
+-- V12: Indexes for sorted incident search
+-- Each ordering is (sort key, created_at, id) in one direction, so a page is an
+-- index range scan in either direction instead of a sort over all matches.
+
+-- Severity ordered by rank (CRITICAL highest) rather than by name
+ALTER TABLE incidents
+    ADD COLUMN severity_rank INTEGER GENERATED ALWAYS AS (
+        CASE severity
+            WHEN 'CRITICAL' THEN 4
+            WHEN 'HIGH' THEN 3
+            WHEN 'MEDIUM' THEN 2
+            ELSE 1
+        END
+    ) STORED;
+
+-- resolved_at with unresolved incidents placed after every resolution date.
+-- A non-null key keeps the keyset condition a single row comparison.
+ALTER TABLE incidents
+    ADD COLUMN resolved_sort_at TIMESTAMP GENERATED ALWAYS AS (
+        COALESCE(resolved_at, TIMESTAMP '9999-12-31 00:00:00')
+    ) STORED;
+
+CREATE INDEX idx_incidents_tenant_severity_rank_created
+    ON incidents (tenant_id, severity_rank DESC, created_at DESC, id DESC);
+
+CREATE INDEX idx_incidents_tenant_updated_created
+    ON incidents (tenant_id, updated_at DESC, created_at DESC, id DESC);
+
+CREATE INDEX idx_incidents_tenant_resolved_created
+    ON incidents (tenant_id, resolved_sort_at DESC, created_at DESC, id DESC);
+
+-- Sorting by status needs status in the same direction as created_at and id.
+-- The new index still serves the status filter of V10 the same way.
+DROP INDEX idx_incidents_tenant_status_created;
+
+CREATE INDEX idx_incidents_tenant_status_created
+    ON incidents (tenant_id, status DESC, created_at DESC, id DESC);
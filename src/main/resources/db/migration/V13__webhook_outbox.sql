@@ -0,0 +1,27 @@
+-- V13: Transactional outbox for webhook deliveries
+-- One row per (event, subscribed webhook), written in the same transaction as
+-- the change that raised the event. Dispatchers on every node claim due rows
+-- with FOR UPDATE SKIP LOCKED, so each row is delivered by exactly one node.
+--
+-- Claiming a row moves next_attempt_at forward by a lease; if the claiming
+-- node dies before completing it, the row becomes due again when the lease
+-- runs out.
+
+CREATE TABLE webhook_outbox (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    webhook_id UUID NOT NULL REFERENCES webhooks (id) ON DELETE CASCADE,
+    event_type VARCHAR(50) NOT NULL,
+    event_data JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, DELIVERED, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- The dispatcher's claim query only ever looks at pending rows
+CREATE INDEX idx_webhook_outbox_due ON webhook_outbox (next_attempt_at) WHERE status = 'PENDING';
+
+-- Purging completed rows
+CREATE INDEX idx_webhook_outbox_completed ON webhook_outbox (completed_at) WHERE status <> 'PENDING';
@@ -0,0 +1,15 @@
+-- V14: Webhook retries and dead letters
+-- A failed delivery stays PENDING with next_attempt_at pushed out by an
+-- exponential backoff; once its attempt budget is spent it becomes DEAD and
+-- waits to be replayed. FAILED is superseded by DEAD.
+
+UPDATE webhook_outbox SET status = 'DEAD' WHERE status = 'FAILED';
+
+ALTER TABLE webhook_outbox ADD COLUMN last_error TEXT;
+
+-- Listing and replaying one webhook's dead letters
+CREATE INDEX idx_webhook_outbox_dead ON webhook_outbox (webhook_id, completed_at) WHERE status = 'DEAD';
+
+-- Every attempt is logged; outbox_id ties the attempts at one event together
+ALTER TABLE webhook_deliveries ADD COLUMN outbox_id UUID;
+ALTER TABLE webhook_deliveries ADD COLUMN attempt INTEGER NOT NULL DEFAULT 1;
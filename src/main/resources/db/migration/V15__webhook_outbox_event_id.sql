@@ -0,0 +1,9 @@
+-- V15: Group outbox rows by event
+-- All rows written for one event share its event_id, so dispatchers can
+-- serialise and cache the event's payload once for every subscriber.
+
+ALTER TABLE webhook_outbox ADD COLUMN event_id UUID;
+
+UPDATE webhook_outbox SET event_id = id WHERE event_id IS NULL;
+
+ALTER TABLE webhook_outbox ALTER COLUMN event_id SET NOT NULL;
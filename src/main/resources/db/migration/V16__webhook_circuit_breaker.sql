@@ -0,0 +1,13 @@
+-- V16: Webhook circuit breaker
+-- The breaker state is shared by every node through the webhook row.
+-- circuit_opened_at is when the circuit last opened and is kept after it
+-- closes, so nodes can tell their failure counts predate the last trip.
+-- circuit_retry_at is when an OPEN circuit may send its next probe; while
+-- HALF_OPEN it is the deadline after which a stuck probe is replaced.
+
+ALTER TABLE webhooks ADD COLUMN circuit_state VARCHAR(16) NOT NULL DEFAULT 'CLOSED';
+ALTER TABLE webhooks ADD COLUMN circuit_opened_at TIMESTAMP WITH TIME ZONE;
+ALTER TABLE webhooks ADD COLUMN circuit_retry_at TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE webhooks ADD CONSTRAINT chk_webhooks_circuit_state
+    CHECK (circuit_state IN ('CLOSED', 'OPEN', 'HALF_OPEN'));
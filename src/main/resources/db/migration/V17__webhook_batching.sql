@@ -0,0 +1,15 @@
+-- V17: Opt-in event batching per webhook
+-- A webhook with batching settings receives its events as one JSON array per
+-- request instead of one request per event. All three are NULL when off.
+
+ALTER TABLE webhooks ADD COLUMN batch_max_size INTEGER;
+ALTER TABLE webhooks ADD COLUMN batch_max_linger_ms BIGINT;
+ALTER TABLE webhooks ADD COLUMN batch_max_bytes INTEGER;
+
+ALTER TABLE webhooks ADD CONSTRAINT chk_webhooks_batching
+    CHECK ((batch_max_size IS NULL AND batch_max_linger_ms IS NULL AND batch_max_bytes IS NULL)
+        OR (batch_max_size > 0 AND batch_max_linger_ms >= 0 AND batch_max_bytes > 0));
+
+-- Sweeping a batching webhook's waiting events into one request
+CREATE INDEX idx_webhook_outbox_webhook_pending ON webhook_outbox (webhook_id, created_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,29 @@
+-- V18: Ordered delivery per (webhook, incident)
+-- Outbox rows for the same webhook and incident form a lane that is delivered
+-- in sequence_number order: a row is only claimed once no earlier row of its
+-- lane is still pending. sequence_number comes from one shared sequence, so it
+-- increases within every lane (with gaps) and is sent as X-Webhook-Sequence.
+
+ALTER TABLE webhook_outbox ADD COLUMN incident_id UUID;
+ALTER TABLE webhook_outbox ADD COLUMN sequence_number BIGINT;
+
+-- Every event raised so far carries its incident's id
+UPDATE webhook_outbox
+   SET incident_id = (event_data ->> 'id')::uuid
+ WHERE event_data ->> 'id' ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$';
+
+CREATE SEQUENCE webhook_outbox_sequence_number_seq OWNED BY webhook_outbox.sequence_number;
+
+UPDATE webhook_outbox o
+   SET sequence_number = numbered.n
+  FROM (SELECT id, nextval('webhook_outbox_sequence_number_seq') AS n
+          FROM (SELECT id FROM webhook_outbox ORDER BY created_at, id) ordered) numbered
+ WHERE o.id = numbered.id;
+
+ALTER TABLE webhook_outbox
+    ALTER COLUMN sequence_number SET DEFAULT nextval('webhook_outbox_sequence_number_seq');
+ALTER TABLE webhook_outbox ALTER COLUMN sequence_number SET NOT NULL;
+
+-- Checking whether a row still has an earlier pending row in its lane
+CREATE INDEX idx_webhook_outbox_lane ON webhook_outbox (webhook_id, incident_id, sequence_number)
+    WHERE status = 'PENDING';
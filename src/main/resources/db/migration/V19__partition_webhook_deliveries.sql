@@ -0,0 +1,59 @@
+-- V19: Partition the webhook delivery log by day
+-- One row per attempt made this table the largest in the schema, and
+-- retention deleted it row by row. It is now range-partitioned on
+-- delivered_at with one partition per UTC day, created ahead of time by
+-- WebhookDeliveryLogMaintainer, and retention drops whole partitions.
+-- The default partition only catches rows if that job has fallen behind.
+
+ALTER TABLE webhook_deliveries RENAME TO webhook_deliveries_unpartitioned;
+ALTER INDEX webhook_deliveries_pkey RENAME TO webhook_deliveries_unpartitioned_pkey;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE webhook_deliveries (
+    id UUID NOT NULL,
+    webhook_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    response_status INTEGER,
+    response_body TEXT,
+    delivered_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    success BOOLEAN NOT NULL,
+    error_message TEXT,
+    outbox_id UUID,
+    attempt INTEGER NOT NULL DEFAULT 1,
+    PRIMARY KEY (id, delivered_at),
+    CONSTRAINT fk_delivery_webhook FOREIGN KEY (webhook_id) REFERENCES webhooks (id) ON DELETE CASCADE
+) PARTITION BY RANGE (delivered_at);
+
+CREATE TABLE webhook_deliveries_default PARTITION OF webhook_deliveries DEFAULT;
+
+-- Delivery history is read newest first per webhook
+CREATE INDEX idx_webhook_deliveries_webhook_delivered ON webhook_deliveries (webhook_id, delivered_at DESC);
+
+-- Partitions for the days already logged and the week ahead
+DO $$
+DECLARE
+    day DATE;
+    last_day DATE := (NOW() AT TIME ZONE 'UTC')::date + 7;
+BEGIN
+    SELECT COALESCE(MIN((delivered_at AT TIME ZONE 'UTC')::date), (NOW() AT TIME ZONE 'UTC')::date)
+      INTO day
+      FROM webhook_deliveries_unpartitioned;
+    WHILE day <= last_day LOOP
+        EXECUTE format(
+            'CREATE TABLE webhook_deliveries_p%s PARTITION OF webhook_deliveries '
+                || 'FOR VALUES FROM (%L) TO (%L)',
+            to_char(day, 'YYYYMMDD'),
+            day::timestamp AT TIME ZONE 'UTC',
+            (day + 1)::timestamp AT TIME ZONE 'UTC');
+        day := day + 1;
+    END LOOP;
+END
+$$;
+
+INSERT INTO webhook_deliveries
+SELECT id, webhook_id, event_type, payload, response_status, response_body, delivered_at, success,
+       error_message, outbox_id, attempt
+  FROM webhook_deliveries_unpartitioned;
+
+DROP TABLE webhook_deliveries_unpartitioned;
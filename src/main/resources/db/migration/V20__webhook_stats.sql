@@ -0,0 +1,39 @@
+-- V20: Webhook delivery counters
+-- Served by the stats endpoint instead of counting webhook_deliveries, whose
+-- old days are dropped. One row per webhook, metric and bucket:
+--   SUCCESSES, FAILURES  bucket 0
+--   STATUS               bucket is the HTTP status of the response
+--   LATENCY              bucket is an index into the latency histogram
+--                        (see WebhookStatsBucket)
+--   HOURLY               bucket is the UTC hour, in hours since the epoch;
+--                        rows older than a day are deleted
+-- Nodes add their counts with INSERT ... ON CONFLICT DO UPDATE, so counts are
+-- only ever incremented. Latency was not recorded before, so the histogram
+-- starts empty; the other metrics are backfilled from the delivery log.
+
+CREATE TABLE webhook_stats (
+    webhook_id UUID NOT NULL REFERENCES webhooks (id) ON DELETE CASCADE,
+    metric VARCHAR(16) NOT NULL,
+    bucket BIGINT NOT NULL,
+    count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (webhook_id, metric, bucket),
+    CONSTRAINT chk_webhook_stats_metric
+        CHECK (metric IN ('SUCCESSES', 'FAILURES', 'STATUS', 'LATENCY', 'HOURLY'))
+);
+
+INSERT INTO webhook_stats (webhook_id, metric, bucket, count)
+SELECT webhook_id, CASE WHEN success THEN 'SUCCESSES' ELSE 'FAILURES' END, 0, COUNT(*)
+FROM webhook_deliveries
+GROUP BY webhook_id, success;
+
+INSERT INTO webhook_stats (webhook_id, metric, bucket, count)
+SELECT webhook_id, 'STATUS', response_status, COUNT(*)
+FROM webhook_deliveries
+WHERE response_status IS NOT NULL
+GROUP BY webhook_id, response_status;
+
+INSERT INTO webhook_stats (webhook_id, metric, bucket, count)
+SELECT webhook_id, 'HOURLY', FLOOR(EXTRACT(EPOCH FROM delivered_at) / 3600), COUNT(*)
+FROM webhook_deliveries
+WHERE delivered_at >= date_trunc('hour', now()) - INTERVAL '23 hours'
+GROUP BY webhook_id, FLOOR(EXTRACT(EPOCH FROM delivered_at) / 3600);
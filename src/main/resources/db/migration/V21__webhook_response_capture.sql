@@ -0,0 +1,9 @@
+-- V21: Bounded webhook response bodies
+-- A delivery logs only the start of the receiver's response, unless its
+-- webhook captures full responses for debugging. The logged part is stored
+-- gzip-compressed in response_body_gz. response_body holds the bodies logged
+-- before this change and empties as their days are dropped.
+
+ALTER TABLE webhooks ADD COLUMN capture_full_response BOOLEAN NOT NULL DEFAULT FALSE;
+
+ALTER TABLE webhook_deliveries ADD COLUMN response_body_gz BYTEA;
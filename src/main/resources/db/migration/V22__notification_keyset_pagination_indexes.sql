@@ -0,0 +1,21 @@
+-- V22: Indexes for keyset pagination of notification feeds
+-- Feeds are ordered by (created_at DESC, id DESC) and continue after the last
+-- row of the previous page, so each page is a bounded index range scan however
+-- deep the client has scrolled. The unread feed gets a partial index, which
+-- also serves the unread count.
+
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_notifications_user_unread_created ON notifications (user_id, created_at DESC, id DESC)
+WHERE
+    read_at IS NULL;
+
+CREATE INDEX idx_notifications_user_type_created ON notifications (user_id, type, created_at DESC, id DESC);
+
+-- Covered by the leading columns of the indexes above
+DROP INDEX idx_notifications_user;
+
+DROP INDEX idx_notifications_user_unread;
+
+-- Every query on created_at is for one user's notifications
+DROP INDEX idx_notifications_created;
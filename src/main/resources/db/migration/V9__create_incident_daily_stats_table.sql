@@ -0,0 +1,17 @@
+-- V9: Daily incident rollup used by analytics
+-- One row per tenant, UTC day, severity and status. Incidents are counted on
+-- the day they were created and, once resolved, on the day they were resolved,
+-- under their current severity and status. Rows are maintained incrementally
+-- by the application and can be rebuilt from the incidents table.
+
+CREATE TABLE incident_daily_stats (
+    tenant_id UUID NOT NULL REFERENCES tenants (id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    severity VARCHAR(32) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    resolved_count BIGINT NOT NULL DEFAULT 0,
+    -- total created->resolved time of the incidents in resolved_count
+    resolution_seconds BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (tenant_id, day, severity, status)
+);
@@ -4,7 +4,13 @@ import com.example.incidentplatform.application.usecase.ManageIncidentUseCase;
 import com.example.incidentplatform.api.dto.incident.CreateIncidentRequest;
 import com.example.incidentplatform.api.dto.incident.IncidentResponse;
 import com.example.incidentplatform.api.dto.incident.UpdateIncidentRequest;
+import com.example.incidentplatform.common.error.GlobalExceptionHandler;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.KeysetCursor;
+import com.example.incidentplatform.common.pagination.SortDirection;
 import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 import com.example.incidentplatform.infrastructure.security.SecurityContextHelper;
@@ -14,16 +20,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -33,7 +50,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class IncidentControllerTest {
 
         private MockMvc mockMvc;
-        private ObjectMapper objectMapper = new ObjectMapper();
+        @Spy
+        private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
         @Mock
         private ManageIncidentUseCase manageIncidentUseCase;
@@ -46,7 +65,9 @@ class IncidentControllerTest {
 
         @BeforeEach
         void setup() {
-                mockMvc = MockMvcBuilders.standaloneSetup(incidentController).build();
+                mockMvc = MockMvcBuilders.standaloneSetup(incidentController)
+                                .setControllerAdvice(new GlobalExceptionHandler())
+                                .build();
         }
 
         @Test
@@ -108,15 +129,46 @@ class IncidentControllerTest {
                 var incident1 = Incident.createNew(tenantId, "Issue 1", "Desc", Severity.HIGH, userId);
                 var incident2 = Incident.createNew(tenantId, "Issue 2", "Desc", Severity.LOW, userId);
 
-                when(manageIncidentUseCase.listIncidents(tenantId))
-                                .thenReturn(List.of(incident1, incident2));
+                when(manageIncidentUseCase.listIncidents(tenantId, CursorPageRequest.first()))
+                                .thenReturn(new CursorPage<>(List.of(incident1, incident2), "next-page"));
 
                 mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents", tenantId))
                                 .andExpect(status().isOk())
-                                .andExpect(content().string(org.hamcrest.Matchers.containsString("Issue 1")))
-                                .andExpect(content().string(org.hamcrest.Matchers.containsString("Issue 2")));
+                                .andExpect(jsonPath("$.items[0].title").value("Issue 1"))
+                                .andExpect(jsonPath("$.items[1].title").value("Issue 2"))
+                                .andExpect(jsonPath("$.nextCursor").value("next-page"));
+
+                verify(manageIncidentUseCase).listIncidents(tenantId, CursorPageRequest.first());
+        }
+
+        @Test
+        @DisplayName("GET /api/public/tenants/{tenantId}/incidents continues from cursor and caps the limit")
+        void listIncidents_withCursor_passesDecodedCursorAndCappedLimit() throws Exception {
+                UUID tenantId = UUID.randomUUID();
+                var cursor = new KeysetCursor(Instant.parse("2026-01-01T10:00:00.123456Z"), UUID.randomUUID());
+
+                when(manageIncidentUseCase.listIncidents(tenantId,
+                                new CursorPageRequest(cursor, CursorPageRequest.MAX_LIMIT)))
+                                .thenReturn(new CursorPage<>(List.of(), null));
+
+                mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents", tenantId)
+                                .param("cursor", cursor.encode())
+                                .param("limit", "10000"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items").isEmpty())
+                                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("GET /api/public/tenants/{tenantId}/incidents rejects a malformed cursor")
+        void listIncidents_withMalformedCursor_returnsBadRequest() throws Exception {
+                UUID tenantId = UUID.randomUUID();
+
+                mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents", tenantId)
+                                .param("cursor", "not-a-cursor"))
+                                .andExpect(status().isBadRequest());
 
-                verify(manageIncidentUseCase).listIncidents(tenantId);
+                verifyNoInteractions(manageIncidentUseCase);
         }
 
         @Test
@@ -127,14 +179,16 @@ class IncidentControllerTest {
 
                 var incident = Incident.createNew(tenantId, "Open Issue", "Desc", Severity.MEDIUM, userId);
 
-                when(manageIncidentUseCase.listIncidentsByStatus(tenantId, IncidentStatus.OPEN))
-                                .thenReturn(List.of(incident));
+                when(manageIncidentUseCase.listIncidentsByStatus(tenantId, IncidentStatus.OPEN,
+                                CursorPageRequest.first()))
+                                .thenReturn(new CursorPage<>(List.of(incident), null));
 
                 mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/status/{status}", tenantId, "OPEN"))
                                 .andExpect(status().isOk())
                                 .andExpect(content().string(org.hamcrest.Matchers.containsString("Open Issue")));
 
-                verify(manageIncidentUseCase).listIncidentsByStatus(tenantId, IncidentStatus.OPEN);
+                verify(manageIncidentUseCase).listIncidentsByStatus(tenantId, IncidentStatus.OPEN,
+                                CursorPageRequest.first());
         }
 
         @Test
@@ -260,8 +314,8 @@ class IncidentControllerTest {
 
                 var incident = Incident.createNew(tenantId, "Server Down", "Database crash", Severity.HIGH, userId);
 
-                when(manageIncidentUseCase.searchIncidents(eq(tenantId), any()))
-                                .thenReturn(List.of(incident));
+                when(manageIncidentUseCase.searchIncidents(eq(tenantId), any(), any()))
+                                .thenReturn(new CursorPage<>(List.of(incident), null));
 
                 mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/search", tenantId)
                                 .param("q", "server")
@@ -270,7 +324,7 @@ class IncidentControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(content().string(org.hamcrest.Matchers.containsString("Server Down")));
 
-                verify(manageIncidentUseCase).searchIncidents(eq(tenantId), any());
+                verify(manageIncidentUseCase).searchIncidents(eq(tenantId), any(), any());
         }
 
         @Test
@@ -282,8 +336,8 @@ class IncidentControllerTest {
                 var incident1 = Incident.createNew(tenantId, "Issue 1", "Desc", Severity.HIGH, userId);
                 var incident2 = Incident.createNew(tenantId, "Issue 2", "Desc", Severity.LOW, userId);
 
-                when(manageIncidentUseCase.searchIncidents(eq(tenantId), any()))
-                                .thenReturn(List.of(incident1, incident2));
+                when(manageIncidentUseCase.searchIncidents(eq(tenantId), any(), any()))
+                                .thenReturn(new CursorPage<>(List.of(incident1, incident2), null));
 
                 mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/search", tenantId))
                                 .andExpect(status().isOk())
@@ -291,16 +345,128 @@ class IncidentControllerTest {
                                 .andExpect(content().string(org.hamcrest.Matchers.containsString("Issue 2")));
         }
 
+        @Test
+        @DisplayName("GET /api/public/tenants/{tenantId}/incidents/search passes the parsed sort order")
+        void searchIncidents_withSort_passesParsedSortOrder() throws Exception {
+                UUID tenantId = UUID.randomUUID();
+
+                when(manageIncidentUseCase.searchIncidents(eq(tenantId), any(), any()))
+                                .thenReturn(new CursorPage<>(List.of(), null));
+
+                mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/search", tenantId)
+                                .param("sortBy", "severity")
+                                .param("sortDirection", "asc"))
+                                .andExpect(status().isOk());
+
+                verify(manageIncidentUseCase).searchIncidents(eq(tenantId),
+                                argThat(criteria -> criteria.sortBy() == IncidentSortField.SEVERITY
+                                                && criteria.sortDirection() == SortDirection.ASC),
+                                any());
+        }
+
+        @Test
+        @DisplayName("GET /api/public/tenants/{tenantId}/incidents/search rejects an unknown sort field")
+        void searchIncidents_withUnknownSort_returnsBadRequest() throws Exception {
+                UUID tenantId = UUID.randomUUID();
+
+                mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/search", tenantId)
+                                .param("sortBy", "title; DROP TABLE incidents"))
+                                .andExpect(status().isBadRequest());
+
+                verifyNoInteractions(manageIncidentUseCase);
+        }
+
+        // ==================== Export Tests ====================
+
+        @Test
+        @DisplayName("GET /api/public/tenants/{tenantId}/incidents/export streams NDJSON by default")
+        void exportIncidents_streamsNdjson() throws Exception {
+                UUID tenantId = UUID.randomUUID();
+                UUID userId = UUID.randomUUID();
+                var incident1 = Incident.createNew(tenantId, "Issue 1", "Desc", Severity.HIGH, userId);
+                var incident2 = Incident.createNew(tenantId, "Issue 2", "Desc", Severity.LOW, userId);
+                stubExport(tenantId, incident1, incident2);
+
+                MvcResult result = mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/export", tenantId)
+                                .param("status", "OPEN"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                String body = mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                                .andReturn().getResponse().getContentAsString();
+
+                String[] lines = body.split("\n");
+                assertEquals(2, lines.length);
+                assertEquals("Issue 1", objectMapper.readTree(lines[0]).get("title").asText());
+                assertEquals("Issue 2", objectMapper.readTree(lines[1]).get("title").asText());
+                verify(manageIncidentUseCase).exportIncidents(eq(tenantId),
+                                argThat(criteria -> criteria.status() == IncidentStatus.OPEN), any());
+        }
+
+        @Test
+        @DisplayName("GET /api/public/tenants/{tenantId}/incidents/export streams gzip-compressed CSV")
+        void exportIncidents_streamsGzippedCsv() throws Exception {
+                UUID tenantId = UUID.randomUUID();
+                var incident = Incident.createNew(tenantId, "Disk full, again", "Said \"no space\"",
+                                Severity.CRITICAL, UUID.randomUUID());
+                stubExport(tenantId, incident);
+
+                MvcResult result = mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/export", tenantId)
+                                .param("format", "csv")
+                                .param("gzip", "true"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                byte[] compressed = mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Encoding", "gzip"))
+                                .andExpect(header().string("Content-Type", org.hamcrest.Matchers.startsWith("text/csv")))
+                                .andReturn().getResponse().getContentAsByteArray();
+
+                String csv;
+                try (var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                        csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                String[] lines = csv.split("\r\n");
+                assertEquals(2, lines.length);
+                assertTrue(lines[0].startsWith("id,tenantId,title,description,severity,status"));
+                assertTrue(lines[1].contains(",\"Disk full, again\",\"Said \"\"no space\"\"\",CRITICAL,OPEN,"));
+        }
+
+        @Test
+        @DisplayName("GET /api/public/tenants/{tenantId}/incidents/export rejects an unknown format")
+        void exportIncidents_withUnknownFormat_returnsBadRequest() throws Exception {
+                UUID tenantId = UUID.randomUUID();
+
+                mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/export", tenantId)
+                                .param("format", "xml"))
+                                .andExpect(status().isBadRequest());
+
+                verifyNoInteractions(manageIncidentUseCase);
+        }
+
+        private void stubExport(UUID tenantId, Incident... incidents) {
+                doAnswer(invocation -> {
+                        Consumer<Incident> sink = invocation.getArgument(2);
+                        for (Incident incident : incidents) {
+                                sink.accept(incident);
+                        }
+                        return null;
+                }).when(manageIncidentUseCase).exportIncidents(eq(tenantId), any(), any());
+        }
+
         @Test
         @DisplayName("GET /api/public/tenants/{tenantId}/incidents/count returns status counts")
         void countIncidents_returnsStatusCounts() throws Exception {
                 UUID tenantId = UUID.randomUUID();
 
-                when(manageIncidentUseCase.countIncidents(tenantId)).thenReturn(10L);
-                when(manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.OPEN)).thenReturn(5L);
-                when(manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.IN_PROGRESS)).thenReturn(3L);
-                when(manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.RESOLVED)).thenReturn(1L);
-                when(manageIncidentUseCase.countIncidentsByStatus(tenantId, IncidentStatus.CLOSED)).thenReturn(1L);
+                when(manageIncidentUseCase.countIncidentsByStatus(tenantId)).thenReturn(Map.of(
+                                IncidentStatus.OPEN, 5L,
+                                IncidentStatus.IN_PROGRESS, 3L,
+                                IncidentStatus.RESOLVED, 1L,
+                                IncidentStatus.CLOSED, 1L));
 
                 mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/count", tenantId))
                                 .andExpect(status().isOk())
@@ -309,6 +475,8 @@ class IncidentControllerTest {
                                 .andExpect(jsonPath("$.inProgress").value(3))
                                 .andExpect(jsonPath("$.resolved").value(1))
                                 .andExpect(jsonPath("$.closed").value(1));
+
+                verify(manageIncidentUseCase, never()).countIncidents(any());
         }
 
         @Test
@@ -319,14 +487,16 @@ class IncidentControllerTest {
 
                 var incident = Incident.createNew(tenantId, "Critical Issue", "Desc", Severity.CRITICAL, userId);
 
-                when(manageIncidentUseCase.listIncidentsBySeverity(tenantId, Severity.CRITICAL))
-                                .thenReturn(List.of(incident));
+                when(manageIncidentUseCase.listIncidentsBySeverity(tenantId, Severity.CRITICAL,
+                                CursorPageRequest.first()))
+                                .thenReturn(new CursorPage<>(List.of(incident), null));
 
                 mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/severity/{severity}", tenantId,
                                 "CRITICAL"))
                                 .andExpect(status().isOk())
                                 .andExpect(content().string(org.hamcrest.Matchers.containsString("Critical Issue")));
 
-                verify(manageIncidentUseCase).listIncidentsBySeverity(tenantId, Severity.CRITICAL);
+                verify(manageIncidentUseCase).listIncidentsBySeverity(tenantId, Severity.CRITICAL,
+                                CursorPageRequest.first());
         }
 }
@@ -3,6 +3,9 @@ package com.example.incidentplatform.api.controller;
 import com.example.incidentplatform.application.service.NotificationService;
 import com.example.incidentplatform.common.error.GlobalExceptionHandler;
 import com.example.incidentplatform.common.error.NotFoundException;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.KeysetCursor;
 import com.example.incidentplatform.domain.model.notification.Notification;
 import com.example.incidentplatform.domain.model.notification.NotificationType;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -68,13 +71,48 @@ class NotificationControllerTest {
             List<Notification> notifications = List.of(
                     createNotification(UUID.randomUUID(), userId, NotificationType.ASSIGNED),
                     createNotification(UUID.randomUUID(), userId, NotificationType.NEW_COMMENT));
-            when(notificationService.getNotificationsForUser(userId)).thenReturn(notifications);
+            when(notificationService.getNotificationsForUser(userId, CursorPageRequest.first()))
+                    .thenReturn(new CursorPage<>(notifications, "next"));
 
             // When/Then
             mockMvc.perform(get("/api/notifications")
                     .principal(createAuthentication()))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(2));
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
+
+        @Test
+        @DisplayName("should continue after the cursor with a capped limit")
+        void shouldContinueAfterCursor() throws Exception {
+            // Given
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            String cursor = new KeysetCursor(createdAt, notificationId).encode();
+            when(notificationService.getNotificationsForUser(any(), any()))
+                    .thenReturn(new CursorPage<>(List.of(), null));
+
+            // When/Then
+            mockMvc.perform(get("/api/notifications")
+                    .param("cursor", cursor)
+                    .param("limit", "1000")
+                    .principal(createAuthentication()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+            verify(notificationService).getNotificationsForUser(userId, new CursorPageRequest(
+                    new KeysetCursor(createdAt, notificationId), CursorPageRequest.MAX_LIMIT));
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor")
+        void shouldRejectMalformedCursor() throws Exception {
+            // When/Then
+            mockMvc.perform(get("/api/notifications")
+                    .param("cursor", "not-a-cursor")
+                    .principal(createAuthentication()))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(notificationService);
         }
 
         @Test
@@ -83,17 +121,18 @@ class NotificationControllerTest {
             // Given
             List<Notification> notifications = List.of(
                     createNotification(UUID.randomUUID(), userId, NotificationType.ASSIGNED));
-            when(notificationService.getNotificationsByType(userId, NotificationType.ASSIGNED))
-                    .thenReturn(notifications);
+            when(notificationService.getNotificationsByType(userId, NotificationType.ASSIGNED,
+                    CursorPageRequest.first())).thenReturn(new CursorPage<>(notifications, null));
 
             // When/Then
             mockMvc.perform(get("/api/notifications")
                     .param("type", "ASSIGNED")
                     .principal(createAuthentication()))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(1));
+                    .andExpect(jsonPath("$.items.length()").value(1));
 
-            verify(notificationService).getNotificationsByType(userId, NotificationType.ASSIGNED);
+            verify(notificationService).getNotificationsByType(userId, NotificationType.ASSIGNED,
+                    CursorPageRequest.first());
         }
     }
 
@@ -107,13 +146,14 @@ class NotificationControllerTest {
             // Given
             List<Notification> notifications = List.of(
                     createNotification(UUID.randomUUID(), userId, NotificationType.ASSIGNED));
-            when(notificationService.getUnreadNotificationsForUser(userId)).thenReturn(notifications);
+            when(notificationService.getUnreadNotificationsForUser(userId, CursorPageRequest.first()))
+                    .thenReturn(new CursorPage<>(notifications, null));
 
             // When/Then
             mockMvc.perform(get("/api/notifications/unread")
                     .principal(createAuthentication()))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(1));
+                    .andExpect(jsonPath("$.items.length()").value(1));
         }
     }
 
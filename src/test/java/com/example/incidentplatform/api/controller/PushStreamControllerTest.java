@@ -0,0 +1,115 @@
+package com.example.incidentplatform.api.controller;
+
+import com.example.incidentplatform.application.service.PushHub;
+import com.example.incidentplatform.application.service.TenantUserService;
+import com.example.incidentplatform.common.error.GlobalExceptionHandler;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class PushStreamControllerTest {
+
+    @Mock
+    private PushHub hub;
+
+    @Mock
+    private TenantUserService tenantUserService;
+
+    @Mock
+    private PushHub.Subscription subscription;
+
+    private MockMvc mockMvc;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        PushStreamController controller = new PushStreamController(hub, tenantUserService, Duration.ofMinutes(30));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("streams the user's notifications, resuming after Last-Event-ID")
+    void streamsNotifications() throws Exception {
+        // Given
+        when(hub.subscribe(any(), any(), any())).thenReturn(subscription);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/notifications/stream")
+                        .principal(authentication())
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "abc-41"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ArgumentCaptor<PushHub.Subscriber> subscriber = ArgumentCaptor.forClass(PushHub.Subscriber.class);
+        verify(hub).subscribe(eq(Set.of(PushMessage.userTopic(userId))), subscriber.capture(), eq("abc-41"));
+        subscriber.getValue().send("abc-42",
+                new PushMessage(PushMessage.userTopic(userId), "notification", "{\"id\":1}"));
+        subscriber.getValue().heartbeat();
+
+        // Then
+        assertThat(result.getResponse().getContentAsString())
+                .isEqualTo("id:abc-42\nevent:notification\ndata:{\"id\":1}\n\n:heartbeat\n\n");
+    }
+
+    @Test
+    @DisplayName("streams a tenant's incident changes to its members")
+    void streamsTenantIncidents() throws Exception {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        when(tenantUserService.isUserMember(tenantId, userId)).thenReturn(true);
+        when(hub.subscribe(any(), any(), isNull())).thenReturn(subscription);
+
+        // When/Then
+        mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/stream", tenantId)
+                        .principal(authentication())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        verify(hub).subscribe(eq(Set.of(PushMessage.tenantTopic(tenantId))), any(), isNull());
+    }
+
+    @Test
+    @DisplayName("refuses a tenant the user is not a member of")
+    void refusesOtherTenants() throws Exception {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        when(tenantUserService.isUserMember(tenantId, userId)).thenReturn(false);
+
+        // When/Then
+        mockMvc.perform(get("/api/public/tenants/{tenantId}/incidents/stream", tenantId)
+                        .principal(authentication()))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(hub);
+    }
+
+    private UsernamePasswordAuthenticationToken authentication() {
+        return new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of());
+    }
+}
@@ -4,9 +4,14 @@ import com.example.incidentplatform.api.dto.webhook.*;
 import com.example.incidentplatform.application.service.WebhookService;
 import com.example.incidentplatform.common.error.GlobalExceptionHandler;
 import com.example.incidentplatform.common.error.NotFoundException;
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
 import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookBatching;
 import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
 import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+import com.example.incidentplatform.domain.model.webhook.WebhookStats;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +25,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
@@ -109,7 +115,7 @@ class WebhookControllerTest {
         void shouldReturnWebhookWhenFound() throws Exception {
             // Given
             Webhook webhook = createWebhook(webhookId);
-            when(webhookService.getWebhook(webhookId)).thenReturn(webhook);
+            when(webhookService.getWebhook(tenantId, webhookId)).thenReturn(webhook);
 
             // When/Then
             mockMvc.perform(get("/api/public/tenants/{tenantId}/webhooks/{webhookId}", tenantId, webhookId))
@@ -121,7 +127,7 @@ class WebhookControllerTest {
         @DisplayName("should return 404 when not found")
         void shouldReturn404WhenNotFound() throws Exception {
             // Given
-            when(webhookService.getWebhook(webhookId)).thenThrow(new NotFoundException("Webhook not found"));
+            when(webhookService.getWebhook(tenantId, webhookId)).thenThrow(new NotFoundException("Webhook not found"));
 
             // When/Then
             mockMvc.perform(get("/api/public/tenants/{tenantId}/webhooks/{webhookId}", tenantId, webhookId))
@@ -139,7 +145,7 @@ class WebhookControllerTest {
             // Given
             UpdateWebhookRequest request = new UpdateWebhookRequest("New Name", "https://new-url.com", null, null);
             Webhook updated = createWebhook(webhookId);
-            when(webhookService.updateWebhook(eq(webhookId), any(), any(), any(), any())).thenReturn(updated);
+            when(webhookService.updateWebhook(eq(tenantId), eq(webhookId), any(), any(), any(), any())).thenReturn(updated);
 
             // When/Then
             mockMvc.perform(put("/api/public/tenants/{tenantId}/webhooks/{webhookId}", tenantId, webhookId)
@@ -158,7 +164,7 @@ class WebhookControllerTest {
         void shouldActivateWebhook() throws Exception {
             // Given
             Webhook webhook = createWebhook(webhookId);
-            when(webhookService.setWebhookActive(webhookId, true)).thenReturn(webhook);
+            when(webhookService.setWebhookActive(tenantId, webhookId, true)).thenReturn(webhook);
 
             // When/Then
             mockMvc.perform(post("/api/public/tenants/{tenantId}/webhooks/{webhookId}/activate", tenantId, webhookId))
@@ -167,6 +173,77 @@ class WebhookControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("PUT /api/public/tenants/{tenantId}/webhooks/{webhookId}/batching")
+    class EnableBatching {
+
+        @Test
+        @DisplayName("should turn batching on, filling in defaults")
+        void shouldEnableBatching() throws Exception {
+            // Given
+            WebhookBatching batching = new WebhookBatching(200, Duration.ofMillis(1000), 1024 * 1024);
+            when(webhookService.setWebhookBatching(tenantId, webhookId, batching))
+                    .thenReturn(createWebhook(webhookId).withBatching(batching));
+
+            // When/Then
+            mockMvc.perform(put("/api/public/tenants/{tenantId}/webhooks/{webhookId}/batching", tenantId, webhookId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"maxSize\": 200}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.batching.maxSize").value(200))
+                    .andExpect(jsonPath("$.batching.maxLingerMs").value(1000));
+        }
+
+        @Test
+        @DisplayName("should reject settings out of range")
+        void shouldRejectOutOfRange() throws Exception {
+            mockMvc.perform(put("/api/public/tenants/{tenantId}/webhooks/{webhookId}/batching", tenantId, webhookId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"maxSize\": 100000}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(webhookService);
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT /api/public/tenants/{tenantId}/webhooks/{webhookId}/full-response-capture")
+    class EnableFullResponseCapture {
+
+        @Test
+        @DisplayName("should turn full response capture on")
+        void shouldEnableFullResponseCapture() throws Exception {
+            // Given
+            when(webhookService.setFullResponseCapture(tenantId, webhookId, true))
+                    .thenReturn(createWebhook(webhookId).withFullResponseCapture(true));
+
+            // When/Then
+            mockMvc.perform(put("/api/public/tenants/{tenantId}/webhooks/{webhookId}/full-response-capture",
+                    tenantId, webhookId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.captureFullResponse").value(true));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/public/tenants/{tenantId}/webhooks/{webhookId}/circuit/close")
+    class CloseCircuit {
+
+        @Test
+        @DisplayName("should close the circuit and return the breaker state")
+        void shouldCloseCircuit() throws Exception {
+            // Given
+            Webhook webhook = createWebhook(webhookId);
+            when(webhookService.closeCircuit(tenantId, webhookId)).thenReturn(webhook);
+
+            // When/Then
+            mockMvc.perform(post("/api/public/tenants/{tenantId}/webhooks/{webhookId}/circuit/close", tenantId,
+                    webhookId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.circuitState").value("CLOSED"));
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/public/tenants/{tenantId}/webhooks/{webhookId}/deactivate")
     class DeactivateWebhook {
@@ -176,7 +253,7 @@ class WebhookControllerTest {
         void shouldDeactivateWebhook() throws Exception {
             // Given
             Webhook webhook = createInactiveWebhook(webhookId);
-            when(webhookService.setWebhookActive(webhookId, false)).thenReturn(webhook);
+            when(webhookService.setWebhookActive(tenantId, webhookId, false)).thenReturn(webhook);
 
             // When/Then
             mockMvc.perform(post("/api/public/tenants/{tenantId}/webhooks/{webhookId}/deactivate", tenantId, webhookId))
@@ -193,13 +270,13 @@ class WebhookControllerTest {
         @DisplayName("should delete webhook and return 204")
         void shouldDeleteWebhookAndReturn204() throws Exception {
             // Given
-            doNothing().when(webhookService).deleteWebhook(webhookId);
+            doNothing().when(webhookService).deleteWebhook(tenantId, webhookId);
 
             // When/Then
             mockMvc.perform(delete("/api/public/tenants/{tenantId}/webhooks/{webhookId}", tenantId, webhookId))
                     .andExpect(status().isNoContent());
 
-            verify(webhookService).deleteWebhook(webhookId);
+            verify(webhookService).deleteWebhook(tenantId, webhookId);
         }
     }
 
@@ -213,7 +290,7 @@ class WebhookControllerTest {
             // Given
             WebhookDelivery delivery = WebhookDelivery.success(webhookId, WebhookEventType.INCIDENT_CREATED, Map.of(),
                     200, "OK");
-            when(webhookService.testWebhook(webhookId)).thenReturn(delivery);
+            when(webhookService.testWebhook(tenantId, webhookId)).thenReturn(delivery);
 
             // When/Then
             mockMvc.perform(post("/api/public/tenants/{tenantId}/webhooks/{webhookId}/test", tenantId, webhookId))
@@ -250,7 +327,8 @@ class WebhookControllerTest {
         @DisplayName("should return delivery stats")
         void shouldReturnDeliveryStats() throws Exception {
             // Given
-            Map<String, Long> stats = Map.of("successes", 10L, "failures", 2L, "total", 12L);
+            WebhookStats stats = new WebhookStats(10, 2, 3, Map.of(200, 10L, 503, 2L), Duration.ofMillis(40),
+                    Duration.ofMillis(90), null);
             when(webhookService.getDeliveryStats(webhookId)).thenReturn(stats);
 
             // When/Then
@@ -258,17 +336,65 @@ class WebhookControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.successes").value(10))
                     .andExpect(jsonPath("$.failures").value(2))
-                    .andExpect(jsonPath("$.total").value(12));
+                    .andExpect(jsonPath("$.total").value(12))
+                    .andExpect(jsonPath("$.last24h").value(3))
+                    .andExpect(jsonPath("$.statusCodes.503").value(2))
+                    .andExpect(jsonPath("$.p50LatencyMs").value(40))
+                    .andExpect(jsonPath("$.p95LatencyMs").value(90))
+                    .andExpect(jsonPath("$.p99LatencyMs").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/public/tenants/{tenantId}/webhooks/{webhookId}/dead-letters")
+    class GetDeadLetters {
+
+        @Test
+        @DisplayName("should return dead-lettered events with their last error")
+        void shouldReturnDeadLetters() throws Exception {
+            // Given
+            Instant now = Instant.now();
+            WebhookOutboxEntry entry = WebhookOutboxEntry.of(UUID.randomUUID(), UUID.randomUUID(), tenantId,
+                    webhookId, UUID.randomUUID(), 42, WebhookEventType.INCIDENT_CREATED, Map.of("title", "Outage"),
+                    WebhookOutboxStatus.DEAD, 10, now, now, now, "HTTP 503");
+            when(webhookService.getDeadLetters(tenantId, webhookId, 20)).thenReturn(List.of(entry));
+
+            // When/Then
+            mockMvc.perform(get("/api/public/tenants/{tenantId}/webhooks/{webhookId}/dead-letters", tenantId,
+                    webhookId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].attempts").value(10))
+                    .andExpect(jsonPath("$[0].lastError").value("HTTP 503"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/public/tenants/{tenantId}/webhooks/{webhookId}/dead-letters/replay")
+    class ReplayDeadLetters {
+
+        @Test
+        @DisplayName("should return the number of replayed events")
+        void shouldReplayDeadLetters() throws Exception {
+            // Given
+            when(webhookService.replayDeadLetters(tenantId, webhookId)).thenReturn(4);
+
+            // When/Then
+            mockMvc.perform(post("/api/public/tenants/{tenantId}/webhooks/{webhookId}/dead-letters/replay",
+                    tenantId, webhookId))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.replayed").value(4));
         }
     }
 
     private Webhook createWebhook(UUID id) {
         return Webhook.of(id, tenantId, "Test Webhook", "https://test.com/webhook", "secret",
-                Set.of(WebhookEventType.INCIDENT_CREATED), true, Instant.now(), Instant.now(), null, 0);
+                Set.of(WebhookEventType.INCIDENT_CREATED), true, Instant.now(), Instant.now(), null, 0,
+                CircuitState.CLOSED, null, null, null, false);
     }
 
     private Webhook createInactiveWebhook(UUID id) {
         return Webhook.of(id, tenantId, "Test Webhook", "https://test.com/webhook", "secret",
-                Set.of(WebhookEventType.INCIDENT_CREATED), false, Instant.now(), Instant.now(), null, 0);
+                Set.of(WebhookEventType.INCIDENT_CREATED), false, Instant.now(), Instant.now(), null, 0,
+                CircuitState.CLOSED, null, null, null, false);
     }
 }
@@ -0,0 +1,78 @@
+package com.example.incidentplatform.api.export;
+
+import com.example.incidentplatform.api.dto.incident.IncidentResponse;
+import com.example.incidentplatform.common.error.BadRequestException;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import com.example.incidentplatform.domain.model.incident.Severity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IncidentExportWriterTest {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID USER = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final Instant CREATED = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("NDJSON writes one JSON object per line")
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        String output = export(IncidentExportWriter.Format.NDJSON,
+                incident("Disk full", "first"), incident("Network down", "second"));
+
+        String[] lines = output.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Disk full");
+        assertThat(objectMapper.readTree(lines[1]).get("createdAt").asText()).isEqualTo("2026-03-01T10:00:00Z");
+    }
+
+    @Test
+    @DisplayName("CSV quotes values containing separators and leaves missing values empty")
+    void csvQuotesSpecialCharacters() throws IOException {
+        String output = export(IncidentExportWriter.Format.CSV,
+                incident("Disk full, again", "He said \"no space\"\nthen left"));
+
+        assertThat(output).isEqualTo("id,tenantId,title,description,severity,status,createdBy,"
+                + "createdAt,updatedAt,resolvedAt\r\n"
+                + ID + "," + TENANT + ",\"Disk full, again\",\"He said \"\"no space\"\"\nthen left\","
+                + "HIGH,OPEN," + USER + ",2026-03-01T10:00:00Z,2026-03-01T10:00:00Z,\r\n");
+    }
+
+    @Test
+    @DisplayName("format parameter defaults to NDJSON and rejects unknown values")
+    void formatFromParam() {
+        assertThat(IncidentExportWriter.Format.fromParam(null)).isEqualTo(IncidentExportWriter.Format.NDJSON);
+        assertThat(IncidentExportWriter.Format.fromParam("CSV")).isEqualTo(IncidentExportWriter.Format.CSV);
+        assertThatThrownBy(() -> IncidentExportWriter.Format.fromParam("xml"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private String export(IncidentExportWriter.Format format, IncidentResponse... incidents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IncidentExportWriter writer = IncidentExportWriter.open(format, out, objectMapper)) {
+            for (IncidentResponse incident : incidents) {
+                writer.write(incident);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static IncidentResponse incident(String title, String description) {
+        return new IncidentResponse(ID, TENANT, title, description, Severity.HIGH, IncidentStatus.OPEN,
+                USER, CREATED, CREATED, null);
+    }
+}
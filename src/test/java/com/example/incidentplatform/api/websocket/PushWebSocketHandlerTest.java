@@ -0,0 +1,119 @@
+package com.example.incidentplatform.api.websocket;
+
+import com.example.incidentplatform.application.service.PushHub;
+import com.example.incidentplatform.application.service.TenantUserService;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import com.example.incidentplatform.domain.model.tenant.TenantUser;
+import com.example.incidentplatform.domain.model.user.RoleCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PushWebSocketHandlerTest {
+
+    @Mock
+    private PushHub hub;
+
+    @Mock
+    private TenantUserService tenantUserService;
+
+    @Mock
+    private WebSocketSession session;
+
+    @Mock
+    private PushHub.Subscription subscription;
+
+    private PushWebSocketHandler handler;
+    private UUID userId;
+    private Map<String, Object> attributes;
+
+    @BeforeEach
+    void setUp() {
+        handler = new PushWebSocketHandler(hub, tenantUserService);
+        userId = UUID.randomUUID();
+        attributes = new HashMap<>();
+        lenient().when(session.getPrincipal())
+                .thenReturn(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+        lenient().when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    @Test
+    @DisplayName("subscribes to the user's notifications and the incidents of each of their tenants")
+    void subscribesToUserAndTenantTopics() throws Exception {
+        // Given
+        UUID tenantA = UUID.randomUUID();
+        UUID tenantB = UUID.randomUUID();
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws/push?access_token=token"));
+        when(tenantUserService.listUserMemberships(userId)).thenReturn(List.of(
+                TenantUser.createNew(tenantA, userId, RoleCode.MEMBER),
+                TenantUser.createNew(tenantB, userId, RoleCode.ADMIN)));
+        when(hub.subscribe(any(), any())).thenReturn(subscription);
+
+        // When
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        // Then
+        verify(hub).subscribe(eq(Set.of(PushMessage.userTopic(userId), PushMessage.tenantTopic(tenantA),
+                PushMessage.tenantTopic(tenantB))), any());
+        verify(subscription).close();
+    }
+
+    @Test
+    @DisplayName("refuses a tenant the user is not a member of")
+    void refusesOtherTenants() throws Exception {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws/push?tenantId=" + tenantId));
+        when(tenantUserService.isUserMember(tenantId, userId)).thenReturn(false);
+
+        // When
+        handler.afterConnectionEstablished(session);
+
+        // Then
+        verify(session).close(argThat(status -> status.getCode() == CloseStatus.POLICY_VIOLATION.getCode()));
+        verifyNoInteractions(hub);
+    }
+
+    @Test
+    @DisplayName("sends each message as a JSON frame")
+    void sendsJsonFrames() throws Exception {
+        // Given
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws/push"));
+        when(tenantUserService.listUserMemberships(userId)).thenReturn(List.of());
+        when(hub.subscribe(any(), any())).thenReturn(subscription);
+        handler.afterConnectionEstablished(session);
+        ArgumentCaptor<PushHub.Subscriber> subscriber = ArgumentCaptor.forClass(PushHub.Subscriber.class);
+        verify(hub).subscribe(any(), subscriber.capture());
+
+        // When
+        subscriber.getValue().send("1", new PushMessage(PushMessage.userTopic(userId), "notification", "{\"id\":1}"));
+
+        // Then
+        verify(session).sendMessage(new TextMessage(
+                "{\"topic\":\"user:" + userId + "\",\"type\":\"notification\",\"data\":{\"id\":1}}"));
+        assertThat(attributes).containsValue(subscription);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.IncidentDailyStatsRepository;
+import com.example.incidentplatform.application.port.IncidentRepository;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentDailyStats;
+import com.example.incidentplatform.domain.model.incident.IncidentStats;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import com.example.incidentplatform.domain.model.incident.Severity;
+import com.example.incidentplatform.infrastructure.persistence.adapter.JpaIncidentDailyStatsRepositoryAdapter;
+import com.example.incidentplatform.infrastructure.persistence.adapter.JpaIncidentRepositoryAdapter;
+import com.example.incidentplatform.infrastructure.persistence.mapper.IncidentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the database aggregation behind
+ * {@link IncidentAnalyticsService#generateAnalytics(UUID)} produces exactly
+ * what the in-memory reference implementation computes.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ JpaIncidentRepositoryAdapter.class, JpaIncidentDailyStatsRepositoryAdapter.class, IncidentMapper.class })
+class IncidentAnalyticsAggregationTest {
+
+    private static final int INCIDENT_COUNT = 5_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    IncidentRepository incidentRepository;
+
+    @Autowired
+    IncidentDailyStatsRepository dailyStatsRepository;
+
+    private UUID tenantId;
+    private UUID userId;
+    private Instant now;
+
+    @BeforeEach
+    void seed() {
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        jdbcTemplate.update("INSERT INTO tenants (id, slug, name, status) VALUES (?, ?, ?, 'ACTIVE')",
+                tenantId, "analytics-" + tenantId, "Analytics Tenant");
+        jdbcTemplate.update("INSERT INTO users (id, email, display_name, password_hash, status) "
+                + "VALUES (?, ?, 'Analytics User', 'hash', 'ACTIVE')",
+                userId, "analytics-" + userId + "@test.com");
+
+        Random random = new Random(42);
+        IncidentStatus[] statuses = IncidentStatus.values();
+        Severity[] severities = Severity.values();
+        List<Object[]> rows = new ArrayList<>(INCIDENT_COUNT);
+        for (int i = 0; i < INCIDENT_COUNT; i++) {
+            Instant createdAt = now.minusSeconds(random.nextLong(90L * 24 * 3600) + 1);
+            IncidentStatus status = statuses[random.nextInt(statuses.length)];
+            Instant resolvedAt = null;
+            if (status == IncidentStatus.RESOLVED || status == IncidentStatus.CLOSED) {
+                Instant candidate = createdAt.plusSeconds(random.nextLong(10L * 24 * 3600));
+                resolvedAt = candidate.isBefore(now) ? candidate : now.minusSeconds(1);
+            }
+            rows.add(new Object[] {
+                    UUID.randomUUID(), tenantId, "Incident " + i, "Description " + i,
+                    severities[random.nextInt(severities.length)].name(), status.name(), userId,
+                    utc(createdAt), utc(createdAt), resolvedAt == null ? null : utc(resolvedAt) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO incidents (id, tenant_id, title, description, severity, status, "
+                + "created_by, created_at, updated_at, resolved_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        dailyStatsRepository.rebuildForTenant(tenantId);
+    }
+
+    @Test
+    @DisplayName("database aggregation should match the in-memory computation")
+    void databaseAggregationMatchesInMemory() {
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        LocalDate weekStart = today.minusDays(6);
+        LocalDate monthStart = today.minusDays(29);
+
+        IncidentStats expected = IncidentAnalyticsService.computeInMemory(
+                incidentRepository.findByTenantId(tenantId), now);
+        IncidentStats actual = incidentRepository.aggregateAnalytics(tenantId, weekStart, monthStart);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.totalIncidents()).isEqualTo(INCIDENT_COUNT);
+    }
+
+    @Test
+    @DisplayName("database aggregation should return empty analytics for a tenant without incidents")
+    void emptyTenant() {
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        IncidentStats analytics = incidentRepository.aggregateAnalytics(
+                UUID.randomUUID(), today.minusDays(6), today.minusDays(29));
+
+        assertThat(analytics).isEqualTo(IncidentStats.empty());
+    }
+
+    @Test
+    @DisplayName("incremental rollup deltas should match a rebuild from the incidents table")
+    void incrementalDeltasMatchRebuild() {
+        Incident created = incidentRepository.save(
+                Incident.createNew(tenantId, "Delta", "Incremental rollup", Severity.LOW, userId));
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(null, created));
+
+        Incident escalated = incidentRepository.save(created.escalate());
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(created, escalated));
+
+        Incident resolved = incidentRepository.save(escalated.withStatus(IncidentStatus.RESOLVED));
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(escalated, resolved));
+
+        Incident other = incidentRepository.save(
+                Incident.createNew(tenantId, "Deleted", "Removed again", Severity.HIGH, userId));
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(null, other));
+        incidentRepository.deleteByIdAndTenantId(other.id(), tenantId);
+        dailyStatsRepository.applyDelta(IncidentDailyStats.delta(other, null));
+
+        List<String> incremental = rollupRows();
+        dailyStatsRepository.rebuildForTenant(tenantId);
+
+        assertThat(incremental).isEqualTo(rollupRows());
+    }
+
+    private List<String> rollupRows() {
+        return jdbcTemplate.queryForList("""
+                SELECT day || ' ' || severity || ' ' || status || ' ' || created_count || ' ' || resolved_count
+                FROM incident_daily_stats
+                WHERE tenant_id = ? AND (created_count <> 0 OR resolved_count <> 0)
+                ORDER BY day, severity, status
+                """, String.class, tenantId);
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
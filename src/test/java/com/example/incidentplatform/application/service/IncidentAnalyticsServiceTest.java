@@ -1,8 +1,10 @@
 package com.example.incidentplatform.application.service;
 
 import com.example.incidentplatform.api.dto.incident.IncidentAnalytics;
+import com.example.incidentplatform.application.port.IncidentDailyStatsRepository;
 import com.example.incidentplatform.application.port.IncidentRepository;
 import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentStats;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,17 +12,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +38,9 @@ class IncidentAnalyticsServiceTest {
     @Mock
     private IncidentRepository incidentRepository;
 
+    @Mock
+    private IncidentDailyStatsRepository dailyStatsRepository;
+
     @InjectMocks
     private IncidentAnalyticsService analyticsService;
 
@@ -46,14 +58,53 @@ class IncidentAnalyticsServiceTest {
     class GenerateAnalytics {
 
         @Test
-        @DisplayName("should return empty analytics when no incidents")
-        void shouldReturnEmptyWhenNoIncidents() {
+        @DisplayName("should delegate aggregation to the repository")
+        void shouldDelegateToRepository() {
             // Given
-            when(incidentRepository.findByTenantId(tenantId)).thenReturn(List.of());
+            IncidentStats stats = new IncidentStats(3, 2, 1, 0, 12.5, Map.of("HIGH", 3L), Map.of("OPEN", 2L),
+                    Map.of(), Map.of(), 3, 1, 3, 1);
+            when(incidentRepository.aggregateAnalytics(eq(tenantId), any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(stats);
 
             // When
             IncidentAnalytics analytics = analyticsService.generateAnalytics(tenantId);
 
+            // Then
+            assertThat(analytics).isEqualTo(IncidentAnalytics.from(stats));
+            assertThat(analytics.totalIncidents()).isEqualTo(3);
+            assertThat(analytics.averageResolutionTimeHours()).isEqualTo(12.5);
+            verify(incidentRepository, never()).findByTenantId(any());
+        }
+
+        @Test
+        @DisplayName("should use the last 7 and 30 days including today")
+        void shouldUseWeekAndMonthWindows() {
+            // Given
+            ArgumentCaptor<LocalDate> weekStart = ArgumentCaptor.forClass(LocalDate.class);
+            ArgumentCaptor<LocalDate> monthStart = ArgumentCaptor.forClass(LocalDate.class);
+            when(incidentRepository.aggregateAnalytics(eq(tenantId), weekStart.capture(), monthStart.capture()))
+                    .thenReturn(IncidentStats.empty());
+
+            // When
+            analyticsService.generateAnalytics(tenantId);
+
+            // Then
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            assertThat(weekStart.getValue()).isEqualTo(today.minusDays(6));
+            assertThat(monthStart.getValue()).isEqualTo(today.minusDays(29));
+        }
+    }
+
+    @Nested
+    @DisplayName("computeInMemory")
+    class ComputeInMemory {
+
+        @Test
+        @DisplayName("should return empty analytics when no incidents")
+        void shouldReturnEmptyWhenNoIncidents() {
+            // When
+            IncidentStats analytics = IncidentAnalyticsService.computeInMemory(List.of(), Instant.now());
+
             // Then
             assertThat(analytics.totalIncidents()).isZero();
             assertThat(analytics.openIncidents()).isZero();
@@ -68,10 +119,8 @@ class IncidentAnalyticsServiceTest {
                     createIncident(IncidentStatus.IN_PROGRESS, Severity.MEDIUM, null),
                     createIncident(IncidentStatus.RESOLVED, Severity.LOW, Instant.now()));
 
-            when(incidentRepository.findByTenantId(tenantId)).thenReturn(incidents);
-
             // When
-            IncidentAnalytics analytics = analyticsService.generateAnalytics(tenantId);
+            IncidentStats analytics = IncidentAnalyticsService.computeInMemory(incidents, Instant.now());
 
             // Then
             assertThat(analytics.totalIncidents()).isEqualTo(3);
@@ -88,10 +137,8 @@ class IncidentAnalyticsServiceTest {
                     createIncident(IncidentStatus.OPEN, Severity.HIGH, null),
                     createIncident(IncidentStatus.OPEN, Severity.LOW, null));
 
-            when(incidentRepository.findByTenantId(tenantId)).thenReturn(incidents);
-
             // When
-            IncidentAnalytics analytics = analyticsService.generateAnalytics(tenantId);
+            IncidentStats analytics = IncidentAnalyticsService.computeInMemory(incidents, Instant.now());
 
             // Then
             assertThat(analytics.incidentsBySeverity()).containsEntry("HIGH", 2L);
@@ -110,10 +157,9 @@ class IncidentAnalyticsServiceTest {
                     Severity.HIGH, IncidentStatus.RESOLVED,
                     userId, created, created, resolved);
 
-            when(incidentRepository.findByTenantId(tenantId)).thenReturn(List.of(resolvedIncident));
-
             // When
-            IncidentAnalytics analytics = analyticsService.generateAnalytics(tenantId);
+            IncidentStats analytics = IncidentAnalyticsService.computeInMemory(
+                    List.of(resolvedIncident), Instant.now());
 
             // Then
             assertThat(analytics.averageResolutionTimeHours()).isNotNull();
@@ -171,23 +217,22 @@ class IncidentAnalyticsServiceTest {
     class CountIncidentsInRange {
 
         @Test
-        @DisplayName("should count incidents in date range")
+        @DisplayName("should count incidents from the daily rollup over whole days")
         void shouldCountIncidentsInRange() {
             // Given
-            List<Incident> incidents = List.of(
-                    createIncident(IncidentStatus.OPEN, Severity.HIGH, null),
-                    createIncident(IncidentStatus.OPEN, Severity.LOW, null));
-
-            when(incidentRepository.findByTenantId(tenantId)).thenReturn(incidents);
+            Instant start = Instant.parse("2026-03-01T18:30:00Z");
+            Instant end = Instant.parse("2026-03-03T02:00:00Z");
 
-            Instant start = Instant.now().minus(1, ChronoUnit.DAYS);
-            Instant end = Instant.now().plus(1, ChronoUnit.DAYS);
+            when(dailyStatsRepository.countCreatedBetween(
+                    tenantId, LocalDate.parse("2026-03-01"), LocalDate.parse("2026-03-03")))
+                    .thenReturn(2L);
 
             // When
             long count = analyticsService.countIncidentsInRange(tenantId, start, end);
 
             // Then
             assertThat(count).isEqualTo(2);
+            verify(incidentRepository, never()).findByTenantId(any());
         }
     }
 
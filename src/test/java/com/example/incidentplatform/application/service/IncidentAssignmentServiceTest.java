@@ -7,6 +7,7 @@ import com.example.incidentplatform.common.error.ConflictException;
 import com.example.incidentplatform.common.error.NotFoundException;
 import com.example.incidentplatform.domain.model.incident.Incident;
 import com.example.incidentplatform.domain.model.incident.IncidentAssignment;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
 import com.example.incidentplatform.domain.model.incident.Severity;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
 import java.util.List;
@@ -44,6 +46,9 @@ class IncidentAssignmentServiceTest {
     @Mock
     private WebhookService webhookService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private IncidentAssignmentService assignmentService;
 
     @Captor
@@ -66,7 +71,7 @@ class IncidentAssignmentServiceTest {
         testIncident = Incident.createNew(tenantId, "Test Incident", "Test description", Severity.HIGH, assignedBy);
 
         assignmentService = new IncidentAssignmentService(assignmentRepository, incidentRepository, userRepository,
-                webhookService);
+                webhookService, eventPublisher);
     }
 
     @Nested
@@ -94,6 +99,7 @@ class IncidentAssignmentServiceTest {
             assertThat(saved.assignedBy()).isEqualTo(assignedBy);
             assertThat(saved.notes()).isEqualTo(notes);
             assertThat(saved.isActive()).isTrue();
+            verify(eventPublisher).publishEvent(IncidentLifecycleEvent.assigned(testIncident, assigneeId, assignedBy));
         }
 
         @Test
@@ -174,6 +180,7 @@ class IncidentAssignmentServiceTest {
             // Given
             IncidentAssignment active = createAssignment(assignmentId, incidentId, assigneeId, assignedBy, null);
             when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(active));
+            when(incidentRepository.findById(incidentId)).thenReturn(Optional.of(testIncident));
             when(assignmentRepository.save(any(IncidentAssignment.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
@@ -181,6 +188,7 @@ class IncidentAssignmentServiceTest {
 
             // Then
             assertThat(result.isActive()).isFalse();
+            verify(eventPublisher).publishEvent(IncidentLifecycleEvent.unassigned(testIncident, assigneeId));
         }
 
         @Test
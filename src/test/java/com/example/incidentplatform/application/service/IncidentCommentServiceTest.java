@@ -209,27 +209,26 @@ class IncidentCommentServiceTest {
         @DisplayName("should delete comment when exists")
         void shouldDeleteCommentWhenExists() {
             // Given
-            when(commentRepository.existsById(commentId)).thenReturn(true);
+            when(commentRepository.deleteById(commentId)).thenReturn(true);
 
             // When
             commentService.deleteComment(commentId);
 
             // Then
             verify(commentRepository).deleteById(commentId);
+            verify(commentRepository, never()).existsById(any());
         }
 
         @Test
         @DisplayName("should throw NotFoundException when comment not found")
         void shouldThrowWhenCommentNotFound() {
             // Given
-            when(commentRepository.existsById(commentId)).thenReturn(false);
+            when(commentRepository.deleteById(commentId)).thenReturn(false);
 
             // When/Then
             assertThatThrownBy(() -> commentService.deleteComment(commentId))
                     .isInstanceOf(NotFoundException.class)
                     .hasMessageContaining("Comment not found");
-
-            verify(commentRepository, never()).deleteById(any());
         }
     }
 
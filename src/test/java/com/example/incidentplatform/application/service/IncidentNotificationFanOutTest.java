@@ -0,0 +1,179 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.IncidentAssignmentRepository;
+import com.example.incidentplatform.application.port.TenantUserRepository;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentAssignment;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import com.example.incidentplatform.domain.model.incident.Severity;
+import com.example.incidentplatform.domain.model.tenant.TenantUser;
+import com.example.incidentplatform.domain.model.user.RoleCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentNotificationFanOutTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private IncidentAssignmentRepository assignmentRepository;
+
+    @Mock
+    private TenantUserRepository tenantUserRepository;
+
+    @Captor
+    private ArgumentCaptor<Collection<UUID>> recipientsCaptor;
+
+    private IncidentNotificationFanOut fanOut;
+    private UUID tenantId;
+    private UUID creatorId;
+    private UUID adminId;
+    private List<TenantUser> members;
+
+    @BeforeEach
+    void setUp() {
+        fanOut = new IncidentNotificationFanOut(notificationService, assignmentRepository, tenantUserRepository);
+        tenantId = UUID.randomUUID();
+        creatorId = UUID.randomUUID();
+        adminId = UUID.randomUUID();
+        members = new ArrayList<>();
+        members.add(TenantUser.createNew(tenantId, creatorId, RoleCode.MEMBER));
+        members.add(TenantUser.createNew(tenantId, adminId, RoleCode.ADMIN));
+        for (int i = 0; i < 2_000; i++) {
+            members.add(TenantUser.createNew(tenantId, UUID.randomUUID(), RoleCode.MEMBER));
+        }
+    }
+
+    @Nested
+    @DisplayName("new incidents")
+    class NewIncidents {
+
+        @Test
+        @DisplayName("should notify every member but the creator of a critical incident in one batch")
+        void shouldNotifyEveryMemberOfCriticalIncident() {
+            // Given
+            Incident incident = Incident.createNew(tenantId, "Outage", "All down", Severity.CRITICAL, creatorId);
+            when(tenantUserRepository.findByTenantId(tenantId)).thenReturn(members);
+
+            // When
+            fanOut.fanOut(IncidentLifecycleEvent.created(incident));
+
+            // Then
+            verify(notificationService).notifyIncidentCreated(recipientsCaptor.capture(), eq(incident.id()),
+                    eq("Outage"), eq("CRITICAL"));
+            assertThat(recipientsCaptor.getValue()).hasSize(2_001).doesNotContain(creatorId).contains(adminId);
+        }
+
+        @Test
+        @DisplayName("should only notify owners and admins of a non-critical incident")
+        void shouldNotifyAdminsOfNonCriticalIncident() {
+            // Given
+            Incident incident = Incident.createNew(tenantId, "Slow", "Latency up", Severity.LOW, creatorId);
+            when(tenantUserRepository.findByTenantId(tenantId)).thenReturn(members);
+
+            // When
+            fanOut.fanOut(IncidentLifecycleEvent.created(incident));
+
+            // Then
+            verify(notificationService).notifyIncidentCreated(recipientsCaptor.capture(), eq(incident.id()),
+                    eq("Slow"), eq("LOW"));
+            assertThat(recipientsCaptor.getValue()).containsExactly(adminId);
+        }
+    }
+
+    @Nested
+    @DisplayName("updates")
+    class Updates {
+
+        @Test
+        @DisplayName("should notify the creator and each assignee once of a status change")
+        void shouldNotifyParticipantsOfStatusChange() {
+            // Given
+            Incident incident = Incident.createNew(tenantId, "Slow", "Latency up", Severity.LOW, creatorId);
+            Incident updated = incident.update(null, null, null, IncidentStatus.IN_PROGRESS);
+            UUID assigneeId = UUID.randomUUID();
+            when(assignmentRepository.findActiveByIncidentId(incident.id())).thenReturn(List.of(
+                    IncidentAssignment.createNew(incident.id(), assigneeId, adminId, null),
+                    IncidentAssignment.createNew(incident.id(), creatorId, adminId, null)));
+
+            // When
+            fanOut.fanOut(IncidentLifecycleEvent.statusChanged(incident, updated));
+
+            // Then
+            verify(notificationService).notifyStatusChange(recipientsCaptor.capture(), eq(incident.id()),
+                    eq("Slow"), eq("OPEN"), eq("IN_PROGRESS"));
+            assertThat(recipientsCaptor.getValue()).containsExactly(creatorId, assigneeId);
+            verifyNoInteractions(tenantUserRepository);
+        }
+
+        @Test
+        @DisplayName("should add owners and admins to the participants of an escalation")
+        void shouldNotifyAdminsOfEscalation() {
+            // Given
+            Incident incident = Incident.createNew(tenantId, "Slow", "Latency up", Severity.LOW, creatorId);
+            when(assignmentRepository.findActiveByIncidentId(incident.id())).thenReturn(List.of());
+            when(tenantUserRepository.findByTenantId(tenantId)).thenReturn(members);
+
+            // When
+            fanOut.fanOut(IncidentLifecycleEvent.escalated(incident, incident.escalate()));
+
+            // Then
+            verify(notificationService).notifyEscalation(recipientsCaptor.capture(), eq(incident.id()),
+                    eq("Slow"), eq("LOW"), eq("MEDIUM"));
+            assertThat(recipientsCaptor.getValue()).containsExactly(creatorId, adminId);
+        }
+    }
+
+    @Nested
+    @DisplayName("assignments")
+    class Assignments {
+
+        @Test
+        @DisplayName("should notify the assignee")
+        void shouldNotifyAssignee() {
+            // Given
+            Incident incident = Incident.createNew(tenantId, "Slow", "Latency up", Severity.LOW, creatorId);
+            UUID assigneeId = UUID.randomUUID();
+
+            // When
+            fanOut.fanOut(IncidentLifecycleEvent.assigned(incident, assigneeId, adminId));
+
+            // Then
+            verify(notificationService).notifyAssignment(assigneeId, incident.id(), "Slow", adminId);
+        }
+
+        @Test
+        @DisplayName("should not notify users who assign themselves")
+        void shouldNotNotifySelfAssignment() {
+            // Given
+            Incident incident = Incident.createNew(tenantId, "Slow", "Latency up", Severity.LOW, creatorId);
+
+            // When
+            fanOut.fanOut(IncidentLifecycleEvent.assigned(incident, adminId, adminId));
+
+            // Then
+            verify(notificationService, never()).notifyAssignment(any(), any(), any(), any());
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.incidentplatform.application.service;
 
+import com.example.incidentplatform.application.port.IncidentDailyStatsRepository;
 import com.example.incidentplatform.application.port.IncidentRepository;
 import com.example.incidentplatform.application.port.UserRepository;
 import com.example.incidentplatform.common.error.NotFoundException;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.SortDirection;
 import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentDailyStats;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
 import com.example.incidentplatform.domain.model.incident.IncidentStatus;
 import com.example.incidentplatform.domain.model.incident.Severity;
 
@@ -13,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,11 +44,21 @@ class IncidentServiceTest {
         @Mock
         private UserRepository userRepository;
 
+        @Mock
+        private IncidentDailyStatsRepository dailyStatsRepository;
+
+        @Mock
+        private IncidentStatusCountCache statusCounts;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         private IncidentService incidentService;
 
         @BeforeEach
         void setup() {
-                incidentService = new IncidentService(incidentRepository, webhookService, userRepository);
+                incidentService = new IncidentService(incidentRepository, webhookService, userRepository,
+                                dailyStatsRepository, statusCounts, eventPublisher);
         }
 
         @Test
@@ -62,6 +80,9 @@ class IncidentServiceTest {
                 assertEquals(severity, result.severity());
                 assertEquals(IncidentStatus.OPEN, result.status());
                 verify(incidentRepository).save(any(Incident.class));
+                verify(dailyStatsRepository).applyDelta(IncidentDailyStats.delta(null, incident));
+                verify(statusCounts).recordChange(null, incident);
+                verify(eventPublisher).publishEvent(IncidentLifecycleEvent.created(incident));
         }
 
         @Test
@@ -99,13 +120,15 @@ class IncidentServiceTest {
                 var incident1 = Incident.createNew(tenantId, "Issue 1", "Desc", Severity.HIGH, UUID.randomUUID());
                 var incident2 = Incident.createNew(tenantId, "Issue 2", "Desc", Severity.LOW, UUID.randomUUID());
 
-                when(incidentRepository.findByTenantId(tenantId))
-                                .thenReturn(List.of(incident1, incident2));
+                var page = CursorPageRequest.first();
+                when(incidentRepository.findByTenantId(tenantId, page))
+                                .thenReturn(new CursorPage<>(List.of(incident1, incident2), "next"));
 
-                var result = incidentService.listIncidents(tenantId);
+                var result = incidentService.listIncidents(tenantId, page);
 
-                assertEquals(2, result.size());
-                verify(incidentRepository).findByTenantId(tenantId);
+                assertEquals(2, result.items().size());
+                assertEquals("next", result.nextCursor());
+                verify(incidentRepository).findByTenantId(tenantId, page);
         }
 
         @Test
@@ -113,12 +136,15 @@ class IncidentServiceTest {
         void deleteIncident_removesIncidentSuccessfully() {
                 UUID tenantId = UUID.randomUUID();
                 UUID incidentId = UUID.randomUUID();
+                var existing = Incident.createNew(tenantId, "Issue", "Description", Severity.HIGH, UUID.randomUUID());
 
-                when(incidentRepository.existsByIdAndTenantId(incidentId, tenantId)).thenReturn(true);
+                when(incidentRepository.deleteByIdAndTenantId(incidentId, tenantId)).thenReturn(Optional.of(existing));
 
                 incidentService.deleteIncident(tenantId, incidentId);
 
-                verify(incidentRepository).deleteByIdAndTenantId(incidentId, tenantId);
+                verify(incidentRepository, never()).findByIdAndTenantId(any(), any());
+                verify(dailyStatsRepository).applyDelta(IncidentDailyStats.delta(existing, null));
+                verify(statusCounts).recordChange(existing, null);
         }
 
         @Test
@@ -127,11 +153,11 @@ class IncidentServiceTest {
                 UUID tenantId = UUID.randomUUID();
                 UUID incidentId = UUID.randomUUID();
 
-                when(incidentRepository.existsByIdAndTenantId(incidentId, tenantId)).thenReturn(false);
+                when(incidentRepository.deleteByIdAndTenantId(incidentId, tenantId)).thenReturn(Optional.empty());
 
                 assertThrows(NotFoundException.class, () -> incidentService.deleteIncident(tenantId, incidentId));
 
-                verify(incidentRepository, never()).deleteByIdAndTenantId(any(), any());
+                verifyNoInteractions(dailyStatsRepository, statusCounts);
         }
 
         // ==================== Update Incident Tests ====================
@@ -143,7 +169,7 @@ class IncidentServiceTest {
                 UUID incidentId = UUID.randomUUID();
                 var existing = Incident.createNew(tenantId, "Issue", "Desc", Severity.HIGH, UUID.randomUUID());
 
-                when(incidentRepository.findByIdAndTenantId(incidentId, tenantId))
+                when(incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId))
                                 .thenReturn(Optional.of(existing));
                 when(incidentRepository.save(any(Incident.class)))
                                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -154,6 +180,7 @@ class IncidentServiceTest {
                 assertEquals(IncidentStatus.IN_PROGRESS, result.status());
                 assertEquals(existing.title(), result.title()); // unchanged
                 verify(incidentRepository).save(any(Incident.class));
+                verify(dailyStatsRepository).applyDelta(IncidentDailyStats.delta(existing, result));
         }
 
         @Test
@@ -163,7 +190,7 @@ class IncidentServiceTest {
                 UUID incidentId = UUID.randomUUID();
                 var existing = Incident.createNew(tenantId, "Old Title", "Old Desc", Severity.LOW, UUID.randomUUID());
 
-                when(incidentRepository.findByIdAndTenantId(incidentId, tenantId))
+                when(incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId))
                                 .thenReturn(Optional.of(existing));
                 when(incidentRepository.save(any(Incident.class)))
                                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -185,7 +212,7 @@ class IncidentServiceTest {
                 UUID incidentId = UUID.randomUUID();
                 var existing = Incident.createNew(tenantId, "Issue", "Desc", Severity.HIGH, UUID.randomUUID());
 
-                when(incidentRepository.findByIdAndTenantId(incidentId, tenantId))
+                when(incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId))
                                 .thenReturn(Optional.of(existing));
                 when(incidentRepository.save(any(Incident.class)))
                                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -195,6 +222,7 @@ class IncidentServiceTest {
 
                 assertEquals(IncidentStatus.RESOLVED, result.status());
                 assertNotNull(result.resolvedAt()); // resolvedAt should be set!
+                verify(eventPublisher).publishEvent(IncidentLifecycleEvent.statusChanged(existing, result));
         }
 
         @Test
@@ -203,7 +231,7 @@ class IncidentServiceTest {
                 UUID tenantId = UUID.randomUUID();
                 UUID incidentId = UUID.randomUUID();
 
-                when(incidentRepository.findByIdAndTenantId(incidentId, tenantId))
+                when(incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId))
                                 .thenReturn(Optional.empty());
 
                 assertThrows(NotFoundException.class,
@@ -218,7 +246,7 @@ class IncidentServiceTest {
                 UUID incidentId = UUID.randomUUID();
                 var existing = Incident.createNew(tenantId, "Issue", "Desc", Severity.MEDIUM, UUID.randomUUID());
 
-                when(incidentRepository.findByIdAndTenantId(incidentId, tenantId))
+                when(incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId))
                                 .thenReturn(Optional.of(existing));
                 when(incidentRepository.save(any(Incident.class)))
                                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -226,6 +254,7 @@ class IncidentServiceTest {
                 var result = incidentService.escalateIncident(tenantId, incidentId);
 
                 assertEquals(Severity.HIGH, result.severity()); // MEDIUM → HIGH
+                verify(eventPublisher).publishEvent(IncidentLifecycleEvent.escalated(existing, result));
         }
 
         @Test
@@ -235,7 +264,7 @@ class IncidentServiceTest {
                 UUID incidentId = UUID.randomUUID();
                 var existing = Incident.createNew(tenantId, "Issue", "Desc", Severity.CRITICAL, UUID.randomUUID());
 
-                when(incidentRepository.findByIdAndTenantId(incidentId, tenantId))
+                when(incidentRepository.findByIdAndTenantIdForUpdate(incidentId, tenantId))
                                 .thenReturn(Optional.of(existing));
                 when(incidentRepository.save(any(Incident.class)))
                                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -243,6 +272,7 @@ class IncidentServiceTest {
                 var result = incidentService.escalateIncident(tenantId, incidentId);
 
                 assertEquals(Severity.CRITICAL, result.severity()); // stays CRITICAL
+                verifyNoInteractions(eventPublisher);
         }
 
         // ==================== Search Tests ====================
@@ -254,17 +284,19 @@ class IncidentServiceTest {
                 var incident = Incident.createNew(tenantId, "Server Down", "Desc", Severity.HIGH, UUID.randomUUID());
 
                 var criteria = new com.example.incidentplatform.api.dto.incident.IncidentSearchCriteria(
-                                "server", IncidentStatus.OPEN, null, null, null, null, "createdAt", "DESC");
+                                "server", IncidentStatus.OPEN, null, null, null, null, false,
+                                IncidentSortField.CREATED_AT, SortDirection.DESC);
 
+                var page = CursorPageRequest.first();
                 when(incidentRepository.search(
                                 eq(tenantId), eq("server"), eq("OPEN"), isNull(), isNull(), isNull(), isNull(),
-                                eq("createdAt"), eq("DESC")))
-                                .thenReturn(List.of(incident));
+                                eq(false), eq(IncidentSortField.CREATED_AT), eq(SortDirection.DESC), eq(page)))
+                                .thenReturn(new CursorPage<>(List.of(incident), null));
 
-                var result = incidentService.searchIncidents(tenantId, criteria);
+                var result = incidentService.searchIncidents(tenantId, criteria, page);
 
-                assertEquals(1, result.size());
-                assertEquals("Server Down", result.get(0).title());
+                assertEquals(1, result.items().size());
+                assertEquals("Server Down", result.items().get(0).title());
         }
 
         @Test
@@ -274,13 +306,14 @@ class IncidentServiceTest {
                 var incident = Incident.createNew(tenantId, "Critical Issue", "Desc", Severity.CRITICAL,
                                 UUID.randomUUID());
 
-                when(incidentRepository.findByTenantIdAndSeverity(tenantId, "CRITICAL"))
-                                .thenReturn(List.of(incident));
+                var page = CursorPageRequest.first();
+                when(incidentRepository.findByTenantIdAndSeverity(tenantId, "CRITICAL", page))
+                                .thenReturn(new CursorPage<>(List.of(incident), null));
 
-                var result = incidentService.listIncidentsBySeverity(tenantId, Severity.CRITICAL);
+                var result = incidentService.listIncidentsBySeverity(tenantId, Severity.CRITICAL, page);
 
-                assertEquals(1, result.size());
-                assertEquals(Severity.CRITICAL, result.get(0).severity());
+                assertEquals(1, result.items().size());
+                assertEquals(Severity.CRITICAL, result.items().get(0).severity());
         }
 
         @Test
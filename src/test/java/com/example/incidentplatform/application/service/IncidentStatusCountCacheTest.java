@@ -0,0 +1,129 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.IncidentRepository;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import com.example.incidentplatform.domain.model.incident.Severity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentStatusCountCacheTest {
+
+        @Mock
+        private IncidentRepository incidentRepository;
+
+        private IncidentStatusCountCache cache;
+        private UUID tenantId;
+
+        @BeforeEach
+        void setup() {
+                cache = new IncidentStatusCountCache(incidentRepository, Duration.ofMinutes(1));
+                tenantId = UUID.randomUUID();
+        }
+
+        @Test
+        @DisplayName("counts are loaded once and then served from memory")
+        void countByStatus_loadsOnce() {
+                when(incidentRepository.countByStatus(tenantId)).thenReturn(counts(2, 1, 0, 0));
+
+                cache.countByStatus(tenantId);
+                Map<IncidentStatus, Long> counts = cache.countByStatus(tenantId);
+
+                assertEquals(2L, counts.get(IncidentStatus.OPEN));
+                verify(incidentRepository, times(1)).countByStatus(tenantId);
+        }
+
+        @Test
+        @DisplayName("writes adjust the cached counts without a reload")
+        void recordChange_adjustsCachedCounts() {
+                when(incidentRepository.countByStatus(tenantId)).thenReturn(counts(2, 1, 0, 0));
+                cache.countByStatus(tenantId);
+
+                Incident created = incident(IncidentStatus.OPEN);
+                cache.recordChange(null, created);
+                cache.recordChange(created, incident(IncidentStatus.RESOLVED));
+                cache.recordChange(incident(IncidentStatus.IN_PROGRESS), null);
+
+                assertEquals(counts(2, 0, 1, 0), cache.countByStatus(tenantId));
+                verify(incidentRepository, times(1)).countByStatus(tenantId);
+        }
+
+        @Test
+        @DisplayName("a rolled back write leaves the counts unchanged")
+        void recordChange_ignoresRollback() {
+                when(incidentRepository.countByStatus(tenantId)).thenReturn(counts(2, 1, 0, 0));
+                cache.countByStatus(tenantId);
+
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        cache.recordChange(null, incident(IncidentStatus.OPEN));
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                assertEquals(counts(2, 1, 0, 0), cache.countByStatus(tenantId));
+        }
+
+        @Test
+        @DisplayName("counts loaded while a write is uncommitted are not cached")
+        void countByStatus_duringPendingWrite_isNotCached() {
+                when(incidentRepository.countByStatus(tenantId)).thenReturn(counts(2, 1, 0, 0));
+
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        cache.recordChange(null, incident(IncidentStatus.OPEN));
+                        cache.countByStatus(tenantId);
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+                cache.countByStatus(tenantId);
+
+                verify(incidentRepository, times(2)).countByStatus(tenantId);
+        }
+
+        @Test
+        @DisplayName("expired counts are reloaded")
+        void countByStatus_afterTtl_reloads() {
+                cache = new IncidentStatusCountCache(incidentRepository, Duration.ZERO);
+                when(incidentRepository.countByStatus(tenantId)).thenReturn(counts(1, 0, 0, 0));
+
+                cache.countByStatus(tenantId);
+                cache.countByStatus(tenantId);
+
+                verify(incidentRepository, times(2)).countByStatus(tenantId);
+        }
+
+        private Incident incident(IncidentStatus status) {
+                Incident incident = Incident.createNew(tenantId, "Title", "Description", Severity.LOW, UUID.randomUUID());
+                return status == IncidentStatus.OPEN ? incident : incident.update(null, null, null, status);
+        }
+
+        private static Map<IncidentStatus, Long> counts(long open, long inProgress, long resolved, long closed) {
+                Map<IncidentStatus, Long> counts = new EnumMap<>(IncidentStatus.class);
+                counts.put(IncidentStatus.OPEN, open);
+                counts.put(IncidentStatus.IN_PROGRESS, inProgress);
+                counts.put(IncidentStatus.RESOLVED, resolved);
+                counts.put(IncidentStatus.CLOSED, closed);
+                return counts;
+        }
+}
@@ -2,6 +2,8 @@ package com.example.incidentplatform.application.service;
 
 import com.example.incidentplatform.application.port.NotificationRepository;
 import com.example.incidentplatform.common.error.NotFoundException;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
 import com.example.incidentplatform.domain.model.notification.Notification;
 import com.example.incidentplatform.domain.model.notification.NotificationType;
 
@@ -33,12 +35,21 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private PushPublisher pushPublisher;
+
+    @Mock
+    private UnreadNotificationCountCache unreadCounts;
+
     @InjectMocks
     private NotificationService notificationService;
 
     @Captor
     private ArgumentCaptor<Notification> notificationCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<Notification>> batchCaptor;
+
     private UUID userId;
     private UUID incidentId;
     private UUID notificationId;
@@ -79,6 +90,8 @@ class NotificationServiceTest {
             assertThat(saved.message()).isEqualTo("Test Message");
             assertThat(saved.incidentId()).isEqualTo(incidentId);
             assertThat(saved.isUnread()).isTrue();
+            verify(pushPublisher).notificationsCreated(List.of(result));
+            verify(unreadCounts).recordChange(userId, 1);
         }
     }
 
@@ -129,6 +142,41 @@ class NotificationServiceTest {
             assertThat(saved.metadata()).containsEntry("oldStatus", "OPEN");
             assertThat(saved.metadata()).containsEntry("newStatus", "IN_PROGRESS");
         }
+
+        @Test
+        @DisplayName("should write one batch for many users")
+        void shouldWriteOneBatchForManyUsers() {
+            // Given
+            List<UUID> userIds = List.of(userId, UUID.randomUUID(), UUID.randomUUID());
+
+            // When
+            int written = notificationService.notifyStatusChange(
+                    userIds, incidentId, "Server Down", "OPEN", "IN_PROGRESS");
+
+            // Then
+            assertThat(written).isEqualTo(3);
+            verify(notificationRepository).saveAll(batchCaptor.capture());
+            verify(notificationRepository, never()).save(any());
+            verify(pushPublisher).notificationsCreated(batchCaptor.getValue());
+            assertThat(batchCaptor.getValue()).extracting(Notification::userId).containsExactlyElementsOf(userIds);
+            assertThat(batchCaptor.getValue()).allSatisfy(saved -> {
+                assertThat(saved.type()).isEqualTo(NotificationType.STATUS_CHANGED);
+                assertThat(saved.incidentId()).isEqualTo(incidentId);
+            });
+            userIds.forEach(id -> verify(unreadCounts).recordChange(id, 1L));
+        }
+
+        @Test
+        @DisplayName("should write nothing for no users")
+        void shouldWriteNothingForNoUsers() {
+            // When
+            int written = notificationService.notifyStatusChange(
+                    List.of(), incidentId, "Server Down", "OPEN", "IN_PROGRESS");
+
+            // Then
+            assertThat(written).isZero();
+            verifyNoInteractions(notificationRepository);
+        }
     }
 
     @Nested
@@ -173,13 +221,15 @@ class NotificationServiceTest {
             List<Notification> notifications = List.of(
                     createNotification(UUID.randomUUID(), userId, NotificationType.ASSIGNED),
                     createNotification(UUID.randomUUID(), userId, NotificationType.NEW_COMMENT));
-            when(notificationRepository.findUnreadByUserId(userId)).thenReturn(notifications);
+            when(notificationRepository.findUnreadByUserId(userId, CursorPageRequest.first()))
+                    .thenReturn(new CursorPage<>(notifications, null));
 
             // When
-            List<Notification> result = notificationService.getUnreadNotificationsForUser(userId);
+            CursorPage<Notification> result = notificationService.getUnreadNotificationsForUser(userId,
+                    CursorPageRequest.first());
 
             // Then
-            assertThat(result).hasSize(2);
+            assertThat(result.items()).hasSize(2);
         }
     }
 
@@ -188,16 +238,17 @@ class NotificationServiceTest {
     class CountUnreadNotificationsForUser {
 
         @Test
-        @DisplayName("should return unread count")
+        @DisplayName("should return the cached unread count")
         void shouldReturnUnreadCount() {
             // Given
-            when(notificationRepository.countUnreadByUserId(userId)).thenReturn(5L);
+            when(unreadCounts.countUnread(userId)).thenReturn(5L);
 
             // When
             long count = notificationService.countUnreadNotificationsForUser(userId);
 
             // Then
             assertThat(count).isEqualTo(5L);
+            verifyNoInteractions(notificationRepository);
         }
     }
 
@@ -219,6 +270,7 @@ class NotificationServiceTest {
             // Then
             verify(notificationRepository).save(notificationCaptor.capture());
             assertThat(notificationCaptor.getValue().isRead()).isTrue();
+            verify(unreadCounts).recordChange(userId, -1);
         }
 
         @Test
@@ -234,6 +286,7 @@ class NotificationServiceTest {
             // Then
             verify(notificationRepository, never()).save(any());
             assertThat(result.isRead()).isTrue();
+            verifyNoInteractions(unreadCounts);
         }
     }
 
@@ -253,6 +306,7 @@ class NotificationServiceTest {
             // Then
             assertThat(count).isEqualTo(3);
             verify(notificationRepository).markAllAsReadForUser(userId);
+            verify(unreadCounts).recordAllRead(userId);
         }
     }
 
@@ -264,20 +318,22 @@ class NotificationServiceTest {
         @DisplayName("should delete notification when exists")
         void shouldDeleteNotificationWhenExists() {
             // Given
-            when(notificationRepository.existsById(notificationId)).thenReturn(true);
+            Notification unread = createNotification(notificationId, userId, NotificationType.ASSIGNED);
+            when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(unread));
 
             // When
             notificationService.deleteNotification(notificationId);
 
             // Then
             verify(notificationRepository).deleteById(notificationId);
+            verify(unreadCounts).recordChange(userId, -1);
         }
 
         @Test
         @DisplayName("should throw NotFoundException when not exists")
         void shouldThrowWhenNotExists() {
             // Given
-            when(notificationRepository.existsById(notificationId)).thenReturn(false);
+            when(notificationRepository.findById(notificationId)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> notificationService.deleteNotification(notificationId))
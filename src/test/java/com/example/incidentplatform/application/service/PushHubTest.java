@@ -0,0 +1,212 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushHubTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PushHub hub;
+    private String userTopic;
+    private String tenantTopic;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new PushHub(meterRegistry, 3, 3, Duration.ofMinutes(2));
+        userTopic = PushMessage.userTopic(UUID.randomUUID());
+        tenantTopic = PushMessage.tenantTopic(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("delivers a topic's messages in order, and only to its subscribers")
+    void deliversInOrderToSubscribers() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        RecordingSubscriber other = new RecordingSubscriber();
+        hub.subscribe(Set.of(userTopic, tenantTopic), subscriber);
+        hub.subscribe(Set.of(PushMessage.userTopic(UUID.randomUUID())), other);
+
+        hub.deliver(message(userTopic, "1"));
+        hub.deliver(message(tenantTopic, "2"));
+        hub.deliver(message(userTopic, "3"));
+
+        waitUntil(() -> subscriber.received.size() == 3);
+        assertThat(subscriber.received).extracting(PushMessage::data).containsExactly("1", "2", "3");
+        assertThat(other.received).isEmpty();
+        assertThat(hub.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("drops the oldest queued messages for a subscriber that falls behind")
+    void dropsOldestWhenQueueIsFull() throws InterruptedException {
+        RecordingSubscriber slow = new RecordingSubscriber();
+        CountDownLatch release = new CountDownLatch(1);
+        slow.blocked = release;
+        hub.subscribe(Set.of(userTopic), slow);
+
+        // The first message is being sent and holds up the rest
+        hub.deliver(message(userTopic, "0"));
+        waitUntil(() -> slow.received.size() == 1);
+        for (int i = 1; i <= 5; i++) {
+            hub.deliver(message(userTopic, String.valueOf(i)));
+        }
+        release.countDown();
+
+        waitUntil(() -> slow.received.size() == 4);
+        assertThat(slow.received).extracting(PushMessage::data).containsExactly("0", "3", "4", "5");
+        assertThat(meterRegistry.counter("push.messages.dropped").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("drops a subscriber whose send fails, and stops after unsubscribing")
+    void dropsFailedAndClosedSubscribers() throws InterruptedException {
+        RecordingSubscriber failing = new RecordingSubscriber();
+        failing.fail = true;
+        hub.subscribe(Set.of(userTopic), failing);
+        RecordingSubscriber leaving = new RecordingSubscriber();
+        hub.subscribe(Set.of(userTopic), leaving).close();
+
+        hub.deliver(message(userTopic, "1"));
+
+        waitUntil(() -> failing.closed);
+        assertThat(hub.connectionCount()).isZero();
+        assertThat(leaving.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sends a reconnecting subscriber the messages it missed, in order")
+    void replaysMissedMessages() throws InterruptedException {
+        RecordingSubscriber listening = new RecordingSubscriber();
+        PushHub.Subscription subscription = hub.subscribe(Set.of(userTopic), listening);
+        hub.deliver(message(userTopic, "1"));
+        waitUntil(() -> listening.received.size() == 1);
+        String lastId = listening.ids.get(0);
+        subscription.close();
+
+        // Missed while disconnected
+        hub.deliver(message(tenantTopic, "2"));
+        hub.deliver(message(PushMessage.userTopic(UUID.randomUUID()), "other"));
+        hub.deliver(message(userTopic, "3"));
+        RecordingSubscriber resumed = new RecordingSubscriber();
+        hub.subscribe(Set.of(userTopic, tenantTopic), resumed, lastId);
+        hub.deliver(message(tenantTopic, "4"));
+
+        waitUntil(() -> resumed.received.size() == 3);
+        assertThat(resumed.received).extracting(PushMessage::data).containsExactly("2", "3", "4");
+        assertThat(resumed.resynced).isFalse();
+    }
+
+    @Test
+    @DisplayName("tells a reconnecting subscriber to resync when what it missed is no longer kept")
+    void resyncsWhenMissedMessagesAreGone() throws InterruptedException {
+        RecordingSubscriber listening = new RecordingSubscriber();
+        hub.subscribe(Set.of(userTopic), listening);
+        hub.deliver(message(userTopic, "1"));
+        waitUntil(() -> listening.received.size() == 1);
+        String lastId = listening.ids.get(0);
+        // Four more push the first message after lastId out of the replay
+        for (int i = 2; i <= 5; i++) {
+            hub.deliver(message(userTopic, String.valueOf(i)));
+        }
+
+        RecordingSubscriber gap = new RecordingSubscriber();
+        hub.subscribe(Set.of(userTopic), gap, lastId);
+        RecordingSubscriber stranger = new RecordingSubscriber();
+        hub.subscribe(Set.of(userTopic), stranger, "elsewhere-1");
+        hub.deliver(message(userTopic, "6"));
+
+        waitUntil(() -> gap.received.size() == 1 && stranger.received.size() == 1);
+        assertThat(gap.resynced).isTrue();
+        assertThat(stranger.resynced).isTrue();
+        assertThat(gap.received).extracting(PushMessage::data).containsExactly("6");
+    }
+
+    @Test
+    @DisplayName("sends a heartbeat to idle subscribers")
+    void sendsHeartbeats() throws InterruptedException {
+        RecordingSubscriber idle = new RecordingSubscriber();
+        hub.subscribe(Set.of(userTopic), idle);
+
+        hub.heartbeat();
+
+        waitUntil(() -> idle.heartbeats == 1);
+        assertThat(idle.received).isEmpty();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static PushMessage message(String topic, String data) {
+        return new PushMessage(topic, "test", data);
+    }
+
+    private static final class RecordingSubscriber implements PushHub.Subscriber {
+
+        final List<PushMessage> received = new CopyOnWriteArrayList<>();
+        final List<String> ids = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch blocked;
+        volatile boolean fail;
+        volatile boolean closed;
+        volatile boolean resynced;
+        volatile int heartbeats;
+
+        @Override
+        public void send(String id, PushMessage message) throws IOException {
+            if (fail) {
+                throw new IOException("gone");
+            }
+            ids.add(id);
+            received.add(message);
+            CountDownLatch latch = blocked;
+            if (latch != null) {
+                blocked = null;
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void resync() {
+            resynced = true;
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.NotificationRepository;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentLifecycleEvent;
+import com.example.incidentplatform.domain.model.incident.Severity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCountCacheTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private UnreadNotificationCountCache cache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UnreadNotificationCountCache(notificationRepository, Duration.ofMinutes(1), 100);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("the count is loaded once and then kept current by writes")
+    void countUnread_loadsOnceAndFollowsWrites() {
+        when(notificationRepository.countUnreadByUserId(userId)).thenReturn(3L);
+        cache.countUnread(userId);
+
+        cache.recordChange(userId, 2);
+        cache.recordChange(userId, -1);
+
+        assertThat(cache.countUnread(userId)).isEqualTo(4);
+        cache.recordAllRead(userId);
+        assertThat(cache.countUnread(userId)).isZero();
+        verify(notificationRepository, times(1)).countUnreadByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("a rolled back write leaves the count unchanged")
+    void recordChange_ignoresRollback() {
+        when(notificationRepository.countUnreadByUserId(userId)).thenReturn(3L);
+        cache.countUnread(userId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.recordChange(userId, 1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.countUnread(userId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a count loaded while a write is uncommitted is not cached")
+    void countUnread_duringPendingWrite_isNotCached() {
+        when(notificationRepository.countUnreadByUserId(userId)).thenReturn(3L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.recordChange(userId, 1);
+            cache.countUnread(userId);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.countUnread(userId);
+
+        verify(notificationRepository, times(2)).countUnreadByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("marking all read while another write is uncommitted reloads the count")
+    void recordAllRead_duringPendingWrite_reloads() {
+        when(notificationRepository.countUnreadByUserId(userId)).thenReturn(3L, 1L);
+        cache.countUnread(userId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.recordChange(userId, 1);
+            cache.recordAllRead(userId);
+            // Marking all read commits first, while the new notification is in flight
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.countUnread(userId)).isEqualTo(1);
+        verify(notificationRepository, times(2)).countUnreadByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("counts are reloaded after they expire, or after an incident is deleted")
+    void countUnread_reloadsAfterTtlOrIncidentDelete() {
+        when(notificationRepository.countUnreadByUserId(userId)).thenReturn(3L);
+        cache.countUnread(userId);
+
+        Incident incident = Incident.createNew(UUID.randomUUID(), "Title", "Description", Severity.LOW, userId);
+        cache.onIncidentEvent(IncidentLifecycleEvent.deleted(incident));
+        cache.countUnread(userId);
+        cache.countUnread(userId);
+
+        UnreadNotificationCountCache expiring = new UnreadNotificationCountCache(notificationRepository,
+                Duration.ZERO, 100);
+        expiring.countUnread(userId);
+        expiring.countUnread(userId);
+
+        verify(notificationRepository, times(4)).countUnreadByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("keeps at most max-size users")
+    void evictsBeyondMaxSize() {
+        cache = new UnreadNotificationCountCache(notificationRepository, Duration.ofMinutes(1), 10);
+        when(notificationRepository.countUnreadByUserId(any())).thenReturn(1L);
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            userIds.add(UUID.randomUUID());
+        }
+
+        userIds.forEach(cache::countUnread);
+        userIds.forEach(cache::countUnread);
+
+        // No more than 10 of the 50 can still be cached the second time round
+        verify(notificationRepository, atLeast(90)).countUnreadByUserId(any());
+    }
+}
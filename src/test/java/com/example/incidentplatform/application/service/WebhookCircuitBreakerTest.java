@@ -0,0 +1,136 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.CircuitOpenException;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.Permit;
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
+import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMinutes(1);
+    private static final Duration FAST = Duration.ofMillis(50);
+
+    @Mock
+    private WebhookRepository webhookRepository;
+
+    private WebhookCircuitBreaker breaker;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        // Window of 10, judged after 4 calls: opens at 50% failed or 75% slow
+        breaker = new WebhookCircuitBreaker(webhookRepository, 10, 4, 50, Duration.ofSeconds(1), 75, OPEN_DURATION);
+        now = Instant.now();
+    }
+
+    @Test
+    @DisplayName("the circuit opens once the failure rate reaches the threshold over enough calls")
+    void record_failureRate_opensCircuit() {
+        Webhook webhook = webhook(CircuitState.CLOSED, null, null);
+        when(webhookRepository.openCircuit(any(), any(), any(), any())).thenReturn(true);
+
+        breaker.record(webhook, Permit.CALL, false, FAST, now);
+        breaker.record(webhook, Permit.CALL, false, FAST, now);
+        breaker.record(webhook, Permit.CALL, true, FAST, now);
+        verify(webhookRepository, never()).openCircuit(any(), any(), any(), any());
+
+        breaker.record(webhook, Permit.CALL, true, FAST, now);
+
+        verify(webhookRepository).openCircuit(webhook.id(), CircuitState.CLOSED, now, now.plus(OPEN_DURATION));
+    }
+
+    @Test
+    @DisplayName("slow successes open the circuit too")
+    void record_slowCallRate_opensCircuit() {
+        Webhook webhook = webhook(CircuitState.CLOSED, null, null);
+
+        for (int i = 0; i < 3; i++) {
+            breaker.record(webhook, Permit.CALL, true, Duration.ofSeconds(2), now);
+        }
+        breaker.record(webhook, Permit.CALL, true, FAST, now);
+
+        verify(webhookRepository).openCircuit(webhook.id(), CircuitState.CLOSED, now, now.plus(OPEN_DURATION));
+    }
+
+    @Test
+    @DisplayName("failures recorded before the circuit last opened are forgotten")
+    void record_afterTrip_startsANewWindow() {
+        Webhook before = webhook(CircuitState.CLOSED, null, null);
+        breaker.record(before, Permit.CALL, false, FAST, now);
+        breaker.record(before, Permit.CALL, false, FAST, now);
+        breaker.record(before, Permit.CALL, false, FAST, now);
+
+        Webhook reclosed = webhook(CircuitState.CLOSED, now.minusSeconds(10), null);
+        breaker.record(reclosed, Permit.CALL, true, FAST, now);
+
+        verify(webhookRepository, never()).openCircuit(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("an open circuit refuses deliveries until its retry time")
+    void acquire_open_refuses() {
+        Instant retryAt = now.plusSeconds(30);
+        Webhook webhook = webhook(CircuitState.OPEN, now, retryAt);
+
+        assertThatThrownBy(() -> breaker.acquire(webhook, now))
+                .isInstanceOfSatisfying(CircuitOpenException.class, e -> assertThat(e.retryAt()).isEqualTo(retryAt));
+        verifyNoInteractions(webhookRepository);
+    }
+
+    @Test
+    @DisplayName("after the retry time one delivery becomes the probe and the others keep waiting")
+    void acquire_afterRetryTime_grantsOneProbe() {
+        Webhook webhook = webhook(CircuitState.OPEN, now.minusSeconds(60), now);
+        when(webhookRepository.halfOpenCircuit(webhook.id(), now, now.plus(OPEN_DURATION)))
+                .thenReturn(true, false);
+
+        assertThat(breaker.acquire(webhook, now)).isEqualTo(Permit.PROBE);
+        assertThatThrownBy(() -> breaker.acquire(webhook, now)).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("a successful probe closes the circuit and a failed one reopens it")
+    void record_probe() {
+        Webhook webhook = webhook(CircuitState.HALF_OPEN, now.minusSeconds(60), now.plus(OPEN_DURATION));
+
+        breaker.record(webhook, Permit.PROBE, true, FAST, now);
+        verify(webhookRepository).closeCircuit(webhook.id());
+
+        breaker.record(webhook, Permit.PROBE, false, FAST, now);
+        verify(webhookRepository).openCircuit(eq(webhook.id()), eq(CircuitState.HALF_OPEN), eq(now),
+                eq(now.plus(OPEN_DURATION)));
+    }
+
+    @Test
+    @DisplayName("a closed circuit lets every delivery through without touching the database")
+    void acquire_closed() {
+        assertThat(breaker.acquire(webhook(CircuitState.CLOSED, null, null), now)).isEqualTo(Permit.CALL);
+        verifyNoInteractions(webhookRepository);
+    }
+
+    private Webhook webhook(CircuitState state, Instant openedAt, Instant retryAt) {
+        return Webhook.of(UUID.fromString("00000000-0000-0000-0000-000000000001"), UUID.randomUUID(), "Hook",
+                "https://hooks.example.com", null, Set.of(WebhookEventType.INCIDENT_CREATED), true, now, now, null, 0,
+                state, openedAt, retryAt, null, false);
+    }
+}
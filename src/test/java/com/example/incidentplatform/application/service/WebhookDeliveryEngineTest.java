@@ -0,0 +1,188 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.service.WebhookDeliveryEngine.HostBusyException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebhookDeliveryEngineTest {
+
+    private static final byte[] BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch slowRequestArrived = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowRequest = new CountDownLatch(1);
+    private HttpServer server;
+    private WebhookDeliveryEngine engine;
+
+    @BeforeEach
+    void startReceiver() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        // Platform threads: a virtual-thread receiver can starve the client's virtual threads on a single core
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/fast", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/large", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            int size = Integer.parseInt(exchange.getRequestURI().getQuery());
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(500, size);
+            try (var out = exchange.getResponseBody()) {
+                byte[] chunk = "<html>".repeat(1024).getBytes(StandardCharsets.UTF_8);
+                for (int sent = 0; sent < size; sent += chunk.length) {
+                    out.write(chunk, 0, Math.min(chunk.length, size - sent));
+                }
+            } catch (IOException e) {
+                // The client stopped reading
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            slowRequestArrived.countDown();
+            try {
+                releaseSlowRequest.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopReceiver() {
+        releaseSlowRequest.countDown();
+        engine.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("a saturated host rejects further requests without holding up other hosts")
+    void post_saturatedHost_failsFastAndOtherHostsProceed() throws Exception {
+        engine = engine(List.of(), 1, 0);
+
+        CompletableFuture<HttpResponse<String>> slow = CompletableFuture.supplyAsync(() -> post("127.0.0.1", "/slow"));
+        assertThat(slowRequestArrived.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> engine.post(uri("127.0.0.1", "/fast"), Map.of(), BODY, false))
+                .isInstanceOf(HostBusyException.class);
+        assertThat(engine.post(uri("localhost", "/fast"), Map.of(), BODY, false).statusCode()).isEqualTo(204);
+        assertThat(meterRegistry.get("webhook.delivery.host.in_flight").tag("host", "127.0.0.1").gauge().value())
+                .isEqualTo(1.0);
+
+        releaseSlowRequest.countDown();
+        assertThat(slow.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(204);
+        assertThat(meterRegistry.get("webhook.delivery.host.in_flight").tag("host", "127.0.0.1").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("requests wait in the host's queue for a free slot")
+    void post_queuedRequest_runsWhenASlotFrees() throws Exception {
+        engine = engine(List.of(), 1, 1);
+
+        CompletableFuture<HttpResponse<String>> slow = CompletableFuture.supplyAsync(() -> post("127.0.0.1", "/slow"));
+        assertThat(slowRequestArrived.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<HttpResponse<String>> queued = CompletableFuture.supplyAsync(() -> post("127.0.0.1",
+                "/fast"));
+        while (meterRegistry.get("webhook.delivery.host.queued").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        releaseSlowRequest.countDown();
+        assertThat(queued.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(204);
+        assertThat(slow.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(204);
+    }
+
+    @Test
+    @DisplayName("a host's own timeout overrides the default")
+    void post_usesHostTimeout() {
+        engine = engine(List.of("127.0.0.1=200ms"), 10, 10);
+
+        assertThatThrownBy(() -> engine.post(uri("127.0.0.1", "/slow"), Map.of(), BODY, false))
+                .isInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("only the start of a large response body is kept, and the buffer is handed back")
+    void post_largeResponse_keepsSnippetOnly() throws Exception {
+        engine = engine(List.of(), 10, 10);
+
+        HttpResponse<String> response = engine.post(uri("127.0.0.1", "/large?100000"), Map.of(), BODY, false);
+
+        assertThat(response.statusCode()).isEqualTo(500);
+        assertThat(response.body()).isEqualTo("<html><html><htm");
+        assertThat(meterRegistry.get("webhook.delivery.response.buffered").gauge().value()).isZero();
+        assertThat(meterRegistry.get("webhook.delivery.response.discarded").functionCounter().count())
+                .isEqualTo(100_000 - 16);
+    }
+
+    @Test
+    @DisplayName("a webhook capturing full responses keeps up to the full capture size")
+    void post_fullCapture_keepsUpToTheFullCaptureSize() throws Exception {
+        engine = engine(List.of(), 10, 10);
+
+        assertThat(engine.post(uri("127.0.0.1", "/large?10000"), Map.of(), BODY, true).body()).hasSize(10_000);
+        assertThat(engine.post(uri("127.0.0.1", "/large?100000"), Map.of(), BODY, true).body())
+                .hasSize(64 * 1024);
+    }
+
+    @Test
+    @DisplayName("a response too large to drain is abandoned with its start")
+    void post_hugeResponse_isAbandoned() throws Exception {
+        engine = engine(List.of(), 10, 10);
+
+        HttpResponse<String> response = engine.post(uri("127.0.0.1", "/large?10000000"), Map.of(), BODY, false);
+
+        assertThat(response.body()).hasSize(16);
+        assertThat(meterRegistry.get("webhook.delivery.response.discarded").functionCounter().count())
+                .isLessThan(10_000_000);
+    }
+
+    private WebhookResponseBodyHandler responseBodies() {
+        return new WebhookResponseBodyHandler(meterRegistry, DataSize.ofBytes(16), DataSize.ofKilobytes(64),
+                DataSize.ofKilobytes(256), 4);
+    }
+
+    private WebhookDeliveryEngine engine(List<String> hostTimeouts, int maxInFlight, int maxQueued) {
+        return new WebhookDeliveryEngine(meterRegistry, responseBodies(), Duration.ofSeconds(5),
+                Duration.ofSeconds(10), hostTimeouts, maxInFlight, maxQueued, Duration.ofSeconds(10));
+    }
+
+    private HttpResponse<String> post(String host, String path) {
+        try {
+            return engine.post(uri(host, path), Map.of(), BODY, false);
+        } catch (IOException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String host, String path) {
+        return URI.create("http://" + host + ":" + server.getAddress().getPort() + path);
+    }
+}
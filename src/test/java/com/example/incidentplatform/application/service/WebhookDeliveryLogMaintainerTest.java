@@ -0,0 +1,45 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDeliveryLogMaintainerTest {
+
+    @Mock
+    private WebhookDeliveryRepository deliveryRepository;
+
+    @Test
+    @DisplayName("creates today's and the coming days' partitions and drops those past retention")
+    void maintain_createsAheadAndDropsExpired() {
+        WebhookDeliveryLogMaintainer maintainer = new WebhookDeliveryLogMaintainer(deliveryRepository, true,
+                Duration.ofDays(30), Duration.ofDays(7));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        maintainer.maintain();
+
+        verify(deliveryRepository).createPartitions(today, today.plusDays(7));
+        verify(deliveryRepository).dropPartitionsBefore(today.minusDays(30));
+    }
+
+    @Test
+    @DisplayName("a disabled job leaves the partitions alone")
+    void maintain_whenDisabled_doesNothing() {
+        WebhookDeliveryLogMaintainer maintainer = new WebhookDeliveryLogMaintainer(deliveryRepository, false,
+                Duration.ofDays(30), Duration.ofDays(7));
+
+        maintainer.maintain();
+
+        verifyNoInteractions(deliveryRepository);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
+import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookActivity;
+import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDeliveryRecorderTest {
+
+    @Mock
+    private WebhookDeliveryRepository deliveryRepository;
+
+    @Mock
+    private WebhookRepository webhookRepository;
+
+    private final UUID webhookId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("buffered deliveries are inserted in batches of the configured size")
+    void flush_insertsInBatches() {
+        WebhookDeliveryRecorder recorder = new WebhookDeliveryRecorder(deliveryRepository, webhookRepository, 100,
+                2);
+        for (int i = 0; i < 5; i++) {
+            recorder.record(failure());
+        }
+        verifyNoInteractions(deliveryRepository);
+
+        recorder.flush();
+
+        verify(deliveryRepository, times(2)).saveAll(argThat(batch -> batch.size() == 2));
+        verify(deliveryRepository).saveAll(argThat(batch -> batch.size() == 1));
+    }
+
+    @Test
+    @DisplayName("a webhook's outcomes since the last flush become one update")
+    void flush_coalescesActivityPerWebhook() {
+        WebhookDeliveryRecorder recorder = new WebhookDeliveryRecorder(deliveryRepository, webhookRepository, 100,
+                10);
+        UUID deadOnly = UUID.randomUUID();
+        recorder.recordDeadLetter(webhookId);
+        recorder.record(success());
+        WebhookDelivery latest = success();
+        recorder.record(latest);
+        recorder.recordDeadLetter(webhookId);
+        recorder.recordDeadLetter(deadOnly);
+        recorder.recordDeadLetter(deadOnly);
+
+        recorder.flush();
+
+        // The success reset the count, so only the dead letter after it remains
+        verify(webhookRepository).recordActivity(eq(webhookId), eq(new WebhookActivity(latest.deliveredAt(), 1)),
+                any());
+        verify(webhookRepository).recordActivity(eq(deadOnly), eq(new WebhookActivity(null, 2)), any());
+
+        recorder.flush();
+        verifyNoMoreInteractions(webhookRepository);
+    }
+
+    @Test
+    @DisplayName("a full buffer is flushed by the caller instead of growing")
+    void record_fullBuffer_flushesInline() {
+        WebhookDeliveryRecorder recorder = new WebhookDeliveryRecorder(deliveryRepository, webhookRepository, 2, 2);
+        recorder.record(failure());
+        recorder.record(failure());
+
+        recorder.record(failure());
+
+        verify(deliveryRepository).saveAll(argThat(batch -> batch.size() == 2));
+    }
+
+    private WebhookDelivery success() {
+        return WebhookDelivery.success(webhookId, WebhookEventType.INCIDENT_CREATED, Map.of(), 200, "OK");
+    }
+
+    private WebhookDelivery failure() {
+        return WebhookDelivery.failure(webhookId, WebhookEventType.INCIDENT_CREATED, Map.of(), "HTTP 500");
+    }
+}
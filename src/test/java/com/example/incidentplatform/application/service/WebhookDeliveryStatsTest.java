@@ -0,0 +1,97 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookStatsRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookStats;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket.Metric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDeliveryStatsTest {
+
+    @Mock
+    private WebhookStatsRepository statsRepository;
+
+    private final UUID webhookId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("stats add this node's unflushed deliveries to the stored counters, which are loaded once")
+    void get_addsUnflushedCountsToStoredOnes() {
+        WebhookDeliveryStats stats = new WebhookDeliveryStats(statsRepository, Duration.ofMinutes(1));
+        when(statsRepository.findByWebhookId(webhookId)).thenReturn(List.of(
+                new WebhookStatsBucket(webhookId, Metric.SUCCESSES, 0, 40),
+                new WebhookStatsBucket(webhookId, Metric.STATUS, 200, 40)));
+        stats.record(success(), Duration.ofMillis(30));
+        stats.record(failure(), Duration.ofSeconds(10));
+        stats.record(WebhookDelivery.failure(webhookId, WebhookEventType.INCIDENT_CREATED, Map.of(), 500,
+                "<html>", "HTTP 500"), Duration.ofMillis(5));
+
+        WebhookStats first = stats.get(webhookId);
+        WebhookStats second = stats.get(webhookId);
+
+        assertThat(first.successes()).isEqualTo(41);
+        assertThat(first.failures()).isEqualTo(2);
+        assertThat(first.lastDay()).isEqualTo(3);
+        assertThat(first.statusCodes()).isEqualTo(Map.of(200, 41L, 500, 1L));
+        assertThat(first.p50Latency()).isBetween(Duration.ofMillis(30), Duration.ofMillis(33));
+        assertThat(second).isEqualTo(first);
+        verify(statsRepository, times(1)).findByWebhookId(webhookId);
+    }
+
+    @Test
+    @DisplayName("a flush stores each counter's total once and keeps the loaded counters current")
+    void flush_writesCoalescedDeltaOnce() {
+        WebhookDeliveryStats stats = new WebhookDeliveryStats(statsRepository, Duration.ofMinutes(1));
+        stats.get(webhookId);
+        stats.record(success(), Duration.ofMillis(30));
+        stats.record(success(), Duration.ofMillis(30));
+
+        stats.flush();
+
+        verify(statsRepository).applyDelta(argThat(delta -> delta.contains(
+                new WebhookStatsBucket(webhookId, Metric.SUCCESSES, 0, 2)) && delta.size() == 4));
+        assertThat(stats.get(webhookId).successes()).isEqualTo(2);
+        verify(statsRepository, times(1)).findByWebhookId(webhookId);
+
+        stats.flush();
+        verify(statsRepository, times(1)).applyDelta(any());
+        verify(statsRepository, times(1)).deleteHourlyBefore(anyLong());
+    }
+
+    @Test
+    @DisplayName("counts that fail to store are kept for the next flush")
+    void flush_keepsCountsWhenTheWriteFails() {
+        WebhookDeliveryStats stats = new WebhookDeliveryStats(statsRepository, Duration.ofMinutes(1));
+        stats.record(failure(), Duration.ofMillis(30));
+        doThrow(new IllegalStateException("database down")).doNothing().when(statsRepository).applyDelta(any());
+
+        stats.flush();
+        stats.flush();
+
+        verify(statsRepository, times(2)).applyDelta(argThat(delta -> delta.contains(
+                new WebhookStatsBucket(webhookId, Metric.FAILURES, 0, 1))));
+    }
+
+    private WebhookDelivery success() {
+        return WebhookDelivery.success(webhookId, WebhookEventType.INCIDENT_CREATED, Map.of(), 200, "OK");
+    }
+
+    private WebhookDelivery failure() {
+        return WebhookDelivery.failure(webhookId, WebhookEventType.INCIDENT_CREATED, Map.of(), "timed out");
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookOutboxRepository;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.CircuitOpenException;
+import com.example.incidentplatform.application.service.WebhookDeliveryEngine.HostBusyException;
+import com.example.incidentplatform.application.service.WebhookService.Attempt;
+import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDispatcherTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private WebhookService webhookService;
+
+    @Mock
+    private WebhookOutboxRepository outboxRepository;
+
+    @Test
+    @DisplayName("claimed entries are delivered and marked delivered")
+    void dispatch_deliversClaimedEntries() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        WebhookOutboxEntry entry = entry(1);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(entry));
+        when(webhookService.deliver(entry)).thenReturn(attempt(
+                WebhookDelivery.success(entry.webhookId(), entry.eventType(), Map.of(), 200, "OK"), entry));
+
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verify(outboxRepository).markDelivered(List.of(entry.id()));
+    }
+
+    @Test
+    @DisplayName("every entry carried by a batch is completed by its one attempt")
+    void dispatch_batch_completesEveryEntry() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        WebhookOutboxEntry entry = entry(1);
+        WebhookOutboxEntry batched = entry(1);
+        WebhookOutboxEntry retried = entry(2);
+        WebhookOutboxEntry exhausted = entry(MAX_ATTEMPTS);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(entry));
+        when(webhookService.deliver(entry)).thenReturn(attempt(
+                WebhookDelivery.failure(entry.webhookId(), entry.eventType(), Map.of(), "HTTP 502"), entry, batched,
+                retried, exhausted));
+
+        Instant before = Instant.now();
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        // One update for the whole batch, backing off as long as its most attempted entry
+        ArgumentCaptor<Instant> retryAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).scheduleRetry(eq(List.of(entry.id(), batched.id(), retried.id())),
+                retryAt.capture(), eq("HTTP 502"));
+        assertThat(retryAt.getValue()).isAfterOrEqualTo(before.plusSeconds(10));
+        verify(outboxRepository).markDead(List.of(exhausted.id()), "HTTP 502");
+        verify(webhookService).recordDeadLetter(exhausted.webhookId());
+        verify(outboxRepository, never()).markDelivered(any());
+    }
+
+    @Test
+    @DisplayName("a delivered entry's thread goes on with its incident's next entry until one fails")
+    void dispatch_deliveredEntry_continuesItsLane() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        UUID webhookId = UUID.randomUUID();
+        UUID incidentId = UUID.randomUUID();
+        WebhookOutboxEntry created = entry(webhookId, incidentId, 1, 1);
+        WebhookOutboxEntry assigned = entry(webhookId, incidentId, 2, 1);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(created));
+        when(outboxRepository.claimNextInLane(eq(webhookId), eq(incidentId), any(), eq(LEASE)))
+                .thenReturn(Optional.of(assigned));
+        when(webhookService.deliver(created)).thenReturn(attempt(
+                WebhookDelivery.success(webhookId, created.eventType(), Map.of(), 200, "OK"), created));
+        when(webhookService.deliver(assigned)).thenReturn(attempt(
+                WebhookDelivery.failure(webhookId, assigned.eventType(), Map.of(), "HTTP 503"), assigned));
+
+        dispatcher.dispatch();
+        // Shutting down stops lanes from continuing, so let this one finish first
+        verify(outboxRepository, timeout(5_000)).scheduleRetry(eq(List.of(assigned.id())), any(), eq("HTTP 503"));
+        dispatcher.shutdown();
+
+        InOrder inOrder = inOrder(outboxRepository);
+        inOrder.verify(outboxRepository).markDelivered(List.of(created.id()));
+        inOrder.verify(outboxRepository).claimNextInLane(eq(webhookId), eq(incidentId), any(), eq(LEASE));
+        inOrder.verify(outboxRepository).scheduleRetry(eq(List.of(assigned.id())), any(), eq("HTTP 503"));
+        // The lane stops at the failure; the retry keeps later events waiting
+        verify(outboxRepository, times(1)).claimNextInLane(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("a failed attempt is rescheduled with backoff instead of waiting on the thread")
+    void dispatch_failedAttempt_isRescheduled() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        WebhookOutboxEntry rejected = entry(1);
+        WebhookOutboxEntry throwing = entry(2);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(rejected, throwing));
+        when(webhookService.deliver(rejected)).thenReturn(attempt(
+                WebhookDelivery.failure(rejected.webhookId(), rejected.eventType(), Map.of(), "HTTP 503"), rejected));
+        when(webhookService.deliver(throwing)).thenThrow(new IllegalStateException("boom"));
+
+        Instant before = Instant.now();
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        ArgumentCaptor<Instant> retryAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).scheduleRetry(eq(List.of(rejected.id())), retryAt.capture(), eq("HTTP 503"));
+        assertThat(retryAt.getValue()).isAfterOrEqualTo(before.plusSeconds(5));
+        verify(outboxRepository).scheduleRetry(eq(List.of(throwing.id())), any(), eq("boom"));
+        verify(outboxRepository, never()).markDead(any(), any());
+        verify(webhookService, never()).recordDeadLetter(any());
+    }
+
+    @Test
+    @DisplayName("an entry for a saturated host is handed back without using an attempt")
+    void dispatch_hostBusy_releasesEntry() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        WebhookOutboxEntry entry = entry(1);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(entry));
+        when(webhookService.deliver(entry)).thenThrow(new HostBusyException("hooks.example.com"));
+
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verify(outboxRepository).release(eq(entry.id()), any());
+        verify(outboxRepository, never()).scheduleRetry(any(), any(), any());
+        verify(outboxRepository, never()).markDead(any(), any());
+    }
+
+    @Test
+    @DisplayName("an entry for an open circuit waits in the outbox until the next probe")
+    void dispatch_circuitOpen_releasesEntryUntilRetry() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        WebhookOutboxEntry entry = entry(1);
+        Instant retryAt = Instant.now().plusSeconds(60);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(entry));
+        when(webhookService.deliver(entry)).thenThrow(new CircuitOpenException(entry.webhookId(), retryAt));
+
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verify(outboxRepository).release(entry.id(), retryAt);
+        verify(outboxRepository, never()).scheduleRetry(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("the last allowed attempt failing dead-letters the entry")
+    void dispatch_exhaustedRetries_deadLetters() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        WebhookOutboxEntry entry = entry(MAX_ATTEMPTS);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(entry));
+        when(webhookService.deliver(entry)).thenReturn(attempt(
+                WebhookDelivery.failure(entry.webhookId(), entry.eventType(), Map.of(), "HTTP 500"), entry));
+
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verify(outboxRepository).markDead(List.of(entry.id()), "HTTP 500");
+        verify(webhookService).recordDeadLetter(entry.webhookId());
+        verify(outboxRepository, never()).scheduleRetry(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("events for an inactive webhook are dead-lettered without counting against it")
+    void dispatch_inactiveWebhook_deadLettersWithoutRetry() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+        WebhookOutboxEntry entry = entry(1);
+        when(outboxRepository.claimDue(eq(10), any(), eq(LEASE))).thenReturn(List.of(entry));
+        when(webhookService.deliver(entry)).thenReturn(Optional.empty());
+
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verify(outboxRepository).markDead(eq(List.of(entry.id())), anyString());
+        verify(webhookService, never()).recordDeadLetter(any());
+    }
+
+    @Test
+    @DisplayName("full batches are followed by another claim until the outbox is drained")
+    void dispatch_claimsAgainAfterFullBatch() throws InterruptedException {
+        WebhookDispatcher dispatcher = dispatcher(true, 1);
+        when(outboxRepository.claimDue(eq(1), any(), eq(LEASE)))
+                .thenReturn(List.of(entry(1))).thenReturn(List.of(entry(1))).thenReturn(List.of());
+        when(webhookService.deliver(any())).thenReturn(Optional.empty());
+
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verify(outboxRepository, times(3)).claimDue(eq(1), any(), eq(LEASE));
+        verify(webhookService, times(2)).deliver(any());
+    }
+
+    @Test
+    @DisplayName("purging keeps dead letters longer than delivered entries")
+    void purgeCompleted_usesSeparateRetentions() {
+        WebhookDispatcher dispatcher = dispatcher(true, 10);
+
+        dispatcher.purgeCompleted();
+
+        ArgumentCaptor<Instant> delivered = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> dead = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).deleteCompletedBefore(eq(WebhookOutboxStatus.DELIVERED), delivered.capture());
+        verify(outboxRepository).deleteCompletedBefore(eq(WebhookOutboxStatus.DEAD), dead.capture());
+        assertThat(dead.getValue()).isBefore(delivered.getValue());
+    }
+
+    @Test
+    @DisplayName("a disabled dispatcher does not touch the outbox")
+    void dispatch_whenDisabled_doesNothing() {
+        WebhookDispatcher dispatcher = dispatcher(false, 10);
+
+        dispatcher.dispatch();
+        dispatcher.purgeCompleted();
+
+        verifyNoInteractions(outboxRepository);
+    }
+
+    private static Optional<Attempt> attempt(WebhookDelivery delivery, WebhookOutboxEntry... entries) {
+        return Optional.of(new Attempt(delivery, List.of(entries)));
+    }
+
+    private WebhookDispatcher dispatcher(boolean enabled, int batchSize) {
+        return new WebhookDispatcher(webhookService, outboxRepository, enabled, batchSize, 100, LEASE,
+                MAX_ATTEMPTS, Duration.ofSeconds(10), Duration.ofHours(1), Duration.ofDays(7), Duration.ofDays(30));
+    }
+
+    private static WebhookOutboxEntry entry(int attempts) {
+        return entry(UUID.randomUUID(), UUID.randomUUID(), 1, attempts);
+    }
+
+    private static WebhookOutboxEntry entry(UUID webhookId, UUID incidentId, long sequence, int attempts) {
+        Instant now = Instant.now();
+        return WebhookOutboxEntry.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), webhookId, incidentId,
+                sequence, WebhookEventType.INCIDENT_CREATED, Map.of("title", "Outage"), WebhookOutboxStatus.PENDING,
+                attempts, now.plus(LEASE), now, null, null);
+    }
+}
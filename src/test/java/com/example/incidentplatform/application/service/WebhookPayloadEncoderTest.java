@@ -0,0 +1,86 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.service.WebhookPayloadEncoder.EncodedPayload;
+import com.example.incidentplatform.application.service.WebhookPayloadEncoder.Format;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookPayloadEncoderTest {
+
+    private static final Instant OCCURRED_AT = Instant.parse("2026-03-01T10:00:00Z");
+    private static final Map<String, Object> DATA = Map.of("title", "Disk full", "severity", "HIGH");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebhookPayloadEncoder encoder = new WebhookPayloadEncoder(objectMapper);
+
+    @Test
+    @DisplayName("each format of an event is serialised once and shared")
+    void encode_sharesBodyPerEventAndFormat() {
+        UUID eventId = UUID.randomUUID();
+
+        EncodedPayload first = encoder.encode(eventId, Format.GENERIC, WebhookEventType.INCIDENT_CREATED, DATA,
+                OCCURRED_AT);
+        EncodedPayload second = encoder.encode(eventId, Format.GENERIC, WebhookEventType.INCIDENT_CREATED, DATA,
+                OCCURRED_AT);
+        EncodedPayload slack = encoder.encode(eventId, Format.SLACK, WebhookEventType.INCIDENT_CREATED, DATA,
+                OCCURRED_AT);
+
+        assertThat(second.body()).isSameAs(first.body());
+        assertThat(slack.body()).isNotEqualTo(first.body());
+        assertThat(encoder.encode(UUID.randomUUID(), Format.GENERIC, WebhookEventType.INCIDENT_CREATED, DATA,
+                OCCURRED_AT).body()).isNotSameAs(first.body()).isEqualTo(first.body());
+    }
+
+    @Test
+    @DisplayName("the generic envelope carries the event, its time and its data")
+    void encode_genericEnvelope() throws IOException {
+        EncodedPayload encoded = encoder.encode(Format.GENERIC, WebhookEventType.INCIDENT_RESOLVED, DATA,
+                OCCURRED_AT);
+
+        JsonNode json = objectMapper.readTree(encoded.body());
+        assertThat(json.get("event").asText()).isEqualTo("INCIDENT_RESOLVED");
+        assertThat(json.get("timestamp").asText()).isEqualTo("2026-03-01T10:00:00Z");
+        assertThat(json.get("data").get("title").asText()).isEqualTo("Disk full");
+    }
+
+    @Test
+    @DisplayName("a batch is a JSON array of the events' generic envelopes")
+    void encodeBatch_joinsBodies() throws IOException {
+        EncodedPayload first = encoder.encode(Format.GENERIC, WebhookEventType.INCIDENT_CREATED, DATA, OCCURRED_AT);
+        EncodedPayload second = encoder.encode(Format.GENERIC, WebhookEventType.INCIDENT_RESOLVED, DATA,
+                OCCURRED_AT);
+
+        EncodedPayload batch = encoder.encodeBatch(List.of(first, second));
+
+        JsonNode json = objectMapper.readTree(batch.body());
+        assertThat(json.isArray()).isTrue();
+        assertThat(json).extracting(e -> e.get("event").asText())
+                .containsExactly("INCIDENT_CREATED", "INCIDENT_RESOLVED");
+        assertThat(batch.body()).hasSize(
+                WebhookPayloadEncoder.batchLength(2, first.body().length + second.body().length));
+        assertThat(batch.payload()).containsEntry("events", List.of(first.payload(), second.payload()));
+    }
+
+    @Test
+    @DisplayName("Slack URLs get a formatted text message")
+    void encode_slackMessage() throws IOException {
+        assertThat(Format.forUrl("https://hooks.slack.com/services/T/B/X")).isEqualTo(Format.SLACK);
+        assertThat(Format.forUrl("https://example.com/hook")).isEqualTo(Format.GENERIC);
+
+        EncodedPayload encoded = encoder.encode(Format.SLACK, WebhookEventType.INCIDENT_CREATED, DATA, OCCURRED_AT);
+
+        String text = objectMapper.readTree(encoded.body()).get("text").asText();
+        assertThat(text).contains("*Incident Created*", "*Title:* Disk full", "*Time:* 2026-03-01T10:00:00Z");
+    }
+}
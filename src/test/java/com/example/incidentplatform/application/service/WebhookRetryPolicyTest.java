@@ -0,0 +1,37 @@
+package com.example.incidentplatform.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookRetryPolicyTest {
+
+    private final WebhookRetryPolicy policy = new WebhookRetryPolicy(5, Duration.ofSeconds(10), Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("backoff doubles per attempt within a jittered upper half")
+    void backoffGrowsExponentiallyWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoff(1)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+            assertThat(policy.backoff(2)).isBetween(Duration.ofSeconds(10), Duration.ofSeconds(20));
+            assertThat(policy.backoff(3)).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+        }
+    }
+
+    @Test
+    @DisplayName("backoff is capped, even after very many attempts")
+    void backoffIsCapped() {
+        assertThat(policy.backoff(4)).isBetween(Duration.ofSeconds(30), Duration.ofMinutes(1));
+        assertThat(policy.backoff(200)).isBetween(Duration.ofSeconds(30), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("retries stop once the attempt budget is spent")
+    void canRetryUntilBudgetSpent() {
+        assertThat(policy.canRetry(4)).isTrue();
+        assertThat(policy.canRetry(5)).isFalse();
+    }
+}
@@ -1,11 +1,22 @@
 package com.example.incidentplatform.application.service;
 
 import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
+import com.example.incidentplatform.application.port.WebhookOutboxRepository;
 import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.CircuitOpenException;
+import com.example.incidentplatform.application.service.WebhookCircuitBreaker.Permit;
+import com.example.incidentplatform.application.service.WebhookService.Attempt;
+import com.example.incidentplatform.application.service.WebhookSubscriptionIndex.Subscriber;
 import com.example.incidentplatform.common.error.NotFoundException;
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
 import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookBatching;
 import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
 import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+import com.example.incidentplatform.domain.model.webhook.WebhookStats;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,12 +28,16 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +49,24 @@ class WebhookServiceTest {
     @Mock
     private WebhookDeliveryRepository deliveryRepository;
 
+    @Mock
+    private WebhookOutboxRepository outboxRepository;
+
+    @Mock
+    private WebhookSubscriptionIndex subscriptionIndex;
+
+    @Mock
+    private WebhookDeliveryEngine deliveryEngine;
+
+    @Mock
+    private WebhookCircuitBreaker circuitBreaker;
+
+    @Mock
+    private WebhookDeliveryRecorder deliveryRecorder;
+
+    @Mock
+    private WebhookDeliveryStats deliveryStats;
+
     private WebhookService webhookService;
 
     @Captor
@@ -44,7 +77,9 @@ class WebhookServiceTest {
 
     @BeforeEach
     void setUp() {
-        webhookService = new WebhookService(webhookRepository, deliveryRepository, new ObjectMapper());
+        webhookService = new WebhookService(webhookRepository, deliveryRepository, outboxRepository, subscriptionIndex,
+                new WebhookPayloadEncoder(new ObjectMapper()), new WebhookSigner(), deliveryEngine,
+                circuitBreaker, deliveryRecorder, deliveryStats);
         tenantId = UUID.randomUUID();
         webhookId = UUID.randomUUID();
     }
@@ -88,10 +123,10 @@ class WebhookServiceTest {
         void shouldReturnWebhookWhenFound() {
             // Given
             Webhook webhook = createWebhook(webhookId);
-            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(webhook));
+            when(webhookRepository.findByIdAndTenantId(webhookId, tenantId)).thenReturn(Optional.of(webhook));
 
             // When
-            Webhook result = webhookService.getWebhook(webhookId);
+            Webhook result = webhookService.getWebhook(tenantId, webhookId);
 
             // Then
             assertThat(result.id()).isEqualTo(webhookId);
@@ -101,10 +136,10 @@ class WebhookServiceTest {
         @DisplayName("should throw NotFoundException when not found")
         void shouldThrowWhenNotFound() {
             // Given
-            when(webhookRepository.findById(webhookId)).thenReturn(Optional.empty());
+            when(webhookRepository.findByIdAndTenantId(webhookId, tenantId)).thenReturn(Optional.empty());
 
             // When/Then
-            assertThatThrownBy(() -> webhookService.getWebhook(webhookId))
+            assertThatThrownBy(() -> webhookService.getWebhook(tenantId, webhookId))
                     .isInstanceOf(NotFoundException.class)
                     .hasMessageContaining("Webhook not found");
         }
@@ -140,11 +175,11 @@ class WebhookServiceTest {
         void shouldUpdateWebhook() {
             // Given
             Webhook existing = createWebhook(webhookId);
-            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(existing));
+            when(webhookRepository.findByIdAndTenantId(webhookId, tenantId)).thenReturn(Optional.of(existing));
             when(webhookRepository.save(any(Webhook.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
-            Webhook result = webhookService.updateWebhook(webhookId, "New Name", "https://new-url.com", null, null);
+            Webhook result = webhookService.updateWebhook(tenantId, webhookId, "New Name", "https://new-url.com", null, null);
 
             // Then
             verify(webhookRepository).save(webhookCaptor.capture());
@@ -162,11 +197,11 @@ class WebhookServiceTest {
         void shouldActivateWebhook() {
             // Given
             Webhook inactive = createInactiveWebhook(webhookId);
-            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(inactive));
+            when(webhookRepository.findByIdAndTenantId(webhookId, tenantId)).thenReturn(Optional.of(inactive));
             when(webhookRepository.save(any(Webhook.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
-            Webhook result = webhookService.setWebhookActive(webhookId, true);
+            Webhook result = webhookService.setWebhookActive(tenantId, webhookId, true);
 
             // Then
             verify(webhookRepository).save(webhookCaptor.capture());
@@ -178,15 +213,16 @@ class WebhookServiceTest {
         void shouldDeactivateWebhook() {
             // Given
             Webhook active = createWebhook(webhookId);
-            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(active));
+            when(webhookRepository.findByIdAndTenantId(webhookId, tenantId)).thenReturn(Optional.of(active));
             when(webhookRepository.save(any(Webhook.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
-            Webhook result = webhookService.setWebhookActive(webhookId, false);
+            Webhook result = webhookService.setWebhookActive(tenantId, webhookId, false);
 
             // Then
             verify(webhookRepository).save(webhookCaptor.capture());
             assertThat(webhookCaptor.getValue().isActive()).isFalse();
+            verify(subscriptionIndex).webhooksChanged(tenantId);
         }
     }
 
@@ -198,26 +234,255 @@ class WebhookServiceTest {
         @DisplayName("should delete webhook when exists")
         void shouldDeleteWebhookWhenExists() {
             // Given
-            when(webhookRepository.existsById(webhookId)).thenReturn(true);
+            when(webhookRepository.deleteByIdAndTenantId(webhookId, tenantId)).thenReturn(true);
 
             // When
-            webhookService.deleteWebhook(webhookId);
+            webhookService.deleteWebhook(tenantId, webhookId);
 
             // Then
-            verify(webhookRepository).deleteById(webhookId);
+            verify(webhookRepository).deleteByIdAndTenantId(webhookId, tenantId);
+            verify(webhookRepository, never()).existsById(any());
+            verify(subscriptionIndex).webhooksChanged(tenantId);
         }
 
         @Test
         @DisplayName("should throw NotFoundException when not exists")
         void shouldThrowWhenNotExists() {
             // Given
-            when(webhookRepository.existsById(webhookId)).thenReturn(false);
+            when(webhookRepository.deleteByIdAndTenantId(webhookId, tenantId)).thenReturn(false);
 
             // When/Then
-            assertThatThrownBy(() -> webhookService.deleteWebhook(webhookId))
+            assertThatThrownBy(() -> webhookService.deleteWebhook(tenantId, webhookId))
                     .isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("triggerWebhooks")
+    class TriggerWebhooks {
+
+        @Captor
+        private ArgumentCaptor<List<WebhookOutboxEntry>> entriesCaptor;
+
+        @Test
+        @DisplayName("should queue one outbox entry per subscribed webhook, all for the same event")
+        void shouldQueueEntryPerSubscribedWebhook() {
+            // Given
+            UUID otherWebhookId = UUID.randomUUID();
+            UUID incidentId = UUID.randomUUID();
+            when(subscriptionIndex.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED)).thenReturn(List.of(
+                    new Subscriber(webhookId, Duration.ZERO), new Subscriber(otherWebhookId, Duration.ofSeconds(1))));
+
+            // When
+            webhookService.triggerWebhooks(tenantId, incidentId, WebhookEventType.INCIDENT_CREATED,
+                    Map.of("title", "Outage"));
+
+            // Then
+            verify(outboxRepository).enqueue(entriesCaptor.capture());
+            List<WebhookOutboxEntry> entries = entriesCaptor.getValue();
+            assertThat(entries).extracting(WebhookOutboxEntry::webhookId).containsExactly(webhookId, otherWebhookId);
+            assertThat(entries).allSatisfy(entry -> {
+                assertThat(entry.status()).isEqualTo(WebhookOutboxStatus.PENDING);
+                assertThat(entry.incidentId()).isEqualTo(incidentId);
+                assertThat(entry.eventData()).containsEntry("title", "Outage");
+            });
+            assertThat(entries).extracting(WebhookOutboxEntry::eventId).containsOnly(entries.get(0).eventId());
+            assertThat(entries).extracting(WebhookOutboxEntry::createdAt).containsOnly(entries.get(0).createdAt());
+            // The batching webhook's entry waits out its linger time
+            assertThat(entries.get(0).nextAttemptAt()).isEqualTo(entries.get(0).createdAt());
+            assertThat(entries.get(1).nextAttemptAt()).isEqualTo(entries.get(1).createdAt().plusSeconds(1));
+            verifyNoInteractions(deliveryRepository, webhookRepository);
+        }
+
+        @Test
+        @DisplayName("should not write to the outbox when no webhook is subscribed")
+        void shouldSkipOutboxWithoutSubscribers() {
+            // Given
+            when(subscriptionIndex.subscribers(tenantId, WebhookEventType.COMMENT_ADDED)).thenReturn(List.of());
+
+            // When
+            webhookService.triggerWebhooks(tenantId, UUID.randomUUID(), WebhookEventType.COMMENT_ADDED, Map.of());
 
-            verify(webhookRepository, never()).deleteById(any());
+            // Then
+            verifyNoInteractions(outboxRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("deliver")
+    class Deliver {
+
+        @Test
+        @DisplayName("should not send to a webhook disabled since the event was queued")
+        void shouldSkipInactiveWebhook() {
+            // Given
+            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(createInactiveWebhook(webhookId)));
+            WebhookOutboxEntry entry = WebhookOutboxEntry.pending(UUID.randomUUID(), tenantId, webhookId,
+                    UUID.randomUUID(), WebhookEventType.INCIDENT_CREATED, Map.of(), Instant.now());
+
+            // When/Then
+            assertThat(webhookService.deliver(entry)).isEmpty();
+            verifyNoInteractions(deliveryRepository, deliveryRecorder);
+        }
+
+        @Test
+        @DisplayName("should not send while the webhook's circuit is open")
+        void shouldNotSendWhileCircuitOpen() {
+            // Given
+            Webhook webhook = createWebhook(webhookId);
+            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(webhook));
+            when(circuitBreaker.acquire(eq(webhook), any()))
+                    .thenThrow(new CircuitOpenException(webhookId, Instant.now()));
+            WebhookOutboxEntry entry = WebhookOutboxEntry.pending(UUID.randomUUID(), tenantId, webhookId,
+                    UUID.randomUUID(), WebhookEventType.INCIDENT_CREATED, Map.of(), Instant.now());
+
+            // When/Then
+            assertThatThrownBy(() -> webhookService.deliver(entry)).isInstanceOf(CircuitOpenException.class);
+            verifyNoInteractions(deliveryEngine, deliveryRecorder);
+        }
+
+        @Test
+        @DisplayName("should send a batching webhook's waiting events as one signed array and log it once")
+        void shouldSendBatchAsOneRequest() throws Exception {
+            // Given
+            Webhook webhook = createWebhook(webhookId).withBatching(
+                    new WebhookBatching(10, Duration.ofSeconds(1), 1024 * 1024));
+            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(webhook));
+            when(circuitBreaker.acquire(eq(webhook), any())).thenReturn(Permit.CALL);
+            WebhookOutboxEntry first = claimed(1, "First");
+            WebhookOutboxEntry second = claimed(2, "Second");
+            WebhookOutboxEntry third = claimed(3, "Third");
+            when(outboxRepository.claimBatch(eq(webhookId), eq(second.id()), eq(9), any(), eq(second.nextAttemptAt())))
+                    .thenReturn(List.of(third, first));
+            HttpResponse<String> response = okResponse();
+            when(deliveryEngine.post(any(), any(), any(), anyBoolean())).thenReturn(response);
+
+            // When
+            Optional<Attempt> attempt = webhookService.deliver(second);
+
+            // Then
+            assertThat(attempt).get().satisfies(a -> {
+                assertThat(a.delivery().success()).isTrue();
+                assertThat(a.delivery().outboxId()).isEqualTo(first.id());
+                assertThat(a.entries()).containsExactly(first, second, third);
+            });
+            ArgumentCaptor<Map<String, String>> headers = ArgumentCaptor.captor();
+            ArgumentCaptor<byte[]> body = ArgumentCaptor.captor();
+            verify(deliveryEngine).post(any(), headers.capture(), body.capture(), eq(false));
+            JsonNode events = new ObjectMapper().readTree(body.getValue());
+            assertThat(events.isArray()).isTrue();
+            assertThat(events).extracting(e -> e.get("data").get("title").asText())
+                    .containsExactly("First", "Second", "Third");
+            assertThat(headers.getValue()).containsEntry("X-Webhook-Event", "BATCH")
+                    .containsEntry("X-Webhook-Sequence", "3")
+                    .containsEntry("X-Webhook-Signature", new WebhookSigner().sign(body.getValue(), "secret"));
+            verify(deliveryRecorder, times(1)).record(any());
+            verify(deliveryStats, times(1)).record(any(), any());
+        }
+
+        @Test
+        @DisplayName("should hand back events that do not fit the batch byte limit")
+        void shouldReleaseEventsOverByteLimit() throws Exception {
+            // Given
+            Webhook webhook = createWebhook(webhookId).withBatching(new WebhookBatching(10, Duration.ZERO, 100));
+            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(webhook));
+            when(circuitBreaker.acquire(eq(webhook), any())).thenReturn(Permit.CALL);
+            WebhookOutboxEntry first = claimed(1, "First");
+            WebhookOutboxEntry second = claimed(2, "Second");
+            WebhookOutboxEntry third = claimed(3, "3");
+            when(outboxRepository.claimBatch(eq(webhookId), eq(first.id()), eq(9), any(), any()))
+                    .thenReturn(List.of(second, third));
+            HttpResponse<String> response = okResponse();
+            when(deliveryEngine.post(any(), any(), any(), anyBoolean())).thenReturn(response);
+
+            // When
+            Optional<Attempt> attempt = webhookService.deliver(first);
+
+            // Then
+            assertThat(attempt).get().extracting(Attempt::entries).isEqualTo(List.of(first));
+            // The small third event still waits, so it cannot overtake the second
+            verify(outboxRepository).release(eq(second.id()), any());
+            verify(outboxRepository).release(eq(third.id()), any());
+        }
+
+        @Test
+        @DisplayName("should record the status and body a receiver rejected the event with")
+        void shouldRecordRejectedStatus() throws Exception {
+            // Given
+            Webhook webhook = createWebhook(webhookId);
+            when(webhookRepository.findById(webhookId)).thenReturn(Optional.of(webhook));
+            when(circuitBreaker.acquire(eq(webhook), any())).thenReturn(Permit.CALL);
+            HttpResponse<String> response = errorResponse();
+            when(deliveryEngine.post(any(), any(), any(), anyBoolean())).thenReturn(response);
+
+            // When
+            Optional<Attempt> attempt = webhookService.deliver(claimed(1, "First"));
+
+            // Then
+            assertThat(attempt).get().extracting(Attempt::delivery).satisfies(delivery -> {
+                assertThat(delivery.success()).isFalse();
+                assertThat(delivery.responseStatus()).isEqualTo(500);
+                assertThat(delivery.responseBody()).isEqualTo("<html>Internal Server Error</html>");
+                assertThat(delivery.errorMessage()).isEqualTo("HTTP 500");
+            });
+        }
+
+        @Test
+        @DisplayName("should not send to a deleted webhook")
+        void shouldSkipDeletedWebhook() {
+            // Given
+            when(webhookRepository.findById(webhookId)).thenReturn(Optional.empty());
+            WebhookOutboxEntry entry = WebhookOutboxEntry.pending(UUID.randomUUID(), tenantId, webhookId,
+                    UUID.randomUUID(), WebhookEventType.INCIDENT_CREATED, Map.of(), Instant.now());
+
+            // When/Then
+            assertThat(webhookService.deliver(entry)).isEmpty();
+            verify(webhookRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("recordDeadLetter")
+    class RecordDeadLetter {
+
+        @Test
+        @DisplayName("should count the dead letter against the webhook without reading it")
+        void shouldCountDeadLetter() {
+            // When
+            webhookService.recordDeadLetter(webhookId);
+
+            // Then
+            verify(deliveryRecorder).recordDeadLetter(webhookId);
+            verifyNoInteractions(webhookRepository);
+        }
+
+        @Test
+        @DisplayName("should never disable the webhook; its circuit breaker handles a failing receiver")
+        void shouldNotDisableAfterManyDeadLetters() {
+            // When
+            for (int i = 0; i < 40; i++) {
+                webhookService.recordDeadLetter(webhookId);
+            }
+
+            // Then
+            verify(deliveryRecorder, times(40)).recordDeadLetter(webhookId);
+            verify(webhookRepository, never()).save(any());
+            verifyNoInteractions(subscriptionIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("replayDeadLetters")
+    class ReplayDeadLetters {
+
+        @Test
+        @DisplayName("should requeue the webhook's dead letters scoped to the tenant")
+        void shouldReplayDeadLetters() {
+            // Given
+            when(outboxRepository.replayDead(tenantId, webhookId)).thenReturn(3);
+
+            // When/Then
+            assertThat(webhookService.replayDeadLetters(tenantId, webhookId)).isEqualTo(3);
         }
     }
 
@@ -246,29 +511,52 @@ class WebhookServiceTest {
     class GetDeliveryStats {
 
         @Test
-        @DisplayName("should return delivery stats")
+        @DisplayName("should serve the counters instead of counting the delivery log")
         void shouldReturnDeliveryStats() {
             // Given
-            when(deliveryRepository.countSuccessByWebhookId(webhookId)).thenReturn(10L);
-            when(deliveryRepository.countFailuresByWebhookId(webhookId)).thenReturn(2L);
+            WebhookStats counted = new WebhookStats(10, 2, 3, Map.of(200, 10L, 500, 2L), Duration.ofMillis(40),
+                    Duration.ofMillis(90), Duration.ofMillis(120));
+            when(deliveryStats.get(webhookId)).thenReturn(counted);
 
             // When
-            Map<String, Long> stats = webhookService.getDeliveryStats(webhookId);
+            WebhookStats stats = webhookService.getDeliveryStats(webhookId);
 
             // Then
-            assertThat(stats).containsEntry("successes", 10L);
-            assertThat(stats).containsEntry("failures", 2L);
-            assertThat(stats).containsEntry("total", 12L);
+            assertThat(stats.total()).isEqualTo(12);
+            verifyNoInteractions(deliveryRepository);
         }
     }
 
+    private WebhookOutboxEntry claimed(long sequence, String title) {
+        return WebhookOutboxEntry.of(UUID.randomUUID(), UUID.randomUUID(), tenantId, webhookId, UUID.randomUUID(),
+                sequence, WebhookEventType.INCIDENT_CREATED, Map.of("title", title), WebhookOutboxStatus.PENDING, 1,
+                Instant.now().plusSeconds(120), Instant.now(), null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<String> okResponse() {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<String> errorResponse() {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(500);
+        when(response.body()).thenReturn("<html>Internal Server Error</html>");
+        return response;
+    }
+
     private Webhook createWebhook(UUID id) {
         return Webhook.of(id, tenantId, "Test Webhook", "https://test.com/webhook", "secret",
-                Set.of(WebhookEventType.INCIDENT_CREATED), true, Instant.now(), Instant.now(), null, 0);
+                Set.of(WebhookEventType.INCIDENT_CREATED), true, Instant.now(), Instant.now(), null, 0,
+                CircuitState.CLOSED, null, null, null, false);
     }
 
     private Webhook createInactiveWebhook(UUID id) {
         return Webhook.of(id, tenantId, "Test Webhook", "https://test.com/webhook", "secret",
-                Set.of(WebhookEventType.INCIDENT_CREATED), false, Instant.now(), Instant.now(), null, 0);
+                Set.of(WebhookEventType.INCIDENT_CREATED), false, Instant.now(), Instant.now(), null, 0,
+                CircuitState.CLOSED, null, null, null, false);
     }
 }
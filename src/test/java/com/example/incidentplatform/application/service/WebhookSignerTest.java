@@ -0,0 +1,35 @@
+package com.example.incidentplatform.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookSignerTest {
+
+    private final WebhookSigner signer = new WebhookSigner();
+
+    @Test
+    @DisplayName("signatures match the RFC 4231 HMAC-SHA256 test vector, including on reuse of a secret")
+    void signMatchesReferenceVector() {
+        byte[] body = "what do ya want for nothing?".getBytes(StandardCharsets.UTF_8);
+        String expected = "sha256=5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843";
+
+        assertThat(signer.sign(body, "Jefe")).isEqualTo(expected);
+        assertThat(signer.sign(body, "Jefe")).isEqualTo(expected);
+        assertThat(signer.sign(body, "another secret")).isNotEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("hex encoding matches the JDK's")
+    void toHexMatchesHexFormat() {
+        byte[] bytes = new byte[256];
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        assertThat(WebhookSigner.toHex(bytes)).isEqualTo(HexFormat.of().formatHex(bytes));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.incidentplatform.application.service;
+
+import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.application.port.WebhookSubscriptionBroadcaster;
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
+import com.example.incidentplatform.application.service.WebhookSubscriptionIndex.Subscriber;
+import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookBatching;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookSubscriptionIndexTest {
+
+    @Mock
+    private WebhookRepository webhookRepository;
+
+    @Mock
+    private WebhookSubscriptionBroadcaster broadcaster;
+
+    private WebhookSubscriptionIndex index;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setup() {
+        index = new WebhookSubscriptionIndex(webhookRepository, broadcaster);
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("subscribers are loaded once and filtered by event")
+    void subscribers_loadsOnceAndFilters() {
+        Webhook created = webhook(WebhookEventType.INCIDENT_CREATED, WebhookEventType.INCIDENT_RESOLVED);
+        Webhook comments = webhook(WebhookEventType.COMMENT_ADDED);
+        when(webhookRepository.findActiveByTenantId(tenantId)).thenReturn(List.of(created, comments));
+
+        assertThat(index.subscribers(tenantId, WebhookEventType.INCIDENT_RESOLVED))
+                .extracting(Subscriber::webhookId).containsExactly(created.id());
+        assertThat(index.subscribers(tenantId, WebhookEventType.COMMENT_ADDED))
+                .extracting(Subscriber::webhookId).containsExactly(comments.id());
+        assertThat(index.subscribers(tenantId, WebhookEventType.INCIDENT_CLOSED)).isEmpty();
+
+        verify(webhookRepository, times(1)).findActiveByTenantId(tenantId);
+    }
+
+    @Test
+    @DisplayName("subscribers carry their batching linger time")
+    void subscribers_carryBatchLinger() {
+        Webhook batching = webhook(WebhookEventType.INCIDENT_CREATED)
+                .withBatching(new WebhookBatching(100, Duration.ofMillis(750), 65536));
+        Webhook plain = webhook(WebhookEventType.INCIDENT_CREATED);
+        when(webhookRepository.findActiveByTenantId(tenantId)).thenReturn(List.of(batching, plain));
+
+        assertThat(index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED)).containsExactly(
+                new Subscriber(batching.id(), Duration.ofMillis(750)), new Subscriber(plain.id(), Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("a change reloads the tenant here and is broadcast to other nodes")
+    void webhooksChanged_evictsAndBroadcasts() {
+        when(webhookRepository.findActiveByTenantId(tenantId)).thenReturn(List.of());
+        index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+
+        index.webhooksChanged(tenantId);
+        index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+
+        verify(broadcaster).broadcastChanged(tenantId);
+        verify(webhookRepository, times(2)).findActiveByTenantId(tenantId);
+    }
+
+    @Test
+    @DisplayName("inside a transaction the change is broadcast as part of it and evicted on commit")
+    void webhooksChanged_inTransaction_waitsForCommit() {
+        when(webhookRepository.findActiveByTenantId(tenantId)).thenReturn(List.of());
+        index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.webhooksChanged(tenantId);
+            verifyNoInteractions(broadcaster);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+            verify(broadcaster).broadcastChanged(tenantId);
+            index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+            verify(webhookRepository, times(1)).findActiveByTenantId(tenantId);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+        verify(webhookRepository, times(2)).findActiveByTenantId(tenantId);
+    }
+
+    @Test
+    @DisplayName("a load that overlaps an eviction is not cached")
+    void subscribers_evictedDuringLoad_isNotCached() {
+        when(webhookRepository.findActiveByTenantId(tenantId)).thenAnswer(inv -> {
+            index.evict(tenantId);
+            return List.of();
+        }).thenReturn(List.of());
+
+        index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+        index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+        index.subscribers(tenantId, WebhookEventType.INCIDENT_CREATED);
+
+        verify(webhookRepository, times(2)).findActiveByTenantId(tenantId);
+    }
+
+    private Webhook webhook(WebhookEventType... events) {
+        return Webhook.of(UUID.randomUUID(), tenantId, "Hook", "https://hooks.example.com", null, Set.of(events),
+                true, Instant.now(), Instant.now(), null, 0, CircuitState.CLOSED, null, null, null, false);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.incidentplatform.benchmark;
+
+import com.example.incidentplatform.application.service.WebhookPayloadEncoder;
+import com.example.incidentplatform.application.service.WebhookPayloadEncoder.EncodedPayload;
+import com.example.incidentplatform.application.service.WebhookPayloadEncoder.Format;
+import com.example.incidentplatform.application.service.WebhookSigner;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of encoding and signing one event for all of its subscribers, before
+ * and after the payload was shared between them.
+ *
+ * Not run by the build; start it from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.incidentplatform.benchmark.WebhookFanOutBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebhookFanOutBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int subscribers;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private WebhookPayloadEncoder encoder;
+    private WebhookSigner signer;
+    private Map<String, Object> eventData;
+    private String[] secrets;
+    private Instant occurredAt;
+
+    @Setup
+    public void setup() {
+        encoder = new WebhookPayloadEncoder(objectMapper);
+        signer = new WebhookSigner();
+        occurredAt = Instant.now();
+        eventData = new LinkedHashMap<>();
+        eventData.put("incidentId", UUID.randomUUID().toString());
+        eventData.put("title", "Checkout latency above SLO");
+        eventData.put("description", "p99 latency for /checkout has exceeded 2s for 10 minutes");
+        eventData.put("severity", "HIGH");
+        eventData.put("status", "OPEN");
+        secrets = new String[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            secrets[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * What each delivery used to do: build and serialise the payload, then
+     * sign it with a freshly initialised Mac.
+     */
+    @Benchmark
+    public void perSubscriber(Blackhole blackhole) throws Exception {
+        for (String secret : secrets) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("event", WebhookEventType.INCIDENT_CREATED.name());
+            payload.put("timestamp", occurredAt.toString());
+            payload.put("data", eventData);
+            String json = objectMapper.writeValueAsString(payload);
+
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] hash = mac.doFinal(json.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            blackhole.consume("sha256=" + hex);
+        }
+    }
+
+    /**
+     * What each delivery does now: look the event's body up once per format
+     * and sign it with the secret's cached Mac.
+     */
+    @Benchmark
+    public void shared(Blackhole blackhole) {
+        UUID eventId = UUID.randomUUID();
+        for (String secret : secrets) {
+            EncodedPayload encoded = encoder.encode(eventId, Format.GENERIC, WebhookEventType.INCIDENT_CREATED,
+                    eventData, occurredAt);
+            blackhole.consume(signer.sign(encoded.body(), secret));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WebhookFanOutBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.incidentplatform.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentDailyStats;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import com.example.incidentplatform.domain.model.incident.Severity;
+
+public class IncidentDailyStatsTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final Instant CREATED = Instant.parse("2026-03-01T23:30:00Z");
+    private static final Instant RESOLVED = Instant.parse("2026-03-02T01:30:00Z");
+
+    @Test
+    void delta_forNewIncident_countsCreatedOnItsDay() {
+        Incident incident = incident(Severity.HIGH, IncidentStatus.OPEN, null);
+
+        List<IncidentDailyStats> delta = IncidentDailyStats.delta(null, incident);
+
+        assertEquals(List.of(new IncidentDailyStats(TENANT, LocalDate.parse("2026-03-01"),
+                Severity.HIGH, IncidentStatus.OPEN, 1, 0, 0)), delta);
+    }
+
+    @Test
+    void delta_forResolution_movesCreatedBucketAndCountsResolution() {
+        Incident before = incident(Severity.HIGH, IncidentStatus.OPEN, null);
+        Incident after = incident(Severity.HIGH, IncidentStatus.RESOLVED, RESOLVED);
+
+        List<IncidentDailyStats> delta = IncidentDailyStats.delta(before, after);
+
+        assertEquals(List.of(
+                new IncidentDailyStats(TENANT, LocalDate.parse("2026-03-01"),
+                        Severity.HIGH, IncidentStatus.OPEN, -1, 0, 0),
+                new IncidentDailyStats(TENANT, LocalDate.parse("2026-03-01"),
+                        Severity.HIGH, IncidentStatus.RESOLVED, 1, 0, 0),
+                new IncidentDailyStats(TENANT, LocalDate.parse("2026-03-02"),
+                        Severity.HIGH, IncidentStatus.RESOLVED, 0, 1, 7200)),
+                delta);
+    }
+
+    @Test
+    void delta_withoutBucketChanges_isEmpty() {
+        Incident before = incident(Severity.LOW, IncidentStatus.IN_PROGRESS, null);
+        Incident after = incident(Severity.LOW, IncidentStatus.IN_PROGRESS, null);
+
+        assertTrue(IncidentDailyStats.delta(before, after).isEmpty());
+    }
+
+    @Test
+    void delta_forDeletedResolvedIncident_removesBothContributions() {
+        Incident incident = incident(Severity.CRITICAL, IncidentStatus.CLOSED, RESOLVED);
+
+        List<IncidentDailyStats> delta = IncidentDailyStats.delta(incident, null);
+
+        assertEquals(List.of(
+                new IncidentDailyStats(TENANT, LocalDate.parse("2026-03-01"),
+                        Severity.CRITICAL, IncidentStatus.CLOSED, -1, 0, 0),
+                new IncidentDailyStats(TENANT, LocalDate.parse("2026-03-02"),
+                        Severity.CRITICAL, IncidentStatus.CLOSED, 0, -1, -7200)),
+                delta);
+    }
+
+    private static Incident incident(Severity severity, IncidentStatus status, Instant resolvedAt) {
+        return Incident.of(UUID.fromString("00000000-0000-0000-0000-000000000001"), TENANT, "Title", "Description",
+                severity, status, UUID.randomUUID(), CREATED, CREATED, resolvedAt);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.incidentplatform.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.incidentplatform.domain.model.webhook.WebhookStats;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket.Metric;
+
+public class WebhookStatsTest {
+
+    private static final UUID WEBHOOK = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2026-03-02T12:30:00Z");
+
+    @Test
+    void forDelivery_countsOutcomeStatusLatencyAndHour() {
+        List<WebhookStatsBucket> buckets = WebhookStatsBucket.forDelivery(WEBHOOK, false, 503,
+                Duration.ofMillis(7), NOW);
+
+        assertEquals(List.of(
+                new WebhookStatsBucket(WEBHOOK, Metric.FAILURES, 0, 1),
+                new WebhookStatsBucket(WEBHOOK, Metric.STATUS, 503, 1),
+                new WebhookStatsBucket(WEBHOOK, Metric.LATENCY, WebhookStatsBucket.latencyBucket(Duration.ofMillis(7)),
+                        1),
+                new WebhookStatsBucket(WEBHOOK, Metric.HOURLY, NOW.getEpochSecond() / 3600, 1)), buckets);
+    }
+
+    @Test
+    void latencyBucket_boundIsWithinTenPercentOfTheLatency() {
+        for (long millis : new long[] { 1, 9, 37, 250, 1_234, 9_999, 45_000 }) {
+            Duration bound = WebhookStatsBucket.latencyBounds()
+                    .get(WebhookStatsBucket.latencyBucket(Duration.ofMillis(millis)));
+
+            assertTrue(bound.toMillis() >= millis && bound.toMillis() <= millis * 1.1 + 1, millis + "ms -> " + bound);
+        }
+    }
+
+    @Test
+    void from_sumsCountersAndKeepsOnlyTheLastDayOfHours() {
+        long hour = WebhookStatsBucket.hour(NOW);
+        List<WebhookStatsBucket> buckets = List.of(
+                new WebhookStatsBucket(WEBHOOK, Metric.SUCCESSES, 0, 8),
+                new WebhookStatsBucket(WEBHOOK, Metric.SUCCESSES, 0, 2),
+                new WebhookStatsBucket(WEBHOOK, Metric.FAILURES, 0, 3),
+                new WebhookStatsBucket(WEBHOOK, Metric.STATUS, 200, 10),
+                new WebhookStatsBucket(WEBHOOK, Metric.STATUS, 500, 1),
+                new WebhookStatsBucket(WEBHOOK, Metric.HOURLY, hour, 4),
+                new WebhookStatsBucket(WEBHOOK, Metric.HOURLY, hour - 23, 5),
+                new WebhookStatsBucket(WEBHOOK, Metric.HOURLY, hour - 24, 6));
+
+        WebhookStats stats = WebhookStats.from(buckets, NOW);
+
+        assertEquals(10, stats.successes());
+        assertEquals(3, stats.failures());
+        assertEquals(13, stats.total());
+        assertEquals(9, stats.lastDay());
+        assertEquals(Map.of(200, 10L, 500, 1L), stats.statusCodes());
+        assertNull(stats.p50Latency());
+    }
+
+    @Test
+    void from_readsPercentilesFromTheHistogram() {
+        List<WebhookStatsBucket> buckets = new ArrayList<>();
+        for (int millis = 1; millis <= 100; millis++) {
+            buckets.addAll(WebhookStatsBucket.forDelivery(WEBHOOK, true, 200, Duration.ofMillis(millis), NOW));
+        }
+
+        WebhookStats stats = WebhookStats.from(buckets, NOW);
+
+        assertEquals(bound(50), stats.p50Latency());
+        assertEquals(bound(95), stats.p95Latency());
+        assertEquals(bound(99), stats.p99Latency());
+    }
+
+    private static Duration bound(long millis) {
+        return WebhookStatsBucket.latencyBounds().get(WebhookStatsBucket.latencyBucket(Duration.ofMillis(millis)));
+    }
+}
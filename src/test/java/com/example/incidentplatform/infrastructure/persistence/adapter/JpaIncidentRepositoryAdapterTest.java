@@ -0,0 +1,334 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.IncidentRepository;
+import com.example.incidentplatform.common.error.BadRequestException;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.KeysetCursor;
+import com.example.incidentplatform.common.pagination.SortDirection;
+import com.example.incidentplatform.domain.model.incident.Incident;
+import com.example.incidentplatform.domain.model.incident.IncidentSortField;
+import com.example.incidentplatform.domain.model.incident.IncidentStatus;
+import com.example.incidentplatform.domain.model.incident.Severity;
+import com.example.incidentplatform.infrastructure.persistence.inspection.SqlStatementCounter;
+import com.example.incidentplatform.infrastructure.persistence.mapper.IncidentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ JpaIncidentRepositoryAdapter.class, IncidentMapper.class })
+class JpaIncidentRepositoryAdapterTest {
+
+    private static final int INCIDENT_COUNT = 25;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    IncidentRepository adapter;
+
+    private UUID tenantId;
+    private UUID userId;
+    private List<Incident> seeded;
+
+    @BeforeEach
+    void seed() {
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, slug, name) VALUES (?, ?, 'Paging Tenant')",
+                tenantId, "paging-" + tenantId);
+        jdbcTemplate.update("INSERT INTO users (id, email, display_name, password_hash) "
+                + "VALUES (?, ?, 'Paging User', 'hash')", userId, "paging-" + userId + "@test.com");
+
+        // Several incidents share a timestamp so the id tie-breaker is exercised
+        Instant base = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        seeded = new ArrayList<>();
+        for (int i = 0; i < INCIDENT_COUNT; i++) {
+            Instant createdAt = base.minusSeconds(i / 3);
+            Instant updatedAt = createdAt.plusSeconds(i * 7 % 11);
+            Severity severity = i % 2 == 0 ? Severity.HIGH : Severity.LOW;
+            IncidentStatus status = i % 5 == 0 ? IncidentStatus.RESOLVED : IncidentStatus.OPEN;
+            Instant resolvedAt = status == IncidentStatus.RESOLVED ? createdAt.plusSeconds(60 - i) : null;
+            Incident incident = Incident.of(UUID.randomUUID(), tenantId, "Incident " + i, "Paging test",
+                    severity, status, userId, createdAt, updatedAt, resolvedAt);
+            jdbcTemplate.update("INSERT INTO incidents (id, tenant_id, title, description, severity, status, "
+                    + "created_by, created_at, updated_at, resolved_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    incident.id(), tenantId, incident.title(), incident.description(), severity.name(),
+                    status.name(), userId, utc(createdAt), utc(updatedAt),
+                    resolvedAt == null ? null : utc(resolvedAt));
+            seeded.add(incident);
+        }
+        // PostgreSQL orders uuids bytewise, which matches their string form (UUID.compareTo is signed)
+        seeded.sort(Comparator.comparing(Incident::createdAt)
+                .thenComparing((Incident i) -> i.id().toString())
+                .reversed());
+    }
+
+    @Test
+    void findByTenantId_pagesThroughAllIncidentsInKeysetOrder() {
+        List<UUID> visited = drain(page -> adapter.findByTenantId(tenantId, page), 4);
+
+        assertThat(visited).containsExactlyElementsOf(seeded.stream().map(Incident::id).toList());
+    }
+
+    @Test
+    void findByTenantIdAndStatus_pagesOnlyMatchingIncidents() {
+        List<UUID> visited = drain(page -> adapter.findByTenantIdAndStatus(tenantId, "OPEN", page), 3);
+
+        assertThat(visited).containsExactlyElementsOf(seeded.stream()
+                .filter(i -> i.status() == IncidentStatus.OPEN).map(Incident::id).toList());
+    }
+
+    @Test
+    void findByTenantIdAndSeverity_pagesOnlyMatchingIncidents() {
+        List<UUID> visited = drain(page -> adapter.findByTenantIdAndSeverity(tenantId, "HIGH", page), 5);
+
+        assertThat(visited).containsExactlyElementsOf(seeded.stream()
+                .filter(i -> i.severity() == Severity.HIGH).map(Incident::id).toList());
+    }
+
+    @Test
+    void search_pagesThroughFilteredResults() {
+        List<UUID> visited = drain(page -> adapter.search(tenantId, "incident", null, "LOW",
+                null, null, null, false, IncidentSortField.CREATED_AT, SortDirection.DESC, page), 4);
+
+        assertThat(visited).containsExactlyElementsOf(seeded.stream()
+                .filter(i -> i.severity() == Severity.LOW).map(Incident::id).toList());
+    }
+
+    @Test
+    void search_matchesStemmedWordsAndPhrases() {
+        Incident full = insert("Disk full on db-1", "Writes are failing", Severity.HIGH);
+        insert("Database slow", "The disk is nearly full", Severity.LOW);
+
+        assertThat(titles(search("disks", false, IncidentSortField.CREATED_AT)))
+                .containsExactlyInAnyOrder(full.title(), "Database slow");
+        assertThat(titles(search("\"disk full\"", false, IncidentSortField.CREATED_AT))).containsExactly(full.title());
+    }
+
+    @Test
+    void search_supportsPrefixQueries() {
+        Incident timeout = insert("Gateway timeout", "Upstream timed out", Severity.HIGH);
+
+        assertThat(titles(search("gatew*", false, IncidentSortField.CREATED_AT))).containsExactly(timeout.title());
+        assertThat(search("gatew", false, IncidentSortField.CREATED_AT).items()).isEmpty();
+    }
+
+    @Test
+    void search_byRelevance_ranksTitleMatchesFirstAndPages() {
+        Incident inDescription = insert("Queue backlog", "Consumers lag behind the kafka brokers", Severity.LOW);
+        Incident inTitle = insert("Kafka broker down", "Producers cannot connect", Severity.HIGH);
+
+        List<UUID> visited = drain(page -> adapter.search(tenantId, "kafka", null, null,
+                null, null, null, false, IncidentSortField.RELEVANCE, SortDirection.DESC, page), 1);
+
+        assertThat(visited).containsExactly(inTitle.id(), inDescription.id());
+    }
+
+    @Test
+    void search_fuzzy_fallsBackToSubstringAndSimilarWords() {
+        Incident certificate = insert("Certificate expired", "TLS handshake failures", Severity.CRITICAL);
+
+        assertThat(search("certifcate", false, IncidentSortField.CREATED_AT).items()).isEmpty();
+        assertThat(titles(search("certifcate", true, IncidentSortField.CREATED_AT))).containsExactly(certificate.title());
+        assertThat(titles(search("andshak", true, IncidentSortField.RELEVANCE))).containsExactly(certificate.title());
+    }
+
+    @Test
+    void search_ignoresQuerySyntaxInUserInput() {
+        Incident memory = insert("Memory leak", "Heap keeps growing", Severity.MEDIUM);
+
+        assertThat(titles(search("memory & !(leak | :*", false, IncidentSortField.CREATED_AT))).containsExactly(memory.title());
+    }
+
+    @Test
+    void search_sortedBySeverity_listsMostSevereFirst() {
+        assertThat(drainSorted(IncidentSortField.SEVERITY, SortDirection.DESC))
+                .containsExactlyElementsOf(expected(i -> -i.severity().getLevel(), SortDirection.DESC));
+        assertThat(drainSorted(IncidentSortField.SEVERITY, SortDirection.ASC))
+                .containsExactlyElementsOf(expected(i -> -i.severity().getLevel(), SortDirection.ASC));
+    }
+
+    @Test
+    void search_sortedByUpdatedAt_pagesInBothDirections() {
+        assertThat(drainSorted(IncidentSortField.UPDATED_AT, SortDirection.DESC))
+                .containsExactlyElementsOf(expected(Incident::updatedAt, SortDirection.DESC));
+        assertThat(drainSorted(IncidentSortField.UPDATED_AT, SortDirection.ASC))
+                .containsExactlyElementsOf(expected(Incident::updatedAt, SortDirection.ASC));
+    }
+
+    @Test
+    void search_sortedByStatus_pagesInBothDirections() {
+        assertThat(drainSorted(IncidentSortField.STATUS, SortDirection.DESC))
+                .containsExactlyElementsOf(expected(i -> i.status().name(), SortDirection.DESC));
+        assertThat(drainSorted(IncidentSortField.STATUS, SortDirection.ASC))
+                .containsExactlyElementsOf(expected(i -> i.status().name(), SortDirection.ASC));
+    }
+
+    @Test
+    void search_sortedByResolvedAt_pagesAcrossUnresolvedIncidents() {
+        assertThat(drainSorted(IncidentSortField.RESOLVED_AT, SortDirection.DESC))
+                .containsExactlyElementsOf(expected(Incident::resolvedAt, SortDirection.DESC));
+        assertThat(drainSorted(IncidentSortField.RESOLVED_AT, SortDirection.ASC))
+                .containsExactlyElementsOf(expected(Incident::resolvedAt, SortDirection.ASC));
+    }
+
+    @Test
+    void search_rejectsCursorFromAnotherOrdering() {
+        CursorPage<Incident> bySeverity = adapter.search(tenantId, null, null, null, null, null, null, false,
+                IncidentSortField.SEVERITY, SortDirection.DESC, new CursorPageRequest(null, 2));
+        CursorPageRequest next = new CursorPageRequest(KeysetCursor.decode(bySeverity.nextCursor()), 2);
+
+        assertThatThrownBy(() -> adapter.search(tenantId, null, null, null, null, null, null, false,
+                IncidentSortField.UPDATED_AT, SortDirection.DESC, next))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void streamMatching_yieldsEveryMatchInSearchOrder() {
+        List<UUID> streamed;
+        try (Stream<Incident> stream = adapter.streamMatching(tenantId, null, "OPEN", null, null, null, null, false,
+                IncidentSortField.UPDATED_AT, SortDirection.ASC)) {
+            streamed = stream.map(Incident::id).toList();
+        }
+
+        assertThat(streamed).containsExactlyElementsOf(expected(Incident::updatedAt, SortDirection.ASC).stream()
+                .filter(id -> seeded.stream().anyMatch(i -> i.id().equals(id) && i.status() == IncidentStatus.OPEN))
+                .toList());
+    }
+
+    @Test
+    void countByStatus_countsEveryStatusInOneQuery() {
+        Map<IncidentStatus, Long> counts = adapter.countByStatus(tenantId);
+
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(
+                IncidentStatus.OPEN, seeded.stream().filter(i -> i.status() == IncidentStatus.OPEN).count(),
+                IncidentStatus.IN_PROGRESS, 0L,
+                IncidentStatus.RESOLVED, seeded.stream().filter(i -> i.status() == IncidentStatus.RESOLVED).count(),
+                IncidentStatus.CLOSED, 0L));
+    }
+
+    @Test
+    void findByIdAndTenantId_isOneStatementScopedToTheTenant() {
+        Incident incident = seeded.get(0);
+
+        SqlStatementCounter.reset();
+        assertThat(adapter.findByIdAndTenantId(incident.id(), tenantId)).map(Incident::title)
+                .contains(incident.title());
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+
+        assertThat(adapter.findByIdAndTenantId(incident.id(), UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void findByIdAndTenantIdForUpdate_isScopedToTheTenant() {
+        Incident incident = seeded.get(0);
+
+        assertThat(adapter.findByIdAndTenantIdForUpdate(incident.id(), tenantId)).map(Incident::title)
+                .contains(incident.title());
+        assertThat(adapter.findByIdAndTenantIdForUpdate(incident.id(), UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void deleteByIdAndTenantId_deletesAndReturnsTheRowInOneStatement() {
+        Incident incident = seeded.get(0);
+
+        assertThat(adapter.deleteByIdAndTenantId(incident.id(), UUID.randomUUID())).isEmpty();
+
+        SqlStatementCounter.reset();
+        assertThat(adapter.deleteByIdAndTenantId(incident.id(), tenantId)).map(Incident::status)
+                .contains(incident.status());
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM incidents WHERE id = ?", Long.class,
+                incident.id())).isZero();
+    }
+
+    @Test
+    void lastPage_hasNoNextCursor() {
+        CursorPage<Incident> page = adapter.findByTenantId(tenantId, new CursorPageRequest(null, INCIDENT_COUNT));
+
+        assertThat(page.items()).hasSize(INCIDENT_COUNT);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    private CursorPage<Incident> search(String term, boolean fuzzy, IncidentSortField sortBy) {
+        return adapter.search(tenantId, term, null, null, null, null, null, fuzzy, sortBy, SortDirection.DESC,
+                CursorPageRequest.first());
+    }
+
+    private List<UUID> drainSorted(IncidentSortField sortBy, SortDirection direction) {
+        return drain(page -> adapter.search(tenantId, null, null, null, null, null, null, false,
+                sortBy, direction, page), 4);
+    }
+
+    /**
+     * Expected order for a sort key: the key, then createdAt and id, all in the
+     * same direction. Ascending order puts nulls last, as PostgreSQL does.
+     */
+    private <K extends Comparable<K>> List<UUID> expected(Function<Incident, K> key, SortDirection direction) {
+        Comparator<Incident> order = Comparator.comparing(key, Comparator.nullsLast(Comparator.<K>naturalOrder()))
+                .thenComparing(Incident::createdAt)
+                .thenComparing((Incident i) -> i.id().toString());
+        return seeded.stream()
+                .sorted(direction.isAscending() ? order : order.reversed())
+                .map(Incident::id)
+                .toList();
+    }
+
+    private Incident insert(String title, String description, Severity severity) {
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Incident incident = Incident.of(UUID.randomUUID(), tenantId, title, description,
+                severity, IncidentStatus.OPEN, userId, createdAt, createdAt, null);
+        jdbcTemplate.update("INSERT INTO incidents (id, tenant_id, title, description, severity, status, "
+                + "created_by, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                incident.id(), tenantId, title, description, severity.name(),
+                IncidentStatus.OPEN.name(), userId, utc(createdAt), utc(createdAt));
+        return incident;
+    }
+
+    private static List<String> titles(CursorPage<Incident> page) {
+        return page.items().stream().map(Incident::title).toList();
+    }
+
+    private List<UUID> drain(Function<CursorPageRequest, CursorPage<Incident>> query, int limit) {
+        List<UUID> visited = new ArrayList<>();
+        CursorPageRequest request = new CursorPageRequest(null, limit);
+        while (true) {
+            CursorPage<Incident> page = query.apply(request);
+            assertThat(page.items().size()).isLessThanOrEqualTo(limit);
+            page.items().forEach(incident -> visited.add(incident.id()));
+            if (page.nextCursor() == null) {
+                return visited;
+            }
+            request = new CursorPageRequest(KeysetCursor.decode(page.nextCursor()), limit);
+        }
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
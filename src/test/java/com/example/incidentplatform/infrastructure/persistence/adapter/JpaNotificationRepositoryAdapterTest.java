@@ -0,0 +1,160 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.NotificationRepository;
+import com.example.incidentplatform.common.pagination.CursorPage;
+import com.example.incidentplatform.common.pagination.CursorPageRequest;
+import com.example.incidentplatform.common.pagination.KeysetCursor;
+import com.example.incidentplatform.domain.model.notification.Notification;
+import com.example.incidentplatform.domain.model.notification.NotificationType;
+import com.example.incidentplatform.infrastructure.persistence.inspection.SqlStatementCounter;
+import com.example.incidentplatform.infrastructure.persistence.mapper.NotificationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ JpaNotificationRepositoryAdapter.class, NotificationMapper.class })
+class JpaNotificationRepositoryAdapterTest {
+
+    private static final int RECIPIENTS = 2_000;
+    private static final int FEED_SIZE = 25;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    NotificationRepository adapter;
+
+    private List<UUID> userIds;
+
+    @BeforeEach
+    void seed() {
+        userIds = new ArrayList<>(RECIPIENTS);
+        List<Object[]> users = new ArrayList<>(RECIPIENTS);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            UUID userId = UUID.randomUUID();
+            userIds.add(userId);
+            users.add(new Object[] { userId, "fan-out-" + userId + "@test.com" });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, display_name, password_hash) "
+                + "VALUES (?, ?, 'Fan-out User', 'hash')", users);
+    }
+
+    @Test
+    void saveAll_insertsEveryNotificationAsOneBatch() {
+        List<Notification> notifications = new ArrayList<>(RECIPIENTS);
+        for (UUID userId : userIds) {
+            notifications.add(Notification.createNew(userId, NotificationType.ESCALATED, "Incident escalated",
+                    "Incident 'Outage' escalated from HIGH to CRITICAL", null,
+                    Map.of("oldSeverity", "HIGH", "newSeverity", "CRITICAL")));
+        }
+
+        SqlStatementCounter.reset();
+        adapter.saveAll(notifications);
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE type = 'ESCALATED'",
+                Long.class)).isEqualTo(RECIPIENTS);
+        assertThat(adapter.findByUserId(userIds.get(0), CursorPageRequest.first()).items())
+                .singleElement()
+                .satisfies(saved -> {
+                    assertThat(saved.id()).isEqualTo(notifications.get(0).id());
+                    assertThat(saved.metadata()).containsEntry("newSeverity", "CRITICAL");
+                    assertThat(saved.isRead()).isFalse();
+                });
+    }
+
+    @Test
+    void findByUserId_pagesThroughAllNotificationsInKeysetOrder() {
+        List<Notification> feed = seedFeed(userIds.get(0));
+
+        List<UUID> visited = drain(page -> adapter.findByUserId(userIds.get(0), page), 4);
+
+        assertThat(visited).containsExactlyElementsOf(feed.stream().map(Notification::id).toList());
+    }
+
+    @Test
+    void findUnreadByUserId_pagesOnlyUnreadNotifications() {
+        List<Notification> feed = seedFeed(userIds.get(0));
+
+        List<UUID> visited = drain(page -> adapter.findUnreadByUserId(userIds.get(0), page), 3);
+
+        assertThat(visited).containsExactlyElementsOf(feed.stream()
+                .filter(Notification::isUnread).map(Notification::id).toList());
+    }
+
+    @Test
+    void findByUserIdAndType_pagesOnlyMatchingNotifications() {
+        List<Notification> feed = seedFeed(userIds.get(0));
+
+        List<UUID> visited = drain(page -> adapter.findByUserIdAndType(userIds.get(0),
+                NotificationType.STATUS_CHANGED, page), 5);
+
+        assertThat(visited).containsExactlyElementsOf(feed.stream()
+                .filter(n -> n.type() == NotificationType.STATUS_CHANGED).map(Notification::id).toList());
+    }
+
+    /**
+     * Inserts a user's feed, newest first in keyset order. Several
+     * notifications share a timestamp so the id tie-breaker is exercised.
+     */
+    private List<Notification> seedFeed(UUID userId) {
+        Instant base = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<Notification> feed = new ArrayList<>();
+        for (int i = 0; i < FEED_SIZE; i++) {
+            Instant createdAt = base.minusSeconds(i / 3);
+            NotificationType type = i % 2 == 0 ? NotificationType.STATUS_CHANGED : NotificationType.ASSIGNED;
+            Instant readAt = i % 5 == 0 ? createdAt : null;
+            Notification notification = Notification.of(UUID.randomUUID(), userId, type, "Notification " + i,
+                    "Paging test", null, readAt, createdAt, null);
+            jdbcTemplate.update("INSERT INTO notifications (id, user_id, type, title, message, created_at, read_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    notification.id(), userId, type.name(), notification.title(), notification.message(),
+                    utc(createdAt), readAt != null ? utc(readAt) : null);
+            feed.add(notification);
+        }
+        // PostgreSQL orders uuids bytewise, which matches their string form (UUID.compareTo is signed)
+        feed.sort(Comparator.comparing(Notification::createdAt)
+                .thenComparing((Notification n) -> n.id().toString())
+                .reversed());
+        return feed;
+    }
+
+    private List<UUID> drain(Function<CursorPageRequest, CursorPage<Notification>> query, int limit) {
+        List<UUID> visited = new ArrayList<>();
+        CursorPageRequest request = new CursorPageRequest(null, limit);
+        while (true) {
+            CursorPage<Notification> page = query.apply(request);
+            assertThat(page.items().size()).isLessThanOrEqualTo(limit);
+            page.items().forEach(notification -> visited.add(notification.id()));
+            if (page.nextCursor() == null) {
+                return visited;
+            }
+            request = new CursorPageRequest(KeysetCursor.decode(page.nextCursor()), limit);
+        }
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.WebhookDeliveryRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookDelivery;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.infrastructure.persistence.mapper.WebhookDeliveryMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ JpaWebhookDeliveryRepositoryAdapter.class, WebhookDeliveryMapper.class })
+class JpaWebhookDeliveryRepositoryAdapterTest {
+
+    // Far enough ahead not to meet the partitions the migration and the maintenance job create
+    private static final LocalDate FUTURE_DAY = LocalDate.of(2090, 1, 1);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    WebhookDeliveryRepository adapter;
+
+    private UUID webhookId;
+
+    @BeforeEach
+    void seed() {
+        UUID tenantId = UUID.randomUUID();
+        webhookId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, slug, name) VALUES (?, ?, 'Delivery Tenant')",
+                tenantId, "deliveries-" + tenantId);
+        jdbcTemplate.update("INSERT INTO webhooks (id, tenant_id, name, url, events) VALUES (?, ?, ?, ?, ?)",
+                webhookId, tenantId, "Ops", "https://hooks.example.com/ops",
+                WebhookEventType.INCIDENT_CREATED.name());
+    }
+
+    @Test
+    void createPartitions_routesDeliveriesToTheirDaysPartition() {
+        assertThat(adapter.createPartitions(FUTURE_DAY, FUTURE_DAY.plusDays(1))).isEqualTo(2);
+        assertThat(adapter.createPartitions(FUTURE_DAY, FUTURE_DAY.plusDays(2))).isEqualTo(1);
+
+        WebhookDelivery delivery = delivery(FUTURE_DAY.atTime(23, 59).toInstant(ZoneOffset.UTC));
+        adapter.save(delivery);
+        entityManager.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM webhook_deliveries WHERE id = ?",
+                String.class, delivery.id())).isEqualTo("webhook_deliveries_p20900101");
+    }
+
+    @Test
+    void dropPartitionsBefore_dropsWholeDaysOnly() {
+        adapter.createPartitions(FUTURE_DAY, FUTURE_DAY.plusDays(1));
+        WebhookDelivery old = delivery(FUTURE_DAY.atTime(12, 0).toInstant(ZoneOffset.UTC));
+        WebhookDelivery kept = delivery(FUTURE_DAY.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        adapter.save(old);
+        adapter.save(kept);
+        entityManager.flush();
+
+        // Everything before the kept day goes, including today's partitions; the test transaction rolls it back
+        assertThat(adapter.dropPartitionsBefore(FUTURE_DAY.plusDays(1))).isGreaterThanOrEqualTo(1);
+
+        List<UUID> remaining = jdbcTemplate.queryForList("SELECT id FROM webhook_deliveries WHERE webhook_id = ?",
+                UUID.class, webhookId);
+        assertThat(remaining).containsExactly(kept.id());
+    }
+
+    @Test
+    void findRecentByWebhookId_fallsBackToOlderPartitionsWhenRecentOnesRunShort() {
+        Instant now = Instant.now();
+        WebhookDelivery recent = delivery(now.minus(Duration.ofHours(1)));
+        WebhookDelivery older = delivery(now.minus(Duration.ofDays(10)));
+        WebhookDelivery oldest = delivery(now.minus(Duration.ofDays(20)));
+        adapter.createPartitions(LocalDate.ofInstant(oldest.deliveredAt(), ZoneOffset.UTC),
+                LocalDate.ofInstant(now, ZoneOffset.UTC));
+        adapter.save(oldest);
+        adapter.save(recent);
+        adapter.save(older);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(adapter.findRecentByWebhookId(webhookId, 1)).extracting(WebhookDelivery::id)
+                .containsExactly(recent.id());
+        assertThat(adapter.findRecentByWebhookId(webhookId, 2)).extracting(WebhookDelivery::id)
+                .containsExactly(recent.id(), older.id());
+        assertThat(adapter.findRecentByWebhookId(webhookId, 10)).extracting(WebhookDelivery::id)
+                .containsExactly(recent.id(), older.id(), oldest.id());
+    }
+
+    @Test
+    void save_storesTheResponseBodyCompressed() {
+        WebhookDelivery delivery = WebhookDelivery.of(UUID.randomUUID(), webhookId, WebhookEventType.INCIDENT_CREATED,
+                Map.of(), 500, "<html>".repeat(500), Instant.now(), false, "HTTP 500", null, 1);
+        adapter.save(delivery);
+        entityManager.flush();
+        entityManager.clear();
+
+        Integer stored = jdbcTemplate.queryForObject("SELECT octet_length(response_body_gz) FROM webhook_deliveries "
+                + "WHERE id = ? AND response_body IS NULL", Integer.class, delivery.id());
+        assertThat(stored).isLessThan(delivery.responseBody().length() / 10);
+        assertThat(adapter.findRecentByWebhookId(webhookId, 1)).extracting(WebhookDelivery::responseBody)
+                .containsExactly(delivery.responseBody());
+    }
+
+    private WebhookDelivery delivery(Instant deliveredAt) {
+        return WebhookDelivery.of(UUID.randomUUID(), webhookId, WebhookEventType.INCIDENT_CREATED,
+                Map.of("title", "Outage"), 200, "OK", deliveredAt, true, null, null, 1);
+    }
+}
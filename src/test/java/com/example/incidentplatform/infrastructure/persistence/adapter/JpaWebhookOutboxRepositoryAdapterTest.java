@@ -0,0 +1,375 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.WebhookOutboxRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxEntry;
+import com.example.incidentplatform.domain.model.webhook.WebhookOutboxStatus;
+import com.example.incidentplatform.infrastructure.persistence.inspection.SqlStatementCounter;
+import com.example.incidentplatform.infrastructure.persistence.mapper.WebhookOutboxMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ JpaWebhookOutboxRepositoryAdapter.class, WebhookOutboxMapper.class })
+class JpaWebhookOutboxRepositoryAdapterTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    WebhookOutboxRepository adapter;
+
+    private UUID tenantId;
+    private UUID webhookId;
+
+    @BeforeEach
+    void seed() {
+        tenantId = UUID.randomUUID();
+        webhookId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, slug, name) VALUES (?, ?, 'Outbox Tenant')",
+                tenantId, "outbox-" + tenantId);
+        jdbcTemplate.update("INSERT INTO webhooks (id, tenant_id, name, url, events) VALUES (?, ?, ?, ?, ?)",
+                webhookId, tenantId, "Ops", "https://hooks.example.com/ops",
+                WebhookEventType.INCIDENT_CREATED.name());
+    }
+
+    @Test
+    void claimDue_leasesEntriesUntilCompleted() {
+        WebhookOutboxEntry entry = WebhookOutboxEntry.pending(UUID.randomUUID(), tenantId, webhookId,
+                UUID.randomUUID(), WebhookEventType.INCIDENT_CREATED, Map.of("title", "Outage"), Instant.now());
+        adapter.enqueue(List.of(entry));
+        // The dispatcher claims in its own session, not the one that enqueued
+        entityManager.flush();
+        entityManager.clear();
+
+        Instant now = Instant.now();
+        List<WebhookOutboxEntry> claimed = adapter.claimDue(100, now, LEASE);
+        assertThat(claimed).filteredOn(e -> e.id().equals(entry.id())).singleElement().satisfies(e -> {
+            assertThat(e.attempts()).isEqualTo(1);
+            assertThat(e.eventData()).containsEntry("title", "Outage");
+            assertThat(e.incidentId()).isEqualTo(entry.incidentId());
+            assertThat(e.sequence()).isPositive();
+        });
+
+        // Leased: not due again until the lease runs out
+        assertThat(adapter.claimDue(100, now, LEASE)).extracting(WebhookOutboxEntry::id).doesNotContain(entry.id());
+        assertThat(adapter.claimDue(100, now.plus(LEASE).plusSeconds(1), LEASE))
+                .extracting(WebhookOutboxEntry::id).contains(entry.id());
+
+        adapter.markDelivered(List.of(entry.id()));
+        assertThat(adapter.claimDue(100, now.plus(LEASE.multipliedBy(3)), LEASE))
+                .extracting(WebhookOutboxEntry::id).doesNotContain(entry.id());
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM webhook_outbox WHERE id = ?", String.class,
+                entry.id())).isEqualTo("DELIVERED");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void claimDue_concurrentClaimsSkipEachOthersRows() throws Exception {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (UUID id : ids) {
+            jdbcTemplate.update("""
+                    INSERT INTO webhook_outbox (id, event_id, tenant_id, webhook_id, event_type, event_data,
+                                                next_attempt_at)
+                    VALUES (?, ?, ?, ?, 'INCIDENT_CREATED', '{}'::jsonb, NOW() - INTERVAL '1 minute')
+                    """, id, id, tenantId, webhookId);
+        }
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        try {
+            // The first claim keeps its transaction, and so its row locks, open while the second runs
+            CompletableFuture<List<WebhookOutboxEntry>> first = CompletableFuture.supplyAsync(() -> tx.execute(s -> {
+                List<WebhookOutboxEntry> claimed = adapter.claimDue(2, Instant.now(), LEASE);
+                firstClaimed.countDown();
+                await(releaseFirst);
+                return claimed;
+            }));
+            assertThat(firstClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+            List<WebhookOutboxEntry> second = tx.execute(s -> adapter.claimDue(100, Instant.now(), LEASE));
+            releaseFirst.countDown();
+
+            List<UUID> firstIds = first.get(10, TimeUnit.SECONDS).stream().map(WebhookOutboxEntry::id).toList();
+            List<UUID> secondIds = second.stream().map(WebhookOutboxEntry::id).toList();
+            assertThat(firstIds).hasSize(2).doesNotContainAnyElementsOf(secondIds);
+            assertThat(firstIds).doesNotHaveDuplicates();
+            assertThat(ids).allMatch(id -> firstIds.contains(id) || secondIds.contains(id));
+        } finally {
+            releaseFirst.countDown();
+            jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void enqueue_commitsAnIncidentsEntriesInSequenceOrder() throws Exception {
+        UUID incident = UUID.randomUUID();
+        WebhookOutboxEntry first = WebhookOutboxEntry.pending(UUID.randomUUID(), tenantId, webhookId, incident,
+                WebhookEventType.INCIDENT_CREATED, Map.of(), Instant.now());
+        WebhookOutboxEntry second = WebhookOutboxEntry.pending(UUID.randomUUID(), tenantId, webhookId, incident,
+                WebhookEventType.INCIDENT_UPDATED, Map.of(), Instant.now());
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstEnqueued = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        try {
+            // The first transaction enqueues but is slow to commit; its insert is only flushed on commit
+            CompletableFuture<Void> firstTx = CompletableFuture.runAsync(() -> tx.executeWithoutResult(s -> {
+                adapter.enqueue(List.of(first));
+                firstEnqueued.countDown();
+                await(commitFirst);
+            }));
+            assertThat(firstEnqueued.await(10, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Void> secondTx = CompletableFuture.runAsync(() -> tx.executeWithoutResult(s -> {
+                adapter.enqueue(List.of(second));
+                entityManager.flush();
+            }));
+            Thread.sleep(200);
+            assertThat(secondTx).isNotDone();
+            commitFirst.countDown();
+            firstTx.get(10, TimeUnit.SECONDS);
+            secondTx.get(10, TimeUnit.SECONDS);
+
+            assertThat(sequenceOf(first.id())).isLessThan(sequenceOf(second.id()));
+        } finally {
+            commitFirst.countDown();
+            jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+        }
+    }
+
+    @Test
+    void claimDue_holdsBackAnIncidentsLaterEntriesUntilEarlierOnesComplete() {
+        UUID incident = UUID.randomUUID();
+        UUID otherIncident = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        UUID assigned = UUID.randomUUID();
+        UUID resolved = UUID.randomUUID();
+        UUID otherCreated = UUID.randomUUID();
+        insert(created, incident);
+        insert(assigned, incident);
+        insert(resolved, incident);
+        insert(otherCreated, otherIncident);
+        Instant now = Instant.now();
+
+        // One entry per incident at a time
+        assertThat(adapter.claimDue(100, now, LEASE)).extracting(WebhookOutboxEntry::id)
+                .contains(created, otherCreated).doesNotContain(assigned, resolved);
+        assertThat(adapter.claimNextInLane(webhookId, incident, now, LEASE)).isEmpty();
+
+        adapter.markDelivered(List.of(created));
+        assertThat(adapter.claimNextInLane(webhookId, incident, now, LEASE)).get().satisfies(e -> {
+            assertThat(e.id()).isEqualTo(assigned);
+            assertThat(e.attempts()).isEqualTo(1);
+        });
+        assertThat(adapter.claimDue(100, now, LEASE)).extracting(WebhookOutboxEntry::id).doesNotContain(resolved);
+
+        // A retry keeps the rest of the lane waiting too
+        adapter.scheduleRetry(List.of(assigned), now.plusSeconds(60), "HTTP 503");
+        assertThat(adapter.claimDue(100, now.plusSeconds(30), LEASE)).extracting(WebhookOutboxEntry::id)
+                .doesNotContain(assigned, resolved);
+        assertThat(adapter.claimDue(100, now.plusSeconds(60), LEASE)).extracting(WebhookOutboxEntry::id)
+                .contains(assigned).doesNotContain(resolved);
+    }
+
+    @Test
+    void claimBatch_sweepsTheWebhooksWaitingEntriesButNotItsBackedOffRetries() {
+        Instant now = Instant.now();
+        UUID lingering = UUID.randomUUID();
+        UUID due = UUID.randomUUID();
+        UUID backingOff = UUID.randomUUID();
+        insert(lingering, "PENDING", null);
+        insert(due, "PENDING", null);
+        insert(backingOff, "PENDING", null);
+        jdbcTemplate.update("UPDATE webhook_outbox SET next_attempt_at = ? WHERE id = ?",
+                Timestamp.from(now.plusSeconds(1)), lingering);
+        jdbcTemplate.update("UPDATE webhook_outbox SET next_attempt_at = ?, attempts = 2 WHERE id = ?",
+                Timestamp.from(now.plusSeconds(60)), backingOff);
+        Instant leaseUntil = now.plus(LEASE);
+
+        List<WebhookOutboxEntry> batch = adapter.claimBatch(webhookId, UUID.randomUUID(), 10, now, leaseUntil);
+
+        assertThat(batch).extracting(WebhookOutboxEntry::id).containsExactlyInAnyOrder(lingering, due);
+        assertThat(adapter.claimBatch(webhookId, UUID.randomUUID(), 10, now, leaseUntil)).isEmpty();
+        assertThat(adapter.claimBatch(UUID.randomUUID(), UUID.randomUUID(), 10, now, leaseUntil)).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void claimBatch_leavesOutEntriesBehindAnEarlierOneBeingClaimedElsewhere() throws Exception {
+        UUID incident = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        UUID updated = UUID.randomUUID();
+        insert(created, incident);
+        insert(updated, incident);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        try {
+            // Another node claims the lane's head and has not committed yet
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() -> tx.executeWithoutResult(s -> {
+                assertThat(adapter.claimNextInLane(webhookId, incident, Instant.now(), LEASE)).isPresent();
+                firstClaimed.countDown();
+                await(releaseFirst);
+            }));
+            assertThat(firstClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+            List<WebhookOutboxEntry> batch = tx.execute(s -> adapter.claimBatch(webhookId, UUID.randomUUID(), 10,
+                    Instant.now(), Instant.now().plus(LEASE)));
+            releaseFirst.countDown();
+            other.get(10, TimeUnit.SECONDS);
+
+            assertThat(batch).isEmpty();
+        } finally {
+            releaseFirst.countDown();
+            jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+        }
+    }
+
+    @Test
+    void markDelivered_completesEveryGivenEntryInOneStatement() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        insert(first, "PENDING", null);
+        insert(second, "PENDING", null);
+        insert(untouched, "PENDING", null);
+
+        SqlStatementCounter.reset();
+        adapter.markDelivered(List.of(first, second));
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM webhook_outbox WHERE status = 'DELIVERED' "
+                + "AND completed_at IS NOT NULL AND webhook_id = ?", UUID.class, webhookId))
+                .containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    void scheduleRetry_keepsEntryPendingUntilItIsDue() {
+        UUID id = UUID.randomUUID();
+        insert(id, "PENDING", null);
+        Instant retryAt = Instant.now().plus(Duration.ofMinutes(5));
+
+        adapter.scheduleRetry(List.of(id), retryAt, "HTTP 503");
+
+        assertThat(adapter.claimDue(100, Instant.now(), LEASE)).extracting(WebhookOutboxEntry::id).doesNotContain(id);
+        assertThat(adapter.claimDue(100, retryAt, LEASE)).extracting(WebhookOutboxEntry::id).contains(id);
+    }
+
+    @Test
+    void release_handsTheClaimBackWithoutUsingAnAttempt() {
+        UUID id = UUID.randomUUID();
+        insert(id, "PENDING", null);
+        assertThat(adapter.claimDue(100, Instant.now(), LEASE)).extracting(WebhookOutboxEntry::id).contains(id);
+        Instant retryAt = Instant.now().plus(Duration.ofSeconds(5));
+
+        adapter.release(id, retryAt);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM webhook_outbox WHERE id = ?", Integer.class,
+                id)).isZero();
+        assertThat(adapter.claimDue(100, retryAt, LEASE)).extracting(WebhookOutboxEntry::id).contains(id);
+    }
+
+    @Test
+    void replayDead_requeuesOnlyTheTenantsDeadEntries() {
+        UUID dead = UUID.randomUUID();
+        UUID delivered = UUID.randomUUID();
+        insert(dead, "PENDING", null);
+        insert(delivered, "PENDING", null);
+        adapter.markDead(List.of(dead), "HTTP 500");
+        adapter.markDelivered(List.of(delivered));
+
+        assertThat(adapter.findDead(tenantId, webhookId, 10)).singleElement().satisfies(e -> {
+            assertThat(e.id()).isEqualTo(dead);
+            assertThat(e.lastError()).isEqualTo("HTTP 500");
+        });
+        assertThat(adapter.replayDead(UUID.randomUUID(), webhookId)).isZero();
+
+        assertThat(adapter.replayDead(tenantId, webhookId)).isEqualTo(1);
+        assertThat(adapter.findDead(tenantId, webhookId, 10)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM webhook_outbox WHERE id = ?", Integer.class,
+                dead)).isZero();
+        assertThat(adapter.claimDue(100, Instant.now(), LEASE)).extracting(WebhookOutboxEntry::id).contains(dead);
+    }
+
+    @Test
+    void deleteCompletedBefore_removesOnlyOldEntriesInTheGivenState() {
+        UUID pending = UUID.randomUUID();
+        UUID oldDelivered = UUID.randomUUID();
+        UUID oldDead = UUID.randomUUID();
+        UUID recentDelivered = UUID.randomUUID();
+        insert(pending, "PENDING", null);
+        insert(oldDelivered, "DELIVERED", Instant.now().minus(Duration.ofDays(30)));
+        insert(oldDead, "DEAD", Instant.now().minus(Duration.ofDays(30)));
+        insert(recentDelivered, "DELIVERED", Instant.now());
+
+        assertThat(adapter.deleteCompletedBefore(WebhookOutboxStatus.DELIVERED,
+                Instant.now().minus(Duration.ofDays(7)))).isGreaterThanOrEqualTo(1);
+
+        List<UUID> remaining = jdbcTemplate.queryForList("SELECT id FROM webhook_outbox WHERE tenant_id = ?",
+                UUID.class, tenantId);
+        assertThat(remaining).containsExactlyInAnyOrder(pending, oldDead, recentDelivered);
+    }
+
+    private void insert(UUID id, String status, Instant completedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO webhook_outbox (id, event_id, tenant_id, webhook_id, event_type, event_data, status,
+                                            next_attempt_at, completed_at)
+                VALUES (?, ?, ?, ?, 'INCIDENT_CREATED', '{}'::jsonb, ?, NOW(), ?)
+                """, id, id, tenantId, webhookId, status,
+                completedAt == null ? null : Timestamp.from(completedAt));
+    }
+
+    private void insert(UUID id, UUID incidentId) {
+        jdbcTemplate.update("""
+                INSERT INTO webhook_outbox (id, event_id, tenant_id, webhook_id, incident_id, event_type, event_data,
+                                            next_attempt_at)
+                VALUES (?, ?, ?, ?, ?, 'INCIDENT_CREATED', '{}'::jsonb, NOW())
+                """, id, id, tenantId, webhookId, incidentId);
+    }
+
+    private long sequenceOf(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT sequence_number FROM webhook_outbox WHERE id = ?", Long.class, id);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.WebhookRepository;
+import com.example.incidentplatform.domain.model.webhook.CircuitState;
+import com.example.incidentplatform.domain.model.webhook.Webhook;
+import com.example.incidentplatform.domain.model.webhook.WebhookActivity;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.infrastructure.persistence.inspection.SqlStatementCounter;
+import com.example.incidentplatform.infrastructure.persistence.mapper.WebhookMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ JpaWebhookRepositoryAdapter.class, WebhookMapper.class })
+class JpaWebhookRepositoryAdapterTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    WebhookRepository adapter;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private UUID tenantId;
+    private UUID webhookId;
+
+    @BeforeEach
+    void seed() {
+        tenantId = UUID.randomUUID();
+        webhookId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, slug, name) VALUES (?, ?, 'Webhook Tenant')",
+                tenantId, "webhooks-" + tenantId);
+        jdbcTemplate.update("INSERT INTO webhooks (id, tenant_id, name, url, events) VALUES (?, ?, ?, ?, ?)",
+                webhookId, tenantId, "Ops", "https://hooks.example.com/ops",
+                WebhookEventType.INCIDENT_CREATED.name());
+    }
+
+    @Test
+    void findByIdAndTenantId_isOneStatementScopedToTheTenant() {
+        SqlStatementCounter.reset();
+        assertThat(adapter.findByIdAndTenantId(webhookId, tenantId)).map(Webhook::name).contains("Ops");
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+
+        assertThat(adapter.findByIdAndTenantId(webhookId, UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void deleteByIdAndTenantId_isOneStatementScopedToTheTenant() {
+        assertThat(adapter.deleteByIdAndTenantId(webhookId, UUID.randomUUID())).isFalse();
+
+        SqlStatementCounter.reset();
+        assertThat(adapter.deleteByIdAndTenantId(webhookId, tenantId)).isTrue();
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+
+        assertThat(adapter.existsById(webhookId)).isFalse();
+    }
+
+    @Test
+    void circuitTransitions_areCompareAndSetOnTheRow() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant retryAt = now.plusSeconds(60);
+
+        assertThat(adapter.openCircuit(webhookId, CircuitState.CLOSED, now, retryAt)).isTrue();
+        assertThat(adapter.openCircuit(webhookId, CircuitState.CLOSED, now, retryAt)).isFalse();
+        assertThat(adapter.halfOpenCircuit(webhookId, now, now.plusSeconds(120))).isFalse();
+
+        // Only one caller wins the probe once the retry time has passed
+        assertThat(adapter.halfOpenCircuit(webhookId, retryAt, retryAt.plusSeconds(60))).isTrue();
+        assertThat(adapter.halfOpenCircuit(webhookId, retryAt, retryAt.plusSeconds(60))).isFalse();
+        assertThat(circuitState()).isEqualTo("HALF_OPEN");
+
+        assertThat(adapter.closeCircuit(webhookId)).isTrue();
+        assertThat(adapter.closeCircuit(webhookId)).isFalse();
+        assertThat(circuitState()).isEqualTo("CLOSED");
+        assertThat(adapter.findById(webhookId)).get().satisfies(w -> {
+            assertThat(w.circuitState()).isEqualTo(CircuitState.CLOSED);
+            assertThat(w.circuitOpenedAt()).isEqualTo(now);
+            assertThat(w.circuitRetryAt()).isNull();
+        });
+    }
+
+    @Test
+    void save_leavesTheCircuitColumnsAlone() {
+        adapter.openCircuit(webhookId, CircuitState.CLOSED, Instant.now(), Instant.now().plusSeconds(60));
+        Webhook stale = adapter.findByIdAndTenantId(webhookId, tenantId).orElseThrow();
+
+        adapter.closeCircuit(webhookId);
+        adapter.save(stale.recordFailure());
+        entityManager.flush();
+
+        assertThat(circuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void recordActivity_isOneUpdateWithoutReadingTheWebhook() {
+        Instant succeededAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        SqlStatementCounter.reset();
+        adapter.recordActivity(webhookId, new WebhookActivity(null, 2), Instant.now());
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        adapter.recordActivity(webhookId, new WebhookActivity(null, 1), Instant.now());
+        assertThat(failureCount()).isEqualTo(3);
+
+        // A success replaces the count with the failures recorded after it
+        adapter.recordActivity(webhookId, new WebhookActivity(succeededAt, 1), Instant.now());
+        assertThat(failureCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT last_triggered_at FROM webhooks WHERE id = ?", Instant.class,
+                webhookId)).isEqualTo(succeededAt);
+    }
+
+    private int failureCount() {
+        return jdbcTemplate.queryForObject("SELECT failure_count FROM webhooks WHERE id = ?", Integer.class,
+                webhookId);
+    }
+
+    private String circuitState() {
+        return jdbcTemplate.queryForObject("SELECT circuit_state FROM webhooks WHERE id = ?", String.class,
+                webhookId);
+    }
+}
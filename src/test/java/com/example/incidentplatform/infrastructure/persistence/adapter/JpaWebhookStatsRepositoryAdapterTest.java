@@ -0,0 +1,72 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import com.example.incidentplatform.application.port.WebhookStatsRepository;
+import com.example.incidentplatform.domain.model.webhook.WebhookEventType;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket;
+import com.example.incidentplatform.domain.model.webhook.WebhookStatsBucket.Metric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaWebhookStatsRepositoryAdapter.class)
+class JpaWebhookStatsRepositoryAdapterTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    WebhookStatsRepository adapter;
+
+    private UUID webhookId;
+
+    @BeforeEach
+    void seed() {
+        UUID tenantId = UUID.randomUUID();
+        webhookId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, slug, name) VALUES (?, ?, 'Stats Tenant')",
+                tenantId, "stats-" + tenantId);
+        jdbcTemplate.update("INSERT INTO webhooks (id, tenant_id, name, url, events) VALUES (?, ?, ?, ?, ?)",
+                webhookId, tenantId, "Ops", "https://hooks.example.com/ops",
+                WebhookEventType.INCIDENT_CREATED.name());
+    }
+
+    @Test
+    void applyDelta_addsToExistingCounters() {
+        adapter.applyDelta(List.of(
+                new WebhookStatsBucket(webhookId, Metric.SUCCESSES, 0, 3),
+                new WebhookStatsBucket(webhookId, Metric.STATUS, 200, 3)));
+        adapter.applyDelta(List.of(
+                new WebhookStatsBucket(webhookId, Metric.SUCCESSES, 0, 2),
+                new WebhookStatsBucket(webhookId, Metric.LATENCY, 12, 1)));
+
+        assertThat(adapter.findByWebhookId(webhookId)).containsExactlyInAnyOrder(
+                new WebhookStatsBucket(webhookId, Metric.SUCCESSES, 0, 5),
+                new WebhookStatsBucket(webhookId, Metric.STATUS, 200, 3),
+                new WebhookStatsBucket(webhookId, Metric.LATENCY, 12, 1));
+    }
+
+    @Test
+    void deleteHourlyBefore_leavesOtherMetricsAndLaterHours() {
+        adapter.applyDelta(List.of(
+                new WebhookStatsBucket(webhookId, Metric.HOURLY, 100, 1),
+                new WebhookStatsBucket(webhookId, Metric.HOURLY, 101, 1),
+                new WebhookStatsBucket(webhookId, Metric.STATUS, 99, 1)));
+
+        assertThat(adapter.deleteHourlyBefore(101)).isGreaterThanOrEqualTo(1);
+
+        assertThat(adapter.findByWebhookId(webhookId)).containsExactlyInAnyOrder(
+                new WebhookStatsBucket(webhookId, Metric.HOURLY, 101, 1),
+                new WebhookStatsBucket(webhookId, Metric.STATUS, 99, 1));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.incidentplatform.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsQueryBuilderTest {
+
+    @Test
+    @DisplayName("words are combined with AND")
+    void wordsAreAnded() {
+        assertThat(TsQueryBuilder.build("Disk  full")).isEqualTo("disk & full");
+    }
+
+    @Test
+    @DisplayName("quoted phrases require adjacent words")
+    void quotedPhrase() {
+        assertThat(TsQueryBuilder.build("\"disk full\" db")).isEqualTo("(disk <-> full) & db");
+    }
+
+    @Test
+    @DisplayName("a trailing asterisk becomes a prefix match")
+    void prefix() {
+        assertThat(TsQueryBuilder.build("time*")).isEqualTo("time:*");
+        assertThat(TsQueryBuilder.build("api-gate*")).isEqualTo("(api <-> gate:*)");
+    }
+
+    @Test
+    @DisplayName("tsquery operators in the input are stripped")
+    void operatorsAreStripped() {
+        assertThat(TsQueryBuilder.build("a & !(b | c:*) <->")).isEqualTo("a & b & c");
+        assertThat(TsQueryBuilder.build("\"unterminated phrase")).isEqualTo("(unterminated <-> phrase)");
+    }
+
+    @Test
+    @DisplayName("input without searchable words yields null")
+    void emptyInput() {
+        assertThat(TsQueryBuilder.build(null)).isNull();
+        assertThat(TsQueryBuilder.build("  ")).isNull();
+        assertThat(TsQueryBuilder.build("!!! \"\" *")).isNull();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.incidentplatform.infrastructure.persistence.inspection;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so a
+ * test can tell how many round-trips it made. Registered through
+ * {@code hibernate.session_factory.statement_inspector} in the {@code test}
+ * profile only; Hibernate creates the instance itself, which is why the count
+ * lives in a static thread local.
+ *
+ * Statements issued through {@code JdbcTemplate} bypass Hibernate and are not
+ * counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Starts counting from zero on the current thread.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * @return statements prepared on the current thread since the last reset
+     */
+    public static long count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.incidentplatform.infrastructure.persistence.pubsub;
+
+import com.example.incidentplatform.application.service.PushHub;
+import com.example.incidentplatform.domain.model.push.PushMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ PostgresPushBroadcaster.class, PostgresPushListener.class })
+class PostgresPushListenerTest {
+
+    @MockitoBean
+    PushHub hub;
+
+    @Autowired
+    PostgresPushBroadcaster broadcaster;
+
+    @Autowired
+    PostgresPushListener listener;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        listener.stop();
+    }
+
+    @Test
+    void broadcast_deliversEachMessageToTheHubThroughListenNotify() throws InterruptedException {
+        listener.start();
+        // Notifications sent before the listener has subscribed are missed, so wait until one gets through
+        PushMessage probe = new PushMessage(PushMessage.userTopic(UUID.randomUUID()), "probe", "{}");
+        for (int i = 0; i < 50 && mockingDetails(hub).getInvocations().isEmpty(); i++) {
+            broadcaster.broadcast(List.of(probe));
+            Thread.sleep(100);
+        }
+
+        PushMessage notification = new PushMessage(PushMessage.userTopic(UUID.randomUUID()), "notification",
+                "{\"title\":\"Incident escalated\",\"message\":\"From HIGH to CRITICAL\"}");
+        PushMessage incident = new PushMessage(PushMessage.tenantTopic(UUID.randomUUID()), "incident",
+                "{\"event\":\"ESCALATED\"}");
+        String id = UUID.randomUUID().toString();
+        PushMessage tooLarge = new PushMessage(PushMessage.userTopic(UUID.randomUUID()), "notification",
+                "{\"id\":\"" + id + "\",\"message\":\"" + "x".repeat(PostgresPushBroadcaster.MAX_PAYLOAD_BYTES)
+                        + "\"}");
+        broadcaster.broadcast(List.of(notification, tooLarge, incident));
+
+        verify(hub, timeout(5000)).deliver(notification);
+        verify(hub, timeout(5000)).deliver(incident);
+        // Too large to send whole; receivers are told which notification to load instead
+        verify(hub, timeout(5000)).deliver(new PushMessage(tooLarge.topic(), "notification",
+                "{\"id\":\"" + id + "\",\"truncated\":true}"));
+        verify(hub, never()).deliver(tooLarge);
+    }
+}
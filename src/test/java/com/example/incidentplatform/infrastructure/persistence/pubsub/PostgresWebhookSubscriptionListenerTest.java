@@ -0,0 +1,50 @@
+package com.example.incidentplatform.infrastructure.persistence.pubsub;
+
+import com.example.incidentplatform.application.service.WebhookSubscriptionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PostgresWebhookSubscriptionBroadcaster.class, PostgresWebhookSubscriptionListener.class })
+class PostgresWebhookSubscriptionListenerTest {
+
+    @MockitoBean
+    WebhookSubscriptionIndex index;
+
+    @Autowired
+    PostgresWebhookSubscriptionBroadcaster broadcaster;
+
+    @Autowired
+    PostgresWebhookSubscriptionListener listener;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        listener.stop();
+    }
+
+    @Test
+    void broadcastChanged_evictsTheTenantThroughListenNotify() {
+        listener.start();
+        // Evicting everything is the listener's first step once it is subscribed
+        verify(index, timeout(5000)).evictAll();
+
+        UUID tenantId = UUID.randomUUID();
+        broadcaster.broadcastChanged(tenantId);
+
+        verify(index, timeout(5000)).evict(tenantId);
+    }
+}